@@ -1,13 +1,22 @@
 package app.controller;
 
+import app.controller.utils.KeysetPageResponse;
+import app.controller.utils.NdjsonRequest;
+import app.controller.utils.NdjsonResponse;
 import app.model.candidate.CandidateAvailabilityModel;
 import app.model.candidate.CandidateModel;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.ImportReport;
 import app.service.candidate.CandidateService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +26,9 @@ public class CandidateController {
     @Autowired
     private CandidateService candidateService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public CandidateModel createCandidate(@Valid @RequestBody CandidateModel candidateModel) {
@@ -24,9 +36,15 @@ public class CandidateController {
     }
 
     @GetMapping
+    public ResponseEntity<List<CandidateModel>> getAllCandidates(@RequestParam(required = false) String cursor,
+                                                                 @RequestParam(required = false) Integer pageSize) {
+        return KeysetPageResponse.of(candidateService.getAllCandidates(cursor, pageSize));
+    }
+
+    @PostMapping(value = "/import", consumes = NdjsonResponse.MEDIA_TYPE)
     @ResponseStatus(HttpStatus.OK)
-    public List<CandidateModel> getAllCandidates() {
-        return candidateService.getAllCandidates();
+    public ImportReport importCandidates(InputStream ndjsonInputStream) {
+        return candidateService.importCandidates(NdjsonRequest.lines(ndjsonInputStream));
     }
 
     @GetMapping("/{name}")
@@ -49,9 +67,15 @@ public class CandidateController {
     }
 
     @GetMapping("/availability")
-    @ResponseStatus(HttpStatus.OK)
-    public List<CandidateAvailabilityModel> getAllCandidatesAvailability() {
-        return candidateService.getAllCandidatesAvailability();
+    public ResponseEntity<List<CandidateAvailabilityModel>> getAllCandidatesAvailability(
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer pageSize) {
+        return KeysetPageResponse.of(candidateService.getAllCandidatesAvailability(cursor, pageSize));
+    }
+
+    @GetMapping(value = "/export/availability", produces = NdjsonResponse.MEDIA_TYPE)
+    public StreamingResponseBody exportAllCandidatesAvailability() {
+        return outputStream -> candidateService.exportAllCandidatesAvailability(
+                NdjsonResponse.lineWriter(objectMapper, outputStream));
     }
 
     @GetMapping("/availability/{name}")
@@ -60,6 +84,20 @@ public class CandidateController {
         return candidateService.getCandidateAvailabilityByName(name);
     }
 
+    @PatchMapping("/availability/{name}/add")
+    @ResponseStatus(HttpStatus.OK)
+    public CandidateAvailabilityModel addCandidateAvailabilitySlots(
+            @PathVariable String name, @Valid @RequestBody List<AvailabilitySlot> availabilitySlotList) {
+        return candidateService.addCandidateAvailabilitySlots(name, availabilitySlotList);
+    }
+
+    @PatchMapping("/availability/{name}/remove")
+    @ResponseStatus(HttpStatus.OK)
+    public CandidateAvailabilityModel removeCandidateAvailabilitySlots(
+            @PathVariable String name, @Valid @RequestBody List<AvailabilitySlot> availabilitySlotList) {
+        return candidateService.removeCandidateAvailabilitySlots(name, availabilitySlotList);
+    }
+
     @DeleteMapping("/availability/{name}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteCandidateAvailabilityByName(@PathVariable String name) {
@@ -1,13 +1,21 @@
 package app.controller;
 
+import app.model.interviewslots.InterviewBookingModel;
+import app.model.interviewslots.InterviewPanelsQueryModel;
+import app.model.interviewslots.InterviewPanelsReturnModel;
+import app.model.interviewslots.InterviewSlotsBatchQueryModel;
+import app.model.interviewslots.InterviewSlotsCacheStatisticsModel;
+import app.model.interviewslots.InterviewSlotsExpressionQueryModel;
 import app.model.interviewslots.InterviewSlotsQueryModel;
 import app.model.interviewslots.InterviewSlotsReturnModel;
+import app.service.interviewslots.InterviewBookingService;
 import app.service.interviewslots.InterviewSlotsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.util.List;
 
 @RestController
 @RequestMapping("tamanna/api/interview-slots")
@@ -15,10 +23,46 @@ public class InterviewSlotsController {
     @Autowired
     private InterviewSlotsService interviewSlotsService;
 
+    @Autowired
+    private InterviewBookingService interviewBookingService;
+
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     public InterviewSlotsReturnModel getInterviewSlots(
             @Valid @RequestBody InterviewSlotsQueryModel interviewSlotsQueryModel) {
         return interviewSlotsService.getInterviewSlots(interviewSlotsQueryModel);
     }
+
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.OK)
+    public List<InterviewSlotsReturnModel> getBatchInterviewSlots(
+            @Valid @RequestBody InterviewSlotsBatchQueryModel interviewSlotsBatchQueryModel) {
+        return interviewSlotsService.getBatchInterviewSlots(interviewSlotsBatchQueryModel);
+    }
+
+    @PostMapping("/expression")
+    @ResponseStatus(HttpStatus.OK)
+    public InterviewSlotsReturnModel getExpressionInterviewSlots(
+            @Valid @RequestBody InterviewSlotsExpressionQueryModel interviewSlotsExpressionQueryModel) {
+        return interviewSlotsService.getExpressionInterviewSlots(interviewSlotsExpressionQueryModel);
+    }
+
+    @PostMapping("/panels")
+    @ResponseStatus(HttpStatus.OK)
+    public InterviewPanelsReturnModel getInterviewPanels(
+            @Valid @RequestBody InterviewPanelsQueryModel interviewPanelsQueryModel) {
+        return interviewSlotsService.getInterviewPanels(interviewPanelsQueryModel);
+    }
+
+    @PostMapping("/bookings")
+    @ResponseStatus(HttpStatus.CREATED)
+    public InterviewBookingModel bookInterview(@Valid @RequestBody InterviewBookingModel interviewBookingModel) {
+        return interviewBookingService.bookInterview(interviewBookingModel);
+    }
+
+    @GetMapping("/cache-statistics")
+    @ResponseStatus(HttpStatus.OK)
+    public InterviewSlotsCacheStatisticsModel getCacheStatistics() {
+        return interviewSlotsService.getCacheStatistics();
+    }
 }
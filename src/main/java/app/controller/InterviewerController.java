@@ -1,13 +1,27 @@
 package app.controller;
 
+import app.controller.utils.KeysetPageResponse;
+import app.controller.utils.NdjsonRequest;
+import app.controller.utils.NdjsonResponse;
+import app.model.interviewer.AvailableInterviewersModel;
 import app.model.interviewer.InterviewerAvailabilityModel;
+import app.model.interviewer.InterviewerAvailabilityRuleModel;
 import app.model.interviewer.InterviewerModel;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.ImportReport;
 import app.service.interviewer.InterviewerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +31,9 @@ public class InterviewerController {
     @Autowired
     private InterviewerService interviewerService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public InterviewerModel createInterviewer(@Valid @RequestBody InterviewerModel interviewerModel) {
@@ -24,9 +41,15 @@ public class InterviewerController {
     }
 
     @GetMapping
+    public ResponseEntity<List<InterviewerModel>> getAllInterviewers(@RequestParam(required = false) String cursor,
+                                                                     @RequestParam(required = false) Integer pageSize) {
+        return KeysetPageResponse.of(interviewerService.getAllInterviewers(cursor, pageSize));
+    }
+
+    @PostMapping(value = "/import", consumes = NdjsonResponse.MEDIA_TYPE)
     @ResponseStatus(HttpStatus.OK)
-    public List<InterviewerModel> getAllInterviewers() {
-        return interviewerService.getAllInterviewers();
+    public ImportReport importInterviewers(InputStream ndjsonInputStream) {
+        return interviewerService.importInterviewers(NdjsonRequest.lines(ndjsonInputStream));
     }
 
     @GetMapping("/{name}")
@@ -49,9 +72,15 @@ public class InterviewerController {
     }
 
     @GetMapping("/availability")
-    @ResponseStatus(HttpStatus.OK)
-    public List<InterviewerAvailabilityModel> getAllInterviewersAvailability() {
-        return interviewerService.getAllInterviewersAvailability();
+    public ResponseEntity<List<InterviewerAvailabilityModel>> getAllInterviewersAvailability(
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer pageSize) {
+        return KeysetPageResponse.of(interviewerService.getAllInterviewersAvailability(cursor, pageSize));
+    }
+
+    @GetMapping(value = "/export/availability", produces = NdjsonResponse.MEDIA_TYPE)
+    public StreamingResponseBody exportAllInterviewersAvailability() {
+        return outputStream -> interviewerService.exportAllInterviewersAvailability(
+                NdjsonResponse.lineWriter(objectMapper, outputStream));
     }
 
     @GetMapping("/availability/{name}")
@@ -60,9 +89,52 @@ public class InterviewerController {
         return interviewerService.getInterviewerAvailabilityByName(name);
     }
 
+    @PatchMapping("/availability/{name}/add")
+    @ResponseStatus(HttpStatus.OK)
+    public InterviewerAvailabilityModel addInterviewerAvailabilitySlots(
+            @PathVariable String name, @Valid @RequestBody List<AvailabilitySlot> availabilitySlotList) {
+        return interviewerService.addInterviewerAvailabilitySlots(name, availabilitySlotList);
+    }
+
+    @PatchMapping("/availability/{name}/remove")
+    @ResponseStatus(HttpStatus.OK)
+    public InterviewerAvailabilityModel removeInterviewerAvailabilitySlots(
+            @PathVariable String name, @Valid @RequestBody List<AvailabilitySlot> availabilitySlotList) {
+        return interviewerService.removeInterviewerAvailabilitySlots(name, availabilitySlotList);
+    }
+
     @DeleteMapping("/availability/{name}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteInterviewerAvailabilityByName(@PathVariable String name) {
         interviewerService.deleteInterviewerAvailabilityByName(name);
     }
+
+    @PostMapping("/availability/{name}/rules")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<InterviewerAvailabilityRuleModel> createInterviewerAvailabilityRules(
+            @PathVariable String name,
+            @Valid @RequestBody List<InterviewerAvailabilityRuleModel> availabilityRuleList) {
+        return interviewerService.createInterviewerAvailabilityRules(name, availabilityRuleList);
+    }
+
+    @GetMapping("/availability/{name}/rules")
+    @ResponseStatus(HttpStatus.OK)
+    public List<InterviewerAvailabilityRuleModel> getInterviewerAvailabilityRulesByName(@PathVariable String name) {
+        return interviewerService.getInterviewerAvailabilityRulesByName(name);
+    }
+
+    @DeleteMapping("/availability/{name}/rules")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteInterviewerAvailabilityRulesByName(@PathVariable String name) {
+        interviewerService.deleteInterviewerAvailabilityRulesByName(name);
+    }
+
+    @GetMapping("/available")
+    @ResponseStatus(HttpStatus.OK)
+    public AvailableInterviewersModel getAvailableInterviewers(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate day,
+            @RequestParam @DateTimeFormat(pattern = "HH:mm") LocalTime from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime to) {
+        return interviewerService.getAvailableInterviewers(day, from, to);
+    }
 }
@@ -0,0 +1,23 @@
+package app.controller.utils;
+
+import app.model.utils.KeysetPage;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+public class KeysetPageResponse {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private KeysetPageResponse() {
+    }
+
+    public static <T> ResponseEntity<List<T>> of(KeysetPage<T> keysetPage) {
+        ResponseEntity.BodyBuilder responseEntity = ResponseEntity.ok();
+
+        if (keysetPage.getNextCursor() != null) {
+            responseEntity.header(NEXT_CURSOR_HEADER, keysetPage.getNextCursor());
+        }
+
+        return responseEntity.body(keysetPage.getItems());
+    }
+}
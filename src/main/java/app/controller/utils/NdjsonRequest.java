@@ -0,0 +1,16 @@
+package app.controller.utils;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+public class NdjsonRequest {
+    private NdjsonRequest() {
+    }
+
+    public static Iterator<String> lines(InputStream inputStream) {
+        return new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)).lines().iterator();
+    }
+}
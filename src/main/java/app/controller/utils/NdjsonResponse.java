@@ -0,0 +1,31 @@
+package app.controller.utils;
+
+import app.exception.TechnicalException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Consumer;
+
+public class NdjsonResponse {
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+
+    private static final int LINE_SEPARATOR = '\n';
+
+    private NdjsonResponse() {
+    }
+
+    public static <T> Consumer<T> lineWriter(ObjectMapper objectMapper, OutputStream outputStream) {
+        ObjectWriter objectWriter = objectMapper.writer();
+
+        return line -> {
+            try {
+                outputStream.write(objectWriter.writeValueAsBytes(line));
+                outputStream.write(LINE_SEPARATOR);
+            } catch (IOException ioException) {
+                throw new TechnicalException("NDJSON line could not be written: " + ioException.getMessage());
+            }
+        };
+    }
+}
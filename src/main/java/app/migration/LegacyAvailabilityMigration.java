@@ -0,0 +1,171 @@
+package app.migration;
+
+import app.exception.TechnicalException;
+import app.model.candidate.CandidateAvailabilityModel;
+import app.model.candidate.CandidateAvailabilityRangeModel;
+import app.model.interviewer.InterviewerAvailabilityModel;
+import app.model.interviewer.InterviewerAvailabilityRangeModel;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.DailyAvailability;
+import app.model.utils.TimeSlot;
+import app.repository.candidate.CandidateAvailabilityRangeRepository;
+import app.repository.candidate.CandidateAvailabilityRepository;
+import app.repository.interviewer.InterviewerAvailabilityRangeRepository;
+import app.repository.interviewer.InterviewerAvailabilityRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Moves availability persisted by the former @ElementCollection mapping, one Java-serialized AvailabilitySlot per
+// row, into the normalized availability range tables, coalescing the hours of each day the same way every other
+// write does, and drops the legacy tables afterwards.
+@Component
+public class LegacyAvailabilityMigration implements ApplicationRunner {
+    private static final String LEGACY_CANDIDATE_AVAILABILITY_TABLE =
+            "candidate_availability_model_availability_slot_list";
+    private static final String LEGACY_INTERVIEWER_AVAILABILITY_TABLE =
+            "interviewer_availability_model_availability_slot_list";
+    private static final ObjectInputFilter LEGACY_AVAILABILITY_SLOT_FILTER = ObjectInputFilter.Config.createFilter(
+            "app.model.utils.*;java.time.*;java.util.*;java.lang.*;!*");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CandidateAvailabilityRepository candidateAvailabilityRepository;
+    private final CandidateAvailabilityRangeRepository candidateAvailabilityRangeRepository;
+    private final InterviewerAvailabilityRepository interviewerAvailabilityRepository;
+    private final InterviewerAvailabilityRangeRepository interviewerAvailabilityRangeRepository;
+
+    @Autowired
+    public LegacyAvailabilityMigration(JdbcTemplate jdbcTemplate,
+                                       CandidateAvailabilityRepository candidateAvailabilityRepository,
+                                       CandidateAvailabilityRangeRepository candidateAvailabilityRangeRepository,
+                                       InterviewerAvailabilityRepository interviewerAvailabilityRepository,
+                                       InterviewerAvailabilityRangeRepository interviewerAvailabilityRangeRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.candidateAvailabilityRepository = candidateAvailabilityRepository;
+        this.candidateAvailabilityRangeRepository = candidateAvailabilityRangeRepository;
+        this.interviewerAvailabilityRepository = interviewerAvailabilityRepository;
+        this.interviewerAvailabilityRangeRepository = interviewerAvailabilityRangeRepository;
+    }
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments applicationArguments) {
+        if (legacyTableExists(LEGACY_CANDIDATE_AVAILABILITY_TABLE)) {
+            migrateCandidatesAvailability();
+            dropLegacyTable(LEGACY_CANDIDATE_AVAILABILITY_TABLE);
+        }
+
+        if (legacyTableExists(LEGACY_INTERVIEWER_AVAILABILITY_TABLE)) {
+            migrateInterviewersAvailability();
+            dropLegacyTable(LEGACY_INTERVIEWER_AVAILABILITY_TABLE);
+        }
+    }
+
+    private boolean legacyTableExists(String tableName) {
+        Integer numberOfTables = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.tables where upper(table_name) = upper(?)", Integer.class,
+                tableName);
+
+        return numberOfTables != null && numberOfTables > 0;
+    }
+
+    private void dropLegacyTable(String tableName) {
+        jdbcTemplate.execute("drop table " + tableName);
+    }
+
+    private void migrateCandidatesAvailability() {
+        List<CandidateAvailabilityRangeModel> candidateAvailabilityRanges = new ArrayList<>();
+        Map<Long, List<AvailabilitySlot>> legacyAvailabilitySlotsById = readLegacyAvailabilitySlots(
+                "candidate_availability_model_id", LEGACY_CANDIDATE_AVAILABILITY_TABLE);
+
+        for (Map.Entry<Long, List<AvailabilitySlot>> legacyAvailabilitySlots : legacyAvailabilitySlotsById.entrySet()) {
+            CandidateAvailabilityModel candidateAvailability = candidateAvailabilityRepository.getOne(
+                    legacyAvailabilitySlots.getKey());
+
+            for (AvailabilitySlot availabilitySlot : coalesce(legacyAvailabilitySlots.getValue())) {
+                for (TimeSlot timeSlot : availabilitySlot.getTimeSlotList()) {
+                    CandidateAvailabilityRangeModel candidateAvailabilityRange =
+                            CandidateAvailabilityRangeModel.Builder.candidateAvailabilityRangeModelWith()
+                                                                   .withCandidateAvailabilityModel(
+                                                                           candidateAvailability)
+                                                                   .withDay(availabilitySlot.getDay())
+                                                                   .withStartTime(timeSlot.getFrom())
+                                                                   .withEndTime(timeSlot.getTo())
+                                                                   .build();
+
+                    candidateAvailabilityRanges.add(candidateAvailabilityRange);
+                }
+            }
+        }
+
+        candidateAvailabilityRangeRepository.saveAll(candidateAvailabilityRanges);
+    }
+
+    private void migrateInterviewersAvailability() {
+        List<InterviewerAvailabilityRangeModel> interviewerAvailabilityRanges = new ArrayList<>();
+        Map<Long, List<AvailabilitySlot>> legacyAvailabilitySlotsById = readLegacyAvailabilitySlots(
+                "interviewer_availability_model_id", LEGACY_INTERVIEWER_AVAILABILITY_TABLE);
+
+        for (Map.Entry<Long, List<AvailabilitySlot>> legacyAvailabilitySlots : legacyAvailabilitySlotsById.entrySet()) {
+            InterviewerAvailabilityModel interviewerAvailability = interviewerAvailabilityRepository.getOne(
+                    legacyAvailabilitySlots.getKey());
+
+            for (AvailabilitySlot availabilitySlot : coalesce(legacyAvailabilitySlots.getValue())) {
+                for (TimeSlot timeSlot : availabilitySlot.getTimeSlotList()) {
+                    InterviewerAvailabilityRangeModel interviewerAvailabilityRange =
+                            InterviewerAvailabilityRangeModel.Builder.interviewerAvailabilityRangeModelWith()
+                                                                     .withInterviewerAvailabilityModel(
+                                                                             interviewerAvailability)
+                                                                     .withDay(availabilitySlot.getDay())
+                                                                     .withStartTime(timeSlot.getFrom())
+                                                                     .withEndTime(timeSlot.getTo())
+                                                                     .build();
+
+                    interviewerAvailabilityRanges.add(interviewerAvailabilityRange);
+                }
+            }
+        }
+
+        interviewerAvailabilityRangeRepository.saveAll(interviewerAvailabilityRanges);
+    }
+
+    private Map<Long, List<AvailabilitySlot>> readLegacyAvailabilitySlots(String availabilityIdColumn,
+                                                                         String legacyTableName) {
+        Map<Long, List<AvailabilitySlot>> legacyAvailabilitySlotsById = new LinkedHashMap<>();
+
+        jdbcTemplate.query("select " + availabilityIdColumn + ", availability_slot_list from " + legacyTableName,
+                           (RowCallbackHandler) resultSet -> legacyAvailabilitySlotsById
+                                   .computeIfAbsent(resultSet.getLong(1), availabilityId -> new ArrayList<>())
+                                   .add(readLegacyAvailabilitySlot(resultSet.getBytes(2))));
+
+        return legacyAvailabilitySlotsById;
+    }
+
+    private List<AvailabilitySlot> coalesce(List<AvailabilitySlot> legacyAvailabilitySlots) {
+        return DailyAvailability.fromAvailabilitySlots(legacyAvailabilitySlots).toAvailabilitySlots();
+    }
+
+    private AvailabilitySlot readLegacyAvailabilitySlot(byte[] serializedAvailabilitySlot) {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(
+                new ByteArrayInputStream(serializedAvailabilitySlot))) {
+            objectInputStream.setObjectInputFilter(LEGACY_AVAILABILITY_SLOT_FILTER);
+
+            return (AvailabilitySlot) objectInputStream.readObject();
+        } catch (IOException | ClassNotFoundException exception) {
+            throw new TechnicalException("Legacy availability slot could not be read: " + exception.getMessage());
+        }
+    }
+}
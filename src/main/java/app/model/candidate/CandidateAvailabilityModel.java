@@ -1,7 +1,13 @@
 package app.model.candidate;
 
+import app.model.utils.AvailabilityRange;
 import app.model.utils.AvailabilitySlot;
+import app.model.utils.KeysetPage;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotNull;
@@ -19,9 +25,15 @@ public class CandidateAvailabilityModel {
     @JoinColumn(name = "name", nullable = false)
     private CandidateModel candidateModel;
 
+    @JsonIgnore
+    @OrderBy("day, startTime")
+    @OneToMany(mappedBy = "candidateAvailabilityModel")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @BatchSize(size = KeysetPage.DEFAULT_PAGE_SIZE)
+    private List<CandidateAvailabilityRangeModel> availabilityRangeList;
+
     @NotNull
-    @ElementCollection
-    @Column(length = Integer.MAX_VALUE)
+    @Transient
     private List<AvailabilitySlot> availabilitySlotList;
 
     public CandidateAvailabilityModel() {
@@ -41,6 +53,10 @@ public class CandidateAvailabilityModel {
     }
 
     public List<AvailabilitySlot> getAvailabilitySlotList() {
+        if (availabilitySlotList == null && availabilityRangeList != null) {
+            availabilitySlotList = AvailabilityRange.toAvailabilitySlots(availabilityRangeList);
+        }
+
         return availabilitySlotList;
     }
 
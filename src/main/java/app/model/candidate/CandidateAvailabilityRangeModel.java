@@ -0,0 +1,103 @@
+package app.model.candidate;
+
+import app.model.utils.AvailabilityRange;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Entity
+@Table(name = "candidate_availability_range",
+       indexes = @Index(name = "idx_candidate_availability_range_owner_day",
+                        columnList = "candidate_availability_id, availability_day"))
+public class CandidateAvailabilityRangeModel implements AvailabilityRange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "candidate_availability_range_sequence")
+    @SequenceGenerator(name = "candidate_availability_range_sequence", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "candidate_availability_id", nullable = false)
+    private CandidateAvailabilityModel candidateAvailabilityModel;
+
+    @Column(name = "availability_day", nullable = false)
+    private LocalDate day;
+
+    @Column(nullable = false)
+    private LocalTime startTime;
+
+    @Column(nullable = false)
+    private LocalTime endTime;
+
+    public CandidateAvailabilityRangeModel() {
+    }
+
+    public CandidateAvailabilityRangeModel(Builder builder) {
+        this.candidateAvailabilityModel = builder.candidateAvailabilityModel;
+        this.day = builder.day;
+        this.startTime = builder.startTime;
+        this.endTime = builder.endTime;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public CandidateAvailabilityModel getCandidateAvailabilityModel() {
+        return candidateAvailabilityModel;
+    }
+
+    @Override
+    public LocalDate getDay() {
+        return day;
+    }
+
+    @Override
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    @Override
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public static class Builder {
+        private CandidateAvailabilityModel candidateAvailabilityModel;
+        private LocalDate day;
+        private LocalTime startTime;
+        private LocalTime endTime;
+
+        public static Builder candidateAvailabilityRangeModelWith() {
+            return new Builder();
+        }
+
+        public Builder withCandidateAvailabilityModel(CandidateAvailabilityModel candidateAvailabilityModel) {
+            this.candidateAvailabilityModel = candidateAvailabilityModel;
+
+            return this;
+        }
+
+        public Builder withDay(LocalDate day) {
+            this.day = day;
+
+            return this;
+        }
+
+        public Builder withStartTime(LocalTime startTime) {
+            this.startTime = startTime;
+
+            return this;
+        }
+
+        public Builder withEndTime(LocalTime endTime) {
+            this.endTime = endTime;
+
+            return this;
+        }
+
+        public CandidateAvailabilityRangeModel build() {
+            return new CandidateAvailabilityRangeModel(this);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package app.model.interviewer;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public class AvailableInterviewersModel {
+    private final LocalDate day;
+    private final LocalTime from;
+    private final LocalTime to;
+    private final List<String> interviewersNames;
+
+    public AvailableInterviewersModel(Builder builder) {
+        this.day = builder.day;
+        this.from = builder.from;
+        this.to = builder.to;
+        this.interviewersNames = builder.interviewersNames;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public LocalTime getFrom() {
+        return from;
+    }
+
+    public LocalTime getTo() {
+        return to;
+    }
+
+    public List<String> getInterviewersNames() {
+        return interviewersNames;
+    }
+
+    public static class Builder {
+        private LocalDate day;
+        private LocalTime from;
+        private LocalTime to;
+        private List<String> interviewersNames;
+
+        public static Builder availableInterviewersModelWith() {
+            return new Builder();
+        }
+
+        public Builder withDay(LocalDate day) {
+            this.day = day;
+
+            return this;
+        }
+
+        public Builder withFrom(LocalTime from) {
+            this.from = from;
+
+            return this;
+        }
+
+        public Builder withTo(LocalTime to) {
+            this.to = to;
+
+            return this;
+        }
+
+        public Builder withInterviewersNames(List<String> interviewersNames) {
+            this.interviewersNames = interviewersNames;
+
+            return this;
+        }
+
+        public AvailableInterviewersModel build() {
+            return new AvailableInterviewersModel(this);
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package app.model.interviewer;
 
+import app.model.utils.AvailabilityRange;
 import app.model.utils.AvailabilitySlot;
+import app.model.utils.KeysetPage;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotNull;
@@ -19,9 +25,20 @@ public class InterviewerAvailabilityModel {
     @JoinColumn(name = "name", nullable = false)
     private InterviewerModel interviewerModel;
 
+    @JsonIgnore
+    @OrderBy("day, startTime")
+    @OneToMany(mappedBy = "interviewerAvailabilityModel")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @BatchSize(size = KeysetPage.DEFAULT_PAGE_SIZE)
+    private List<InterviewerAvailabilityRangeModel> availabilityRangeList;
+
+    @JsonIgnore
+    @OneToMany(mappedBy = "interviewerAvailabilityModel")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private List<InterviewerAvailabilityRuleModel> availabilityRuleList;
+
     @NotNull
-    @ElementCollection
-    @Column(length = Integer.MAX_VALUE)
+    @Transient
     private List<AvailabilitySlot> availabilitySlotList;
 
     public InterviewerAvailabilityModel() {
@@ -41,6 +58,10 @@ public class InterviewerAvailabilityModel {
     }
 
     public List<AvailabilitySlot> getAvailabilitySlotList() {
+        if (availabilitySlotList == null && availabilityRangeList != null) {
+            availabilitySlotList = AvailabilityRange.toAvailabilitySlots(availabilityRangeList);
+        }
+
         return availabilitySlotList;
     }
 
@@ -0,0 +1,103 @@
+package app.model.interviewer;
+
+import app.model.utils.AvailabilityRange;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Entity
+@Table(name = "interviewer_availability_range",
+       indexes = @Index(name = "idx_interviewer_availability_range_owner_day",
+                        columnList = "interviewer_availability_id, availability_day"))
+public class InterviewerAvailabilityRangeModel implements AvailabilityRange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "interviewer_availability_range_sequence")
+    @SequenceGenerator(name = "interviewer_availability_range_sequence", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "interviewer_availability_id", nullable = false)
+    private InterviewerAvailabilityModel interviewerAvailabilityModel;
+
+    @Column(name = "availability_day", nullable = false)
+    private LocalDate day;
+
+    @Column(nullable = false)
+    private LocalTime startTime;
+
+    @Column(nullable = false)
+    private LocalTime endTime;
+
+    public InterviewerAvailabilityRangeModel() {
+    }
+
+    public InterviewerAvailabilityRangeModel(Builder builder) {
+        this.interviewerAvailabilityModel = builder.interviewerAvailabilityModel;
+        this.day = builder.day;
+        this.startTime = builder.startTime;
+        this.endTime = builder.endTime;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public InterviewerAvailabilityModel getInterviewerAvailabilityModel() {
+        return interviewerAvailabilityModel;
+    }
+
+    @Override
+    public LocalDate getDay() {
+        return day;
+    }
+
+    @Override
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    @Override
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public static class Builder {
+        private InterviewerAvailabilityModel interviewerAvailabilityModel;
+        private LocalDate day;
+        private LocalTime startTime;
+        private LocalTime endTime;
+
+        public static Builder interviewerAvailabilityRangeModelWith() {
+            return new Builder();
+        }
+
+        public Builder withInterviewerAvailabilityModel(InterviewerAvailabilityModel interviewerAvailabilityModel) {
+            this.interviewerAvailabilityModel = interviewerAvailabilityModel;
+
+            return this;
+        }
+
+        public Builder withDay(LocalDate day) {
+            this.day = day;
+
+            return this;
+        }
+
+        public Builder withStartTime(LocalTime startTime) {
+            this.startTime = startTime;
+
+            return this;
+        }
+
+        public Builder withEndTime(LocalTime endTime) {
+            this.endTime = endTime;
+
+            return this;
+        }
+
+        public InterviewerAvailabilityRangeModel build() {
+            return new InterviewerAvailabilityRangeModel(this);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package app.model.interviewer;
+
+import app.model.utils.AvailabilityRule;
+import app.model.utils.DailyAvailability;
+import app.model.utils.TimeSlot;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Entity
+@Table(name = "interviewer_availability_rule",
+       indexes = @Index(name = "idx_interviewer_availability_rule_owner",
+                        columnList = "interviewer_availability_id"))
+public class InterviewerAvailabilityRuleModel implements AvailabilityRule {
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "interviewer_availability_rule_sequence")
+    @SequenceGenerator(name = "interviewer_availability_rule_sequence", allocationSize = 50)
+    private Long id;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "interviewer_availability_id", nullable = false)
+    private InterviewerAvailabilityModel interviewerAvailabilityModel;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DayOfWeek dayOfWeek;
+
+    @JsonIgnore
+    @Column(nullable = false)
+    private int hourMask;
+
+    @NotNull
+    @Column(nullable = false)
+    private LocalDate validFrom;
+
+    @NotNull
+    @Column(nullable = false)
+    private LocalDate validUntil;
+
+    @ElementCollection
+    @CollectionTable(name = "interviewer_availability_rule_exception",
+                     joinColumns = @JoinColumn(name = "interviewer_availability_rule_id"),
+                     foreignKey = @ForeignKey(name = "fk_interviewer_availability_rule_exception_rule",
+                                              foreignKeyDefinition = "foreign key (interviewer_availability_rule_id) "
+                                                                     + "references interviewer_availability_rule "
+                                                                     + "on delete cascade"))
+    @Column(name = "exception_day", nullable = false)
+    private Set<LocalDate> exceptionDays = new HashSet<>();
+
+    @NotNull
+    @Transient
+    private List<TimeSlot> timeSlotList;
+
+    public InterviewerAvailabilityRuleModel() {
+    }
+
+    public InterviewerAvailabilityRuleModel(Builder builder) {
+        this.interviewerAvailabilityModel = builder.interviewerAvailabilityModel;
+        this.dayOfWeek = builder.dayOfWeek;
+        this.hourMask = builder.hourMask;
+        this.validFrom = builder.validFrom;
+        this.validUntil = builder.validUntil;
+        this.exceptionDays = builder.exceptionDays != null ? new HashSet<>(builder.exceptionDays) : new HashSet<>();
+        this.timeSlotList = builder.timeSlotList;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public InterviewerAvailabilityModel getInterviewerAvailabilityModel() {
+        return interviewerAvailabilityModel;
+    }
+
+    @Override
+    public DayOfWeek getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    @Override
+    @JsonIgnore
+    public int getHourMask() {
+        return hourMask;
+    }
+
+    @Override
+    public LocalDate getValidFrom() {
+        return validFrom;
+    }
+
+    @Override
+    public LocalDate getValidUntil() {
+        return validUntil;
+    }
+
+    @Override
+    public Set<LocalDate> getExceptionDays() {
+        return exceptionDays;
+    }
+
+    public List<TimeSlot> getTimeSlotList() {
+        if (timeSlotList == null) {
+            timeSlotList = DailyAvailability.toTimeSlots(hourMask);
+        }
+
+        return timeSlotList;
+    }
+
+    public static class Builder {
+        private InterviewerAvailabilityModel interviewerAvailabilityModel;
+        private DayOfWeek dayOfWeek;
+        private int hourMask;
+        private LocalDate validFrom;
+        private LocalDate validUntil;
+        private Set<LocalDate> exceptionDays;
+        private List<TimeSlot> timeSlotList;
+
+        public static Builder interviewerAvailabilityRuleModelWith() {
+            return new Builder();
+        }
+
+        public Builder withInterviewerAvailabilityModel(InterviewerAvailabilityModel interviewerAvailabilityModel) {
+            this.interviewerAvailabilityModel = interviewerAvailabilityModel;
+
+            return this;
+        }
+
+        public Builder withDayOfWeek(DayOfWeek dayOfWeek) {
+            this.dayOfWeek = dayOfWeek;
+
+            return this;
+        }
+
+        public Builder withHourMask(int hourMask) {
+            this.hourMask = hourMask;
+
+            return this;
+        }
+
+        public Builder withValidFrom(LocalDate validFrom) {
+            this.validFrom = validFrom;
+
+            return this;
+        }
+
+        public Builder withValidUntil(LocalDate validUntil) {
+            this.validUntil = validUntil;
+
+            return this;
+        }
+
+        public Builder withExceptionDays(Set<LocalDate> exceptionDays) {
+            this.exceptionDays = exceptionDays;
+
+            return this;
+        }
+
+        public Builder withTimeSlotList(List<TimeSlot> timeSlotList) {
+            this.timeSlotList = timeSlotList;
+
+            return this;
+        }
+
+        public InterviewerAvailabilityRuleModel build() {
+            return new InterviewerAvailabilityRuleModel(this);
+        }
+    }
+}
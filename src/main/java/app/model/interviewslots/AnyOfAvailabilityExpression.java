@@ -0,0 +1,53 @@
+package app.model.interviewslots;
+
+import app.exception.BusinessException;
+import app.model.utils.DailyAvailability;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class AnyOfAvailabilityExpression extends AvailabilityExpression {
+    private final List<AvailabilityExpression> operands;
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public AnyOfAvailabilityExpression(List<AvailabilityExpression> operands) {
+        this.operands = operands;
+    }
+
+    @JsonValue
+    public List<AvailabilityExpression> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public void collectInterviewersNames(Set<String> interviewersNames) {
+        if (operands == null || operands.isEmpty()) {
+            throw new BusinessException("Availability expression must have operands!", "Or: " + operands);
+        }
+
+        for (AvailabilityExpression operand : operands) {
+            if (operand == null) {
+                throw new BusinessException("Availability expression must have operands!", "Or: " + operands);
+            }
+
+            operand.collectInterviewersNames(interviewersNames);
+        }
+    }
+
+    @Override
+    public DailyAvailability evaluate(DailyAvailability boundingDailyAvailability,
+                                      Map<String, DailyAvailability> interviewersDailyAvailabilityByName) {
+        DailyAvailability dailyAvailability = DailyAvailability.empty();
+
+        for (AvailabilityExpression operand : operands) {
+            DailyAvailability operandDailyAvailability = operand.evaluate(boundingDailyAvailability,
+                                                                          interviewersDailyAvailabilityByName);
+            dailyAvailability = dailyAvailability.union(operandDailyAvailability);
+        }
+
+        return dailyAvailability;
+    }
+}
@@ -0,0 +1,20 @@
+package app.model.interviewslots;
+
+import app.model.utils.DailyAvailability;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+import java.util.Map;
+import java.util.Set;
+
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.WRAPPER_OBJECT)
+@JsonSubTypes({@JsonSubTypes.Type(value = InterviewerAvailabilityExpression.class, name = "interviewer"),
+               @JsonSubTypes.Type(value = AllOfAvailabilityExpression.class, name = "and"),
+               @JsonSubTypes.Type(value = AnyOfAvailabilityExpression.class, name = "or"),
+               @JsonSubTypes.Type(value = NotAvailabilityExpression.class, name = "not")})
+public abstract class AvailabilityExpression {
+    public abstract void collectInterviewersNames(Set<String> interviewersNames);
+
+    public abstract DailyAvailability evaluate(DailyAvailability boundingDailyAvailability,
+                                               Map<String, DailyAvailability> interviewersDailyAvailabilityByName);
+}
@@ -0,0 +1,96 @@
+package app.model.interviewslots;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public class InterviewBookingModel {
+    private final String candidateName;
+    private final List<String> interviewersNames;
+    private final LocalDate day;
+    private final LocalTime from;
+    private final LocalTime to;
+
+    public InterviewBookingModel(String candidateName, List<String> interviewersNames, LocalDate day,
+                                 LocalTime from, LocalTime to) {
+        this.candidateName = candidateName;
+        this.interviewersNames = interviewersNames;
+        this.day = day;
+        this.from = from;
+        this.to = to;
+    }
+
+    public InterviewBookingModel(Builder builder) {
+        this.candidateName = builder.candidateName;
+        this.interviewersNames = builder.interviewersNames;
+        this.day = builder.day;
+        this.from = builder.from;
+        this.to = builder.to;
+    }
+
+    public String getCandidateName() {
+        return candidateName;
+    }
+
+    public List<String> getInterviewersNames() {
+        return interviewersNames;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public LocalTime getFrom() {
+        return from;
+    }
+
+    public LocalTime getTo() {
+        return to;
+    }
+
+    public static class Builder {
+        private String candidateName;
+        private List<String> interviewersNames;
+        private LocalDate day;
+        private LocalTime from;
+        private LocalTime to;
+
+        public static Builder interviewBookingModelWith() {
+            return new Builder();
+        }
+
+        public Builder withCandidateName(String candidateName) {
+            this.candidateName = candidateName;
+
+            return this;
+        }
+
+        public Builder withInterviewersNames(List<String> interviewersNames) {
+            this.interviewersNames = interviewersNames;
+
+            return this;
+        }
+
+        public Builder withDay(LocalDate day) {
+            this.day = day;
+
+            return this;
+        }
+
+        public Builder withFrom(LocalTime from) {
+            this.from = from;
+
+            return this;
+        }
+
+        public Builder withTo(LocalTime to) {
+            this.to = to;
+
+            return this;
+        }
+
+        public InterviewBookingModel build() {
+            return new InterviewBookingModel(this);
+        }
+    }
+}
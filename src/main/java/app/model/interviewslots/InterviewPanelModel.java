@@ -0,0 +1,61 @@
+package app.model.interviewslots;
+
+import app.model.utils.AvailabilitySlot;
+
+import java.util.List;
+
+public class InterviewPanelModel {
+    private final List<String> interviewersNames;
+    private final Integer numberOfCommonHours;
+    private final List<AvailabilitySlot> interviewAvailabilitySlotList;
+
+    public InterviewPanelModel(Builder builder) {
+        this.interviewersNames = builder.interviewersNames;
+        this.numberOfCommonHours = builder.numberOfCommonHours;
+        this.interviewAvailabilitySlotList = builder.interviewAvailabilitySlotList;
+    }
+
+    public List<String> getInterviewersNames() {
+        return interviewersNames;
+    }
+
+    public Integer getNumberOfCommonHours() {
+        return numberOfCommonHours;
+    }
+
+    public List<AvailabilitySlot> getInterviewAvailabilitySlotList() {
+        return interviewAvailabilitySlotList;
+    }
+
+    public static class Builder {
+        private List<String> interviewersNames;
+        private Integer numberOfCommonHours;
+        private List<AvailabilitySlot> interviewAvailabilitySlotList;
+
+        public static Builder interviewPanelModelWith() {
+            return new Builder();
+        }
+
+        public Builder withInterviewersNames(List<String> interviewersNames) {
+            this.interviewersNames = interviewersNames;
+
+            return this;
+        }
+
+        public Builder withNumberOfCommonHours(Integer numberOfCommonHours) {
+            this.numberOfCommonHours = numberOfCommonHours;
+
+            return this;
+        }
+
+        public Builder withInterviewAvailabilitySlotList(List<AvailabilitySlot> interviewAvailabilitySlotList) {
+            this.interviewAvailabilitySlotList = interviewAvailabilitySlotList;
+
+            return this;
+        }
+
+        public InterviewPanelModel build() {
+            return new InterviewPanelModel(this);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package app.model.interviewslots;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class InterviewPanelsQueryModel {
+    private final String candidateName;
+    private final List<String> interviewersNames;
+    private final Integer panelSize;
+    private final Integer numberOfPanels;
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+    private final Integer nextDays;
+
+    public InterviewPanelsQueryModel(String candidateName, List<String> interviewersNames, Integer panelSize,
+                                     Integer numberOfPanels, LocalDate fromDate, LocalDate toDate,
+                                     Integer nextDays) {
+        this.candidateName = candidateName;
+        this.interviewersNames = interviewersNames;
+        this.panelSize = panelSize;
+        this.numberOfPanels = numberOfPanels;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.nextDays = nextDays;
+    }
+
+    public InterviewPanelsQueryModel(Builder builder) {
+        this.candidateName = builder.candidateName;
+        this.interviewersNames = builder.interviewersNames;
+        this.panelSize = builder.panelSize;
+        this.numberOfPanels = builder.numberOfPanels;
+        this.fromDate = builder.fromDate;
+        this.toDate = builder.toDate;
+        this.nextDays = builder.nextDays;
+    }
+
+    public String getCandidateName() {
+        return candidateName;
+    }
+
+    public List<String> getInterviewersNames() {
+        return interviewersNames;
+    }
+
+    public Integer getPanelSize() {
+        return panelSize;
+    }
+
+    public Integer getNumberOfPanels() {
+        return numberOfPanels;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public Integer getNextDays() {
+        return nextDays;
+    }
+
+    public static class Builder {
+        private String candidateName;
+        private List<String> interviewersNames;
+        private Integer panelSize;
+        private Integer numberOfPanels;
+        private LocalDate fromDate;
+        private LocalDate toDate;
+        private Integer nextDays;
+
+        public static Builder interviewPanelsQueryModelWith() {
+            return new Builder();
+        }
+
+        public Builder withCandidateName(String candidateName) {
+            this.candidateName = candidateName;
+
+            return this;
+        }
+
+        public Builder withInterviewersNames(List<String> interviewersNames) {
+            this.interviewersNames = interviewersNames;
+
+            return this;
+        }
+
+        public Builder withPanelSize(Integer panelSize) {
+            this.panelSize = panelSize;
+
+            return this;
+        }
+
+        public Builder withNumberOfPanels(Integer numberOfPanels) {
+            this.numberOfPanels = numberOfPanels;
+
+            return this;
+        }
+
+        public Builder withFromDate(LocalDate fromDate) {
+            this.fromDate = fromDate;
+
+            return this;
+        }
+
+        public Builder withToDate(LocalDate toDate) {
+            this.toDate = toDate;
+
+            return this;
+        }
+
+        public Builder withNextDays(Integer nextDays) {
+            this.nextDays = nextDays;
+
+            return this;
+        }
+
+        public InterviewPanelsQueryModel build() {
+            return new InterviewPanelsQueryModel(this);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package app.model.interviewslots;
+
+import java.util.List;
+
+public class InterviewPanelsReturnModel {
+    private final String candidateName;
+    private final Integer panelSize;
+    private final List<InterviewPanelModel> interviewPanelList;
+
+    public InterviewPanelsReturnModel(Builder builder) {
+        this.candidateName = builder.candidateName;
+        this.panelSize = builder.panelSize;
+        this.interviewPanelList = builder.interviewPanelList;
+    }
+
+    public String getCandidateName() {
+        return candidateName;
+    }
+
+    public Integer getPanelSize() {
+        return panelSize;
+    }
+
+    public List<InterviewPanelModel> getInterviewPanelList() {
+        return interviewPanelList;
+    }
+
+    public static class Builder {
+        private String candidateName;
+        private Integer panelSize;
+        private List<InterviewPanelModel> interviewPanelList;
+
+        public static Builder interviewPanelsReturnModelWith() {
+            return new Builder();
+        }
+
+        public Builder withCandidateName(String candidateName) {
+            this.candidateName = candidateName;
+
+            return this;
+        }
+
+        public Builder withPanelSize(Integer panelSize) {
+            this.panelSize = panelSize;
+
+            return this;
+        }
+
+        public Builder withInterviewPanelList(List<InterviewPanelModel> interviewPanelList) {
+            this.interviewPanelList = interviewPanelList;
+
+            return this;
+        }
+
+        public InterviewPanelsReturnModel build() {
+            return new InterviewPanelsReturnModel(this);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package app.model.interviewslots;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class InterviewSlotsBatchQueryModel {
+    private final List<String> candidatesNames;
+    private final List<String> interviewersNames;
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+    private final Integer nextDays;
+    private final Integer durationInHours;
+    private final Boolean slidingWindows;
+
+    public InterviewSlotsBatchQueryModel(List<String> candidatesNames, List<String> interviewersNames,
+                                         LocalDate fromDate, LocalDate toDate, Integer nextDays,
+                                         Integer durationInHours, Boolean slidingWindows) {
+        this.candidatesNames = candidatesNames;
+        this.interviewersNames = interviewersNames;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.nextDays = nextDays;
+        this.durationInHours = durationInHours;
+        this.slidingWindows = slidingWindows;
+    }
+
+    public InterviewSlotsBatchQueryModel(Builder builder) {
+        this.candidatesNames = builder.candidatesNames;
+        this.interviewersNames = builder.interviewersNames;
+        this.fromDate = builder.fromDate;
+        this.toDate = builder.toDate;
+        this.nextDays = builder.nextDays;
+        this.durationInHours = builder.durationInHours;
+        this.slidingWindows = builder.slidingWindows;
+    }
+
+    public List<String> getCandidatesNames() {
+        return candidatesNames;
+    }
+
+    public List<String> getInterviewersNames() {
+        return interviewersNames;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public Integer getNextDays() {
+        return nextDays;
+    }
+
+    public Integer getDurationInHours() {
+        return durationInHours;
+    }
+
+    public Boolean getSlidingWindows() {
+        return slidingWindows;
+    }
+
+    public static class Builder {
+        private List<String> candidatesNames;
+        private List<String> interviewersNames;
+        private LocalDate fromDate;
+        private LocalDate toDate;
+        private Integer nextDays;
+        private Integer durationInHours;
+        private Boolean slidingWindows;
+
+        public static Builder interviewSlotsBatchQueryModelWith() {
+            return new Builder();
+        }
+
+        public Builder withCandidatesNames(List<String> candidatesNames) {
+            this.candidatesNames = candidatesNames;
+
+            return this;
+        }
+
+        public Builder withInterviewersNames(List<String> interviewersNames) {
+            this.interviewersNames = interviewersNames;
+
+            return this;
+        }
+
+        public Builder withFromDate(LocalDate fromDate) {
+            this.fromDate = fromDate;
+
+            return this;
+        }
+
+        public Builder withToDate(LocalDate toDate) {
+            this.toDate = toDate;
+
+            return this;
+        }
+
+        public Builder withNextDays(Integer nextDays) {
+            this.nextDays = nextDays;
+
+            return this;
+        }
+
+        public Builder withDurationInHours(Integer durationInHours) {
+            this.durationInHours = durationInHours;
+
+            return this;
+        }
+
+        public Builder withSlidingWindows(Boolean slidingWindows) {
+            this.slidingWindows = slidingWindows;
+
+            return this;
+        }
+
+        public InterviewSlotsBatchQueryModel build() {
+            return new InterviewSlotsBatchQueryModel(this);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package app.model.interviewslots;
+
+public class InterviewSlotsCacheStatisticsModel {
+    private final Long hits;
+    private final Long misses;
+    private final Long evictions;
+    private final Long invalidations;
+    private final Integer numberOfEntries;
+    private final Long weight;
+    private final Long maximumWeight;
+
+    public InterviewSlotsCacheStatisticsModel(Builder builder) {
+        this.hits = builder.hits;
+        this.misses = builder.misses;
+        this.evictions = builder.evictions;
+        this.invalidations = builder.invalidations;
+        this.numberOfEntries = builder.numberOfEntries;
+        this.weight = builder.weight;
+        this.maximumWeight = builder.maximumWeight;
+    }
+
+    public Long getHits() {
+        return hits;
+    }
+
+    public Long getMisses() {
+        return misses;
+    }
+
+    public Long getEvictions() {
+        return evictions;
+    }
+
+    public Long getInvalidations() {
+        return invalidations;
+    }
+
+    public Integer getNumberOfEntries() {
+        return numberOfEntries;
+    }
+
+    public Long getWeight() {
+        return weight;
+    }
+
+    public Long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    public static class Builder {
+        private Long hits;
+        private Long misses;
+        private Long evictions;
+        private Long invalidations;
+        private Integer numberOfEntries;
+        private Long weight;
+        private Long maximumWeight;
+
+        public static Builder interviewSlotsCacheStatisticsModelWith() {
+            return new Builder();
+        }
+
+        public Builder withHits(Long hits) {
+            this.hits = hits;
+
+            return this;
+        }
+
+        public Builder withMisses(Long misses) {
+            this.misses = misses;
+
+            return this;
+        }
+
+        public Builder withEvictions(Long evictions) {
+            this.evictions = evictions;
+
+            return this;
+        }
+
+        public Builder withInvalidations(Long invalidations) {
+            this.invalidations = invalidations;
+
+            return this;
+        }
+
+        public Builder withNumberOfEntries(Integer numberOfEntries) {
+            this.numberOfEntries = numberOfEntries;
+
+            return this;
+        }
+
+        public Builder withWeight(Long weight) {
+            this.weight = weight;
+
+            return this;
+        }
+
+        public Builder withMaximumWeight(Long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+
+            return this;
+        }
+
+        public InterviewSlotsCacheStatisticsModel build() {
+            return new InterviewSlotsCacheStatisticsModel(this);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package app.model.interviewslots;
+
+import java.time.LocalDate;
+
+public class InterviewSlotsExpressionQueryModel {
+    private final String candidateName;
+    private final AvailabilityExpression interviewersExpression;
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+    private final Integer nextDays;
+    private final Integer durationInHours;
+    private final Boolean slidingWindows;
+
+    public InterviewSlotsExpressionQueryModel(String candidateName, AvailabilityExpression interviewersExpression,
+                                              LocalDate fromDate, LocalDate toDate, Integer nextDays,
+                                              Integer durationInHours, Boolean slidingWindows) {
+        this.candidateName = candidateName;
+        this.interviewersExpression = interviewersExpression;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.nextDays = nextDays;
+        this.durationInHours = durationInHours;
+        this.slidingWindows = slidingWindows;
+    }
+
+    public InterviewSlotsExpressionQueryModel(Builder builder) {
+        this.candidateName = builder.candidateName;
+        this.interviewersExpression = builder.interviewersExpression;
+        this.fromDate = builder.fromDate;
+        this.toDate = builder.toDate;
+        this.nextDays = builder.nextDays;
+        this.durationInHours = builder.durationInHours;
+        this.slidingWindows = builder.slidingWindows;
+    }
+
+    public String getCandidateName() {
+        return candidateName;
+    }
+
+    public AvailabilityExpression getInterviewersExpression() {
+        return interviewersExpression;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public Integer getNextDays() {
+        return nextDays;
+    }
+
+    public Integer getDurationInHours() {
+        return durationInHours;
+    }
+
+    public Boolean getSlidingWindows() {
+        return slidingWindows;
+    }
+
+    public static class Builder {
+        private String candidateName;
+        private AvailabilityExpression interviewersExpression;
+        private LocalDate fromDate;
+        private LocalDate toDate;
+        private Integer nextDays;
+        private Integer durationInHours;
+        private Boolean slidingWindows;
+
+        public static Builder interviewSlotsExpressionQueryModelWith() {
+            return new Builder();
+        }
+
+        public Builder withCandidateName(String candidateName) {
+            this.candidateName = candidateName;
+
+            return this;
+        }
+
+        public Builder withInterviewersExpression(AvailabilityExpression interviewersExpression) {
+            this.interviewersExpression = interviewersExpression;
+
+            return this;
+        }
+
+        public Builder withFromDate(LocalDate fromDate) {
+            this.fromDate = fromDate;
+
+            return this;
+        }
+
+        public Builder withToDate(LocalDate toDate) {
+            this.toDate = toDate;
+
+            return this;
+        }
+
+        public Builder withNextDays(Integer nextDays) {
+            this.nextDays = nextDays;
+
+            return this;
+        }
+
+        public Builder withDurationInHours(Integer durationInHours) {
+            this.durationInHours = durationInHours;
+
+            return this;
+        }
+
+        public Builder withSlidingWindows(Boolean slidingWindows) {
+            this.slidingWindows = slidingWindows;
+
+            return this;
+        }
+
+        public InterviewSlotsExpressionQueryModel build() {
+            return new InterviewSlotsExpressionQueryModel(this);
+        }
+    }
+}
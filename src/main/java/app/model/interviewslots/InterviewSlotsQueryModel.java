@@ -1,19 +1,43 @@
 package app.model.interviewslots;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public class InterviewSlotsQueryModel {
     private final String candidateName;
     private final List<String> interviewersNames;
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+    private final Integer nextDays;
+    private final Integer durationInHours;
+    private final Boolean slidingWindows;
+    private final Integer quorum;
+    private final Integer limit;
 
-    public InterviewSlotsQueryModel(String candidateName, List<String> interviewersNames) {
+    public InterviewSlotsQueryModel(String candidateName, List<String> interviewersNames, LocalDate fromDate,
+                                    LocalDate toDate, Integer nextDays, Integer durationInHours,
+                                    Boolean slidingWindows, Integer quorum, Integer limit) {
         this.candidateName = candidateName;
         this.interviewersNames = interviewersNames;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.nextDays = nextDays;
+        this.durationInHours = durationInHours;
+        this.slidingWindows = slidingWindows;
+        this.quorum = quorum;
+        this.limit = limit;
     }
 
     public InterviewSlotsQueryModel(Builder builder) {
         this.candidateName = builder.candidateName;
         this.interviewersNames = builder.interviewersNames;
+        this.fromDate = builder.fromDate;
+        this.toDate = builder.toDate;
+        this.nextDays = builder.nextDays;
+        this.durationInHours = builder.durationInHours;
+        this.slidingWindows = builder.slidingWindows;
+        this.quorum = builder.quorum;
+        this.limit = builder.limit;
     }
 
     public String getCandidateName() {
@@ -24,9 +48,44 @@ public class InterviewSlotsQueryModel {
         return interviewersNames;
     }
 
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public Integer getNextDays() {
+        return nextDays;
+    }
+
+    public Integer getDurationInHours() {
+        return durationInHours;
+    }
+
+    public Boolean getSlidingWindows() {
+        return slidingWindows;
+    }
+
+    public Integer getQuorum() {
+        return quorum;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
     public static class Builder {
         private String candidateName;
         private List<String> interviewersNames;
+        private LocalDate fromDate;
+        private LocalDate toDate;
+        private Integer nextDays;
+        private Integer durationInHours;
+        private Boolean slidingWindows;
+        private Integer quorum;
+        private Integer limit;
 
         public static Builder interviewSlotsQueryModelWith() {
             return new Builder();
@@ -44,6 +103,49 @@ public class InterviewSlotsQueryModel {
             return this;
         }
 
+        public Builder withFromDate(LocalDate fromDate) {
+            this.fromDate = fromDate;
+
+            return this;
+        }
+
+        public Builder withToDate(LocalDate toDate) {
+            this.toDate = toDate;
+
+            return this;
+        }
+
+        public Builder withNextDays(Integer nextDays) {
+            this.nextDays = nextDays;
+
+            return this;
+        }
+
+        public Builder withDurationInHours(Integer durationInHours) {
+            this.durationInHours = durationInHours;
+
+            return this;
+        }
+
+        public Builder withSlidingWindows(Boolean slidingWindows) {
+            this.slidingWindows = slidingWindows;
+
+            return this;
+        }
+
+        public Builder withQuorum(Integer quorum) {
+            this.quorum = quorum;
+        this.limit = limit;
+
+            return this;
+        }
+
+        public Builder withLimit(Integer limit) {
+            this.limit = limit;
+
+            return this;
+        }
+
         public InterviewSlotsQueryModel build() {
             return new InterviewSlotsQueryModel(this);
         }
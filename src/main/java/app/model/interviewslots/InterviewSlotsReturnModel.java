@@ -8,11 +8,13 @@ public class InterviewSlotsReturnModel {
     private final String candidateName;
     private final List<String> interviewersNames;
     private final List<AvailabilitySlot> interviewAvailabilitySlotList;
+    private final List<QuorumAvailabilitySlot> quorumAvailabilitySlotList;
 
     public InterviewSlotsReturnModel(Builder builder) {
         this.candidateName = builder.candidateName;
         this.interviewersNames = builder.interviewersNames;
         this.interviewAvailabilitySlotList = builder.interviewAvailabilitySlotList;
+        this.quorumAvailabilitySlotList = builder.quorumAvailabilitySlotList;
     }
 
     public String getCandidateName() {
@@ -27,10 +29,15 @@ public class InterviewSlotsReturnModel {
         return interviewAvailabilitySlotList;
     }
 
+    public List<QuorumAvailabilitySlot> getQuorumAvailabilitySlotList() {
+        return quorumAvailabilitySlotList;
+    }
+
     public static class Builder {
         private String candidateName;
         private List<String> interviewersNames;
         private List<AvailabilitySlot> interviewAvailabilitySlotList;
+        private List<QuorumAvailabilitySlot> quorumAvailabilitySlotList;
 
         public static Builder interviewSlotsReturnModelWith() {
             return new Builder();
@@ -54,6 +61,12 @@ public class InterviewSlotsReturnModel {
             return this;
         }
 
+        public Builder withQuorumAvailabilitySlotList(List<QuorumAvailabilitySlot> quorumAvailabilitySlotList) {
+            this.quorumAvailabilitySlotList = quorumAvailabilitySlotList;
+
+            return this;
+        }
+
         public InterviewSlotsReturnModel build() {
             return new InterviewSlotsReturnModel(this);
         }
@@ -0,0 +1,38 @@
+package app.model.interviewslots;
+
+import app.exception.BusinessException;
+import app.model.utils.DailyAvailability;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Map;
+import java.util.Set;
+
+public class InterviewerAvailabilityExpression extends AvailabilityExpression {
+    private final String interviewerName;
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public InterviewerAvailabilityExpression(String interviewerName) {
+        this.interviewerName = interviewerName;
+    }
+
+    @JsonValue
+    public String getInterviewerName() {
+        return interviewerName;
+    }
+
+    @Override
+    public void collectInterviewersNames(Set<String> interviewersNames) {
+        if (interviewerName == null || interviewerName.isBlank()) {
+            throw new BusinessException("You must provide a name!", interviewerName);
+        }
+
+        interviewersNames.add(interviewerName);
+    }
+
+    @Override
+    public DailyAvailability evaluate(DailyAvailability boundingDailyAvailability,
+                                      Map<String, DailyAvailability> interviewersDailyAvailabilityByName) {
+        return boundingDailyAvailability.intersect(interviewersDailyAvailabilityByName.get(interviewerName));
+    }
+}
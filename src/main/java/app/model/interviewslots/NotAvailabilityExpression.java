@@ -0,0 +1,39 @@
+package app.model.interviewslots;
+
+import app.exception.BusinessException;
+import app.model.utils.DailyAvailability;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Map;
+import java.util.Set;
+
+public class NotAvailabilityExpression extends AvailabilityExpression {
+    private final AvailabilityExpression operand;
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public NotAvailabilityExpression(AvailabilityExpression operand) {
+        this.operand = operand;
+    }
+
+    @JsonValue
+    public AvailabilityExpression getOperand() {
+        return operand;
+    }
+
+    @Override
+    public void collectInterviewersNames(Set<String> interviewersNames) {
+        if (operand == null) {
+            throw new BusinessException("Availability expression must have operands!", "Not: " + operand);
+        }
+
+        operand.collectInterviewersNames(interviewersNames);
+    }
+
+    @Override
+    public DailyAvailability evaluate(DailyAvailability boundingDailyAvailability,
+                                      Map<String, DailyAvailability> interviewersDailyAvailabilityByName) {
+        return boundingDailyAvailability.minus(operand.evaluate(boundingDailyAvailability,
+                                                                interviewersDailyAvailabilityByName));
+    }
+}
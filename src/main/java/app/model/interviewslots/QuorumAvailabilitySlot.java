@@ -0,0 +1,62 @@
+package app.model.interviewslots;
+
+import app.model.utils.TimeSlot;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class QuorumAvailabilitySlot {
+    private final LocalDate day;
+    private final TimeSlot timeSlot;
+    private final List<String> interviewersNames;
+
+    public QuorumAvailabilitySlot(Builder builder) {
+        this.day = builder.day;
+        this.timeSlot = builder.timeSlot;
+        this.interviewersNames = builder.interviewersNames;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public TimeSlot getTimeSlot() {
+        return timeSlot;
+    }
+
+    public List<String> getInterviewersNames() {
+        return interviewersNames;
+    }
+
+    public static class Builder {
+        private LocalDate day;
+        private TimeSlot timeSlot;
+        private List<String> interviewersNames;
+
+        public static Builder quorumAvailabilitySlotWith() {
+            return new Builder();
+        }
+
+        public Builder withDay(LocalDate day) {
+            this.day = day;
+
+            return this;
+        }
+
+        public Builder withTimeSlot(TimeSlot timeSlot) {
+            this.timeSlot = timeSlot;
+
+            return this;
+        }
+
+        public Builder withInterviewersNames(List<String> interviewersNames) {
+            this.interviewersNames = interviewersNames;
+
+            return this;
+        }
+
+        public QuorumAvailabilitySlot build() {
+            return new QuorumAvailabilitySlot(this);
+        }
+    }
+}
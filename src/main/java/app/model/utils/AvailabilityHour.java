@@ -0,0 +1,9 @@
+package app.model.utils;
+
+import java.time.LocalDate;
+
+public interface AvailabilityHour {
+    LocalDate getDay();
+
+    Integer getHour();
+}
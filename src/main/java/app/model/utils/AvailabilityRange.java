@@ -0,0 +1,42 @@
+package app.model.utils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public interface AvailabilityRange {
+    LocalDate getDay();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+
+    static List<AvailabilitySlot> toAvailabilitySlots(List<? extends AvailabilityRange> availabilityRanges) {
+        Map<LocalDate, List<TimeSlot>> timeSlotsByDay = new LinkedHashMap<>();
+
+        for (AvailabilityRange availabilityRange : availabilityRanges) {
+            TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith()
+                                                .withFrom(availabilityRange.getStartTime())
+                                                .withTo(availabilityRange.getEndTime())
+                                                .build();
+
+            timeSlotsByDay.computeIfAbsent(availabilityRange.getDay(), day -> new ArrayList<>()).add(timeSlot);
+        }
+
+        List<AvailabilitySlot> availabilitySlots = new ArrayList<>();
+
+        for (Map.Entry<LocalDate, List<TimeSlot>> timeSlotsOfDay : timeSlotsByDay.entrySet()) {
+            AvailabilitySlot availabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith()
+                                                                        .withDay(timeSlotsOfDay.getKey())
+                                                                        .withTimeSlotList(timeSlotsOfDay.getValue())
+                                                                        .build();
+
+            availabilitySlots.add(availabilitySlot);
+        }
+
+        return availabilitySlots;
+    }
+}
@@ -0,0 +1,71 @@
+package app.model.utils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class AvailabilityRangeChanges<T extends AvailabilityRange> {
+    private final List<T> obsoleteAvailabilityRanges;
+    private final List<AvailabilitySlot> missingAvailabilitySlots;
+
+    private AvailabilityRangeChanges(List<T> obsoleteAvailabilityRanges,
+                                     List<AvailabilitySlot> missingAvailabilitySlots) {
+        this.obsoleteAvailabilityRanges = obsoleteAvailabilityRanges;
+        this.missingAvailabilitySlots = missingAvailabilitySlots;
+    }
+
+    public static <T extends AvailabilityRange> AvailabilityRangeChanges<T> between(
+            List<T> existingAvailabilityRanges, DailyAvailability targetDailyAvailability) {
+        Map<LocalDate, Map<Integer, TimeSlot>> missingTimeSlotsByDay = new LinkedHashMap<>();
+
+        for (AvailabilitySlot targetAvailabilitySlot : targetDailyAvailability.toAvailabilitySlots()) {
+            Map<Integer, TimeSlot> missingTimeSlotsByHourMask = new LinkedHashMap<>();
+
+            for (TimeSlot targetTimeSlot : targetAvailabilitySlot.getTimeSlotList()) {
+                missingTimeSlotsByHourMask.put(DailyAvailability.toHourMask(targetTimeSlot), targetTimeSlot);
+            }
+
+            missingTimeSlotsByDay.put(targetAvailabilitySlot.getDay(), missingTimeSlotsByHourMask);
+        }
+
+        List<T> obsoleteAvailabilityRanges = new ArrayList<>();
+
+        for (T existingAvailabilityRange : existingAvailabilityRanges) {
+            Map<Integer, TimeSlot> missingTimeSlotsByHourMask = missingTimeSlotsByDay.get(
+                    existingAvailabilityRange.getDay());
+            int existingHourMask = DailyAvailability.toHourMask(existingAvailabilityRange.getStartTime(),
+                                                                existingAvailabilityRange.getEndTime());
+
+            if (missingTimeSlotsByHourMask == null || missingTimeSlotsByHourMask.remove(existingHourMask) == null) {
+                obsoleteAvailabilityRanges.add(existingAvailabilityRange);
+            }
+        }
+
+        List<AvailabilitySlot> missingAvailabilitySlots = new ArrayList<>();
+
+        for (Map.Entry<LocalDate, Map<Integer, TimeSlot>> missingTimeSlotsOfDay : missingTimeSlotsByDay.entrySet()) {
+            if (!missingTimeSlotsOfDay.getValue().isEmpty()) {
+                AvailabilitySlot missingAvailabilitySlot =
+                        AvailabilitySlot.Builder.availabilitySlotWith()
+                                                .withDay(missingTimeSlotsOfDay.getKey())
+                                                .withTimeSlotList(new ArrayList<>(
+                                                        missingTimeSlotsOfDay.getValue().values()))
+                                                .build();
+
+                missingAvailabilitySlots.add(missingAvailabilitySlot);
+            }
+        }
+
+        return new AvailabilityRangeChanges<>(obsoleteAvailabilityRanges, missingAvailabilitySlots);
+    }
+
+    public List<T> getObsoleteAvailabilityRanges() {
+        return obsoleteAvailabilityRanges;
+    }
+
+    public List<AvailabilitySlot> getMissingAvailabilitySlots() {
+        return missingAvailabilitySlots;
+    }
+}
@@ -0,0 +1,17 @@
+package app.model.utils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+
+public interface AvailabilityRule {
+    DayOfWeek getDayOfWeek();
+
+    int getHourMask();
+
+    LocalDate getValidFrom();
+
+    LocalDate getValidUntil();
+
+    Collection<LocalDate> getExceptionDays();
+}
@@ -0,0 +1,49 @@
+package app.model.utils;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+
+public class AvailabilityStatistics {
+    public static final Comparator<AvailabilityStatistics> MOST_SELECTIVE_FIRST =
+            Comparator.comparingInt(AvailabilityStatistics::getNumberOfHours)
+                      .thenComparingInt(AvailabilityStatistics::getNumberOfDays)
+                      .thenComparingLong(AvailabilityStatistics::getDateSpanInDays);
+
+    private final int numberOfDays;
+    private final int numberOfHours;
+    private final LocalDate firstDay;
+    private final LocalDate lastDay;
+
+    public AvailabilityStatistics(int numberOfDays, int numberOfHours, LocalDate firstDay, LocalDate lastDay) {
+        this.numberOfDays = numberOfDays;
+        this.numberOfHours = numberOfHours;
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+    }
+
+    public int getNumberOfDays() {
+        return numberOfDays;
+    }
+
+    public int getNumberOfHours() {
+        return numberOfHours;
+    }
+
+    public LocalDate getFirstDay() {
+        return firstDay;
+    }
+
+    public LocalDate getLastDay() {
+        return lastDay;
+    }
+
+    public long getDateSpanInDays() {
+        return numberOfDays == 0 ? 0 : ChronoUnit.DAYS.between(firstDay, lastDay) + 1;
+    }
+
+    @Override
+    public String toString() {
+        return numberOfHours + " hours on " + numberOfDays + " days from " + firstDay + " to " + lastDay;
+    }
+}
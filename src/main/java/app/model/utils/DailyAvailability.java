@@ -0,0 +1,424 @@
+package app.model.utils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class DailyAvailability {
+    public static final int HOURS_PER_DAY = 24;
+    public static final int FULL_DAY_HOUR_MASK = (1 << HOURS_PER_DAY) - 1;
+
+    private final long[] epochDays;
+    private final int[] hourMasks;
+    private final int size;
+
+    private DailyAvailability(long[] epochDays, int[] hourMasks, int size) {
+        this.epochDays = epochDays;
+        this.hourMasks = hourMasks;
+        this.size = size;
+    }
+
+    public static DailyAvailability fromAvailabilitySlots(List<AvailabilitySlot> availabilitySlots) {
+        TreeMap<Long, Integer> hourMaskByEpochDay = new TreeMap<>();
+
+        for (AvailabilitySlot availabilitySlot : availabilitySlots) {
+            long epochDay = availabilitySlot.getDay().toEpochDay();
+            int hourMask = toHourMask(availabilitySlot.getTimeSlotList());
+
+            hourMaskByEpochDay.merge(epochDay, hourMask, (first, second) -> first | second);
+        }
+
+        return fromSortedHourMasks(hourMaskByEpochDay);
+    }
+
+    public static DailyAvailability fromAvailabilityRanges(List<? extends AvailabilityRange> availabilityRanges) {
+        TreeMap<Long, Integer> hourMaskByEpochDay = new TreeMap<>();
+
+        for (AvailabilityRange availabilityRange : availabilityRanges) {
+            long epochDay = availabilityRange.getDay().toEpochDay();
+            int hourMask = toHourMask(availabilityRange.getStartTime(), availabilityRange.getEndTime());
+
+            hourMaskByEpochDay.merge(epochDay, hourMask, (first, second) -> first | second);
+        }
+
+        return fromSortedHourMasks(hourMaskByEpochDay);
+    }
+
+    public static DailyAvailability fromAvailabilityHours(List<? extends AvailabilityHour> availabilityHours) {
+        TreeMap<Long, Integer> hourMaskByEpochDay = new TreeMap<>();
+
+        for (AvailabilityHour availabilityHour : availabilityHours) {
+            long epochDay = availabilityHour.getDay().toEpochDay();
+            int hourMask = 1 << availabilityHour.getHour();
+
+            hourMaskByEpochDay.merge(epochDay, hourMask, (first, second) -> first | second);
+        }
+
+        return fromSortedHourMasks(hourMaskByEpochDay);
+    }
+
+    public static DailyAvailability fromAvailabilityRules(List<? extends AvailabilityRule> availabilityRules,
+                                                          DateRange queryDateRange) {
+        TreeMap<Long, Integer> hourMaskByEpochDay = new TreeMap<>();
+
+        for (AvailabilityRule availabilityRule : availabilityRules) {
+            LocalDate firstDay = latestOf(availabilityRule.getValidFrom(), queryDateRange.getFromDate());
+            LocalDate lastDay = earliestOf(availabilityRule.getValidUntil(), queryDateRange.getToDate());
+            Collection<LocalDate> exceptionDays = availabilityRule.getExceptionDays();
+
+            for (LocalDate day = firstDay.with(TemporalAdjusters.nextOrSame(availabilityRule.getDayOfWeek()));
+                 !day.isAfter(lastDay); day = day.plusWeeks(1)) {
+                if (!exceptionDays.contains(day)) {
+                    hourMaskByEpochDay.merge(day.toEpochDay(), availabilityRule.getHourMask(),
+                                             (first, second) -> first | second);
+                }
+            }
+        }
+
+        return fromSortedHourMasks(hourMaskByEpochDay);
+    }
+
+    private static DailyAvailability fromSortedHourMasks(TreeMap<Long, Integer> hourMaskByEpochDay) {
+        long[] epochDays = new long[hourMaskByEpochDay.size()];
+        int[] hourMasks = new int[hourMaskByEpochDay.size()];
+        int size = 0;
+
+        for (Map.Entry<Long, Integer> hourMaskOfEpochDay : hourMaskByEpochDay.entrySet()) {
+            if (hourMaskOfEpochDay.getValue() != 0) {
+                epochDays[size] = hourMaskOfEpochDay.getKey();
+                hourMasks[size] = hourMaskOfEpochDay.getValue();
+                size++;
+            }
+        }
+
+        return new DailyAvailability(epochDays, hourMasks, size);
+    }
+
+    public static DailyAvailability empty() {
+        return new DailyAvailability(new long[0], new int[0], 0);
+    }
+
+    public int getHourMask(long epochDay) {
+        int index = Arrays.binarySearch(epochDays, 0, size, epochDay);
+
+        return index >= 0 ? hourMasks[index] : 0;
+    }
+
+    public int getNumberOfDays() {
+        return size;
+    }
+
+    public int getNumberOfHours() {
+        int numberOfHours = 0;
+
+        for (int index = 0; index < size; index++) {
+            numberOfHours += Integer.bitCount(hourMasks[index]);
+        }
+
+        return numberOfHours;
+    }
+
+    public AvailabilityStatistics getStatistics() {
+        if (size == 0) {
+            return new AvailabilityStatistics(0, 0, null, null);
+        }
+
+        return new AvailabilityStatistics(size, getNumberOfHours(), LocalDate.ofEpochDay(epochDays[0]),
+                                          LocalDate.ofEpochDay(epochDays[size - 1]));
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public List<LocalDate> getDays() {
+        List<LocalDate> days = new ArrayList<>(size);
+
+        for (int index = 0; index < size; index++) {
+            days.add(LocalDate.ofEpochDay(epochDays[index]));
+        }
+
+        return days;
+    }
+
+    public DailyAvailability intersect(DailyAvailability other) {
+        int maximumSize = Math.min(size, other.size);
+        long[] commonEpochDays = new long[maximumSize];
+        int[] commonHourMasks = new int[maximumSize];
+        int commonSize = 0;
+
+        int index = 0;
+        int otherIndex = 0;
+
+        while (index < size && otherIndex < other.size) {
+            long epochDay = epochDays[index];
+            long otherEpochDay = other.epochDays[otherIndex];
+
+            if (epochDay < otherEpochDay) {
+                index++;
+            } else if (epochDay > otherEpochDay) {
+                otherIndex++;
+            } else {
+                int commonHourMask = hourMasks[index] & other.hourMasks[otherIndex];
+
+                if (commonHourMask != 0) {
+                    commonEpochDays[commonSize] = epochDay;
+                    commonHourMasks[commonSize] = commonHourMask;
+                    commonSize++;
+                }
+
+                index++;
+                otherIndex++;
+            }
+        }
+
+        return new DailyAvailability(commonEpochDays, commonHourMasks, commonSize);
+    }
+
+    public DailyAvailability union(DailyAvailability other) {
+        long[] allEpochDays = new long[size + other.size];
+        int[] allHourMasks = new int[size + other.size];
+        int allSize = 0;
+
+        int index = 0;
+        int otherIndex = 0;
+
+        while (index < size || otherIndex < other.size) {
+            if (otherIndex == other.size || (index < size && epochDays[index] < other.epochDays[otherIndex])) {
+                allEpochDays[allSize] = epochDays[index];
+                allHourMasks[allSize] = hourMasks[index];
+                index++;
+            } else if (index == size || epochDays[index] > other.epochDays[otherIndex]) {
+                allEpochDays[allSize] = other.epochDays[otherIndex];
+                allHourMasks[allSize] = other.hourMasks[otherIndex];
+                otherIndex++;
+            } else {
+                allEpochDays[allSize] = epochDays[index];
+                allHourMasks[allSize] = hourMasks[index] | other.hourMasks[otherIndex];
+                index++;
+                otherIndex++;
+            }
+
+            allSize++;
+        }
+
+        return new DailyAvailability(allEpochDays, allHourMasks, allSize);
+    }
+
+    public DailyAvailability minus(DailyAvailability other) {
+        long[] remainingEpochDays = new long[size];
+        int[] remainingHourMasks = new int[size];
+        int remainingSize = 0;
+
+        int otherIndex = 0;
+
+        for (int index = 0; index < size; index++) {
+            long epochDay = epochDays[index];
+
+            while (otherIndex < other.size && other.epochDays[otherIndex] < epochDay) {
+                otherIndex++;
+            }
+
+            int remainingHourMask = hourMasks[index];
+
+            if (otherIndex < other.size && other.epochDays[otherIndex] == epochDay) {
+                remainingHourMask &= ~other.hourMasks[otherIndex];
+            }
+
+            if (remainingHourMask != 0) {
+                remainingEpochDays[remainingSize] = epochDay;
+                remainingHourMasks[remainingSize] = remainingHourMask;
+                remainingSize++;
+            }
+        }
+
+        return new DailyAvailability(remainingEpochDays, remainingHourMasks, remainingSize);
+    }
+
+    public DailyAvailability earliest(int numberOfSlots, SlotCounter slotCounter) {
+        return intersectEarliest(Collections.emptyList(), numberOfSlots, slotCounter);
+    }
+
+    public DailyAvailability intersectEarliest(List<DailyAvailability> others, int numberOfSlots,
+                                               SlotCounter slotCounter) {
+        long[] earliestEpochDays = new long[size];
+        int[] earliestHourMasks = new int[size];
+        int earliestSize = 0;
+
+        int remainingNumberOfSlots = numberOfSlots;
+
+        for (int index = 0; index < size && remainingNumberOfSlots > 0; index++) {
+            long epochDay = epochDays[index];
+            int commonHourMask = hourMasks[index];
+
+            for (DailyAvailability other : others) {
+                if (commonHourMask == 0) {
+                    break;
+                }
+
+                commonHourMask &= other.getHourMask(epochDay);
+            }
+
+            int numberOfDaySlots = Math.min(slotCounter.countSlots(commonHourMask), remainingNumberOfSlots);
+
+            if (numberOfDaySlots > 0) {
+                earliestEpochDays[earliestSize] = epochDay;
+                earliestHourMasks[earliestSize] = slotCounter.keepFirstSlots(commonHourMask, numberOfDaySlots);
+                earliestSize++;
+
+                remainingNumberOfSlots -= numberOfDaySlots;
+            }
+        }
+
+        return new DailyAvailability(earliestEpochDays, earliestHourMasks, earliestSize);
+    }
+
+    public DailyAvailability withMinimumDuration(int durationInHours) {
+        long[] longEnoughEpochDays = new long[size];
+        int[] longEnoughHourMasks = new int[size];
+        int longEnoughSize = 0;
+
+        for (int index = 0; index < size; index++) {
+            int windowStartMask = toWindowStartMask(hourMasks[index], durationInHours);
+
+            if (windowStartMask != 0) {
+                longEnoughEpochDays[longEnoughSize] = epochDays[index];
+                longEnoughHourMasks[longEnoughSize] = toWindowMask(windowStartMask, durationInHours);
+                longEnoughSize++;
+            }
+        }
+
+        return new DailyAvailability(longEnoughEpochDays, longEnoughHourMasks, longEnoughSize);
+    }
+
+    public List<AvailabilitySlot> toSlidingWindowSlots(int durationInHours) {
+        List<AvailabilitySlot> availabilitySlots = new ArrayList<>(size);
+
+        for (int index = 0; index < size; index++) {
+            int remainingWindowStartMask = toWindowStartMask(hourMasks[index], durationInHours);
+
+            if (remainingWindowStartMask == 0) {
+                continue;
+            }
+
+            List<TimeSlot> timeSlots = new ArrayList<>();
+
+            while (remainingWindowStartMask != 0) {
+                int fromHour = Integer.numberOfTrailingZeros(remainingWindowStartMask);
+
+                TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith()
+                                                    .withFrom(LocalTime.of(fromHour, 0))
+                                                    .withTo(toLocalTime(fromHour + durationInHours))
+                                                    .build();
+                timeSlots.add(timeSlot);
+
+                remainingWindowStartMask &= remainingWindowStartMask - 1;
+            }
+
+            AvailabilitySlot availabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith()
+                                                                        .withDay(LocalDate.ofEpochDay(epochDays[index]))
+                                                                        .withTimeSlotList(timeSlots)
+                                                                        .build();
+
+            availabilitySlots.add(availabilitySlot);
+        }
+
+        return availabilitySlots;
+    }
+
+    public List<AvailabilitySlot> toAvailabilitySlots() {
+        List<AvailabilitySlot> availabilitySlots = new ArrayList<>(size);
+
+        for (int index = 0; index < size; index++) {
+            AvailabilitySlot availabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith()
+                                                                        .withDay(LocalDate.ofEpochDay(epochDays[index]))
+                                                                        .withTimeSlotList(
+                                                                                toTimeSlots(hourMasks[index]))
+                                                                        .build();
+
+            availabilitySlots.add(availabilitySlot);
+        }
+
+        return availabilitySlots;
+    }
+
+    public static int toHourMask(List<TimeSlot> timeSlots) {
+        int hourMask = 0;
+
+        for (TimeSlot timeSlot : timeSlots) {
+            hourMask |= toHourMask(timeSlot);
+        }
+
+        return hourMask;
+    }
+
+    public static int toHourMask(TimeSlot timeSlot) {
+        return toHourMask(timeSlot.getFrom(), timeSlot.getTo());
+    }
+
+    public static int toHourMask(LocalTime from, LocalTime to) {
+        int fromHour = from.getHour();
+        int toHour = to.equals(LocalTime.MAX) ? HOURS_PER_DAY : to.getHour();
+
+        return (1 << toHour) - (1 << fromHour);
+    }
+
+    public static List<TimeSlot> toTimeSlots(int hourMask) {
+        List<TimeSlot> timeSlots = new ArrayList<>();
+        int remainingHourMask = hourMask & FULL_DAY_HOUR_MASK;
+
+        while (remainingHourMask != 0) {
+            int fromHour = Integer.numberOfTrailingZeros(remainingHourMask);
+            int toHour = Integer.numberOfTrailingZeros(~(remainingHourMask >>> fromHour)) + fromHour;
+
+            TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith()
+                                                .withFrom(LocalTime.of(fromHour, 0))
+                                                .withTo(toLocalTime(toHour))
+                                                .build();
+            timeSlots.add(timeSlot);
+
+            remainingHourMask &= ~((1 << toHour) - (1 << fromHour));
+        }
+
+        return timeSlots;
+    }
+
+    public static int toWindowStartMask(int hourMask, int durationInHours) {
+        int windowStartMask = hourMask & FULL_DAY_HOUR_MASK;
+
+        for (int hour = 1; hour < durationInHours; hour++) {
+            windowStartMask &= hourMask >>> hour;
+        }
+
+        return windowStartMask;
+    }
+
+    public static int toWindowMask(int windowStartMask, int durationInHours) {
+        int windowMask = windowStartMask;
+
+        for (int hour = 1; hour < durationInHours; hour++) {
+            windowMask |= windowStartMask << hour;
+        }
+
+        return windowMask;
+    }
+
+    private static LocalTime toLocalTime(int hour) {
+        return hour == HOURS_PER_DAY ? LocalTime.MAX : LocalTime.of(hour, 0);
+    }
+
+    private static LocalDate latestOf(LocalDate day, LocalDate otherDay) {
+        return otherDay == null || day.isAfter(otherDay) ? day : otherDay;
+    }
+
+    private static LocalDate earliestOf(LocalDate day, LocalDate otherDay) {
+        return otherDay == null || day.isBefore(otherDay) ? day : otherDay;
+    }
+}
@@ -0,0 +1,52 @@
+package app.model.utils;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+public class DateRange {
+    private static final DateRange UNBOUNDED = new DateRange(null, null);
+
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+
+    public DateRange(LocalDate fromDate, LocalDate toDate) {
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+    }
+
+    public static DateRange unbounded() {
+        return UNBOUNDED;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public boolean contains(LocalDate day) {
+        return (fromDate == null || !day.isBefore(fromDate)) && (toDate == null || !day.isAfter(toDate));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+
+        DateRange dateRange = (DateRange) other;
+
+        return Objects.equals(fromDate, dateRange.fromDate) && Objects.equals(toDate, dateRange.toDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fromDate, toDate);
+    }
+}
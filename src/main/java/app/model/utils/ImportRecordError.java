@@ -0,0 +1,72 @@
+package app.model.utils;
+
+import java.util.List;
+
+public class ImportRecordError {
+    private final int lineNumber;
+    private final String name;
+    private final String messageKey;
+    private final List<String> arguments;
+
+    public ImportRecordError(Builder builder) {
+        this.lineNumber = builder.lineNumber;
+        this.name = builder.name;
+        this.messageKey = builder.messageKey;
+        this.arguments = builder.arguments;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getMessageKey() {
+        return messageKey;
+    }
+
+    public List<String> getArguments() {
+        return arguments;
+    }
+
+    public static class Builder {
+        private int lineNumber;
+        private String name;
+        private String messageKey;
+        private List<String> arguments;
+
+        public static Builder importRecordErrorWith() {
+            return new Builder();
+        }
+
+        public Builder withLineNumber(int lineNumber) {
+            this.lineNumber = lineNumber;
+
+            return this;
+        }
+
+        public Builder withName(String name) {
+            this.name = name;
+
+            return this;
+        }
+
+        public Builder withMessageKey(String messageKey) {
+            this.messageKey = messageKey;
+
+            return this;
+        }
+
+        public Builder withArguments(List<String> arguments) {
+            this.arguments = arguments;
+
+            return this;
+        }
+
+        public ImportRecordError build() {
+            return new ImportRecordError(this);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package app.model.utils;
+
+import app.exception.BusinessException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+public class ImportReport {
+    private int numberOfImportedRecords;
+    private final List<ImportRecordError> recordErrorList = new ArrayList<>();
+
+    public void addImportedRecords(int numberOfRecords) {
+        numberOfImportedRecords += numberOfRecords;
+    }
+
+    public void addRecordError(int lineNumber, String name, BusinessException businessException) {
+        ImportRecordError importRecordError =
+                ImportRecordError.Builder.importRecordErrorWith()
+                                         .withLineNumber(lineNumber)
+                                         .withName(name)
+                                         .withMessageKey(businessException.getMessageKey())
+                                         .withArguments(Arrays.asList(businessException.getArguments()))
+                                         .build();
+
+        recordErrorList.add(importRecordError);
+    }
+
+    public int getNumberOfImportedRecords() {
+        return numberOfImportedRecords;
+    }
+
+    public List<ImportRecordError> getRecordErrorList() {
+        recordErrorList.sort(Comparator.comparingInt(ImportRecordError::getLineNumber));
+
+        return recordErrorList;
+    }
+}
@@ -0,0 +1,75 @@
+package app.model.utils;
+
+import app.exception.BusinessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+public class KeysetPage<T> {
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAXIMUM_PAGE_SIZE = 1000;
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    public KeysetPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public static int pageSizeOf(Integer requestedPageSize) {
+        if (requestedPageSize == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+
+        if (requestedPageSize < 1) {
+            throw new BusinessException("Page size must be positive!", String.valueOf(requestedPageSize));
+        }
+
+        return Math.min(requestedPageSize, MAXIMUM_PAGE_SIZE);
+    }
+
+    public static Pageable pageAndNextOf(int pageSize) {
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    public static String nameAfter(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw new BusinessException("Invalid page cursor!", cursor);
+        }
+    }
+
+    public static String cursorOf(String name) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static <T> KeysetPage<T> fromPageAndNext(List<T> pageAndNextItems, int pageSize,
+                                                    Function<T, String> nameOf) {
+        if (pageAndNextItems.size() <= pageSize) {
+            return new KeysetPage<>(pageAndNextItems, null);
+        }
+
+        List<T> items = new ArrayList<>(pageAndNextItems.subList(0, pageSize));
+
+        return new KeysetPage<>(items, cursorOf(nameOf.apply(items.get(pageSize - 1))));
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,105 @@
+package app.model.utils;
+
+import app.model.interviewer.InterviewerAvailabilityRuleModel;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class NamedAvailability {
+    private final String name;
+    private final List<AvailabilitySlot> availabilitySlotList;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final List<InterviewerAvailabilityRuleModel> availabilityRuleList;
+
+    public NamedAvailability(String name, List<AvailabilitySlot> availabilitySlotList,
+                             List<InterviewerAvailabilityRuleModel> availabilityRuleList) {
+        this.name = name;
+        this.availabilitySlotList = availabilitySlotList;
+        this.availabilityRuleList = availabilityRuleList;
+    }
+
+    public NamedAvailability(Builder builder) {
+        this.name = builder.name;
+        this.availabilitySlotList = builder.availabilitySlotList;
+        this.availabilityRuleList = builder.availabilityRuleList;
+    }
+
+    public static void forEachName(Iterator<? extends NamedAvailabilityRange> namedAvailabilityRanges,
+                                   Consumer<NamedAvailability> namedAvailabilityConsumer) {
+        String currentName = null;
+        List<AvailabilityRange> availabilityRangesOfCurrentName = new ArrayList<>();
+
+        while (namedAvailabilityRanges.hasNext()) {
+            NamedAvailabilityRange namedAvailabilityRange = namedAvailabilityRanges.next();
+
+            if (currentName != null && !currentName.equals(namedAvailabilityRange.getName())) {
+                namedAvailabilityConsumer.accept(namedAvailabilityOf(currentName, availabilityRangesOfCurrentName));
+                availabilityRangesOfCurrentName.clear();
+            }
+
+            currentName = namedAvailabilityRange.getName();
+
+            if (namedAvailabilityRange.getDay() != null) {
+                availabilityRangesOfCurrentName.add(namedAvailabilityRange);
+            }
+        }
+
+        if (currentName != null) {
+            namedAvailabilityConsumer.accept(namedAvailabilityOf(currentName, availabilityRangesOfCurrentName));
+        }
+    }
+
+    private static NamedAvailability namedAvailabilityOf(String name, List<AvailabilityRange> availabilityRanges) {
+        return Builder.namedAvailabilityWith()
+                      .withName(name)
+                      .withAvailabilitySlotList(AvailabilityRange.toAvailabilitySlots(availabilityRanges))
+                      .build();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<AvailabilitySlot> getAvailabilitySlotList() {
+        return availabilitySlotList;
+    }
+
+    public List<InterviewerAvailabilityRuleModel> getAvailabilityRuleList() {
+        return availabilityRuleList;
+    }
+
+    public static class Builder {
+        private String name;
+        private List<AvailabilitySlot> availabilitySlotList;
+        private List<InterviewerAvailabilityRuleModel> availabilityRuleList;
+
+        public static Builder namedAvailabilityWith() {
+            return new Builder();
+        }
+
+        public Builder withName(String name) {
+            this.name = name;
+
+            return this;
+        }
+
+        public Builder withAvailabilitySlotList(List<AvailabilitySlot> availabilitySlotList) {
+            this.availabilitySlotList = availabilitySlotList;
+
+            return this;
+        }
+
+        public Builder withAvailabilityRuleList(List<InterviewerAvailabilityRuleModel> availabilityRuleList) {
+            this.availabilityRuleList = availabilityRuleList;
+
+            return this;
+        }
+
+        public NamedAvailability build() {
+            return new NamedAvailability(this);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package app.model.utils;
+
+public interface NamedAvailabilityRange extends AvailabilityRange {
+    String getName();
+}
@@ -0,0 +1,20 @@
+package app.model.utils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+public interface NamedAvailabilityRuleRow {
+    String getName();
+
+    Long getId();
+
+    DayOfWeek getDayOfWeek();
+
+    int getHourMask();
+
+    LocalDate getValidFrom();
+
+    LocalDate getValidUntil();
+
+    LocalDate getExceptionDay();
+}
@@ -0,0 +1,79 @@
+package app.model.utils;
+
+public interface SlotCounter {
+    int countSlots(int hourMask);
+
+    int keepFirstSlots(int hourMask, int numberOfSlots);
+
+    static SlotCounter hours() {
+        return new SlotCounter() {
+            @Override
+            public int countSlots(int hourMask) {
+                return Integer.bitCount(hourMask);
+            }
+
+            @Override
+            public int keepFirstSlots(int hourMask, int numberOfSlots) {
+                return keepLowestBits(hourMask, numberOfSlots);
+            }
+        };
+    }
+
+    static SlotCounter windowsOfAtLeast(int durationInHours) {
+        return new SlotCounter() {
+            @Override
+            public int countSlots(int hourMask) {
+                return Integer.bitCount(toRunStartMask(toLongEnoughMask(hourMask)));
+            }
+
+            @Override
+            public int keepFirstSlots(int hourMask, int numberOfSlots) {
+                int longEnoughMask = toLongEnoughMask(hourMask);
+                int runStartMask = toRunStartMask(longEnoughMask);
+                int droppedRunStartMask = runStartMask & ~keepLowestBits(runStartMask, numberOfSlots);
+
+                if (droppedRunStartMask == 0) {
+                    return longEnoughMask;
+                }
+
+                return longEnoughMask & ((1 << Integer.numberOfTrailingZeros(droppedRunStartMask)) - 1);
+            }
+
+            private int toLongEnoughMask(int hourMask) {
+                return DailyAvailability.toWindowMask(DailyAvailability.toWindowStartMask(hourMask, durationInHours),
+                                                      durationInHours);
+            }
+
+            private int toRunStartMask(int hourMask) {
+                return hourMask & ~(hourMask << 1);
+            }
+        };
+    }
+
+    static SlotCounter slidingWindowsOf(int durationInHours) {
+        return new SlotCounter() {
+            @Override
+            public int countSlots(int hourMask) {
+                return Integer.bitCount(DailyAvailability.toWindowStartMask(hourMask, durationInHours));
+            }
+
+            @Override
+            public int keepFirstSlots(int hourMask, int numberOfSlots) {
+                int windowStartMask = DailyAvailability.toWindowStartMask(hourMask, durationInHours);
+
+                return DailyAvailability.toWindowMask(keepLowestBits(windowStartMask, numberOfSlots),
+                                                      durationInHours);
+            }
+        };
+    }
+
+    private static int keepLowestBits(int mask, int numberOfBits) {
+        int droppedMask = mask;
+
+        for (int bit = 0; bit < numberOfBits && droppedMask != 0; bit++) {
+            droppedMask &= droppedMask - 1;
+        }
+
+        return mask & ~droppedMask;
+    }
+}
@@ -0,0 +1,60 @@
+package app.repository.candidate;
+
+import app.model.candidate.CandidateAvailabilityModel;
+import app.model.candidate.CandidateAvailabilityRangeModel;
+import app.model.utils.AvailabilityHour;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CandidateAvailabilityRangeRepository extends JpaRepository<CandidateAvailabilityRangeModel, Long> {
+    @Query("select car from CandidateAvailabilityRangeModel car "
+           + "where car.candidateAvailabilityModel = :candidateAvailabilityModel and car.day in :days")
+    List<CandidateAvailabilityRangeModel> getCandidateAvailabilityRangesByDays(
+            CandidateAvailabilityModel candidateAvailabilityModel, Collection<LocalDate> days);
+
+    @Query("select car from CandidateAvailabilityRangeModel car "
+           + "where car.candidateAvailabilityModel.candidateModel.name = :name "
+           + "and (:fromDate is null or car.day >= :fromDate) and (:toDate is null or car.day <= :toDate)")
+    List<CandidateAvailabilityRangeModel> getCandidateAvailabilityRangesByCandidateName(String name,
+                                                                                        LocalDate fromDate,
+                                                                                        LocalDate toDate);
+
+    @Query("select car from CandidateAvailabilityRangeModel car "
+           + "join fetch car.candidateAvailabilityModel ca join fetch ca.candidateModel c "
+           + "where c.name in :names "
+           + "and (:fromDate is null or car.day >= :fromDate) and (:toDate is null or car.day <= :toDate)")
+    List<CandidateAvailabilityRangeModel> getCandidateAvailabilityRangesByCandidateNames(Collection<String> names,
+                                                                                         LocalDate fromDate,
+                                                                                         LocalDate toDate);
+
+    @Query(value = "select participant_range.availability_day as day, day_hour.x as hour "
+                   + "from (select 'candidate:' || ca.name as participant, car.availability_day, car.start_time, "
+                   + "car.end_time from candidate_availability_range car "
+                   + "join candidate_availability ca on ca.id = car.candidate_availability_id "
+                   + "where ca.name = :candidateName "
+                   + "and (:fromDate is null or car.availability_day >= :fromDate) "
+                   + "and (:toDate is null or car.availability_day <= :toDate) "
+                   + "union all "
+                   + "select 'interviewer:' || ia.name as participant, iar.availability_day, iar.start_time, "
+                   + "iar.end_time from interviewer_availability_range iar "
+                   + "join interviewer_availability ia on ia.id = iar.interviewer_availability_id "
+                   + "where ia.name in (:interviewersNames) "
+                   + "and (:fromDate is null or iar.availability_day >= :fromDate) "
+                   + "and (:toDate is null or iar.availability_day <= :toDate)) participant_range "
+                   + "join system_range(0, 23) day_hour on day_hour.x >= hour(participant_range.start_time) "
+                   + "and day_hour.x < case when participant_range.end_time >= time '23:59:59' then 24 "
+                   + "else hour(participant_range.end_time) end "
+                   + "group by participant_range.availability_day, day_hour.x "
+                   + "having count(distinct participant_range.participant) = :numberOfParticipants "
+                   + "order by participant_range.availability_day, day_hour.x",
+           nativeQuery = true)
+    List<AvailabilityHour> getCommonAvailabilityHours(String candidateName, Collection<String> interviewersNames,
+                                                      int numberOfParticipants, LocalDate fromDate,
+                                                      LocalDate toDate);
+}
@@ -1,12 +1,38 @@
 package app.repository.candidate;
 
 import app.model.candidate.CandidateAvailabilityModel;
+import app.model.utils.NamedAvailabilityRange;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
 @Repository
 public interface CandidateAvailabilityRepository extends JpaRepository<CandidateAvailabilityModel, Long> {
     @Query("select ca from CandidateAvailabilityModel ca where ca.candidateModel.name = :name")
     CandidateAvailabilityModel getCandidateAvailabilityByCandidateName(String name);
+
+    @Query("select count(ca) > 0 from CandidateAvailabilityModel ca where ca.candidateModel.name = :name")
+    boolean hasCandidateAvailability(String name);
+
+    @Query("select ca.candidateModel.name from CandidateAvailabilityModel ca where ca.candidateModel.name in :names")
+    List<String> getNamesOfCandidatesWithAvailability(Collection<String> names);
+
+    @Query("select ca from CandidateAvailabilityModel ca join fetch ca.candidateModel c "
+           + "where (:afterName is null or c.name > :afterName) order by c.name")
+    List<CandidateAvailabilityModel> getCandidatesAvailabilityAfterName(String afterName, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select c.name as name, car.day as day, car.startTime as startTime, car.endTime as endTime "
+           + "from CandidateAvailabilityModel ca join ca.candidateModel c left join ca.availabilityRangeList car "
+           + "order by c.name, car.day, car.startTime")
+    Stream<NamedAvailabilityRange> streamAllCandidatesAvailabilityRanges();
 }
@@ -1,14 +1,20 @@
 package app.repository.candidate;
 
 import app.model.candidate.CandidateModel;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CandidateRepository extends JpaRepository<CandidateModel, String> {
-    @Query("select c.name from CandidateModel c")
-    List<String> getAllNames();
+    @Query("select c from CandidateModel c left join fetch c.candidateAvailabilityModel "
+           + "where (:afterName is null or c.name > :afterName) order by c.name")
+    List<CandidateModel> getCandidatesAfterName(String afterName, Pageable pageable);
+
+    @Query("select c.name from CandidateModel c where c.name in :names")
+    List<String> getExistingNames(Collection<String> names);
 }
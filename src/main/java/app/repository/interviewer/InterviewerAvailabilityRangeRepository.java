@@ -0,0 +1,44 @@
+package app.repository.interviewer;
+
+import app.model.interviewer.InterviewerAvailabilityModel;
+import app.model.interviewer.InterviewerAvailabilityRangeModel;
+import app.model.utils.AvailabilityHour;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface InterviewerAvailabilityRangeRepository extends JpaRepository<InterviewerAvailabilityRangeModel, Long> {
+    @Query("select iar from InterviewerAvailabilityRangeModel iar "
+           + "where iar.interviewerAvailabilityModel = :interviewerAvailabilityModel and iar.day in :days")
+    List<InterviewerAvailabilityRangeModel> getInterviewerAvailabilityRangesByDays(
+            InterviewerAvailabilityModel interviewerAvailabilityModel, Collection<LocalDate> days);
+
+    @Query("select iar from InterviewerAvailabilityRangeModel iar "
+           + "join fetch iar.interviewerAvailabilityModel ia join fetch ia.interviewerModel i "
+           + "where i.name in :names "
+           + "and (:fromDate is null or iar.day >= :fromDate) and (:toDate is null or iar.day <= :toDate)")
+    List<InterviewerAvailabilityRangeModel> getInterviewerAvailabilityRangesByInterviewerNames(
+            Collection<String> names, LocalDate fromDate, LocalDate toDate);
+
+    @Query(value = "select iar.availability_day as day, day_hour.x as hour "
+                   + "from interviewer_availability_range iar "
+                   + "join interviewer_availability ia on ia.id = iar.interviewer_availability_id "
+                   + "join system_range(0, 23) day_hour on day_hour.x >= hour(iar.start_time) "
+                   + "and day_hour.x < case when iar.end_time >= time '23:59:59' then 24 "
+                   + "else hour(iar.end_time) end "
+                   + "where ia.name in (:interviewersNames) "
+                   + "and (:fromDate is null or iar.availability_day >= :fromDate) "
+                   + "and (:toDate is null or iar.availability_day <= :toDate) "
+                   + "group by iar.availability_day, day_hour.x "
+                   + "having count(distinct ia.name) = :numberOfInterviewers "
+                   + "order by iar.availability_day, day_hour.x",
+           nativeQuery = true)
+    List<AvailabilityHour> getInterviewersCommonAvailabilityHours(Collection<String> interviewersNames,
+                                                                  int numberOfInterviewers, LocalDate fromDate,
+                                                                  LocalDate toDate);
+}
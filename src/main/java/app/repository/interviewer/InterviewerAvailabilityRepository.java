@@ -1,12 +1,36 @@
 package app.repository.interviewer;
 
 import app.model.interviewer.InterviewerAvailabilityModel;
+import app.model.utils.NamedAvailabilityRange;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
 @Repository
 public interface InterviewerAvailabilityRepository extends JpaRepository<InterviewerAvailabilityModel, Long> {
     @Query("select ia from InterviewerAvailabilityModel ia where ia.interviewerModel.name = :name")
     InterviewerAvailabilityModel getInterviewerAvailabilityByInterviewerName(String name);
+
+    @Query("select ia.interviewerModel.name from InterviewerAvailabilityModel ia "
+           + "where ia.interviewerModel.name in :names")
+    List<String> getNamesOfInterviewersWithAvailability(Collection<String> names);
+
+    @Query("select ia from InterviewerAvailabilityModel ia join fetch ia.interviewerModel i "
+           + "where (:afterName is null or i.name > :afterName) order by i.name")
+    List<InterviewerAvailabilityModel> getInterviewersAvailabilityAfterName(String afterName, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select i.name as name, iar.day as day, iar.startTime as startTime, iar.endTime as endTime "
+           + "from InterviewerAvailabilityModel ia join ia.interviewerModel i left join ia.availabilityRangeList iar "
+           + "order by i.name, iar.day, iar.startTime")
+    Stream<NamedAvailabilityRange> streamAllInterviewersAvailabilityRanges();
 }
@@ -0,0 +1,40 @@
+package app.repository.interviewer;
+
+import app.model.interviewer.InterviewerAvailabilityRuleModel;
+import app.model.utils.NamedAvailabilityRuleRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface InterviewerAvailabilityRuleRepository extends JpaRepository<InterviewerAvailabilityRuleModel, Long> {
+    @Query("select distinct iar from InterviewerAvailabilityRuleModel iar left join fetch iar.exceptionDays "
+           + "join iar.interviewerAvailabilityModel ia "
+           + "where ia.interviewerModel.name = :name order by iar.id")
+    List<InterviewerAvailabilityRuleModel> getInterviewerAvailabilityRulesByInterviewerName(String name);
+
+    @Query("select distinct iar from InterviewerAvailabilityRuleModel iar left join fetch iar.exceptionDays "
+           + "join fetch iar.interviewerAvailabilityModel ia join fetch ia.interviewerModel i "
+           + "where i.name in :names "
+           + "and (:toDate is null or iar.validFrom <= :toDate) "
+           + "and (:fromDate is null or iar.validUntil >= :fromDate)")
+    List<InterviewerAvailabilityRuleModel> getInterviewerAvailabilityRulesByInterviewerNames(
+            Collection<String> names, LocalDate fromDate, LocalDate toDate);
+
+    @Query("select count(iar) > 0 from InterviewerAvailabilityRuleModel iar "
+           + "where iar.interviewerAvailabilityModel.interviewerModel.name in :names "
+           + "and (:toDate is null or iar.validFrom <= :toDate) "
+           + "and (:fromDate is null or iar.validUntil >= :fromDate)")
+    boolean existsInterviewerAvailabilityRules(Collection<String> names, LocalDate fromDate, LocalDate toDate);
+
+    @Query("select i.name as name, iar.id as id, iar.dayOfWeek as dayOfWeek, iar.hourMask as hourMask, "
+           + "iar.validFrom as validFrom, iar.validUntil as validUntil, e as exceptionDay "
+           + "from InterviewerAvailabilityRuleModel iar join iar.interviewerAvailabilityModel ia "
+           + "join ia.interviewerModel i left join iar.exceptionDays e "
+           + "where i.name in :names order by i.name, iar.id, e")
+    List<NamedAvailabilityRuleRow> getInterviewerAvailabilityRuleRowsByInterviewerNames(Collection<String> names);
+}
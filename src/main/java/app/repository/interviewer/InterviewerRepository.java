@@ -1,14 +1,23 @@
 package app.repository.interviewer;
 
 import app.model.interviewer.InterviewerModel;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface InterviewerRepository extends JpaRepository<InterviewerModel, String> {
     @Query("select i.name from InterviewerModel i")
     List<String> getAllNames();
+
+    @Query("select i from InterviewerModel i left join fetch i.interviewerAvailabilityModel "
+           + "where (:afterName is null or i.name > :afterName) order by i.name")
+    List<InterviewerModel> getInterviewersAfterName(String afterName, Pageable pageable);
+
+    @Query("select i.name from InterviewerModel i where i.name in :names")
+    List<String> getExistingNames(Collection<String> names);
 }
@@ -2,14 +2,20 @@ package app.service.candidate;
 
 import app.model.candidate.CandidateAvailabilityModel;
 import app.model.candidate.CandidateModel;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.ImportReport;
+import app.model.utils.KeysetPage;
+import app.model.utils.NamedAvailability;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CandidateService {
     CandidateModel createCandidate(CandidateModel candidateModel);
 
-    List<CandidateModel> getAllCandidates();
+    KeysetPage<CandidateModel> getAllCandidates(String cursor, Integer pageSize);
 
     Optional<CandidateModel> getCandidateByName(String name);
 
@@ -17,9 +23,19 @@ public interface CandidateService {
 
     CandidateAvailabilityModel createCandidateAvailability(CandidateAvailabilityModel candidateAvailabilityModel);
 
-    List<CandidateAvailabilityModel> getAllCandidatesAvailability();
+    KeysetPage<CandidateAvailabilityModel> getAllCandidatesAvailability(String cursor, Integer pageSize);
+
+    void exportAllCandidatesAvailability(Consumer<NamedAvailability> namedAvailabilityConsumer);
 
     CandidateAvailabilityModel getCandidateAvailabilityByName(String name);
 
+    CandidateAvailabilityModel addCandidateAvailabilitySlots(String name,
+                                                             List<AvailabilitySlot> availabilitySlotList);
+
+    CandidateAvailabilityModel removeCandidateAvailabilitySlots(String name,
+                                                                List<AvailabilitySlot> availabilitySlotList);
+
     void deleteCandidateAvailabilityByName(String name);
+
+    ImportReport importCandidates(Iterator<String> ndjsonLines);
 }
@@ -2,42 +2,94 @@ package app.service.candidate;
 
 import app.exception.BusinessException;
 import app.model.candidate.CandidateAvailabilityModel;
+import app.model.candidate.CandidateAvailabilityRangeModel;
 import app.model.candidate.CandidateModel;
+import app.model.utils.AvailabilityRangeChanges;
 import app.model.utils.AvailabilitySlot;
+import app.model.utils.DailyAvailability;
+import app.model.utils.ImportReport;
+import app.model.utils.KeysetPage;
+import app.model.utils.NamedAvailability;
+import app.model.utils.NamedAvailabilityRange;
 import app.model.utils.TimeSlot;
+import app.repository.candidate.CandidateAvailabilityRangeRepository;
 import app.repository.candidate.CandidateAvailabilityRepository;
 import app.repository.candidate.CandidateRepository;
+import app.service.interviewslots.InterviewBookingLocks;
+import app.service.interviewslots.InterviewSlotsCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class CandidateServiceImpl implements CandidateService {
+    private static final int IMPORT_CHUNK_SIZE = 500;
+
     private final CandidateRepository candidateRepository;
     private final CandidateAvailabilityRepository candidateAvailabilityRepository;
+    private final CandidateAvailabilityRangeRepository candidateAvailabilityRangeRepository;
+    private final InterviewSlotsCache interviewSlotsCache;
+    private final InterviewBookingLocks interviewBookingLocks;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
 
     @Autowired
     public CandidateServiceImpl(CandidateRepository candidateRepository,
-                                CandidateAvailabilityRepository candidateAvailabilityRepository) {
+                                CandidateAvailabilityRepository candidateAvailabilityRepository,
+                                CandidateAvailabilityRangeRepository candidateAvailabilityRangeRepository,
+                                InterviewSlotsCache interviewSlotsCache,
+                                InterviewBookingLocks interviewBookingLocks,
+                                JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                ObjectMapper objectMapper) {
         this.candidateRepository = candidateRepository;
         this.candidateAvailabilityRepository = candidateAvailabilityRepository;
+        this.candidateAvailabilityRangeRepository = candidateAvailabilityRangeRepository;
+        this.interviewSlotsCache = interviewSlotsCache;
+        this.interviewBookingLocks = interviewBookingLocks;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
     }
 
     @Override
     public CandidateModel createCandidate(CandidateModel candidateModel) {
         verifyValidityOfCandidate(candidateModel);
 
-        return candidateRepository.save(candidateModel);
+        try {
+            return candidateRepository.save(candidateModel);
+        } catch (DataIntegrityViolationException dataIntegrityViolationException) {
+            throw new BusinessException("Name already exists!", candidateModel.getName());
+        }
     }
 
     @Override
-    public List<CandidateModel> getAllCandidates() {
-        return candidateRepository.findAll();
+    public KeysetPage<CandidateModel> getAllCandidates(String cursor, Integer pageSize) {
+        int validPageSize = KeysetPage.pageSizeOf(pageSize);
+        List<CandidateModel> candidates = candidateRepository.getCandidatesAfterName(
+                KeysetPage.nameAfter(cursor), KeysetPage.pageAndNextOf(validPageSize));
+
+        return KeysetPage.fromPageAndNext(candidates, validPageSize, CandidateModel::getName);
     }
 
     @Override
@@ -46,30 +98,60 @@ public class CandidateServiceImpl implements CandidateService {
     }
 
     @Override
+    @Transactional
     public void deleteCandidateByName(String name) {
+        interviewBookingLocks.lockUntilTransactionCompletes(InterviewBookingLocks.candidateKey(name));
         candidateRepository.deleteById(name);
+        interviewSlotsCache.invalidateCandidate(name);
     }
 
     @Override
+    @Transactional
     public CandidateAvailabilityModel createCandidateAvailability(
             CandidateAvailabilityModel candidateAvailabilityModel) {
         verifyValidityOfCandidateAvailability(candidateAvailabilityModel);
+        interviewBookingLocks.lockUntilTransactionCompletes(InterviewBookingLocks.candidateKey(
+                candidateAvailabilityModel.getCandidateModel().getName()));
+        interviewSlotsCache.invalidateCandidate(candidateAvailabilityModel.getCandidateModel().getName());
 
         CandidateAvailabilityModel candidateExistingAvailability = verifyIfCandidateHasAvailabilityCreated(
                 candidateAvailabilityModel);
 
         if (candidateExistingAvailability != null) {
-            addNewAvailability(candidateExistingAvailability, candidateAvailabilityModel);
+            addNewAvailability(candidateExistingAvailability, candidateAvailabilityModel.getAvailabilitySlotList());
 
-            return candidateAvailabilityRepository.save(candidateExistingAvailability);
+            return candidateExistingAvailability;
         }
 
-        return candidateAvailabilityRepository.save(candidateAvailabilityModel);
+        List<AvailabilitySlot> coalescedAvailabilitySlotList = DailyAvailability.fromAvailabilitySlots(
+                candidateAvailabilityModel.getAvailabilitySlotList()).toAvailabilitySlots();
+        CandidateAvailabilityModel candidateSavedAvailability = candidateAvailabilityRepository.save(
+                toCandidateAvailabilityModel(candidateAvailabilityModel.getCandidateModel().getName(),
+                                         coalescedAvailabilitySlotList));
+
+        addNewAvailability(candidateSavedAvailability, candidateAvailabilityModel.getAvailabilitySlotList());
+
+        return candidateSavedAvailability;
     }
 
     @Override
-    public List<CandidateAvailabilityModel> getAllCandidatesAvailability() {
-        return candidateAvailabilityRepository.findAll();
+    public KeysetPage<CandidateAvailabilityModel> getAllCandidatesAvailability(String cursor, Integer pageSize) {
+        int validPageSize = KeysetPage.pageSizeOf(pageSize);
+        List<CandidateAvailabilityModel> candidatesAvailability =
+                candidateAvailabilityRepository.getCandidatesAvailabilityAfterName(
+                        KeysetPage.nameAfter(cursor), KeysetPage.pageAndNextOf(validPageSize));
+
+        return KeysetPage.fromPageAndNext(candidatesAvailability, validPageSize,
+                                          candidateAvailability -> candidateAvailability.getCandidateModel().getName());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAllCandidatesAvailability(Consumer<NamedAvailability> namedAvailabilityConsumer) {
+        try (Stream<NamedAvailabilityRange> namedAvailabilityRanges =
+                     candidateAvailabilityRepository.streamAllCandidatesAvailabilityRanges()) {
+            NamedAvailability.forEachName(namedAvailabilityRanges.iterator(), namedAvailabilityConsumer);
+        }
     }
 
     @Override
@@ -78,11 +160,93 @@ public class CandidateServiceImpl implements CandidateService {
     }
 
     @Override
+    @Transactional
+    public CandidateAvailabilityModel addCandidateAvailabilitySlots(
+            String name, List<AvailabilitySlot> availabilitySlotList) {
+        return createCandidateAvailability(toCandidateAvailabilityModel(name, availabilitySlotList));
+    }
+
+    @Override
+    @Transactional
+    public CandidateAvailabilityModel removeCandidateAvailabilitySlots(
+            String name, List<AvailabilitySlot> availabilitySlotList) {
+        CandidateAvailabilityModel candidateAvailabilityModel =
+                toCandidateAvailabilityModel(name, availabilitySlotList);
+
+        verifyValidityOfCandidateAvailability(candidateAvailabilityModel);
+        interviewBookingLocks.lockUntilTransactionCompletes(InterviewBookingLocks.candidateKey(name));
+
+        CandidateAvailabilityModel candidateExistingAvailability = verifyIfCandidateHasAvailabilityCreated(
+                candidateAvailabilityModel);
+
+        if (candidateExistingAvailability == null) {
+            throw new BusinessException("Candidate has no availability defined!", name);
+        }
+
+        removeAvailability(candidateExistingAvailability, availabilitySlotList);
+        interviewSlotsCache.invalidateCandidate(name);
+
+        return candidateExistingAvailability;
+    }
+
+    @Override
+    @Transactional
     public void deleteCandidateAvailabilityByName(String name) {
+        interviewBookingLocks.lockUntilTransactionCompletes(InterviewBookingLocks.candidateKey(name));
+
         Long candidateAvailabilityIdToBeDeleted =
                 candidateAvailabilityRepository.getCandidateAvailabilityByCandidateName(name).getId();
 
         candidateAvailabilityRepository.deleteById(candidateAvailabilityIdToBeDeleted);
+        interviewSlotsCache.invalidateCandidate(name);
+    }
+
+    @Override
+    public ImportReport importCandidates(Iterator<String> ndjsonLines) {
+        ImportReport importReport = new ImportReport();
+        Set<String> namesOfImportedCandidates = new HashSet<>();
+        Map<Integer, NamedAvailability> candidatesByLineNumber = new LinkedHashMap<>();
+        int lineNumber = 0;
+
+        while (ndjsonLines.hasNext()) {
+            String ndjsonLine = ndjsonLines.next();
+            lineNumber++;
+
+            if (ndjsonLine.isBlank()) {
+                continue;
+            }
+
+            NamedAvailability namedAvailability = null;
+
+            try {
+                namedAvailability = objectMapper.readValue(ndjsonLine, NamedAvailability.class);
+
+                if (namedAvailability == null) {
+                    throw new BusinessException("Import record is not valid!", ndjsonLine);
+                }
+
+                verifyValidityOfImportedCandidate(namedAvailability, namesOfImportedCandidates);
+                candidatesByLineNumber.put(lineNumber, namedAvailability);
+            } catch (JsonProcessingException jsonProcessingException) {
+                importReport.addRecordError(lineNumber, null,
+                                            new BusinessException("Import record is not valid!",
+                                                                  jsonProcessingException.getOriginalMessage()));
+            } catch (BusinessException businessException) {
+                importReport.addRecordError(lineNumber, namedAvailability != null ? namedAvailability.getName() : null,
+                                            businessException);
+            }
+
+            if (candidatesByLineNumber.size() == IMPORT_CHUNK_SIZE) {
+                importCandidatesChunk(candidatesByLineNumber, importReport);
+                candidatesByLineNumber.clear();
+            }
+        }
+
+        if (!candidatesByLineNumber.isEmpty()) {
+            importCandidatesChunk(candidatesByLineNumber, importReport);
+        }
+
+        return importReport;
     }
 
     private void verifyValidityOfCandidate(CandidateModel candidateModel) {
@@ -101,9 +265,8 @@ public class CandidateServiceImpl implements CandidateService {
 
     private void verifyUniqueName(CandidateModel candidateModel) {
         String nameOfCandidateToBeCreated = candidateModel.getName();
-        List<String> existingNames = candidateRepository.getAllNames();
 
-        if (existingNames.contains(nameOfCandidateToBeCreated)) {
+        if (candidateRepository.existsById(nameOfCandidateToBeCreated)) {
             throw new BusinessException("Name already exists!", candidateModel.getName());
         }
     }
@@ -149,6 +312,16 @@ public class CandidateServiceImpl implements CandidateService {
         }
     }
 
+    private CandidateAvailabilityModel toCandidateAvailabilityModel(
+            String name, List<AvailabilitySlot> availabilitySlotList) {
+        CandidateModel candidateModel = CandidateModel.Builder.candidateModelWith().withName(name).build();
+
+        return CandidateAvailabilityModel.Builder.candidateAvailabilityModelWith()
+                                                 .withCandidateModel(candidateModel)
+                                                 .withAvailabilitySlotList(availabilitySlotList)
+                                                 .build();
+    }
+
     private CandidateAvailabilityModel verifyIfCandidateHasAvailabilityCreated(
             CandidateAvailabilityModel candidateAvailabilityModel) {
         String candidateName = candidateAvailabilityModel.getCandidateModel().getName();
@@ -156,48 +329,197 @@ public class CandidateServiceImpl implements CandidateService {
         return candidateAvailabilityRepository.getCandidateAvailabilityByCandidateName(candidateName);
     }
 
-    private void addNewAvailability(CandidateAvailabilityModel candidateExistingAvailabilityModel,
-                                    CandidateAvailabilityModel candidateAvailabilityModel) {
-        List<AvailabilitySlot> existingAvailabilitySlotList =
-                candidateExistingAvailabilityModel.getAvailabilitySlotList();
-        List<AvailabilitySlot> newAvailabilitySlotList = candidateAvailabilityModel.getAvailabilitySlotList();
+    private void addNewAvailability(CandidateAvailabilityModel candidateAvailabilityModel,
+                                    List<AvailabilitySlot> newAvailabilitySlotList) {
+        DailyAvailability newDailyAvailability = DailyAvailability.fromAvailabilitySlots(newAvailabilitySlotList);
 
-        List<AvailabilitySlot> remainingNewAvailabilitySlotList = addNewAvailabilityToExistingDay(
-                existingAvailabilitySlotList, newAvailabilitySlotList);
+        List<CandidateAvailabilityRangeModel> existingAvailabilityRangeList =
+                candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByDays(
+                        candidateAvailabilityModel, newDailyAvailability.getDays());
 
-        if (!remainingNewAvailabilitySlotList.isEmpty()) {
-            addNewAvailabilityToNewDay(existingAvailabilitySlotList, remainingNewAvailabilitySlotList);
+        DailyAvailability coalescedDailyAvailability = DailyAvailability.fromAvailabilityRanges(
+                existingAvailabilityRangeList).union(newDailyAvailability);
+
+        AvailabilityRangeChanges<CandidateAvailabilityRangeModel> availabilityRangeChanges =
+                AvailabilityRangeChanges.between(existingAvailabilityRangeList, coalescedDailyAvailability);
+
+        saveAvailabilityRangeChanges(candidateAvailabilityModel, availabilityRangeChanges);
+    }
+
+    private void removeAvailability(CandidateAvailabilityModel candidateAvailabilityModel,
+                                    List<AvailabilitySlot> removedAvailabilitySlotList) {
+        DailyAvailability removedDailyAvailability = DailyAvailability.fromAvailabilitySlots(
+                removedAvailabilitySlotList);
+
+        List<CandidateAvailabilityRangeModel> existingAvailabilityRangeList =
+                candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByDays(
+                        candidateAvailabilityModel, removedDailyAvailability.getDays());
+
+        DailyAvailability remainingDailyAvailability = DailyAvailability.fromAvailabilityRanges(
+                existingAvailabilityRangeList).minus(removedDailyAvailability);
+
+        AvailabilityRangeChanges<CandidateAvailabilityRangeModel> availabilityRangeChanges =
+                AvailabilityRangeChanges.between(existingAvailabilityRangeList, remainingDailyAvailability);
+
+        saveAvailabilityRangeChanges(candidateAvailabilityModel, availabilityRangeChanges);
+    }
+
+    private void saveAvailabilityRangeChanges(
+            CandidateAvailabilityModel candidateAvailabilityModel,
+            AvailabilityRangeChanges<CandidateAvailabilityRangeModel> availabilityRangeChanges) {
+        List<CandidateAvailabilityRangeModel> obsoleteAvailabilityRangeList =
+                availabilityRangeChanges.getObsoleteAvailabilityRanges();
+
+        if (!obsoleteAvailabilityRangeList.isEmpty()) {
+            candidateAvailabilityRangeRepository.deleteInBatch(obsoleteAvailabilityRangeList);
+        }
+
+        List<CandidateAvailabilityRangeModel> newAvailabilityRangeList = toAvailabilityRanges(
+                candidateAvailabilityModel, availabilityRangeChanges);
+
+        if (!newAvailabilityRangeList.isEmpty()) {
+            candidateAvailabilityRangeRepository.saveAll(newAvailabilityRangeList);
         }
     }
 
-    private List<AvailabilitySlot> addNewAvailabilityToExistingDay(
-            List<AvailabilitySlot> existingAvailabilitySlotList, List<AvailabilitySlot> newAvailabilitySlotList) {
-        List<AvailabilitySlot> addedAvailabilitiesList = new ArrayList<>();
+    private List<CandidateAvailabilityRangeModel> toAvailabilityRanges(
+            CandidateAvailabilityModel candidateAvailabilityModel,
+            AvailabilityRangeChanges<CandidateAvailabilityRangeModel> availabilityRangeChanges) {
+        List<CandidateAvailabilityRangeModel> newAvailabilityRangeList = new ArrayList<>();
+
+        for (AvailabilitySlot newAvailabilitySlot : availabilityRangeChanges.getMissingAvailabilitySlots()) {
+            for (TimeSlot newTimeSlot : newAvailabilitySlot.getTimeSlotList()) {
+                CandidateAvailabilityRangeModel newAvailabilityRange =
+                        CandidateAvailabilityRangeModel.Builder.candidateAvailabilityRangeModelWith()
+                                                               .withCandidateAvailabilityModel(
+                                                                       candidateAvailabilityModel)
+                                                               .withDay(newAvailabilitySlot.getDay())
+                                                               .withStartTime(newTimeSlot.getFrom())
+                                                               .withEndTime(newTimeSlot.getTo())
+                                                               .build();
+
+                newAvailabilityRangeList.add(newAvailabilityRange);
+            }
+        }
 
-        for (AvailabilitySlot existingAvailabilitySlot : existingAvailabilitySlotList) {
-            List<TimeSlot> existingTimeSlotList = existingAvailabilitySlot.getTimeSlotList();
-            LocalDate existingDay = existingAvailabilitySlot.getDay();
+        return newAvailabilityRangeList;
+    }
 
-            for (AvailabilitySlot newAvailabilitySlot : newAvailabilitySlotList) {
-                List<TimeSlot> newTimeSlotList = newAvailabilitySlot.getTimeSlotList();
-                LocalDate newDay = newAvailabilitySlot.getDay();
+    private void verifyValidityOfImportedCandidate(NamedAvailability namedAvailability,
+                                                   Set<String> namesOfImportedCandidates) {
+        verifyNameIsFilled(CandidateModel.Builder.candidateModelWith().withName(namedAvailability.getName()).build());
+        verifyAvailabilitySlotsAreFilled(namedAvailability);
+        verifyPeriodOfAvailabilityIsValid(toCandidateAvailabilityModel(namedAvailability.getName(),
+                                                                       availabilitySlotsOf(namedAvailability)));
 
-                if (existingDay.isEqual(newDay)) {
-                    existingTimeSlotList.addAll(newTimeSlotList);
-                    addedAvailabilitiesList.add(newAvailabilitySlot);
-                }
+        if (!namesOfImportedCandidates.add(namedAvailability.getName())) {
+            throw new BusinessException("Name already exists!", namedAvailability.getName());
+        }
+    }
+
+    private void verifyAvailabilitySlotsAreFilled(NamedAvailability namedAvailability) {
+        for (AvailabilitySlot availabilitySlot : availabilitySlotsOf(namedAvailability)) {
+            boolean availabilitySlotIsFilled = availabilitySlot.getDay() != null
+                    && availabilitySlot.getTimeSlotList() != null
+                    && availabilitySlot.getTimeSlotList().stream().allMatch(
+                    timeSlot -> timeSlot.getFrom() != null && timeSlot.getTo() != null);
+
+            if (!availabilitySlotIsFilled) {
+                throw new BusinessException("Availability slot must have a day and time slots!",
+                                            namedAvailability.getName());
             }
         }
+    }
 
-        if (!addedAvailabilitiesList.isEmpty()) {
-            newAvailabilitySlotList.removeAll(addedAvailabilitiesList);
+    private void importCandidatesChunk(Map<Integer, NamedAvailability> candidatesByLineNumber,
+                                       ImportReport importReport) {
+        List<String> existingNames = candidateRepository.getExistingNames(
+                candidatesByLineNumber.values().stream().map(NamedAvailability::getName).collect(Collectors.toList()));
+        Map<Integer, NamedAvailability> newCandidatesByLineNumber = new LinkedHashMap<>();
+
+        for (Map.Entry<Integer, NamedAvailability> candidateOfLine : candidatesByLineNumber.entrySet()) {
+            String candidateName = candidateOfLine.getValue().getName();
+
+            if (existingNames.contains(candidateName)) {
+                importReport.addRecordError(candidateOfLine.getKey(), candidateName,
+                                            new BusinessException("Name already exists!", candidateName));
+            } else {
+                newCandidatesByLineNumber.put(candidateOfLine.getKey(), candidateOfLine.getValue());
+            }
+        }
+
+        if (newCandidatesByLineNumber.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<NamedAvailability> newCandidates = new ArrayList<>(newCandidatesByLineNumber.values());
+
+            transactionTemplate.execute(transactionStatus -> saveImportedCandidates(newCandidates));
+            importReport.addImportedRecords(newCandidates.size());
+        } catch (DataIntegrityViolationException dataIntegrityViolationException) {
+            for (Map.Entry<Integer, NamedAvailability> newCandidateOfLine : newCandidatesByLineNumber.entrySet()) {
+                importCandidate(newCandidateOfLine.getKey(), newCandidateOfLine.getValue(), importReport);
+            }
+        }
+    }
+
+    private void importCandidate(int lineNumber, NamedAvailability newCandidate, ImportReport importReport) {
+        try {
+            transactionTemplate.execute(
+                    transactionStatus -> saveImportedCandidates(Collections.singletonList(newCandidate)));
+            importReport.addImportedRecords(1);
+        } catch (DataIntegrityViolationException dataIntegrityViolationException) {
+            if (candidateRepository.existsById(newCandidate.getName())) {
+                importReport.addRecordError(lineNumber, newCandidate.getName(),
+                                            new BusinessException("Name already exists!", newCandidate.getName()));
+            } else {
+                importReport.addRecordError(lineNumber, newCandidate.getName(),
+                                            new BusinessException("Import record could not be saved!",
+                                                                  newCandidate.getName(),
+                                                                  dataIntegrityViolationException
+                                                                          .getMostSpecificCause().getMessage()));
+            }
         }
+    }
+
+    private Void saveImportedCandidates(List<NamedAvailability> newCandidates) {
+        jdbcTemplate.batchUpdate("insert into candidate (name) values (?)",
+                                 newCandidates.stream().map(newCandidate -> new Object[]{newCandidate.getName()})
+                                              .collect(Collectors.toList()));
+
+        List<CandidateAvailabilityModel> newAvailabilityList = new ArrayList<>();
+        List<CandidateAvailabilityRangeModel> newAvailabilityRangeList = new ArrayList<>();
+
+        for (NamedAvailability newCandidate : newCandidates) {
+            interviewSlotsCache.invalidateCandidate(newCandidate.getName());
+
+            if (availabilitySlotsOf(newCandidate).isEmpty()) {
+                continue;
+            }
+
+            CandidateAvailabilityModel newAvailability =
+                    CandidateAvailabilityModel.Builder.candidateAvailabilityModelWith()
+                                                      .withCandidateModel(
+                                                              candidateRepository.getOne(newCandidate.getName()))
+                                                      .build();
+            DailyAvailability newDailyAvailability = DailyAvailability.fromAvailabilitySlots(
+                    availabilitySlotsOf(newCandidate));
+
+            newAvailabilityList.add(newAvailability);
+            newAvailabilityRangeList.addAll(toAvailabilityRanges(newAvailability, AvailabilityRangeChanges.between(
+                    Collections.<CandidateAvailabilityRangeModel>emptyList(), newDailyAvailability)));
+        }
+
+        candidateAvailabilityRepository.saveAll(newAvailabilityList);
+        candidateAvailabilityRangeRepository.saveAll(newAvailabilityRangeList);
 
-        return newAvailabilitySlotList;
+        return null;
     }
 
-    private void addNewAvailabilityToNewDay(List<AvailabilitySlot> existingAvailabilitySlotList,
-                                            List<AvailabilitySlot> remainingNewAvailabilitySlotList) {
-        existingAvailabilitySlotList.addAll(remainingNewAvailabilitySlotList);
+    private static List<AvailabilitySlot> availabilitySlotsOf(NamedAvailability namedAvailability) {
+        return namedAvailability.getAvailabilitySlotList() != null
+                ? namedAvailability.getAvailabilitySlotList()
+                : Collections.emptyList();
     }
 }
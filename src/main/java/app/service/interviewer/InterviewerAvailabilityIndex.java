@@ -0,0 +1,262 @@
+package app.service.interviewer;
+
+import app.model.utils.DailyAvailability;
+import app.model.utils.DateRange;
+import app.repository.interviewer.InterviewerRepository;
+import app.service.interviewslots.DailyAvailabilityLoader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class InterviewerAvailabilityIndex {
+    private final InterviewerRepository interviewerRepository;
+    private final DailyAvailabilityLoader dailyAvailabilityLoader;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> interviewerIdsByName = new HashMap<>();
+    private final List<String> interviewerNamesById = new ArrayList<>();
+    private final Map<Long, BitSet[]> interviewerIdsByHourByEpochDay = new HashMap<>();
+
+    private volatile boolean loaded;
+
+    @Autowired
+    public InterviewerAvailabilityIndex(InterviewerRepository interviewerRepository,
+                                        DailyAvailabilityLoader dailyAvailabilityLoader) {
+        this.interviewerRepository = interviewerRepository;
+        this.dailyAvailabilityLoader = dailyAvailabilityLoader;
+    }
+
+    public List<String> getAvailableInterviewersNames(LocalDate day, int fromHour, int toHour) {
+        ensureLoaded();
+
+        lock.readLock().lock();
+
+        try {
+            BitSet[] interviewerIdsByHour = interviewerIdsByHourByEpochDay.get(day.toEpochDay());
+
+            if (interviewerIdsByHour == null) {
+                return new ArrayList<>();
+            }
+
+            BitSet availableInterviewerIds = null;
+
+            for (int hour = fromHour; hour < toHour; hour++) {
+                if (interviewerIdsByHour[hour] == null) {
+                    return new ArrayList<>();
+                }
+
+                if (availableInterviewerIds == null) {
+                    availableInterviewerIds = (BitSet) interviewerIdsByHour[hour].clone();
+                } else {
+                    availableInterviewerIds.and(interviewerIdsByHour[hour]);
+                }
+
+                if (availableInterviewerIds.isEmpty()) {
+                    return new ArrayList<>();
+                }
+            }
+
+            return toInterviewersNames(availableInterviewerIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void updateInterviewer(String interviewerName, Collection<LocalDate> days,
+                                  DailyAvailability dailyAvailability) {
+        afterCommit(() -> replaceDays(interviewerName, days, dailyAvailability));
+    }
+
+    public void reloadInterviewer(String interviewerName, DateRange dateRange) {
+        afterCommit(() -> {
+            if (!loaded) {
+                return;
+            }
+
+            DailyAvailability dailyAvailability = dailyAvailabilityLoader.getInterviewersDailyAvailabilityByName(
+                    Collections.singletonList(interviewerName), dateRange).get(interviewerName);
+
+            replaceDays(interviewerName, daysOf(dateRange), dailyAvailability);
+        });
+    }
+
+    public void removeInterviewer(String interviewerName) {
+        afterCommit(() -> removeAllDays(interviewerName));
+    }
+
+    private void replaceDays(String interviewerName, Collection<LocalDate> days, DailyAvailability dailyAvailability) {
+        lock.writeLock().lock();
+
+        try {
+            if (!loaded) {
+                return;
+            }
+
+            int interviewerId = internInterviewerName(interviewerName);
+
+            for (LocalDate day : days) {
+                long epochDay = day.toEpochDay();
+                int hourMask = dailyAvailability.getHourMask(epochDay);
+
+                setHours(interviewerId, epochDay, hourMask);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeAllDays(String interviewerName) {
+        lock.writeLock().lock();
+
+        try {
+            if (!loaded) {
+                return;
+            }
+
+            Integer interviewerId = interviewerIdsByName.get(interviewerName);
+
+            if (interviewerId == null) {
+                return;
+            }
+
+            for (Long epochDay : new ArrayList<>(interviewerIdsByHourByEpochDay.keySet())) {
+                setHours(interviewerId, epochDay, 0);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void setHours(int interviewerId, long epochDay, int hourMask) {
+        BitSet[] interviewerIdsByHour = interviewerIdsByHourByEpochDay.get(epochDay);
+
+        if (interviewerIdsByHour == null) {
+            if (hourMask == 0) {
+                return;
+            }
+
+            interviewerIdsByHour = new BitSet[DailyAvailability.HOURS_PER_DAY];
+            interviewerIdsByHourByEpochDay.put(epochDay, interviewerIdsByHour);
+        }
+
+        boolean dayIsEmpty = true;
+
+        for (int hour = 0; hour < DailyAvailability.HOURS_PER_DAY; hour++) {
+            boolean available = (hourMask & (1 << hour)) != 0;
+
+            if (available && interviewerIdsByHour[hour] == null) {
+                interviewerIdsByHour[hour] = new BitSet();
+            }
+
+            if (interviewerIdsByHour[hour] != null) {
+                interviewerIdsByHour[hour].set(interviewerId, available);
+
+                if (interviewerIdsByHour[hour].isEmpty()) {
+                    interviewerIdsByHour[hour] = null;
+                } else {
+                    dayIsEmpty = false;
+                }
+            }
+        }
+
+        if (dayIsEmpty) {
+            interviewerIdsByHourByEpochDay.remove(epochDay);
+        }
+    }
+
+    private int internInterviewerName(String interviewerName) {
+        Integer interviewerId = interviewerIdsByName.get(interviewerName);
+
+        if (interviewerId != null) {
+            return interviewerId;
+        }
+
+        interviewerNamesById.add(interviewerName);
+        interviewerIdsByName.put(interviewerName, interviewerNamesById.size() - 1);
+
+        return interviewerNamesById.size() - 1;
+    }
+
+    private List<String> toInterviewersNames(BitSet interviewerIds) {
+        List<String> interviewersNames = new ArrayList<>(interviewerIds.cardinality());
+
+        for (int interviewerId = interviewerIds.nextSetBit(0); interviewerId >= 0;
+             interviewerId = interviewerIds.nextSetBit(interviewerId + 1)) {
+            interviewersNames.add(interviewerNamesById.get(interviewerId));
+        }
+
+        return interviewersNames;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+
+        lock.writeLock().lock();
+
+        try {
+            if (loaded) {
+                return;
+            }
+
+            List<String> interviewersNames = interviewerRepository.getAllNames();
+            Map<String, DailyAvailability> interviewersDailyAvailabilityByName = interviewersNames.isEmpty()
+                    ? new HashMap<>()
+                    : dailyAvailabilityLoader.getInterviewersDailyAvailabilityByName(interviewersNames,
+                                                                                     DateRange.unbounded());
+
+            for (Map.Entry<String, DailyAvailability> interviewerDailyAvailability :
+                    interviewersDailyAvailabilityByName.entrySet()) {
+                int interviewerId = internInterviewerName(interviewerDailyAvailability.getKey());
+                DailyAvailability dailyAvailability = interviewerDailyAvailability.getValue();
+
+                for (LocalDate day : dailyAvailability.getDays()) {
+                    setHours(interviewerId, day.toEpochDay(), dailyAvailability.getHourMask(day.toEpochDay()));
+                }
+            }
+
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static List<LocalDate> daysOf(DateRange dateRange) {
+        List<LocalDate> days = new ArrayList<>();
+
+        for (LocalDate day = dateRange.getFromDate(); !day.isAfter(dateRange.getToDate()); day = day.plusDays(1)) {
+            days.add(day);
+        }
+
+        return days;
+    }
+
+    private void afterCommit(Runnable indexUpdate) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            indexUpdate.run();
+
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                indexUpdate.run();
+            }
+        });
+    }
+}
@@ -1,15 +1,25 @@
 package app.service.interviewer;
 
+import app.model.interviewer.AvailableInterviewersModel;
 import app.model.interviewer.InterviewerAvailabilityModel;
+import app.model.interviewer.InterviewerAvailabilityRuleModel;
 import app.model.interviewer.InterviewerModel;
-
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.ImportReport;
+import app.model.utils.KeysetPage;
+import app.model.utils.NamedAvailability;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface InterviewerService {
     InterviewerModel createInterviewer(InterviewerModel interviewerModel);
 
-    List<InterviewerModel> getAllInterviewers();
+    KeysetPage<InterviewerModel> getAllInterviewers(String cursor, Integer pageSize);
 
     Optional<InterviewerModel> getInterviewerByName(String name);
 
@@ -18,9 +28,28 @@ public interface InterviewerService {
     InterviewerAvailabilityModel createInterviewerAvailability(
             InterviewerAvailabilityModel interviewerAvailabilityModel);
 
-    List<InterviewerAvailabilityModel> getAllInterviewersAvailability();
+    KeysetPage<InterviewerAvailabilityModel> getAllInterviewersAvailability(String cursor, Integer pageSize);
+
+    void exportAllInterviewersAvailability(Consumer<NamedAvailability> namedAvailabilityConsumer);
 
     InterviewerAvailabilityModel getInterviewerAvailabilityByName(String name);
 
+    InterviewerAvailabilityModel addInterviewerAvailabilitySlots(String name,
+                                                                 List<AvailabilitySlot> availabilitySlotList);
+
+    InterviewerAvailabilityModel removeInterviewerAvailabilitySlots(String name,
+                                                                    List<AvailabilitySlot> availabilitySlotList);
+
     void deleteInterviewerAvailabilityByName(String name);
+
+    List<InterviewerAvailabilityRuleModel> createInterviewerAvailabilityRules(
+            String name, List<InterviewerAvailabilityRuleModel> availabilityRuleList);
+
+    List<InterviewerAvailabilityRuleModel> getInterviewerAvailabilityRulesByName(String name);
+
+    void deleteInterviewerAvailabilityRulesByName(String name);
+
+    AvailableInterviewersModel getAvailableInterviewers(LocalDate day, LocalTime from, LocalTime to);
+
+    ImportReport importInterviewers(Iterator<String> ndjsonLines);
 }
@@ -1,43 +1,108 @@
 package app.service.interviewer;
 
 import app.exception.BusinessException;
+import app.model.interviewer.AvailableInterviewersModel;
 import app.model.interviewer.InterviewerAvailabilityModel;
+import app.model.interviewer.InterviewerAvailabilityRangeModel;
+import app.model.interviewer.InterviewerAvailabilityRuleModel;
 import app.model.interviewer.InterviewerModel;
+import app.model.utils.AvailabilityRangeChanges;
 import app.model.utils.AvailabilitySlot;
+import app.model.utils.DailyAvailability;
+import app.model.utils.DateRange;
+import app.model.utils.ImportReport;
+import app.model.utils.KeysetPage;
+import app.model.utils.NamedAvailability;
+import app.model.utils.NamedAvailabilityRange;
+import app.model.utils.NamedAvailabilityRuleRow;
 import app.model.utils.TimeSlot;
+import app.repository.interviewer.InterviewerAvailabilityRangeRepository;
 import app.repository.interviewer.InterviewerAvailabilityRepository;
+import app.repository.interviewer.InterviewerAvailabilityRuleRepository;
 import app.repository.interviewer.InterviewerRepository;
+import app.service.interviewslots.InterviewBookingLocks;
+import app.service.interviewslots.InterviewSlotsCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class InterviewerServiceImpl implements InterviewerService {
+    private static final int IMPORT_CHUNK_SIZE = 500;
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
     private final InterviewerRepository interviewerRepository;
     private final InterviewerAvailabilityRepository interviewerAvailabilityRepository;
+    private final InterviewerAvailabilityRangeRepository interviewerAvailabilityRangeRepository;
+    private final InterviewerAvailabilityRuleRepository interviewerAvailabilityRuleRepository;
+    private final InterviewSlotsCache interviewSlotsCache;
+    private final InterviewerAvailabilityIndex interviewerAvailabilityIndex;
+    private final InterviewBookingLocks interviewBookingLocks;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
 
     @Autowired
     public InterviewerServiceImpl(InterviewerRepository interviewerRepository,
-                                  InterviewerAvailabilityRepository interviewerAvailabilityRepository) {
+                                  InterviewerAvailabilityRepository interviewerAvailabilityRepository,
+                                  InterviewerAvailabilityRangeRepository interviewerAvailabilityRangeRepository,
+                                  InterviewerAvailabilityRuleRepository interviewerAvailabilityRuleRepository,
+                                  InterviewSlotsCache interviewSlotsCache,
+                                  InterviewerAvailabilityIndex interviewerAvailabilityIndex,
+                                  InterviewBookingLocks interviewBookingLocks,
+                                  JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  ObjectMapper objectMapper) {
         this.interviewerRepository = interviewerRepository;
         this.interviewerAvailabilityRepository = interviewerAvailabilityRepository;
+        this.interviewerAvailabilityRangeRepository = interviewerAvailabilityRangeRepository;
+        this.interviewerAvailabilityRuleRepository = interviewerAvailabilityRuleRepository;
+        this.interviewSlotsCache = interviewSlotsCache;
+        this.interviewerAvailabilityIndex = interviewerAvailabilityIndex;
+        this.interviewBookingLocks = interviewBookingLocks;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
     }
 
     @Override
     public InterviewerModel createInterviewer(InterviewerModel interviewerModel) {
         verifyValidityOfInterviewer(interviewerModel);
 
-        return interviewerRepository.save(interviewerModel);
+        try {
+            return interviewerRepository.save(interviewerModel);
+        } catch (DataIntegrityViolationException dataIntegrityViolationException) {
+            throw new BusinessException("Name already exists!", interviewerModel.getName());
+        }
     }
 
     @Override
-    public List<InterviewerModel> getAllInterviewers() {
-        return interviewerRepository.findAll();
+    public KeysetPage<InterviewerModel> getAllInterviewers(String cursor, Integer pageSize) {
+        int validPageSize = KeysetPage.pageSizeOf(pageSize);
+        List<InterviewerModel> interviewers = interviewerRepository.getInterviewersAfterName(
+                KeysetPage.nameAfter(cursor), KeysetPage.pageAndNextOf(validPageSize));
+
+        return KeysetPage.fromPageAndNext(interviewers, validPageSize, InterviewerModel::getName);
     }
 
     @Override
@@ -46,30 +111,75 @@ public class InterviewerServiceImpl implements InterviewerService {
     }
 
     @Override
+    @Transactional
     public void deleteInterviewerByName(String name) {
+        interviewBookingLocks.lockUntilTransactionCompletes(InterviewBookingLocks.interviewerKey(name));
         interviewerRepository.deleteById(name);
+        interviewSlotsCache.invalidateInterviewer(name);
+        interviewerAvailabilityIndex.removeInterviewer(name);
     }
 
     @Override
+    @Transactional
     public InterviewerAvailabilityModel createInterviewerAvailability(
             InterviewerAvailabilityModel interviewerAvailabilityModel) {
         verifyValidityOfInterviewerAvailability(interviewerAvailabilityModel);
+        interviewBookingLocks.lockUntilTransactionCompletes(InterviewBookingLocks.interviewerKey(
+                interviewerAvailabilityModel.getInterviewerModel().getName()));
+        interviewSlotsCache.invalidateInterviewer(interviewerAvailabilityModel.getInterviewerModel().getName());
 
         InterviewerAvailabilityModel interviewerExistingAvailability = verifyIfInterviewerHasAvailabilityCreated(
                 interviewerAvailabilityModel);
 
         if (interviewerExistingAvailability != null) {
-            addNewAvailability(interviewerExistingAvailability, interviewerAvailabilityModel);
+            addNewAvailability(interviewerExistingAvailability, interviewerAvailabilityModel.getAvailabilitySlotList());
 
-            return interviewerAvailabilityRepository.save(interviewerExistingAvailability);
+            return interviewerExistingAvailability;
         }
 
-        return interviewerAvailabilityRepository.save(interviewerAvailabilityModel);
+        List<AvailabilitySlot> coalescedAvailabilitySlotList = DailyAvailability.fromAvailabilitySlots(
+                interviewerAvailabilityModel.getAvailabilitySlotList()).toAvailabilitySlots();
+        InterviewerAvailabilityModel interviewerSavedAvailability = interviewerAvailabilityRepository.save(
+                toInterviewerAvailabilityModel(interviewerAvailabilityModel.getInterviewerModel().getName(),
+                                           coalescedAvailabilitySlotList));
+
+        addNewAvailability(interviewerSavedAvailability, interviewerAvailabilityModel.getAvailabilitySlotList());
+
+        return interviewerSavedAvailability;
     }
 
     @Override
-    public List<InterviewerAvailabilityModel> getAllInterviewersAvailability() {
-        return interviewerAvailabilityRepository.findAll();
+    public KeysetPage<InterviewerAvailabilityModel> getAllInterviewersAvailability(String cursor, Integer pageSize) {
+        int validPageSize = KeysetPage.pageSizeOf(pageSize);
+        List<InterviewerAvailabilityModel> interviewersAvailability =
+                interviewerAvailabilityRepository.getInterviewersAvailabilityAfterName(
+                        KeysetPage.nameAfter(cursor), KeysetPage.pageAndNextOf(validPageSize));
+
+        return KeysetPage.fromPageAndNext(
+                interviewersAvailability, validPageSize,
+                interviewerAvailability -> interviewerAvailability.getInterviewerModel().getName());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAllInterviewersAvailability(Consumer<NamedAvailability> namedAvailabilityConsumer) {
+        List<NamedAvailability> interviewersToBeExported = new ArrayList<>();
+
+        try (Stream<NamedAvailabilityRange> namedAvailabilityRanges =
+                     interviewerAvailabilityRepository.streamAllInterviewersAvailabilityRanges()) {
+            NamedAvailability.forEachName(namedAvailabilityRanges.iterator(), namedAvailability -> {
+                interviewersToBeExported.add(namedAvailability);
+
+                if (interviewersToBeExported.size() == EXPORT_CHUNK_SIZE) {
+                    exportInterviewersChunk(interviewersToBeExported, namedAvailabilityConsumer);
+                    interviewersToBeExported.clear();
+                }
+            });
+        }
+
+        if (!interviewersToBeExported.isEmpty()) {
+            exportInterviewersChunk(interviewersToBeExported, namedAvailabilityConsumer);
+        }
     }
 
     @Override
@@ -78,11 +188,164 @@ public class InterviewerServiceImpl implements InterviewerService {
     }
 
     @Override
+    @Transactional
+    public InterviewerAvailabilityModel addInterviewerAvailabilitySlots(
+            String name, List<AvailabilitySlot> availabilitySlotList) {
+        return createInterviewerAvailability(toInterviewerAvailabilityModel(name, availabilitySlotList));
+    }
+
+    @Override
+    @Transactional
+    public InterviewerAvailabilityModel removeInterviewerAvailabilitySlots(
+            String name, List<AvailabilitySlot> availabilitySlotList) {
+        InterviewerAvailabilityModel interviewerAvailabilityModel =
+                toInterviewerAvailabilityModel(name, availabilitySlotList);
+
+        verifyValidityOfInterviewerAvailability(interviewerAvailabilityModel);
+        interviewBookingLocks.lockUntilTransactionCompletes(InterviewBookingLocks.interviewerKey(name));
+
+        InterviewerAvailabilityModel interviewerExistingAvailability = verifyIfInterviewerHasAvailabilityCreated(
+                interviewerAvailabilityModel);
+
+        if (interviewerExistingAvailability == null) {
+            throw new BusinessException("Interviewer has no availability defined!", name);
+        }
+
+        removeAvailability(interviewerExistingAvailability, availabilitySlotList);
+        interviewSlotsCache.invalidateInterviewer(name);
+
+        return interviewerExistingAvailability;
+    }
+
+    @Override
+    @Transactional
     public void deleteInterviewerAvailabilityByName(String name) {
+        interviewBookingLocks.lockUntilTransactionCompletes(InterviewBookingLocks.interviewerKey(name));
+
         Long interviewerAvailabilityIdToBeDeleted =
                 interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(name).getId();
 
         interviewerAvailabilityRepository.deleteById(interviewerAvailabilityIdToBeDeleted);
+        interviewSlotsCache.invalidateInterviewer(name);
+        interviewerAvailabilityIndex.removeInterviewer(name);
+    }
+
+    @Override
+    @Transactional
+    public List<InterviewerAvailabilityRuleModel> createInterviewerAvailabilityRules(
+            String name, List<InterviewerAvailabilityRuleModel> availabilityRuleList) {
+        InterviewerAvailabilityModel interviewerAvailabilityModel = toInterviewerAvailabilityModel(name,
+                                                                                                   new ArrayList<>());
+
+        verifyInterviewerExists(interviewerAvailabilityModel);
+        verifyValidityOfAvailabilityRules(availabilityRuleList);
+        interviewBookingLocks.lockUntilTransactionCompletes(InterviewBookingLocks.interviewerKey(name));
+        interviewSlotsCache.invalidateInterviewer(name);
+
+        InterviewerAvailabilityModel interviewerExistingAvailability = verifyIfInterviewerHasAvailabilityCreated(
+                interviewerAvailabilityModel);
+
+        if (interviewerExistingAvailability == null) {
+            interviewerExistingAvailability = interviewerAvailabilityRepository.save(interviewerAvailabilityModel);
+        }
+
+        List<InterviewerAvailabilityRuleModel> newAvailabilityRuleList = toAvailabilityRules(
+                interviewerExistingAvailability, availabilityRuleList);
+        List<InterviewerAvailabilityRuleModel> savedAvailabilityRuleList =
+                interviewerAvailabilityRuleRepository.saveAll(newAvailabilityRuleList);
+
+        interviewerAvailabilityIndex.reloadInterviewer(name, validityOf(newAvailabilityRuleList));
+
+        return savedAvailabilityRuleList;
+    }
+
+    @Override
+    public List<InterviewerAvailabilityRuleModel> getInterviewerAvailabilityRulesByName(String name) {
+        return interviewerAvailabilityRuleRepository.getInterviewerAvailabilityRulesByInterviewerName(name);
+    }
+
+    @Override
+    @Transactional
+    public void deleteInterviewerAvailabilityRulesByName(String name) {
+        interviewBookingLocks.lockUntilTransactionCompletes(InterviewBookingLocks.interviewerKey(name));
+
+        List<InterviewerAvailabilityRuleModel> availabilityRuleListToBeDeleted =
+                interviewerAvailabilityRuleRepository.getInterviewerAvailabilityRulesByInterviewerName(name);
+
+        if (availabilityRuleListToBeDeleted.isEmpty()) {
+            return;
+        }
+
+        interviewerAvailabilityRuleRepository.deleteAll(availabilityRuleListToBeDeleted);
+        interviewSlotsCache.invalidateInterviewer(name);
+        interviewerAvailabilityIndex.reloadInterviewer(name, validityOf(availabilityRuleListToBeDeleted));
+    }
+
+    @Override
+    public AvailableInterviewersModel getAvailableInterviewers(LocalDate day, LocalTime from, LocalTime to) {
+        verifyPeriodOfQueryIsValid(from, to);
+
+        int fromHour = from.getHour();
+        int toHour = to != null ? to.getHour() : fromHour + 1;
+
+        List<String> availableInterviewersNames = interviewerAvailabilityIndex.getAvailableInterviewersNames(
+                day, fromHour, toHour);
+        Collections.sort(availableInterviewersNames);
+
+        return AvailableInterviewersModel.Builder.availableInterviewersModelWith()
+                                                 .withDay(day)
+                                                 .withFrom(from)
+                                                 .withTo(to != null ? to : from.plusHours(1))
+                                                 .withInterviewersNames(availableInterviewersNames)
+                                                 .build();
+    }
+
+    @Override
+    public ImportReport importInterviewers(Iterator<String> ndjsonLines) {
+        ImportReport importReport = new ImportReport();
+        Set<String> namesOfImportedInterviewers = new HashSet<>();
+        Map<Integer, NamedAvailability> interviewersByLineNumber = new LinkedHashMap<>();
+        int lineNumber = 0;
+
+        while (ndjsonLines.hasNext()) {
+            String ndjsonLine = ndjsonLines.next();
+            lineNumber++;
+
+            if (ndjsonLine.isBlank()) {
+                continue;
+            }
+
+            NamedAvailability namedAvailability = null;
+
+            try {
+                namedAvailability = objectMapper.readValue(ndjsonLine, NamedAvailability.class);
+
+                if (namedAvailability == null) {
+                    throw new BusinessException("Import record is not valid!", ndjsonLine);
+                }
+
+                verifyValidityOfImportedInterviewer(namedAvailability, namesOfImportedInterviewers);
+                interviewersByLineNumber.put(lineNumber, namedAvailability);
+            } catch (JsonProcessingException jsonProcessingException) {
+                importReport.addRecordError(lineNumber, null,
+                                            new BusinessException("Import record is not valid!",
+                                                                  jsonProcessingException.getOriginalMessage()));
+            } catch (BusinessException businessException) {
+                importReport.addRecordError(lineNumber, namedAvailability != null ? namedAvailability.getName() : null,
+                                            businessException);
+            }
+
+            if (interviewersByLineNumber.size() == IMPORT_CHUNK_SIZE) {
+                importInterviewersChunk(interviewersByLineNumber, importReport);
+                interviewersByLineNumber.clear();
+            }
+        }
+
+        if (!interviewersByLineNumber.isEmpty()) {
+            importInterviewersChunk(interviewersByLineNumber, importReport);
+        }
+
+        return importReport;
     }
 
     private void verifyValidityOfInterviewer(InterviewerModel interviewerModel) {
@@ -101,9 +364,8 @@ public class InterviewerServiceImpl implements InterviewerService {
 
     private void verifyUniqueName(InterviewerModel interviewerModel) {
         String nameOfInterviewerToBeCreated = interviewerModel.getName();
-        List<String> existingNames = interviewerRepository.getAllNames();
 
-        if (existingNames.contains(nameOfInterviewerToBeCreated)) {
+        if (interviewerRepository.existsById(nameOfInterviewerToBeCreated)) {
             throw new BusinessException("Name already exists!", interviewerModel.getName());
         }
     }
@@ -130,25 +392,79 @@ public class InterviewerServiceImpl implements InterviewerService {
             List<TimeSlot> timeSlotList = availabilitySlot.getTimeSlotList();
 
             for (TimeSlot timeSlot : timeSlotList) {
-                LocalTime newTimeSlotFromTime = timeSlot.getFrom();
-                LocalTime newTimeSlotToTime = timeSlot.getTo();
+                verifyPeriodOfTimeSlotIsValid(timeSlot);
+            }
+        }
+    }
 
-                if (newTimeSlotFromTime.isAfter(newTimeSlotToTime) || newTimeSlotFromTime.equals(newTimeSlotToTime)) {
-                    throw new BusinessException("Start hour of slot must be before end hour of slot!",
-                                                "From: " + newTimeSlotFromTime,
-                                                "To: " + newTimeSlotToTime);
-                }
+    private void verifyPeriodOfTimeSlotIsValid(TimeSlot timeSlot) {
+        LocalTime newTimeSlotFromTime = timeSlot.getFrom();
+        LocalTime newTimeSlotToTime = timeSlot.getTo();
 
-                if (newTimeSlotFromTime.getMinute() != 0 || newTimeSlotToTime.getMinute() != 0) {
-                    throw new BusinessException(
-                            "Availability slot must be from the beginning of the hour until the beginning of the next "
-                            + "hour!",
-                            "From: " + newTimeSlotFromTime, "To: " + newTimeSlotToTime);
-                }
+        if (newTimeSlotFromTime.isAfter(newTimeSlotToTime) || newTimeSlotFromTime.equals(newTimeSlotToTime)) {
+            throw new BusinessException("Start hour of slot must be before end hour of slot!",
+                                        "From: " + newTimeSlotFromTime,
+                                        "To: " + newTimeSlotToTime);
+        }
+
+        if (newTimeSlotFromTime.getMinute() != 0 || newTimeSlotToTime.getMinute() != 0) {
+            throw new BusinessException(
+                    "Availability slot must be from the beginning of the hour until the beginning of the next hour!",
+                    "From: " + newTimeSlotFromTime, "To: " + newTimeSlotToTime);
+        }
+    }
+
+    private void verifyValidityOfAvailabilityRules(List<InterviewerAvailabilityRuleModel> availabilityRuleList) {
+        if (availabilityRuleList == null || availabilityRuleList.isEmpty()) {
+            throw new BusinessException("You must provide at least one availability rule!");
+        }
+
+        for (InterviewerAvailabilityRuleModel availabilityRule : availabilityRuleList) {
+            LocalDate validFrom = availabilityRule.getValidFrom();
+            LocalDate validUntil = availabilityRule.getValidUntil();
+
+            if (availabilityRule.getDayOfWeek() == null || validFrom == null || validUntil == null
+                || availabilityRule.getTimeSlotList() == null || availabilityRule.getTimeSlotList().isEmpty()) {
+                throw new BusinessException(
+                        "Availability rule must have a day of week, time slots and validity period!",
+                        "Day of week: " + availabilityRule.getDayOfWeek(), "Valid from: " + validFrom,
+                        "Valid until: " + validUntil);
+            }
+
+            if (validFrom.isAfter(validUntil)) {
+                throw new BusinessException("Start day of rule must not be after end day of rule!",
+                                            "Valid from: " + validFrom, "Valid until: " + validUntil);
+            }
+
+            for (TimeSlot timeSlot : availabilityRule.getTimeSlotList()) {
+                verifyPeriodOfTimeSlotIsValid(timeSlot);
             }
         }
     }
 
+    private void verifyPeriodOfQueryIsValid(LocalTime from, LocalTime to) {
+        if (to != null && !from.isBefore(to)) {
+            throw new BusinessException("Start hour of slot must be before end hour of slot!", "From: " + from,
+                                        "To: " + to);
+        }
+
+        if (from.getMinute() != 0 || (to != null && to.getMinute() != 0)) {
+            throw new BusinessException(
+                    "Availability slot must be from the beginning of the hour until the beginning of the next hour!",
+                    "From: " + from, "To: " + to);
+        }
+    }
+
+    private InterviewerAvailabilityModel toInterviewerAvailabilityModel(
+            String name, List<AvailabilitySlot> availabilitySlotList) {
+        InterviewerModel interviewerModel = InterviewerModel.Builder.interviewerModelWith().withName(name).build();
+
+        return InterviewerAvailabilityModel.Builder.interviewerAvailabilityModelWith()
+                                                   .withInterviewerModel(interviewerModel)
+                                                   .withAvailabilitySlotList(availabilitySlotList)
+                                                   .build();
+    }
+
     private InterviewerAvailabilityModel verifyIfInterviewerHasAvailabilityCreated(
             InterviewerAvailabilityModel interviewerAvailabilityModel) {
         String interviewerName = interviewerAvailabilityModel.getInterviewerModel().getName();
@@ -156,48 +472,377 @@ public class InterviewerServiceImpl implements InterviewerService {
         return interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(interviewerName);
     }
 
-    private void addNewAvailability(InterviewerAvailabilityModel interviewerExistingAvailabilityModel,
-                                    InterviewerAvailabilityModel interviewerAvailabilityModel) {
-        List<AvailabilitySlot> existingAvailabilitySlotList =
-                interviewerExistingAvailabilityModel.getAvailabilitySlotList();
-        List<AvailabilitySlot> newAvailabilitySlotList = interviewerAvailabilityModel.getAvailabilitySlotList();
+    private static DateRange validityOf(List<InterviewerAvailabilityRuleModel> availabilityRuleList) {
+        LocalDate validFrom = LocalDate.MAX;
+        LocalDate validUntil = LocalDate.MIN;
+
+        for (InterviewerAvailabilityRuleModel availabilityRule : availabilityRuleList) {
+            if (availabilityRule.getValidFrom().isBefore(validFrom)) {
+                validFrom = availabilityRule.getValidFrom();
+            }
+
+            if (availabilityRule.getValidUntil().isAfter(validUntil)) {
+                validUntil = availabilityRule.getValidUntil();
+            }
+        }
 
-        List<AvailabilitySlot> remainingNewAvailabilitySlotList = addNewAvailabilityToExistingDay(
-                existingAvailabilitySlotList, newAvailabilitySlotList);
+        return new DateRange(validFrom, validUntil);
+    }
 
-        if (!remainingNewAvailabilitySlotList.isEmpty()) {
-            addNewAvailabilityToNewDay(existingAvailabilitySlotList, remainingNewAvailabilitySlotList);
+    private static List<InterviewerAvailabilityRuleModel> toAvailabilityRules(
+            InterviewerAvailabilityModel interviewerAvailabilityModel,
+            List<InterviewerAvailabilityRuleModel> availabilityRuleList) {
+        List<InterviewerAvailabilityRuleModel> newAvailabilityRuleList = new ArrayList<>();
+
+        for (InterviewerAvailabilityRuleModel availabilityRule : availabilityRuleList) {
+            InterviewerAvailabilityRuleModel newAvailabilityRule =
+                    InterviewerAvailabilityRuleModel.Builder.interviewerAvailabilityRuleModelWith()
+                                                            .withInterviewerAvailabilityModel(
+                                                                    interviewerAvailabilityModel)
+                                                            .withDayOfWeek(availabilityRule.getDayOfWeek())
+                                                            .withHourMask(DailyAvailability.toHourMask(
+                                                                    availabilityRule.getTimeSlotList()))
+                                                            .withValidFrom(availabilityRule.getValidFrom())
+                                                            .withValidUntil(availabilityRule.getValidUntil())
+                                                            .withExceptionDays(availabilityRule.getExceptionDays())
+                                                            .build();
+
+            newAvailabilityRuleList.add(newAvailabilityRule);
         }
+
+        return newAvailabilityRuleList;
     }
 
-    private List<AvailabilitySlot> addNewAvailabilityToExistingDay(
-            List<AvailabilitySlot> existingAvailabilitySlotList, List<AvailabilitySlot> newAvailabilitySlotList) {
-        List<AvailabilitySlot> addedAvailabilitiesList = new ArrayList<>();
+    private DailyAvailability withAvailabilityRules(InterviewerAvailabilityModel interviewerAvailabilityModel,
+                                                    DailyAvailability dailyAvailability, List<LocalDate> days) {
+        List<InterviewerAvailabilityRuleModel> availabilityRuleList = getAvailabilityRules(
+                interviewerAvailabilityModel, days);
 
-        for (AvailabilitySlot existingAvailabilitySlot : existingAvailabilitySlotList) {
-            List<TimeSlot> existingTimeSlotList = existingAvailabilitySlot.getTimeSlotList();
-            LocalDate existingDay = existingAvailabilitySlot.getDay();
+        if (availabilityRuleList.isEmpty()) {
+            return dailyAvailability;
+        }
 
-            for (AvailabilitySlot newAvailabilitySlot : newAvailabilitySlotList) {
-                List<TimeSlot> newTimeSlotList = newAvailabilitySlot.getTimeSlotList();
-                LocalDate newDay = newAvailabilitySlot.getDay();
+        return dailyAvailability.union(DailyAvailability.fromAvailabilityRules(
+                availabilityRuleList, new DateRange(days.get(0), days.get(days.size() - 1))));
+    }
 
-                if (existingDay.isEqual(newDay)) {
-                    existingTimeSlotList.addAll(newTimeSlotList);
-                    addedAvailabilitiesList.add(newAvailabilitySlot);
+    private DailyAvailability materializeAvailabilityRules(InterviewerAvailabilityModel interviewerAvailabilityModel,
+                                                           DailyAvailability removedDailyAvailability) {
+        List<LocalDate> removedDays = removedDailyAvailability.getDays();
+        DailyAvailability materializedDailyAvailability = DailyAvailability.empty();
+
+        for (InterviewerAvailabilityRuleModel availabilityRule : getAvailabilityRules(interviewerAvailabilityModel,
+                                                                                      removedDays)) {
+            for (LocalDate removedDay : removedDays) {
+                DailyAvailability ruleDailyAvailability = DailyAvailability.fromAvailabilityRules(
+                        Collections.singletonList(availabilityRule), new DateRange(removedDay, removedDay));
+                int ruleHourMask = ruleDailyAvailability.getHourMask(removedDay.toEpochDay());
+
+                if ((ruleHourMask & removedDailyAvailability.getHourMask(removedDay.toEpochDay())) != 0) {
+                    materializedDailyAvailability = materializedDailyAvailability.union(ruleDailyAvailability);
+                    availabilityRule.getExceptionDays().add(removedDay);
                 }
             }
         }
 
-        if (!addedAvailabilitiesList.isEmpty()) {
-            newAvailabilitySlotList.removeAll(addedAvailabilitiesList);
+        return materializedDailyAvailability;
+    }
+
+    private List<InterviewerAvailabilityRuleModel> getAvailabilityRules(
+            InterviewerAvailabilityModel interviewerAvailabilityModel, List<LocalDate> days) {
+        if (days.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return interviewerAvailabilityRuleRepository.getInterviewerAvailabilityRulesByInterviewerNames(
+                Collections.singletonList(interviewerAvailabilityModel.getInterviewerModel().getName()), days.get(0),
+                days.get(days.size() - 1));
+    }
+
+    private void addNewAvailability(InterviewerAvailabilityModel interviewerAvailabilityModel,
+                                    List<AvailabilitySlot> newAvailabilitySlotList) {
+        DailyAvailability newDailyAvailability = DailyAvailability.fromAvailabilitySlots(newAvailabilitySlotList);
+
+        List<InterviewerAvailabilityRangeModel> existingAvailabilityRangeList =
+                interviewerAvailabilityRangeRepository.getInterviewerAvailabilityRangesByDays(
+                        interviewerAvailabilityModel, newDailyAvailability.getDays());
+
+        DailyAvailability coalescedDailyAvailability = DailyAvailability.fromAvailabilityRanges(
+                existingAvailabilityRangeList).union(newDailyAvailability);
+
+        AvailabilityRangeChanges<InterviewerAvailabilityRangeModel> availabilityRangeChanges =
+                AvailabilityRangeChanges.between(existingAvailabilityRangeList, coalescedDailyAvailability);
+
+        saveAvailabilityRangeChanges(interviewerAvailabilityModel, availabilityRangeChanges);
+        interviewerAvailabilityIndex.updateInterviewer(interviewerAvailabilityModel.getInterviewerModel().getName(),
+                                                       newDailyAvailability.getDays(),
+                                                       withAvailabilityRules(interviewerAvailabilityModel,
+                                                                             coalescedDailyAvailability,
+                                                                             newDailyAvailability.getDays()));
+    }
+
+    private void removeAvailability(InterviewerAvailabilityModel interviewerAvailabilityModel,
+                                    List<AvailabilitySlot> removedAvailabilitySlotList) {
+        DailyAvailability removedDailyAvailability = DailyAvailability.fromAvailabilitySlots(
+                removedAvailabilitySlotList);
+
+        List<InterviewerAvailabilityRangeModel> existingAvailabilityRangeList =
+                interviewerAvailabilityRangeRepository.getInterviewerAvailabilityRangesByDays(
+                        interviewerAvailabilityModel, removedDailyAvailability.getDays());
+
+        DailyAvailability materializedDailyAvailability = materializeAvailabilityRules(interviewerAvailabilityModel,
+                                                                                       removedDailyAvailability);
+
+        DailyAvailability remainingDailyAvailability = DailyAvailability.fromAvailabilityRanges(
+                existingAvailabilityRangeList).union(materializedDailyAvailability).minus(removedDailyAvailability);
+
+        AvailabilityRangeChanges<InterviewerAvailabilityRangeModel> availabilityRangeChanges =
+                AvailabilityRangeChanges.between(existingAvailabilityRangeList, remainingDailyAvailability);
+
+        saveAvailabilityRangeChanges(interviewerAvailabilityModel, availabilityRangeChanges);
+        interviewerAvailabilityIndex.updateInterviewer(interviewerAvailabilityModel.getInterviewerModel().getName(),
+                                                       removedDailyAvailability.getDays(),
+                                                       withAvailabilityRules(interviewerAvailabilityModel,
+                                                                             remainingDailyAvailability,
+                                                                             removedDailyAvailability.getDays()));
+    }
+
+    private void saveAvailabilityRangeChanges(
+            InterviewerAvailabilityModel interviewerAvailabilityModel,
+            AvailabilityRangeChanges<InterviewerAvailabilityRangeModel> availabilityRangeChanges) {
+        List<InterviewerAvailabilityRangeModel> obsoleteAvailabilityRangeList =
+                availabilityRangeChanges.getObsoleteAvailabilityRanges();
+
+        if (!obsoleteAvailabilityRangeList.isEmpty()) {
+            interviewerAvailabilityRangeRepository.deleteInBatch(obsoleteAvailabilityRangeList);
+        }
+
+        List<InterviewerAvailabilityRangeModel> newAvailabilityRangeList = toAvailabilityRanges(
+                interviewerAvailabilityModel, availabilityRangeChanges);
+
+        if (!newAvailabilityRangeList.isEmpty()) {
+            interviewerAvailabilityRangeRepository.saveAll(newAvailabilityRangeList);
+        }
+    }
+
+    private List<InterviewerAvailabilityRangeModel> toAvailabilityRanges(
+            InterviewerAvailabilityModel interviewerAvailabilityModel,
+            AvailabilityRangeChanges<InterviewerAvailabilityRangeModel> availabilityRangeChanges) {
+        List<InterviewerAvailabilityRangeModel> newAvailabilityRangeList = new ArrayList<>();
+
+        for (AvailabilitySlot newAvailabilitySlot : availabilityRangeChanges.getMissingAvailabilitySlots()) {
+            for (TimeSlot newTimeSlot : newAvailabilitySlot.getTimeSlotList()) {
+                InterviewerAvailabilityRangeModel newAvailabilityRange =
+                        InterviewerAvailabilityRangeModel.Builder.interviewerAvailabilityRangeModelWith()
+                                                                 .withInterviewerAvailabilityModel(
+                                                                         interviewerAvailabilityModel)
+                                                                 .withDay(newAvailabilitySlot.getDay())
+                                                                 .withStartTime(newTimeSlot.getFrom())
+                                                                 .withEndTime(newTimeSlot.getTo())
+                                                                 .build();
+
+                newAvailabilityRangeList.add(newAvailabilityRange);
+            }
+        }
+
+        return newAvailabilityRangeList;
+    }
+
+    private void exportInterviewersChunk(List<NamedAvailability> interviewersToBeExported,
+                                         Consumer<NamedAvailability> namedAvailabilityConsumer) {
+        Map<String, List<InterviewerAvailabilityRuleModel>> availabilityRulesByName = toAvailabilityRulesByName(
+                interviewerAvailabilityRuleRepository.getInterviewerAvailabilityRuleRowsByInterviewerNames(
+                        interviewersToBeExported.stream().map(NamedAvailability::getName)
+                                                .collect(Collectors.toList())));
+
+        for (NamedAvailability interviewerToBeExported : interviewersToBeExported) {
+            String interviewerName = interviewerToBeExported.getName();
+            List<AvailabilitySlot> availabilitySlotList = interviewerToBeExported.getAvailabilitySlotList();
+            List<InterviewerAvailabilityRuleModel> availabilityRuleList = availabilityRulesByName.getOrDefault(
+                    interviewerName, Collections.emptyList());
+
+            namedAvailabilityConsumer.accept(NamedAvailability.Builder.namedAvailabilityWith()
+                                                                      .withName(interviewerName)
+                                                                      .withAvailabilitySlotList(availabilitySlotList)
+                                                                      .withAvailabilityRuleList(availabilityRuleList)
+                                                                      .build());
+        }
+    }
+
+    private static Map<String, List<InterviewerAvailabilityRuleModel>> toAvailabilityRulesByName(
+            List<NamedAvailabilityRuleRow> availabilityRuleRows) {
+        Map<Long, InterviewerAvailabilityRuleModel> availabilityRulesById = new LinkedHashMap<>();
+        Map<String, List<InterviewerAvailabilityRuleModel>> availabilityRulesByName = new LinkedHashMap<>();
+
+        for (NamedAvailabilityRuleRow availabilityRuleRow : availabilityRuleRows) {
+            InterviewerAvailabilityRuleModel availabilityRule = availabilityRulesById.get(availabilityRuleRow.getId());
+
+            if (availabilityRule == null) {
+                availabilityRule = toAvailabilityRule(availabilityRuleRow);
+                availabilityRulesById.put(availabilityRuleRow.getId(), availabilityRule);
+                availabilityRulesByName.computeIfAbsent(availabilityRuleRow.getName(), name -> new ArrayList<>())
+                                       .add(availabilityRule);
+            }
+
+            if (availabilityRuleRow.getExceptionDay() != null) {
+                availabilityRule.getExceptionDays().add(availabilityRuleRow.getExceptionDay());
+            }
+        }
+
+        return availabilityRulesByName;
+    }
+
+    private static InterviewerAvailabilityRuleModel toAvailabilityRule(NamedAvailabilityRuleRow availabilityRuleRow) {
+        return InterviewerAvailabilityRuleModel.Builder.interviewerAvailabilityRuleModelWith()
+                                                       .withDayOfWeek(availabilityRuleRow.getDayOfWeek())
+                                                       .withHourMask(availabilityRuleRow.getHourMask())
+                                                       .withValidFrom(availabilityRuleRow.getValidFrom())
+                                                       .withValidUntil(availabilityRuleRow.getValidUntil())
+                                                       .build();
+    }
+
+    private void verifyValidityOfImportedInterviewer(NamedAvailability namedAvailability,
+                                                     Set<String> namesOfImportedInterviewers) {
+        verifyNameIsFilled(InterviewerModel.Builder.interviewerModelWith().withName(namedAvailability.getName())
+                                                   .build());
+        verifyAvailabilitySlotsAreFilled(namedAvailability);
+        verifyPeriodOfAvailabilityIsValid(toInterviewerAvailabilityModel(namedAvailability.getName(),
+                                                                         availabilitySlotsOf(namedAvailability)));
+
+        if (!availabilityRulesOf(namedAvailability).isEmpty()) {
+            verifyValidityOfAvailabilityRules(namedAvailability.getAvailabilityRuleList());
+        }
+
+        if (!namesOfImportedInterviewers.add(namedAvailability.getName())) {
+            throw new BusinessException("Name already exists!", namedAvailability.getName());
+        }
+    }
+
+    private void verifyAvailabilitySlotsAreFilled(NamedAvailability namedAvailability) {
+        for (AvailabilitySlot availabilitySlot : availabilitySlotsOf(namedAvailability)) {
+            boolean availabilitySlotIsFilled = availabilitySlot.getDay() != null
+                    && availabilitySlot.getTimeSlotList() != null
+                    && availabilitySlot.getTimeSlotList().stream().allMatch(
+                    timeSlot -> timeSlot.getFrom() != null && timeSlot.getTo() != null);
+
+            if (!availabilitySlotIsFilled) {
+                throw new BusinessException("Availability slot must have a day and time slots!",
+                                            namedAvailability.getName());
+            }
+        }
+    }
+
+    private void importInterviewersChunk(Map<Integer, NamedAvailability> interviewersByLineNumber,
+                                         ImportReport importReport) {
+        List<String> existingNames = interviewerRepository.getExistingNames(
+                interviewersByLineNumber.values().stream().map(NamedAvailability::getName)
+                                        .collect(Collectors.toList()));
+        Map<Integer, NamedAvailability> newInterviewersByLineNumber = new LinkedHashMap<>();
+
+        for (Map.Entry<Integer, NamedAvailability> interviewerOfLine : interviewersByLineNumber.entrySet()) {
+            String interviewerName = interviewerOfLine.getValue().getName();
+
+            if (existingNames.contains(interviewerName)) {
+                importReport.addRecordError(interviewerOfLine.getKey(), interviewerName,
+                                            new BusinessException("Name already exists!", interviewerName));
+            } else {
+                newInterviewersByLineNumber.put(interviewerOfLine.getKey(), interviewerOfLine.getValue());
+            }
+        }
+
+        if (newInterviewersByLineNumber.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<NamedAvailability> newInterviewers = new ArrayList<>(newInterviewersByLineNumber.values());
+
+            transactionTemplate.execute(transactionStatus -> saveImportedInterviewers(newInterviewers));
+            importReport.addImportedRecords(newInterviewers.size());
+        } catch (DataIntegrityViolationException dataIntegrityViolationException) {
+            for (Map.Entry<Integer, NamedAvailability> newInterviewerOfLine : newInterviewersByLineNumber.entrySet()) {
+                importInterviewer(newInterviewerOfLine.getKey(), newInterviewerOfLine.getValue(), importReport);
+            }
+        }
+    }
+
+    private void importInterviewer(int lineNumber, NamedAvailability newInterviewer, ImportReport importReport) {
+        try {
+            transactionTemplate.execute(
+                    transactionStatus -> saveImportedInterviewers(Collections.singletonList(newInterviewer)));
+            importReport.addImportedRecords(1);
+        } catch (DataIntegrityViolationException dataIntegrityViolationException) {
+            if (interviewerRepository.existsById(newInterviewer.getName())) {
+                importReport.addRecordError(lineNumber, newInterviewer.getName(),
+                                            new BusinessException("Name already exists!", newInterviewer.getName()));
+            } else {
+                importReport.addRecordError(lineNumber, newInterviewer.getName(),
+                                            new BusinessException("Import record could not be saved!",
+                                                                  newInterviewer.getName(),
+                                                                  dataIntegrityViolationException
+                                                                          .getMostSpecificCause().getMessage()));
+            }
         }
+    }
+
+    private Void saveImportedInterviewers(List<NamedAvailability> newInterviewers) {
+        jdbcTemplate.batchUpdate("insert into interviewer (name) values (?)",
+                                 newInterviewers.stream()
+                                                .map(newInterviewer -> new Object[]{newInterviewer.getName()})
+                                                .collect(Collectors.toList()));
+
+        List<InterviewerAvailabilityModel> newAvailabilityList = new ArrayList<>();
+        List<InterviewerAvailabilityRangeModel> newAvailabilityRangeList = new ArrayList<>();
+        List<InterviewerAvailabilityRuleModel> newAvailabilityRuleList = new ArrayList<>();
+
+        for (NamedAvailability newInterviewer : newInterviewers) {
+            interviewSlotsCache.invalidateInterviewer(newInterviewer.getName());
+
+            if (availabilitySlotsOf(newInterviewer).isEmpty() && availabilityRulesOf(newInterviewer).isEmpty()) {
+                continue;
+            }
+
+            InterviewerAvailabilityModel newAvailability =
+                    InterviewerAvailabilityModel.Builder.interviewerAvailabilityModelWith()
+                                                        .withInterviewerModel(
+                                                                interviewerRepository.getOne(newInterviewer.getName()))
+                                                        .build();
+            DailyAvailability newDailyAvailability = DailyAvailability.fromAvailabilitySlots(
+                    availabilitySlotsOf(newInterviewer));
+
+            List<InterviewerAvailabilityRuleModel> newInterviewerAvailabilityRules = toAvailabilityRules(
+                    newAvailability, availabilityRulesOf(newInterviewer));
+
+            newAvailabilityList.add(newAvailability);
+            newAvailabilityRangeList.addAll(toAvailabilityRanges(newAvailability, AvailabilityRangeChanges.between(
+                    Collections.<InterviewerAvailabilityRangeModel>emptyList(), newDailyAvailability)));
+            newAvailabilityRuleList.addAll(newInterviewerAvailabilityRules);
+
+            if (!newInterviewerAvailabilityRules.isEmpty()) {
+                newDailyAvailability = newDailyAvailability.union(DailyAvailability.fromAvailabilityRules(
+                        newInterviewerAvailabilityRules, validityOf(newInterviewerAvailabilityRules)));
+            }
+
+            interviewerAvailabilityIndex.updateInterviewer(newInterviewer.getName(), newDailyAvailability.getDays(),
+                                                           newDailyAvailability);
+        }
+
+        interviewerAvailabilityRepository.saveAll(newAvailabilityList);
+        interviewerAvailabilityRangeRepository.saveAll(newAvailabilityRangeList);
+        interviewerAvailabilityRuleRepository.saveAll(newAvailabilityRuleList);
+
+        return null;
+    }
 
-        return newAvailabilitySlotList;
+    private static List<AvailabilitySlot> availabilitySlotsOf(NamedAvailability namedAvailability) {
+        return namedAvailability.getAvailabilitySlotList() != null
+                ? namedAvailability.getAvailabilitySlotList()
+                : Collections.emptyList();
     }
 
-    private void addNewAvailabilityToNewDay(List<AvailabilitySlot> existingAvailabilitySlotList,
-                                            List<AvailabilitySlot> remainingNewAvailabilitySlotList) {
-        existingAvailabilitySlotList.addAll(remainingNewAvailabilitySlotList);
+    private static List<InterviewerAvailabilityRuleModel> availabilityRulesOf(NamedAvailability namedAvailability) {
+        return namedAvailability.getAvailabilityRuleList() != null
+                ? namedAvailability.getAvailabilityRuleList()
+                : Collections.emptyList();
     }
 }
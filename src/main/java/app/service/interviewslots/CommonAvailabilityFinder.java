@@ -0,0 +1,19 @@
+package app.service.interviewslots;
+
+import app.model.utils.DailyAvailability;
+import app.model.utils.DateRange;
+import app.model.utils.SlotCounter;
+
+import java.util.List;
+
+public interface CommonAvailabilityFinder {
+    DailyAvailability getCommonDailyAvailability(String candidateName, List<String> interviewersNames,
+                                                 DateRange queryDateRange);
+
+    DailyAvailability getEarliestCommonDailyAvailability(String candidateName, List<String> interviewersNames,
+                                                         DateRange queryDateRange, int numberOfSlots,
+                                                         SlotCounter slotCounter);
+
+    DailyAvailability getInterviewersCommonDailyAvailability(List<String> interviewersNames,
+                                                             DateRange queryDateRange);
+}
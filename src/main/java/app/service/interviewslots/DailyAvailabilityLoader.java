@@ -0,0 +1,146 @@
+package app.service.interviewslots;
+
+import app.model.candidate.CandidateAvailabilityRangeModel;
+import app.model.interviewer.InterviewerAvailabilityRangeModel;
+import app.model.interviewer.InterviewerAvailabilityRuleModel;
+import app.model.utils.DailyAvailability;
+import app.model.utils.DateRange;
+import app.repository.candidate.CandidateAvailabilityRangeRepository;
+import app.repository.interviewer.InterviewerAvailabilityRangeRepository;
+import app.repository.interviewer.InterviewerAvailabilityRuleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class DailyAvailabilityLoader {
+    private final CandidateAvailabilityRangeRepository candidateAvailabilityRangeRepository;
+    private final InterviewerAvailabilityRangeRepository interviewerAvailabilityRangeRepository;
+    private final InterviewerAvailabilityRuleRepository interviewerAvailabilityRuleRepository;
+
+    @Autowired
+    public DailyAvailabilityLoader(CandidateAvailabilityRangeRepository candidateAvailabilityRangeRepository,
+                                   InterviewerAvailabilityRangeRepository interviewerAvailabilityRangeRepository,
+                                   InterviewerAvailabilityRuleRepository interviewerAvailabilityRuleRepository) {
+        this.candidateAvailabilityRangeRepository = candidateAvailabilityRangeRepository;
+        this.interviewerAvailabilityRangeRepository = interviewerAvailabilityRangeRepository;
+        this.interviewerAvailabilityRuleRepository = interviewerAvailabilityRuleRepository;
+    }
+
+    public DailyAvailability getCandidateDailyAvailability(String candidateName, DateRange queryDateRange) {
+        List<CandidateAvailabilityRangeModel> candidateAvailabilityRanges =
+                candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByCandidateName(
+                        candidateName, queryDateRange.getFromDate(), queryDateRange.getToDate());
+
+        return DailyAvailability.fromAvailabilityRanges(candidateAvailabilityRanges);
+    }
+
+    public Map<String, DailyAvailability> getCandidatesDailyAvailabilityByName(Collection<String> candidatesNames,
+                                                                               DateRange queryDateRange) {
+        Map<String, List<CandidateAvailabilityRangeModel>> candidateAvailabilityRangesByName =
+                getCandidateAvailabilityRangesByName(candidatesNames, queryDateRange);
+
+        Map<String, DailyAvailability> candidatesDailyAvailabilityByName = new HashMap<>();
+
+        for (String candidateName : candidatesNames) {
+            DailyAvailability candidateDailyAvailability = DailyAvailability.fromAvailabilityRanges(
+                    candidateAvailabilityRangesByName.getOrDefault(candidateName, Collections.emptyList()));
+
+            candidatesDailyAvailabilityByName.put(candidateName, candidateDailyAvailability);
+        }
+
+        return candidatesDailyAvailabilityByName;
+    }
+
+    public Map<String, DailyAvailability> getInterviewersDailyAvailabilityByName(
+            Collection<String> interviewersNames, DateRange queryDateRange) {
+        Map<String, List<InterviewerAvailabilityRangeModel>> interviewerAvailabilityRangesByName =
+                getInterviewerAvailabilityRangesByName(interviewersNames, queryDateRange);
+        Map<String, List<InterviewerAvailabilityRuleModel>> interviewerAvailabilityRulesByName =
+                getInterviewerAvailabilityRulesByName(interviewersNames, queryDateRange);
+
+        Map<String, DailyAvailability> interviewersDailyAvailabilityByName = new HashMap<>();
+
+        for (String interviewerName : interviewersNames) {
+            DailyAvailability interviewerDailyAvailability = DailyAvailability.fromAvailabilityRanges(
+                    interviewerAvailabilityRangesByName.getOrDefault(interviewerName, Collections.emptyList()));
+            List<InterviewerAvailabilityRuleModel> interviewerAvailabilityRules =
+                    interviewerAvailabilityRulesByName.get(interviewerName);
+
+            if (interviewerAvailabilityRules != null) {
+                interviewerDailyAvailability = interviewerDailyAvailability.union(
+                        DailyAvailability.fromAvailabilityRules(interviewerAvailabilityRules, queryDateRange));
+            }
+
+            interviewersDailyAvailabilityByName.put(interviewerName, interviewerDailyAvailability);
+        }
+
+        return interviewersDailyAvailabilityByName;
+    }
+
+    private Map<String, List<CandidateAvailabilityRangeModel>> getCandidateAvailabilityRangesByName(
+            Collection<String> candidatesNames, DateRange queryDateRange) {
+        List<CandidateAvailabilityRangeModel> candidateAvailabilityRanges =
+                candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByCandidateNames(
+                        candidatesNames, queryDateRange.getFromDate(), queryDateRange.getToDate());
+
+        Map<String, List<CandidateAvailabilityRangeModel>> candidateAvailabilityRangesByName = new HashMap<>();
+
+        for (CandidateAvailabilityRangeModel candidateAvailabilityRange : candidateAvailabilityRanges) {
+            String candidateName = candidateAvailabilityRange.getCandidateAvailabilityModel()
+                                                             .getCandidateModel()
+                                                             .getName();
+
+            candidateAvailabilityRangesByName.computeIfAbsent(candidateName, name -> new ArrayList<>())
+                                             .add(candidateAvailabilityRange);
+        }
+
+        return candidateAvailabilityRangesByName;
+    }
+
+    private Map<String, List<InterviewerAvailabilityRangeModel>> getInterviewerAvailabilityRangesByName(
+            Collection<String> interviewersNames, DateRange queryDateRange) {
+        List<InterviewerAvailabilityRangeModel> interviewerAvailabilityRanges =
+                interviewerAvailabilityRangeRepository.getInterviewerAvailabilityRangesByInterviewerNames(
+                        interviewersNames, queryDateRange.getFromDate(), queryDateRange.getToDate());
+
+        Map<String, List<InterviewerAvailabilityRangeModel>> interviewerAvailabilityRangesByName = new HashMap<>();
+
+        for (InterviewerAvailabilityRangeModel interviewerAvailabilityRange : interviewerAvailabilityRanges) {
+            String interviewerName = interviewerAvailabilityRange.getInterviewerAvailabilityModel()
+                                                                 .getInterviewerModel()
+                                                                 .getName();
+
+            interviewerAvailabilityRangesByName.computeIfAbsent(interviewerName, name -> new ArrayList<>())
+                                               .add(interviewerAvailabilityRange);
+        }
+
+        return interviewerAvailabilityRangesByName;
+    }
+
+    private Map<String, List<InterviewerAvailabilityRuleModel>> getInterviewerAvailabilityRulesByName(
+            Collection<String> interviewersNames, DateRange queryDateRange) {
+        List<InterviewerAvailabilityRuleModel> interviewerAvailabilityRules =
+                interviewerAvailabilityRuleRepository.getInterviewerAvailabilityRulesByInterviewerNames(
+                        interviewersNames, queryDateRange.getFromDate(), queryDateRange.getToDate());
+
+        Map<String, List<InterviewerAvailabilityRuleModel>> interviewerAvailabilityRulesByName = new HashMap<>();
+
+        for (InterviewerAvailabilityRuleModel interviewerAvailabilityRule : interviewerAvailabilityRules) {
+            String interviewerName = interviewerAvailabilityRule.getInterviewerAvailabilityModel()
+                                                                .getInterviewerModel()
+                                                                .getName();
+
+            interviewerAvailabilityRulesByName.computeIfAbsent(interviewerName, name -> new ArrayList<>())
+                                              .add(interviewerAvailabilityRule);
+        }
+
+        return interviewerAvailabilityRulesByName;
+    }
+}
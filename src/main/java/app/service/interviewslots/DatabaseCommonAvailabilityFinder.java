@@ -0,0 +1,91 @@
+package app.service.interviewslots;
+
+import app.model.utils.AvailabilityHour;
+import app.model.utils.DailyAvailability;
+import app.model.utils.DateRange;
+import app.model.utils.SlotCounter;
+import app.repository.candidate.CandidateAvailabilityRangeRepository;
+import app.repository.interviewer.InterviewerAvailabilityRangeRepository;
+import app.repository.interviewer.InterviewerAvailabilityRuleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+@ConditionalOnProperty(name = "interview-slots.intersection-strategy", havingValue = "database")
+public class DatabaseCommonAvailabilityFinder implements CommonAvailabilityFinder {
+    private final CandidateAvailabilityRangeRepository candidateAvailabilityRangeRepository;
+    private final InterviewerAvailabilityRangeRepository interviewerAvailabilityRangeRepository;
+    private final InterviewerAvailabilityRuleRepository interviewerAvailabilityRuleRepository;
+    private final InMemoryCommonAvailabilityFinder inMemoryCommonAvailabilityFinder;
+
+    @Autowired
+    public DatabaseCommonAvailabilityFinder(
+            CandidateAvailabilityRangeRepository candidateAvailabilityRangeRepository,
+            InterviewerAvailabilityRangeRepository interviewerAvailabilityRangeRepository,
+            InterviewerAvailabilityRuleRepository interviewerAvailabilityRuleRepository,
+            DailyAvailabilityLoader dailyAvailabilityLoader) {
+        this.candidateAvailabilityRangeRepository = candidateAvailabilityRangeRepository;
+        this.interviewerAvailabilityRangeRepository = interviewerAvailabilityRangeRepository;
+        this.interviewerAvailabilityRuleRepository = interviewerAvailabilityRuleRepository;
+        this.inMemoryCommonAvailabilityFinder = new InMemoryCommonAvailabilityFinder(dailyAvailabilityLoader);
+    }
+
+    @Override
+    public DailyAvailability getCommonDailyAvailability(String candidateName, List<String> interviewersNames,
+                                                        DateRange queryDateRange) {
+        Set<String> distinctInterviewersNames = new HashSet<>(interviewersNames);
+        int numberOfParticipants = distinctInterviewersNames.size() + 1;
+
+        if (haveAvailabilityRules(distinctInterviewersNames, queryDateRange)) {
+            return inMemoryCommonAvailabilityFinder.getCommonDailyAvailability(candidateName, interviewersNames,
+                                                                               queryDateRange);
+        }
+
+        List<AvailabilityHour> commonAvailabilityHours =
+                candidateAvailabilityRangeRepository.getCommonAvailabilityHours(candidateName,
+                                                                                distinctInterviewersNames,
+                                                                                numberOfParticipants,
+                                                                                queryDateRange.getFromDate(),
+                                                                                queryDateRange.getToDate());
+
+        return DailyAvailability.fromAvailabilityHours(commonAvailabilityHours);
+    }
+
+    @Override
+    public DailyAvailability getEarliestCommonDailyAvailability(String candidateName, List<String> interviewersNames,
+                                                                DateRange queryDateRange, int numberOfSlots,
+                                                                SlotCounter slotCounter) {
+        return getCommonDailyAvailability(candidateName, interviewersNames, queryDateRange).earliest(numberOfSlots,
+                                                                                                    slotCounter);
+    }
+
+    @Override
+    public DailyAvailability getInterviewersCommonDailyAvailability(List<String> interviewersNames,
+                                                                    DateRange queryDateRange) {
+        Set<String> distinctInterviewersNames = new HashSet<>(interviewersNames);
+
+        if (haveAvailabilityRules(distinctInterviewersNames, queryDateRange)) {
+            return inMemoryCommonAvailabilityFinder.getInterviewersCommonDailyAvailability(interviewersNames,
+                                                                                           queryDateRange);
+        }
+
+        List<AvailabilityHour> commonAvailabilityHours =
+                interviewerAvailabilityRangeRepository.getInterviewersCommonAvailabilityHours(
+                        distinctInterviewersNames, distinctInterviewersNames.size(), queryDateRange.getFromDate(),
+                        queryDateRange.getToDate());
+
+        return DailyAvailability.fromAvailabilityHours(commonAvailabilityHours);
+    }
+
+    private boolean haveAvailabilityRules(Set<String> interviewersNames, DateRange queryDateRange) {
+        return !interviewersNames.isEmpty()
+               && interviewerAvailabilityRuleRepository.existsInterviewerAvailabilityRules(interviewersNames,
+                                                                                           queryDateRange.getFromDate(),
+                                                                                           queryDateRange.getToDate());
+    }
+}
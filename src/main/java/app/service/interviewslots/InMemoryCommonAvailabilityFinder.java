@@ -0,0 +1,167 @@
+package app.service.interviewslots;
+
+import app.model.utils.AvailabilityStatistics;
+import app.model.utils.DailyAvailability;
+import app.model.utils.DateRange;
+import app.model.utils.SlotCounter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@ConditionalOnProperty(name = "interview-slots.intersection-strategy", havingValue = "in-memory",
+                       matchIfMissing = true)
+public class InMemoryCommonAvailabilityFinder implements CommonAvailabilityFinder {
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryCommonAvailabilityFinder.class);
+
+    private final DailyAvailabilityLoader dailyAvailabilityLoader;
+
+    @Autowired
+    public InMemoryCommonAvailabilityFinder(DailyAvailabilityLoader dailyAvailabilityLoader) {
+        this.dailyAvailabilityLoader = dailyAvailabilityLoader;
+    }
+
+    @Override
+    public DailyAvailability getCommonDailyAvailability(String candidateName, List<String> interviewersNames,
+                                                        DateRange queryDateRange) {
+        return intersect(getParticipantsBySelectivity(candidateName, interviewersNames, queryDateRange));
+    }
+
+    @Override
+    public DailyAvailability getEarliestCommonDailyAvailability(String candidateName, List<String> interviewersNames,
+                                                                DateRange queryDateRange, int numberOfSlots,
+                                                                SlotCounter slotCounter) {
+        List<Participant> participants = getParticipantsBySelectivity(candidateName, interviewersNames,
+                                                                      queryDateRange);
+
+        if (!haveCommonDateSpan(participants)) {
+            return DailyAvailability.empty();
+        }
+
+        List<DailyAvailability> othersDailyAvailability = new ArrayList<>(participants.size() - 1);
+
+        for (Participant participant : participants.subList(1, participants.size())) {
+            othersDailyAvailability.add(participant.dailyAvailability);
+        }
+
+        return participants.get(0).dailyAvailability.intersectEarliest(othersDailyAvailability, numberOfSlots,
+                                                                       slotCounter);
+    }
+
+    @Override
+    public DailyAvailability getInterviewersCommonDailyAvailability(List<String> interviewersNames,
+                                                                    DateRange queryDateRange) {
+        List<Participant> participants = new ArrayList<>(interviewersNames.size());
+
+        addInterviewers(participants, interviewersNames, queryDateRange);
+        sortBySelectivity(participants);
+
+        return intersect(participants);
+    }
+
+    private DailyAvailability intersect(List<Participant> participants) {
+        if (!haveCommonDateSpan(participants)) {
+            return DailyAvailability.empty();
+        }
+
+        DailyAvailability commonDailyAvailability = participants.get(0).dailyAvailability;
+
+        for (Participant participant : participants.subList(1, participants.size())) {
+            if (commonDailyAvailability.isEmpty()) {
+                break;
+            }
+
+            commonDailyAvailability = commonDailyAvailability.intersect(participant.dailyAvailability);
+        }
+
+        return commonDailyAvailability;
+    }
+
+    private List<Participant> getParticipantsBySelectivity(String candidateName, List<String> interviewersNames,
+                                                           DateRange queryDateRange) {
+        List<Participant> participants = new ArrayList<>(interviewersNames.size() + 1);
+
+        DailyAvailability candidateDailyAvailability = dailyAvailabilityLoader.getCandidateDailyAvailability(
+                candidateName, queryDateRange);
+        participants.add(new Participant("candidate " + candidateName, candidateDailyAvailability));
+
+        if (candidateDailyAvailability.isEmpty() || interviewersNames.isEmpty()) {
+            return participants;
+        }
+
+        addInterviewers(participants, interviewersNames, queryDateRange);
+        sortBySelectivity(participants);
+
+        return participants;
+    }
+
+    private void addInterviewers(List<Participant> participants, List<String> interviewersNames,
+                                 DateRange queryDateRange) {
+        Map<String, DailyAvailability> interviewersDailyAvailabilityByName =
+                dailyAvailabilityLoader.getInterviewersDailyAvailabilityByName(interviewersNames, queryDateRange);
+
+        for (String interviewerName : interviewersNames) {
+            participants.add(new Participant("interviewer " + interviewerName,
+                                             interviewersDailyAvailabilityByName.get(interviewerName)));
+        }
+    }
+
+    private void sortBySelectivity(List<Participant> participants) {
+        participants.sort(Comparator.comparing(Participant::getStatistics,
+                                               AvailabilityStatistics.MOST_SELECTIVE_FIRST));
+
+        logger.debug("Intersecting availability in order {}", participants);
+    }
+
+    private boolean haveCommonDateSpan(List<Participant> participants) {
+        LocalDate latestFirstDay = LocalDate.MIN;
+        LocalDate earliestLastDay = LocalDate.MAX;
+
+        for (Participant participant : participants) {
+            AvailabilityStatistics statistics = participant.getStatistics();
+
+            if (statistics.getNumberOfDays() == 0) {
+                return false;
+            }
+
+            if (statistics.getFirstDay().isAfter(latestFirstDay)) {
+                latestFirstDay = statistics.getFirstDay();
+            }
+
+            if (statistics.getLastDay().isBefore(earliestLastDay)) {
+                earliestLastDay = statistics.getLastDay();
+            }
+        }
+
+        return !latestFirstDay.isAfter(earliestLastDay);
+    }
+
+    private static class Participant {
+        private final String name;
+        private final DailyAvailability dailyAvailability;
+        private final AvailabilityStatistics statistics;
+
+        private Participant(String name, DailyAvailability dailyAvailability) {
+            this.name = name;
+            this.dailyAvailability = dailyAvailability;
+            this.statistics = dailyAvailability.getStatistics();
+        }
+
+        private AvailabilityStatistics getStatistics() {
+            return statistics;
+        }
+
+        @Override
+        public String toString() {
+            return name + " (" + statistics + ")";
+        }
+    }
+}
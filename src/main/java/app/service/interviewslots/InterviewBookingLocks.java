@@ -0,0 +1,72 @@
+package app.service.interviewslots;
+
+import app.exception.TechnicalException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+@Component
+public class InterviewBookingLocks {
+    private final ReentrantLock[] lockStripes;
+
+    public InterviewBookingLocks(@Value("${interview-slots.booking.lock-stripes:64}") int numberOfLockStripes) {
+        this.lockStripes = new ReentrantLock[numberOfLockStripes];
+
+        for (int stripeIndex = 0; stripeIndex < numberOfLockStripes; stripeIndex++) {
+            lockStripes[stripeIndex] = new ReentrantLock();
+        }
+    }
+
+    public <T> T withLocks(Collection<String> participantsKeys, Supplier<T> lockedAction) {
+        int[] stripeIndexes = participantsKeys.stream().mapToInt(this::getStripeIndex).distinct().sorted().toArray();
+        int numberOfLockedStripes = 0;
+
+        try {
+            for (int stripeIndex : stripeIndexes) {
+                lockStripes[stripeIndex].lock();
+                numberOfLockedStripes++;
+            }
+
+            return lockedAction.get();
+        } finally {
+            for (int index = numberOfLockedStripes - 1; index >= 0; index--) {
+                lockStripes[stripeIndexes[index]].unlock();
+            }
+        }
+    }
+
+    public void lockUntilTransactionCompletes(String participantKey) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new TechnicalException("Availability of " + participantKey + " must be locked inside a transaction!");
+        }
+
+        ReentrantLock lockStripe = lockStripes[getStripeIndex(participantKey)];
+        lockStripe.lock();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCompletion(int status) {
+                lockStripe.unlock();
+            }
+        });
+    }
+
+    public static String candidateKey(String candidateName) {
+        return "candidate:" + candidateName;
+    }
+
+    public static String interviewerKey(String interviewerName) {
+        return "interviewer:" + interviewerName;
+    }
+
+    private int getStripeIndex(String participantKey) {
+        int hash = participantKey.hashCode();
+
+        return Math.floorMod(hash ^ (hash >>> 16), lockStripes.length);
+    }
+}
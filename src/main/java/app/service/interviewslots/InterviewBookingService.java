@@ -0,0 +1,7 @@
+package app.service.interviewslots;
+
+import app.model.interviewslots.InterviewBookingModel;
+
+public interface InterviewBookingService {
+    InterviewBookingModel bookInterview(InterviewBookingModel interviewBookingModel);
+}
@@ -0,0 +1,193 @@
+package app.service.interviewslots;
+
+import app.exception.BusinessException;
+import app.model.interviewslots.InterviewBookingModel;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.DailyAvailability;
+import app.model.utils.DateRange;
+import app.model.utils.TimeSlot;
+import app.repository.candidate.CandidateRepository;
+import app.repository.interviewer.InterviewerRepository;
+import app.service.candidate.CandidateService;
+import app.service.interviewer.InterviewerService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class InterviewBookingServiceImpl implements InterviewBookingService {
+    private final CandidateRepository candidateRepository;
+    private final InterviewerRepository interviewerRepository;
+    private final CandidateService candidateService;
+    private final InterviewerService interviewerService;
+    private final DailyAvailabilityLoader dailyAvailabilityLoader;
+    private final InterviewBookingLocks interviewBookingLocks;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public InterviewBookingServiceImpl(CandidateRepository candidateRepository,
+                                       InterviewerRepository interviewerRepository,
+                                       CandidateService candidateService, InterviewerService interviewerService,
+                                       DailyAvailabilityLoader dailyAvailabilityLoader,
+                                       InterviewBookingLocks interviewBookingLocks,
+                                       TransactionTemplate transactionTemplate) {
+        this.candidateRepository = candidateRepository;
+        this.interviewerRepository = interviewerRepository;
+        this.candidateService = candidateService;
+        this.interviewerService = interviewerService;
+        this.dailyAvailabilityLoader = dailyAvailabilityLoader;
+        this.interviewBookingLocks = interviewBookingLocks;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public InterviewBookingModel bookInterview(InterviewBookingModel interviewBookingModel) {
+        verifyValidityOfBooking(interviewBookingModel);
+
+        InterviewBookingModel interviewBooking =
+                InterviewBookingModel.Builder.interviewBookingModelWith()
+                                             .withCandidateName(interviewBookingModel.getCandidateName())
+                                             .withInterviewersNames(new ArrayList<>(new LinkedHashSet<>(
+                                                     interviewBookingModel.getInterviewersNames())))
+                                             .withDay(interviewBookingModel.getDay())
+                                             .withFrom(interviewBookingModel.getFrom())
+                                             .withTo(interviewBookingModel.getTo())
+                                             .build();
+
+        return interviewBookingLocks.withLocks(getParticipantsKeys(interviewBooking),
+                                               () -> transactionTemplate.execute(
+                                                       transactionStatus -> reserveInterview(interviewBooking)));
+    }
+
+    private InterviewBookingModel reserveInterview(InterviewBookingModel interviewBooking) {
+        String candidateName = interviewBooking.getCandidateName();
+        List<String> interviewersNames = interviewBooking.getInterviewersNames();
+
+        verifyCandidateAndInterviewersExist(candidateName, interviewersNames);
+        verifyParticipantsAreAvailable(interviewBooking);
+
+        TimeSlot bookedTimeSlot = TimeSlot.Builder.timeSlotWith()
+                                                  .withFrom(interviewBooking.getFrom())
+                                                  .withTo(interviewBooking.getTo())
+                                                  .build();
+        List<AvailabilitySlot> bookedAvailabilitySlots = Collections.singletonList(
+                AvailabilitySlot.Builder.availabilitySlotWith()
+                                        .withDay(interviewBooking.getDay())
+                                        .withTimeSlotList(Collections.singletonList(bookedTimeSlot))
+                                        .build());
+
+        candidateService.removeCandidateAvailabilitySlots(candidateName, bookedAvailabilitySlots);
+
+        for (String interviewerName : interviewersNames) {
+            interviewerService.removeInterviewerAvailabilitySlots(interviewerName, bookedAvailabilitySlots);
+        }
+
+        return interviewBooking;
+    }
+
+    private void verifyValidityOfBooking(InterviewBookingModel interviewBookingModel) {
+        String candidateName = interviewBookingModel.getCandidateName();
+
+        if (candidateName == null || candidateName.isBlank()) {
+            throw new BusinessException("You must provide a name!", candidateName);
+        }
+
+        if (interviewBookingModel.getInterviewersNames() == null
+            || interviewBookingModel.getInterviewersNames().isEmpty()) {
+            throw new BusinessException("Booking must have at least one interviewer!", candidateName);
+        }
+
+        LocalDate day = interviewBookingModel.getDay();
+        LocalTime from = interviewBookingModel.getFrom();
+        LocalTime to = interviewBookingModel.getTo();
+
+        if (day == null || from == null || to == null) {
+            throw new BusinessException("Booking must have a day, a start hour and an end hour!", "Day: " + day,
+                                        "From: " + from, "To: " + to);
+        }
+
+        if (!from.isBefore(to)) {
+            throw new BusinessException("Start hour of slot must be before end hour of slot!", "From: " + from,
+                                        "To: " + to);
+        }
+
+        if (from.getMinute() != 0 || to.getMinute() != 0) {
+            throw new BusinessException(
+                    "Availability slot must be from the beginning of the hour until the beginning of the next hour!",
+                    "From: " + from, "To: " + to);
+        }
+    }
+
+    private void verifyCandidateAndInterviewersExist(String candidateName, List<String> interviewersNames) {
+        if (!candidateRepository.existsById(candidateName)) {
+            throw new BusinessException("Candidate does not exist!", candidateName);
+        }
+
+        Set<String> existingInterviewersNames = new HashSet<>(interviewerRepository.getExistingNames(
+                interviewersNames));
+        List<String> missingInterviewersNames = new ArrayList<>();
+
+        for (String interviewerName : interviewersNames) {
+            if (!existingInterviewersNames.contains(interviewerName)) {
+                missingInterviewersNames.add(interviewerName);
+            }
+        }
+
+        if (!missingInterviewersNames.isEmpty()) {
+            throw new BusinessException("Interviewer does not exist!", missingInterviewersNames.toArray(new String[0]));
+        }
+    }
+
+    private void verifyParticipantsAreAvailable(InterviewBookingModel interviewBooking) {
+        LocalDate day = interviewBooking.getDay();
+        DateRange bookedDateRange = new DateRange(day, day);
+        int bookedHourMask = DailyAvailability.toHourMask(interviewBooking.getFrom(), interviewBooking.getTo());
+
+        List<String> unavailableParticipantsNames = new ArrayList<>();
+
+        DailyAvailability candidateDailyAvailability = dailyAvailabilityLoader.getCandidateDailyAvailability(
+                interviewBooking.getCandidateName(), bookedDateRange);
+
+        if ((candidateDailyAvailability.getHourMask(day.toEpochDay()) & bookedHourMask) != bookedHourMask) {
+            unavailableParticipantsNames.add(interviewBooking.getCandidateName());
+        }
+
+        Map<String, DailyAvailability> interviewersDailyAvailabilityByName =
+                dailyAvailabilityLoader.getInterviewersDailyAvailabilityByName(
+                        interviewBooking.getInterviewersNames(), bookedDateRange);
+
+        for (String interviewerName : interviewBooking.getInterviewersNames()) {
+            DailyAvailability interviewerDailyAvailability = interviewersDailyAvailabilityByName.get(interviewerName);
+
+            if ((interviewerDailyAvailability.getHourMask(day.toEpochDay()) & bookedHourMask) != bookedHourMask) {
+                unavailableParticipantsNames.add(interviewerName);
+            }
+        }
+
+        if (!unavailableParticipantsNames.isEmpty()) {
+            throw new BusinessException("Slot is not available for all participants!",
+                                        unavailableParticipantsNames.toArray(new String[0]));
+        }
+    }
+
+    private static List<String> getParticipantsKeys(InterviewBookingModel interviewBooking) {
+        List<String> participantsKeys = new ArrayList<>();
+        participantsKeys.add(InterviewBookingLocks.candidateKey(interviewBooking.getCandidateName()));
+
+        for (String interviewerName : interviewBooking.getInterviewersNames()) {
+            participantsKeys.add(InterviewBookingLocks.interviewerKey(interviewerName));
+        }
+
+        return participantsKeys;
+    }
+}
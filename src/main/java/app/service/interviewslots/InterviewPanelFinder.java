@@ -0,0 +1,190 @@
+package app.service.interviewslots;
+
+import app.model.interviewslots.InterviewPanelModel;
+import app.model.utils.DailyAvailability;
+import app.model.utils.DateRange;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+@Component
+public class InterviewPanelFinder {
+    private final DailyAvailabilityLoader dailyAvailabilityLoader;
+
+    @Autowired
+    public InterviewPanelFinder(DailyAvailabilityLoader dailyAvailabilityLoader) {
+        this.dailyAvailabilityLoader = dailyAvailabilityLoader;
+    }
+
+    public List<InterviewPanelModel> getBestInterviewPanels(String candidateName,
+                                                            List<String> distinctInterviewersNames, int panelSize,
+                                                            int numberOfPanels, DateRange queryDateRange) {
+        DailyAvailability candidateDailyAvailability = dailyAvailabilityLoader.getCandidateDailyAvailability(
+                candidateName, queryDateRange);
+
+        if (candidateDailyAvailability.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, DailyAvailability> interviewersDailyAvailabilityByName =
+                dailyAvailabilityLoader.getInterviewersDailyAvailabilityByName(distinctInterviewersNames,
+                                                                               queryDateRange);
+
+        List<PanelMember> panelMembers = new ArrayList<>();
+
+        for (String interviewerName : distinctInterviewersNames) {
+            DailyAvailability overlapWithCandidate = candidateDailyAvailability.intersect(
+                    interviewersDailyAvailabilityByName.get(interviewerName));
+
+            if (!overlapWithCandidate.isEmpty()) {
+                panelMembers.add(new PanelMember(interviewerName, overlapWithCandidate));
+            }
+        }
+
+        panelMembers.sort(Comparator.comparingInt(PanelMember::getNumberOfHours).reversed());
+
+        PanelSearch panelSearch = new PanelSearch(panelMembers, panelSize, numberOfPanels);
+        panelSearch.search(0, candidateDailyAvailability, candidateDailyAvailability.getNumberOfHours());
+
+        return panelSearch.getBestInterviewPanels();
+    }
+
+    private static class PanelMember {
+        private final String interviewerName;
+        private final DailyAvailability overlapWithCandidate;
+        private final int numberOfHours;
+
+        private PanelMember(String interviewerName, DailyAvailability overlapWithCandidate) {
+            this.interviewerName = interviewerName;
+            this.overlapWithCandidate = overlapWithCandidate;
+            this.numberOfHours = overlapWithCandidate.getNumberOfHours();
+        }
+
+        private int getNumberOfHours() {
+            return numberOfHours;
+        }
+    }
+
+    private static class Panel {
+        private final List<String> interviewersNames;
+        private final DailyAvailability commonDailyAvailability;
+        private final int numberOfCommonHours;
+        private final long order;
+
+        private Panel(List<String> interviewersNames, DailyAvailability commonDailyAvailability,
+                      int numberOfCommonHours, long order) {
+            this.interviewersNames = interviewersNames;
+            this.commonDailyAvailability = commonDailyAvailability;
+            this.numberOfCommonHours = numberOfCommonHours;
+            this.order = order;
+        }
+
+        private int getNumberOfCommonHours() {
+            return numberOfCommonHours;
+        }
+
+        private long getOrder() {
+            return order;
+        }
+    }
+
+    private static class PanelSearch {
+        private static final Comparator<Panel> WORST_PANEL_FIRST =
+                Comparator.comparingInt(Panel::getNumberOfCommonHours)
+                          .thenComparing(Comparator.comparingLong(Panel::getOrder).reversed());
+
+        private final List<PanelMember> panelMembers;
+        private final int panelSize;
+        private final int numberOfPanels;
+        private final PriorityQueue<Panel> bestPanels = new PriorityQueue<>(WORST_PANEL_FIRST);
+        private final Deque<String> chosenInterviewersNames = new ArrayDeque<>();
+        private long numberOfPanelsFound = 0;
+
+        private PanelSearch(List<PanelMember> panelMembers, int panelSize, int numberOfPanels) {
+            this.panelMembers = panelMembers;
+            this.panelSize = panelSize;
+            this.numberOfPanels = numberOfPanels;
+        }
+
+        private void search(int nextMemberIndex, DailyAvailability commonDailyAvailability,
+                            int numberOfCommonHours) {
+            if (chosenInterviewersNames.size() == panelSize) {
+                addPanel(commonDailyAvailability, numberOfCommonHours);
+                return;
+            }
+
+            int lastMemberIndex = panelMembers.size() - (panelSize - chosenInterviewersNames.size());
+
+            for (int memberIndex = nextMemberIndex; memberIndex <= lastMemberIndex; memberIndex++) {
+                PanelMember panelMember = panelMembers.get(memberIndex);
+                int upperBound = Math.min(numberOfCommonHours, panelMember.getNumberOfHours());
+
+                if (!canImproveBestPanels(upperBound)) {
+                    break;
+                }
+
+                DailyAvailability nextCommonDailyAvailability = commonDailyAvailability.intersect(
+                        panelMember.overlapWithCandidate);
+                int nextNumberOfCommonHours = nextCommonDailyAvailability.getNumberOfHours();
+
+                if (nextNumberOfCommonHours == 0) {
+                    continue;
+                }
+
+                chosenInterviewersNames.addLast(panelMember.interviewerName);
+                search(memberIndex + 1, nextCommonDailyAvailability, nextNumberOfCommonHours);
+                chosenInterviewersNames.removeLast();
+            }
+        }
+
+        private boolean canImproveBestPanels(int upperBound) {
+            if (upperBound == 0) {
+                return false;
+            }
+
+            return bestPanels.size() < numberOfPanels || upperBound > bestPanels.peek().getNumberOfCommonHours();
+        }
+
+        private void addPanel(DailyAvailability commonDailyAvailability, int numberOfCommonHours) {
+            if (!canImproveBestPanels(numberOfCommonHours)) {
+                return;
+            }
+
+            if (bestPanels.size() == numberOfPanels) {
+                bestPanels.poll();
+            }
+
+            bestPanels.add(new Panel(new ArrayList<>(chosenInterviewersNames), commonDailyAvailability,
+                                     numberOfCommonHours, numberOfPanelsFound++));
+        }
+
+        private List<InterviewPanelModel> getBestInterviewPanels() {
+            List<Panel> rankedPanels = new ArrayList<>(bestPanels);
+            rankedPanels.sort(WORST_PANEL_FIRST.reversed());
+
+            List<InterviewPanelModel> interviewPanels = new ArrayList<>(rankedPanels.size());
+
+            for (Panel panel : rankedPanels) {
+                InterviewPanelModel interviewPanel =
+                        InterviewPanelModel.Builder.interviewPanelModelWith()
+                                                   .withInterviewersNames(panel.interviewersNames)
+                                                   .withNumberOfCommonHours(panel.numberOfCommonHours)
+                                                   .withInterviewAvailabilitySlotList(
+                                                           panel.commonDailyAvailability.toAvailabilitySlots())
+                                                   .build();
+
+                interviewPanels.add(interviewPanel);
+            }
+
+            return interviewPanels;
+        }
+    }
+}
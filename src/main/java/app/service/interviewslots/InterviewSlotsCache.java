@@ -0,0 +1,199 @@
+package app.service.interviewslots;
+
+import app.model.interviewslots.InterviewSlotsCacheStatisticsModel;
+import app.model.interviewslots.InterviewSlotsReturnModel;
+import app.model.utils.AvailabilitySlot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+public class InterviewSlotsCache {
+    private final long maximumWeight;
+    private final LinkedHashMap<InterviewSlotsCacheKey, CacheEntry> entriesByKey = new LinkedHashMap<>(16, 0.75f,
+                                                                                                        true);
+    private final Map<String, Set<InterviewSlotsCacheKey>> keysByCandidateName = new HashMap<>();
+    private final Map<String, Set<InterviewSlotsCacheKey>> keysByInterviewerName = new HashMap<>();
+
+    private long weight;
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    @Autowired
+    public InterviewSlotsCache(@Value("${interview-slots.cache.maximum-weight:10000}") long maximumWeight) {
+        this.maximumWeight = maximumWeight;
+    }
+
+    public synchronized InterviewSlotsReturnModel get(InterviewSlotsCacheKey cacheKey) {
+        CacheEntry cacheEntry = entriesByKey.get(cacheKey);
+
+        if (cacheEntry == null) {
+            misses++;
+
+            return null;
+        }
+
+        hits++;
+
+        return cacheEntry.interviewSlotsReturnModel;
+    }
+
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    public synchronized void put(InterviewSlotsCacheKey cacheKey, InterviewSlotsReturnModel interviewSlotsReturnModel,
+                                 long loadedAtGeneration) {
+        if (loadedAtGeneration != generation) {
+            return;
+        }
+
+        long entryWeight = getWeight(interviewSlotsReturnModel);
+
+        if (entryWeight > maximumWeight) {
+            return;
+        }
+
+        removeEntry(cacheKey);
+
+        entriesByKey.put(cacheKey, new CacheEntry(interviewSlotsReturnModel, entryWeight));
+        weight += entryWeight;
+        keysByCandidateName.computeIfAbsent(cacheKey.getCandidateName(), name -> new HashSet<>()).add(cacheKey);
+
+        for (String interviewerName : cacheKey.getSortedInterviewersNames()) {
+            keysByInterviewerName.computeIfAbsent(interviewerName, name -> new HashSet<>()).add(cacheKey);
+        }
+
+        evictWhileOverweight();
+    }
+
+    public void invalidateCandidate(String candidateName) {
+        invalidate(keysByCandidateName, candidateName);
+        afterCommit(() -> invalidate(keysByCandidateName, candidateName));
+    }
+
+    public void invalidateInterviewer(String interviewerName) {
+        invalidate(keysByInterviewerName, interviewerName);
+        afterCommit(() -> invalidate(keysByInterviewerName, interviewerName));
+    }
+
+    public synchronized InterviewSlotsCacheStatisticsModel getStatistics() {
+        return InterviewSlotsCacheStatisticsModel.Builder.interviewSlotsCacheStatisticsModelWith()
+                                                         .withHits(hits)
+                                                         .withMisses(misses)
+                                                         .withEvictions(evictions)
+                                                         .withInvalidations(invalidations)
+                                                         .withNumberOfEntries(entriesByKey.size())
+                                                         .withWeight(weight)
+                                                         .withMaximumWeight(maximumWeight)
+                                                         .build();
+    }
+
+    private synchronized void invalidate(Map<String, Set<InterviewSlotsCacheKey>> keysByName, String name) {
+        generation++;
+
+        Set<InterviewSlotsCacheKey> invalidatedKeys = keysByName.get(name);
+
+        if (invalidatedKeys == null) {
+            return;
+        }
+
+        for (InterviewSlotsCacheKey invalidatedKey : new HashSet<>(invalidatedKeys)) {
+            if (removeEntry(invalidatedKey)) {
+                invalidations++;
+            }
+        }
+    }
+
+    private void afterCommit(Runnable invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                invalidation.run();
+            }
+        });
+    }
+
+    private void evictWhileOverweight() {
+        Iterator<Map.Entry<InterviewSlotsCacheKey, CacheEntry>> eldestEntries = entriesByKey.entrySet().iterator();
+
+        while (weight > maximumWeight && eldestEntries.hasNext()) {
+            Map.Entry<InterviewSlotsCacheKey, CacheEntry> eldestEntry = eldestEntries.next();
+
+            eldestEntries.remove();
+            weight -= eldestEntry.getValue().weight;
+            removeFromIndexes(eldestEntry.getKey());
+            evictions++;
+        }
+    }
+
+    private boolean removeEntry(InterviewSlotsCacheKey cacheKey) {
+        CacheEntry removedEntry = entriesByKey.remove(cacheKey);
+
+        if (removedEntry == null) {
+            return false;
+        }
+
+        weight -= removedEntry.weight;
+        removeFromIndexes(cacheKey);
+
+        return true;
+    }
+
+    private void removeFromIndexes(InterviewSlotsCacheKey cacheKey) {
+        removeFromIndex(keysByCandidateName, cacheKey.getCandidateName(), cacheKey);
+
+        for (String interviewerName : cacheKey.getSortedInterviewersNames()) {
+            removeFromIndex(keysByInterviewerName, interviewerName, cacheKey);
+        }
+    }
+
+    private void removeFromIndex(Map<String, Set<InterviewSlotsCacheKey>> keysByName, String name,
+                                 InterviewSlotsCacheKey cacheKey) {
+        Set<InterviewSlotsCacheKey> keys = keysByName.get(name);
+
+        if (keys != null && keys.remove(cacheKey) && keys.isEmpty()) {
+            keysByName.remove(name);
+        }
+    }
+
+    private long getWeight(InterviewSlotsReturnModel interviewSlotsReturnModel) {
+        long entryWeight = 1;
+
+        for (AvailabilitySlot availabilitySlot : interviewSlotsReturnModel.getInterviewAvailabilitySlotList()) {
+            entryWeight += availabilitySlot.getTimeSlotList().size();
+        }
+
+        if (interviewSlotsReturnModel.getQuorumAvailabilitySlotList() != null) {
+            entryWeight += interviewSlotsReturnModel.getQuorumAvailabilitySlotList().size();
+        }
+
+        return entryWeight;
+    }
+
+    private static class CacheEntry {
+        private final InterviewSlotsReturnModel interviewSlotsReturnModel;
+        private final long weight;
+
+        private CacheEntry(InterviewSlotsReturnModel interviewSlotsReturnModel, long weight) {
+            this.interviewSlotsReturnModel = interviewSlotsReturnModel;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package app.service.interviewslots;
+
+import app.model.interviewslots.InterviewSlotsQueryModel;
+import app.model.utils.DateRange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+
+public class InterviewSlotsCacheKey {
+    private final String candidateName;
+    private final List<String> sortedInterviewersNames;
+    private final DateRange queryDateRange;
+    private final Integer durationInHours;
+    private final boolean slidingWindows;
+    private final Integer quorum;
+    private final Integer limit;
+
+    private InterviewSlotsCacheKey(InterviewSlotsQueryModel interviewSlotsQueryModel, DateRange queryDateRange) {
+        this.candidateName = interviewSlotsQueryModel.getCandidateName();
+        this.sortedInterviewersNames = new ArrayList<>(new TreeSet<>(interviewSlotsQueryModel.getInterviewersNames()));
+        this.queryDateRange = queryDateRange;
+        this.durationInHours = interviewSlotsQueryModel.getDurationInHours();
+        this.slidingWindows = Boolean.TRUE.equals(interviewSlotsQueryModel.getSlidingWindows());
+        this.quorum = interviewSlotsQueryModel.getQuorum();
+        this.limit = interviewSlotsQueryModel.getLimit();
+    }
+
+    public static InterviewSlotsCacheKey of(InterviewSlotsQueryModel interviewSlotsQueryModel,
+                                            DateRange queryDateRange) {
+        return new InterviewSlotsCacheKey(interviewSlotsQueryModel, queryDateRange);
+    }
+
+    public String getCandidateName() {
+        return candidateName;
+    }
+
+    public List<String> getSortedInterviewersNames() {
+        return sortedInterviewersNames;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+
+        InterviewSlotsCacheKey cacheKey = (InterviewSlotsCacheKey) other;
+
+        return slidingWindows == cacheKey.slidingWindows && Objects.equals(candidateName, cacheKey.candidateName)
+               && Objects.equals(sortedInterviewersNames, cacheKey.sortedInterviewersNames)
+               && Objects.equals(queryDateRange, cacheKey.queryDateRange)
+               && Objects.equals(durationInHours, cacheKey.durationInHours)
+               && Objects.equals(quorum, cacheKey.quorum) && Objects.equals(limit, cacheKey.limit);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(candidateName, sortedInterviewersNames, queryDateRange, durationInHours, slidingWindows,
+                            quorum, limit);
+    }
+}
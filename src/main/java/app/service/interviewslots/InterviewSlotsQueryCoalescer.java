@@ -0,0 +1,63 @@
+package app.service.interviewslots;
+
+import app.model.interviewslots.InterviewSlotsReturnModel;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+@Component
+public class InterviewSlotsQueryCoalescer {
+    private final ConcurrentMap<InterviewSlotsCacheKey, CompletableFuture<InterviewSlotsReturnModel>>
+            inFlightQueriesByKey = new ConcurrentHashMap<>();
+
+    public InterviewSlotsReturnModel coalesce(InterviewSlotsCacheKey queryKey,
+                                              Supplier<InterviewSlotsReturnModel> interviewSlotsLoader) {
+        CompletableFuture<InterviewSlotsReturnModel> ownQuery = new CompletableFuture<>();
+        CompletableFuture<InterviewSlotsReturnModel> inFlightQuery = inFlightQueriesByKey.putIfAbsent(queryKey,
+                                                                                                      ownQuery);
+
+        if (inFlightQuery != null) {
+            return awaitResult(inFlightQuery);
+        }
+
+        try {
+            InterviewSlotsReturnModel interviewSlotsReturnModel = interviewSlotsLoader.get();
+
+            ownQuery.complete(interviewSlotsReturnModel);
+
+            return interviewSlotsReturnModel;
+        } catch (RuntimeException | Error exception) {
+            ownQuery.completeExceptionally(exception);
+
+            throw exception;
+        } finally {
+            inFlightQueriesByKey.remove(queryKey, ownQuery);
+        }
+    }
+
+    public int getNumberOfInFlightQueries() {
+        return inFlightQueriesByKey.size();
+    }
+
+    private InterviewSlotsReturnModel awaitResult(CompletableFuture<InterviewSlotsReturnModel> inFlightQuery) {
+        try {
+            return inFlightQuery.join();
+        } catch (CompletionException completionException) {
+            Throwable cause = completionException.getCause();
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw completionException;
+        }
+    }
+}
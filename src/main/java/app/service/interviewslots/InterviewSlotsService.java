@@ -1,8 +1,24 @@
 package app.service.interviewslots;
 
+import app.model.interviewslots.InterviewPanelsQueryModel;
+import app.model.interviewslots.InterviewPanelsReturnModel;
+import app.model.interviewslots.InterviewSlotsBatchQueryModel;
+import app.model.interviewslots.InterviewSlotsCacheStatisticsModel;
+import app.model.interviewslots.InterviewSlotsExpressionQueryModel;
 import app.model.interviewslots.InterviewSlotsQueryModel;
 import app.model.interviewslots.InterviewSlotsReturnModel;
 
+import java.util.List;
+
 public interface InterviewSlotsService {
     InterviewSlotsReturnModel getInterviewSlots(InterviewSlotsQueryModel interviewSlotsQueryModel);
+
+    List<InterviewSlotsReturnModel> getBatchInterviewSlots(InterviewSlotsBatchQueryModel interviewSlotsBatchQueryModel);
+
+    InterviewSlotsReturnModel getExpressionInterviewSlots(
+            InterviewSlotsExpressionQueryModel interviewSlotsExpressionQueryModel);
+
+    InterviewPanelsReturnModel getInterviewPanels(InterviewPanelsQueryModel interviewPanelsQueryModel);
+
+    InterviewSlotsCacheStatisticsModel getCacheStatistics();
 }
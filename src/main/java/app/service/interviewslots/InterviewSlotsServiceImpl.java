@@ -1,14 +1,21 @@
 package app.service.interviewslots;
 
 import app.exception.BusinessException;
-import app.model.candidate.CandidateAvailabilityModel;
 import app.model.candidate.CandidateModel;
-import app.model.interviewer.InterviewerAvailabilityModel;
-import app.model.interviewer.InterviewerModel;
+import app.model.interviewslots.AvailabilityExpression;
+import app.model.interviewslots.InterviewPanelModel;
+import app.model.interviewslots.InterviewPanelsQueryModel;
+import app.model.interviewslots.InterviewPanelsReturnModel;
+import app.model.interviewslots.InterviewSlotsBatchQueryModel;
+import app.model.interviewslots.InterviewSlotsCacheStatisticsModel;
+import app.model.interviewslots.InterviewSlotsExpressionQueryModel;
 import app.model.interviewslots.InterviewSlotsQueryModel;
 import app.model.interviewslots.InterviewSlotsReturnModel;
+import app.model.interviewslots.QuorumAvailabilitySlot;
 import app.model.utils.AvailabilitySlot;
-import app.model.utils.TimeSlot;
+import app.model.utils.DailyAvailability;
+import app.model.utils.DateRange;
+import app.model.utils.SlotCounter;
 import app.repository.candidate.CandidateAvailabilityRepository;
 import app.repository.candidate.CandidateRepository;
 import app.repository.interviewer.InterviewerAvailabilityRepository;
@@ -17,34 +24,106 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class InterviewSlotsServiceImpl implements InterviewSlotsService {
+    private static final int DEFAULT_NUMBER_OF_PANELS = 5;
+
     private final CandidateRepository candidateRepository;
     private final CandidateAvailabilityRepository candidateAvailabilityRepository;
     private final InterviewerRepository interviewerRepository;
     private final InterviewerAvailabilityRepository interviewerAvailabilityRepository;
+    private final CommonAvailabilityFinder commonAvailabilityFinder;
+    private final QuorumAvailabilityFinder quorumAvailabilityFinder;
+    private final InterviewPanelFinder interviewPanelFinder;
+    private final DailyAvailabilityLoader dailyAvailabilityLoader;
+    private final InterviewSlotsCache interviewSlotsCache;
+    private final InterviewSlotsQueryCoalescer interviewSlotsQueryCoalescer;
 
     @Autowired
     public InterviewSlotsServiceImpl(CandidateRepository candidateRepository,
                                      CandidateAvailabilityRepository candidateAvailabilityRepository,
                                      InterviewerRepository interviewerRepository,
-                                     InterviewerAvailabilityRepository interviewerAvailabilityRepository) {
+                                     InterviewerAvailabilityRepository interviewerAvailabilityRepository,
+                                     CommonAvailabilityFinder commonAvailabilityFinder,
+                                     QuorumAvailabilityFinder quorumAvailabilityFinder,
+                                     InterviewPanelFinder interviewPanelFinder,
+                                     DailyAvailabilityLoader dailyAvailabilityLoader,
+                                     InterviewSlotsCache interviewSlotsCache,
+                                     InterviewSlotsQueryCoalescer interviewSlotsQueryCoalescer) {
         this.candidateRepository = candidateRepository;
         this.candidateAvailabilityRepository = candidateAvailabilityRepository;
         this.interviewerRepository = interviewerRepository;
         this.interviewerAvailabilityRepository = interviewerAvailabilityRepository;
+        this.commonAvailabilityFinder = commonAvailabilityFinder;
+        this.quorumAvailabilityFinder = quorumAvailabilityFinder;
+        this.interviewPanelFinder = interviewPanelFinder;
+        this.dailyAvailabilityLoader = dailyAvailabilityLoader;
+        this.interviewSlotsCache = interviewSlotsCache;
+        this.interviewSlotsQueryCoalescer = interviewSlotsQueryCoalescer;
     }
 
     @Override
     public InterviewSlotsReturnModel getInterviewSlots(InterviewSlotsQueryModel interviewSlotsQueryModel) {
+        DateRange queryDateRange = getQueryDateRange(interviewSlotsQueryModel.getFromDate(),
+                                                     interviewSlotsQueryModel.getToDate(),
+                                                     interviewSlotsQueryModel.getNextDays());
+        verifyDuration(interviewSlotsQueryModel.getDurationInHours(), interviewSlotsQueryModel.getSlidingWindows());
+        verifyQuorum(interviewSlotsQueryModel);
+        verifyLimit(interviewSlotsQueryModel.getLimit());
+
+        InterviewSlotsCacheKey cacheKey = InterviewSlotsCacheKey.of(interviewSlotsQueryModel, queryDateRange);
+        InterviewSlotsReturnModel cachedInterviewSlotsReturnModel = interviewSlotsCache.get(cacheKey);
+
+        if (cachedInterviewSlotsReturnModel != null) {
+            return withInterviewersNames(cachedInterviewSlotsReturnModel,
+                                         interviewSlotsQueryModel.getInterviewersNames());
+        }
+
+        InterviewSlotsReturnModel interviewSlotsReturnModel = interviewSlotsQueryCoalescer.coalesce(
+                cacheKey, () -> loadAndCacheInterviewSlots(interviewSlotsQueryModel, queryDateRange, cacheKey));
+
+        return withInterviewersNames(interviewSlotsReturnModel, interviewSlotsQueryModel.getInterviewersNames());
+    }
+
+    @Override
+    public InterviewSlotsCacheStatisticsModel getCacheStatistics() {
+        return interviewSlotsCache.getStatistics();
+    }
+
+    private InterviewSlotsReturnModel loadAndCacheInterviewSlots(InterviewSlotsQueryModel interviewSlotsQueryModel,
+                                                                 DateRange queryDateRange,
+                                                                 InterviewSlotsCacheKey cacheKey) {
+        long cacheGeneration = interviewSlotsCache.getGeneration();
+        InterviewSlotsReturnModel interviewSlotsReturnModel = loadInterviewSlots(interviewSlotsQueryModel,
+                                                                                 queryDateRange);
+
+        interviewSlotsCache.put(cacheKey, interviewSlotsReturnModel, cacheGeneration);
+
+        return interviewSlotsReturnModel;
+    }
+
+    private InterviewSlotsReturnModel loadInterviewSlots(InterviewSlotsQueryModel interviewSlotsQueryModel,
+                                                         DateRange queryDateRange) {
         verifyCandidateAndInterviewersExist(interviewSlotsQueryModel);
 
+        if (interviewSlotsQueryModel.getQuorum() != null) {
+            return getQuorumInterviewSlots(interviewSlotsQueryModel, queryDateRange);
+        }
+
         String candidateName = interviewSlotsQueryModel.getCandidateName();
         List<String> interviewersNames = interviewSlotsQueryModel.getInterviewersNames();
-        List<AvailabilitySlot> interviewAvailabilitySlots = getInterviewAvailabilitySlots(interviewSlotsQueryModel);
+        List<AvailabilitySlot> interviewAvailabilitySlots = getInterviewAvailabilitySlots(interviewSlotsQueryModel,
+                                                                                          queryDateRange);
 
         InterviewSlotsReturnModel interviewSlotsReturnModel =
                 InterviewSlotsReturnModel.Builder.interviewSlotsReturnModelWith()
@@ -56,6 +135,197 @@ public class InterviewSlotsServiceImpl implements InterviewSlotsService {
         return interviewSlotsReturnModel;
     }
 
+    private InterviewSlotsReturnModel withInterviewersNames(InterviewSlotsReturnModel interviewSlotsReturnModel,
+                                                            List<String> interviewersNames) {
+        return InterviewSlotsReturnModel.Builder.interviewSlotsReturnModelWith()
+                                                .withCandidateName(interviewSlotsReturnModel.getCandidateName())
+                                                .withInterviewerNameList(interviewersNames)
+                                                .withInterviewAvailabilitySlotList(
+                                                        interviewSlotsReturnModel.getInterviewAvailabilitySlotList())
+                                                .withQuorumAvailabilitySlotList(
+                                                        interviewSlotsReturnModel.getQuorumAvailabilitySlotList())
+                                                .build();
+    }
+
+    @Override
+    public List<InterviewSlotsReturnModel> getBatchInterviewSlots(
+            InterviewSlotsBatchQueryModel interviewSlotsBatchQueryModel) {
+        DateRange queryDateRange = getQueryDateRange(interviewSlotsBatchQueryModel.getFromDate(),
+                                                     interviewSlotsBatchQueryModel.getToDate(),
+                                                     interviewSlotsBatchQueryModel.getNextDays());
+        Integer durationInHours = interviewSlotsBatchQueryModel.getDurationInHours();
+        Boolean slidingWindows = interviewSlotsBatchQueryModel.getSlidingWindows();
+        verifyDuration(durationInHours, slidingWindows);
+
+        List<String> candidatesNames = getDistinctNames(interviewSlotsBatchQueryModel.getCandidatesNames());
+        List<String> interviewersNames = interviewSlotsBatchQueryModel.getInterviewersNames();
+
+        verifyCandidatesExist(candidatesNames);
+        verifyInterviewersExist(interviewersNames);
+        verifyCandidatesHaveAvailability(candidatesNames);
+        verifyInterviewersHaveAvailability(interviewersNames);
+
+        Map<String, DailyAvailability> candidatesDailyAvailabilityByName =
+                dailyAvailabilityLoader.getCandidatesDailyAvailabilityByName(candidatesNames, queryDateRange);
+        Optional<DailyAvailability> interviewersCommonDailyAvailability = interviewersNames.isEmpty()
+                ? Optional.empty()
+                : Optional.of(commonAvailabilityFinder.getInterviewersCommonDailyAvailability(interviewersNames,
+                                                                                              queryDateRange));
+
+        return candidatesNames.parallelStream().map(candidateName -> {
+            DailyAvailability commonDailyAvailability = candidatesDailyAvailabilityByName.get(candidateName);
+
+            if (interviewersCommonDailyAvailability.isPresent()) {
+                commonDailyAvailability = commonDailyAvailability.intersect(interviewersCommonDailyAvailability.get());
+            }
+
+            return InterviewSlotsReturnModel.Builder.interviewSlotsReturnModelWith()
+                                                    .withCandidateName(candidateName)
+                                                    .withInterviewerNameList(interviewersNames)
+                                                    .withInterviewAvailabilitySlotList(toInterviewAvailabilitySlots(
+                                                            commonDailyAvailability, durationInHours, slidingWindows))
+                                                    .build();
+        }).collect(Collectors.toList());
+    }
+
+    @Override
+    public InterviewSlotsReturnModel getExpressionInterviewSlots(
+            InterviewSlotsExpressionQueryModel interviewSlotsExpressionQueryModel) {
+        DateRange queryDateRange = getQueryDateRange(interviewSlotsExpressionQueryModel.getFromDate(),
+                                                     interviewSlotsExpressionQueryModel.getToDate(),
+                                                     interviewSlotsExpressionQueryModel.getNextDays());
+        Integer durationInHours = interviewSlotsExpressionQueryModel.getDurationInHours();
+        Boolean slidingWindows = interviewSlotsExpressionQueryModel.getSlidingWindows();
+        verifyDuration(durationInHours, slidingWindows);
+
+        String candidateName = interviewSlotsExpressionQueryModel.getCandidateName();
+        AvailabilityExpression interviewersExpression = interviewSlotsExpressionQueryModel.getInterviewersExpression();
+        List<String> interviewersNames = getInterviewersNames(interviewersExpression);
+
+        verifyCandidateExists(candidateName);
+        verifyInterviewersExist(interviewersNames);
+        verifyCandidateHasAvailability(candidateName);
+        verifyInterviewersHaveAvailability(interviewersNames);
+
+        DailyAvailability candidateDailyAvailability = dailyAvailabilityLoader.getCandidateDailyAvailability(
+                candidateName, queryDateRange);
+        Map<String, DailyAvailability> interviewersDailyAvailabilityByName =
+                dailyAvailabilityLoader.getInterviewersDailyAvailabilityByName(interviewersNames, queryDateRange);
+
+        DailyAvailability commonDailyAvailability = interviewersExpression.evaluate(
+                candidateDailyAvailability, interviewersDailyAvailabilityByName);
+
+        InterviewSlotsReturnModel interviewSlotsReturnModel =
+                InterviewSlotsReturnModel.Builder.interviewSlotsReturnModelWith()
+                                                 .withCandidateName(candidateName)
+                                                 .withInterviewerNameList(interviewersNames)
+                                                 .withInterviewAvailabilitySlotList(toInterviewAvailabilitySlots(
+                                                         commonDailyAvailability, durationInHours, slidingWindows))
+                                                 .build();
+
+        return interviewSlotsReturnModel;
+    }
+
+    private List<String> getInterviewersNames(AvailabilityExpression interviewersExpression) {
+        if (interviewersExpression == null) {
+            throw new BusinessException("Availability expression must have operands!",
+                                        "Expression: " + interviewersExpression);
+        }
+
+        Set<String> interviewersNames = new LinkedHashSet<>();
+        interviewersExpression.collectInterviewersNames(interviewersNames);
+
+        return new ArrayList<>(interviewersNames);
+    }
+
+    @Override
+    public InterviewPanelsReturnModel getInterviewPanels(InterviewPanelsQueryModel interviewPanelsQueryModel) {
+        DateRange queryDateRange = getQueryDateRange(interviewPanelsQueryModel.getFromDate(),
+                                                     interviewPanelsQueryModel.getToDate(),
+                                                     interviewPanelsQueryModel.getNextDays());
+
+        String candidateName = interviewPanelsQueryModel.getCandidateName();
+        List<String> interviewersNames = getDistinctNames(interviewPanelsQueryModel.getInterviewersNames());
+        Integer panelSize = interviewPanelsQueryModel.getPanelSize();
+        int numberOfPanels = getNumberOfPanels(interviewPanelsQueryModel.getNumberOfPanels());
+
+        verifyPanelSize(panelSize, interviewersNames.size());
+        verifyCandidateExists(candidateName);
+        verifyInterviewersExist(interviewersNames);
+        verifyCandidateHasAvailability(candidateName);
+
+        List<InterviewPanelModel> interviewPanels = interviewPanelFinder.getBestInterviewPanels(
+                candidateName, interviewersNames, panelSize, numberOfPanels, queryDateRange);
+
+        InterviewPanelsReturnModel interviewPanelsReturnModel =
+                InterviewPanelsReturnModel.Builder.interviewPanelsReturnModelWith()
+                                                  .withCandidateName(candidateName)
+                                                  .withPanelSize(panelSize)
+                                                  .withInterviewPanelList(interviewPanels)
+                                                  .build();
+
+        return interviewPanelsReturnModel;
+    }
+
+    private void verifyPanelSize(Integer panelSize, int numberOfInterviewers) {
+        if (panelSize == null || panelSize <= 0 || panelSize > numberOfInterviewers) {
+            throw new BusinessException("Panel size must be between 1 and the number of interviewers!",
+                                        "Panel size: " + panelSize, "Interviewers: " + numberOfInterviewers);
+        }
+    }
+
+    private int getNumberOfPanels(Integer numberOfPanels) {
+        if (numberOfPanels == null) {
+            return DEFAULT_NUMBER_OF_PANELS;
+        }
+
+        if (numberOfPanels <= 0) {
+            throw new BusinessException("Number of panels must be positive!", "Number of panels: " + numberOfPanels);
+        }
+
+        return numberOfPanels;
+    }
+
+    private InterviewSlotsReturnModel getQuorumInterviewSlots(InterviewSlotsQueryModel interviewSlotsQueryModel,
+                                                              DateRange queryDateRange) {
+        String candidateName = interviewSlotsQueryModel.getCandidateName();
+        verifyCandidateHasAvailability(candidateName);
+
+        List<String> interviewersNames = interviewSlotsQueryModel.getInterviewersNames();
+        List<QuorumAvailabilitySlot> quorumAvailabilitySlots = quorumAvailabilityFinder.getQuorumAvailabilitySlots(
+                candidateName, getDistinctNames(interviewersNames), interviewSlotsQueryModel.getQuorum(),
+                queryDateRange);
+
+        InterviewSlotsReturnModel interviewSlotsReturnModel =
+                InterviewSlotsReturnModel.Builder.interviewSlotsReturnModelWith()
+                                                 .withCandidateName(candidateName)
+                                                 .withInterviewerNameList(interviewersNames)
+                                                 .withInterviewAvailabilitySlotList(
+                                                         toInterviewAvailabilitySlots(quorumAvailabilitySlots))
+                                                 .withQuorumAvailabilitySlotList(quorumAvailabilitySlots)
+                                                 .build();
+
+        return interviewSlotsReturnModel;
+    }
+
+    private List<AvailabilitySlot> toInterviewAvailabilitySlots(List<QuorumAvailabilitySlot> quorumAvailabilitySlots) {
+        List<AvailabilitySlot> quorumHours = new ArrayList<>(quorumAvailabilitySlots.size());
+
+        for (QuorumAvailabilitySlot quorumAvailabilitySlot : quorumAvailabilitySlots) {
+            quorumHours.add(AvailabilitySlot.Builder.availabilitySlotWith()
+                                                    .withDay(quorumAvailabilitySlot.getDay())
+                                                    .withTimeSlotList(Collections.singletonList(
+                                                            quorumAvailabilitySlot.getTimeSlot()))
+                                                    .build());
+        }
+
+        return DailyAvailability.fromAvailabilitySlots(quorumHours).toAvailabilitySlots();
+    }
+
+    private List<String> getDistinctNames(List<String> names) {
+        return new ArrayList<>(new LinkedHashSet<>(names));
+    }
+
     private void verifyCandidateAndInterviewersExist(InterviewSlotsQueryModel interviewSlotsQueryModel) {
         String candidateName = interviewSlotsQueryModel.getCandidateName();
         List<String> interviewersNames = interviewSlotsQueryModel.getInterviewersNames();
@@ -72,209 +342,170 @@ public class InterviewSlotsServiceImpl implements InterviewSlotsService {
         }
     }
 
-    private void verifyInterviewersExist(List<String> interviewersNames) {
-        for (String interviewerName : interviewersNames) {
-            Optional<InterviewerModel> existingInterviewer = interviewerRepository.findById(interviewerName);
+    private void verifyCandidatesExist(List<String> candidatesNames) {
+        Set<String> existingCandidatesNames = new HashSet<>(candidateRepository.getExistingNames(candidatesNames));
 
-            if (existingInterviewer.isEmpty()) {
-                throw new BusinessException("Interviewer does not exist!", interviewerName);
+        for (String candidateName : candidatesNames) {
+            if (!existingCandidatesNames.contains(candidateName)) {
+                throw new BusinessException("Candidate does not exist!", candidateName);
             }
         }
     }
 
-    private List<AvailabilitySlot> getInterviewAvailabilitySlots(InterviewSlotsQueryModel interviewSlotsQueryModel) {
-        String candidateName = interviewSlotsQueryModel.getCandidateName();
-        CandidateAvailabilityModel candidateAvailability = getCandidateAvailability(candidateName);
-
-        List<String> interviewersNames = interviewSlotsQueryModel.getInterviewersNames();
-        List<InterviewerAvailabilityModel> interviewersAvailabilities = new ArrayList<>();
+    private void verifyInterviewersExist(List<String> interviewersNames) {
+        Set<String> existingInterviewersNames = new HashSet<>(interviewerRepository.getExistingNames(
+                interviewersNames));
 
         for (String interviewerName : interviewersNames) {
-            InterviewerAvailabilityModel interviewerAvailability = getInterviewerAvailability(interviewerName);
-
-            interviewersAvailabilities.add(interviewerAvailability);
+            if (!existingInterviewersNames.contains(interviewerName)) {
+                throw new BusinessException("Interviewer does not exist!", interviewerName);
+            }
         }
+    }
 
-        Set<LocalDate> candidateAndInterviewersAvailabilitiesCommonDays =
-                getCandidateAndInterviewersAvailabilitiesCommonDays(
-                        candidateAvailability,
-                        interviewersAvailabilities);
-
-        List<AvailabilitySlot> interviewAvailabilitySlots = getCommonAvailabilitySlots(
-                candidateAndInterviewersAvailabilitiesCommonDays,
-                candidateAvailability,
-                interviewersAvailabilities);
+    private DateRange getQueryDateRange(LocalDate fromDate, LocalDate toDate, Integer nextDays) {
+        if (nextDays != null) {
+            if (fromDate != null || toDate != null) {
+                throw new BusinessException("Query must have either a date range or a number of next days!",
+                                            "From: " + fromDate, "To: " + toDate, "Next days: " + nextDays);
+            }
 
-        return interviewAvailabilitySlots;
-    }
+            if (nextDays <= 0) {
+                throw new BusinessException("Number of next days must be positive!", "Next days: " + nextDays);
+            }
 
+            LocalDate today = LocalDate.now();
 
-    private CandidateAvailabilityModel getCandidateAvailability(String candidateName) {
-        CandidateAvailabilityModel candidateAvailability =
-                candidateAvailabilityRepository.getCandidateAvailabilityByCandidateName(candidateName);
+            return new DateRange(today, today.plusDays(nextDays - 1));
+        }
 
-        if (candidateAvailability == null) {
-            throw new BusinessException("Candidate has no availability defined!", candidateName);
+        if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+            throw new BusinessException("Start day of query must not be after end day of query!",
+                                        "From: " + fromDate, "To: " + toDate);
         }
 
-        return candidateAvailability;
+        return new DateRange(fromDate, toDate);
     }
 
-    private InterviewerAvailabilityModel getInterviewerAvailability(String interviewerName) {
-        InterviewerAvailabilityModel interviewerAvailability = interviewerAvailabilityRepository
-                .getInterviewerAvailabilityByInterviewerName(interviewerName);
+    private void verifyDuration(Integer durationInHours, Boolean slidingWindows) {
+        if (durationInHours == null) {
+            if (Boolean.TRUE.equals(slidingWindows)) {
+                throw new BusinessException("Sliding windows require a duration!",
+                                            "Sliding windows: " + slidingWindows);
+            }
 
-        if (interviewerAvailability == null) {
-            throw new BusinessException("Interviewer has no availability defined!", interviewerName);
+            return;
         }
 
-        return interviewerAvailability;
+        if (durationInHours <= 0 || durationInHours > DailyAvailability.HOURS_PER_DAY) {
+            throw new BusinessException("Duration must be between 1 and 24 hours!", "Duration: " + durationInHours);
+        }
     }
 
-    private Set<LocalDate> getCandidateAndInterviewersAvailabilitiesCommonDays(
-            CandidateAvailabilityModel candidateAvailability,
-            List<InterviewerAvailabilityModel> interviewersAvailabilities) {
-        List<AvailabilitySlot> candidateAvailabilitySlots = candidateAvailability.getAvailabilitySlotList();
+    private void verifyQuorum(InterviewSlotsQueryModel interviewSlotsQueryModel) {
+        Integer quorum = interviewSlotsQueryModel.getQuorum();
 
-        Set<LocalDate> candidateAndInterviewersAvailabilitiesCommonDays = new HashSet<>();
+        if (quorum == null) {
+            return;
+        }
 
-        for (AvailabilitySlot candidateAvailabilitySlot : candidateAvailabilitySlots) {
-            LocalDate candidateAvailabilityDay = candidateAvailabilitySlot.getDay();
+        if (interviewSlotsQueryModel.getDurationInHours() != null) {
+            throw new BusinessException("Quorum cannot be combined with a duration!", "Quorum: " + quorum,
+                                        "Duration: " + interviewSlotsQueryModel.getDurationInHours());
+        }
 
-            for (InterviewerAvailabilityModel interviewerAvailability : interviewersAvailabilities) {
-                List<AvailabilitySlot> interviewerAvailabilitySlots = interviewerAvailability.getAvailabilitySlotList();
+        if (interviewSlotsQueryModel.getLimit() != null) {
+            throw new BusinessException("Quorum cannot be combined with a limit!", "Quorum: " + quorum,
+                                        "Limit: " + interviewSlotsQueryModel.getLimit());
+        }
 
-                for (AvailabilitySlot interviewerAvailabilitySlot : interviewerAvailabilitySlots) {
-                    LocalDate interviewerAvailabilityDay = interviewerAvailabilitySlot.getDay();
+        List<String> interviewersNames = interviewSlotsQueryModel.getInterviewersNames();
+        int numberOfInterviewers = getDistinctNames(interviewersNames).size();
 
-                    if (candidateAvailabilityDay.compareTo(interviewerAvailabilityDay) == 0) {
-                        candidateAndInterviewersAvailabilitiesCommonDays.add(candidateAvailabilityDay);
-                    }
-                }
-            }
+        if (quorum <= 0 || quorum > numberOfInterviewers) {
+            throw new BusinessException("Quorum must be between 1 and the number of interviewers!",
+                                        "Quorum: " + quorum, "Interviewers: " + numberOfInterviewers);
         }
+    }
 
-        return candidateAndInterviewersAvailabilitiesCommonDays;
+    private void verifyLimit(Integer limit) {
+        if (limit != null && limit <= 0) {
+            throw new BusinessException("Limit must be positive!", "Limit: " + limit);
+        }
     }
 
-    private List<AvailabilitySlot> getCommonAvailabilitySlots(Set<LocalDate> commonDays,
-                                                              CandidateAvailabilityModel candidateAvailability,
-                                                              List<InterviewerAvailabilityModel> interviewersAvailabilities) {
-        List<AvailabilitySlot> candidateAvailabilitySlots = candidateAvailability.getAvailabilitySlotList();
-        List<AvailabilitySlot> interviewAvailabilitySlots = getAvailabilitySlotsOfCommonDays(commonDays,
-                                                                                             candidateAvailabilitySlots);
+    private List<AvailabilitySlot> getInterviewAvailabilitySlots(InterviewSlotsQueryModel interviewSlotsQueryModel,
+                                                                 DateRange queryDateRange) {
+        String candidateName = interviewSlotsQueryModel.getCandidateName();
+        verifyCandidateHasAvailability(candidateName);
 
-        for (InterviewerAvailabilityModel interviewerAvailability : interviewersAvailabilities) {
-            List<AvailabilitySlot> interviewerAllAvailabilitySlots = interviewerAvailability.getAvailabilitySlotList();
+        List<String> interviewersNames = interviewSlotsQueryModel.getInterviewersNames();
 
-            List<AvailabilitySlot> interviewerCommonAvailabilitySlots = getAvailabilitySlotsOfCommonDays(
-                    commonDays, interviewerAllAvailabilitySlots);
+        verifyInterviewersHaveAvailability(interviewersNames);
 
-            interviewAvailabilitySlots = getOverlappingAvailabilitySlots(interviewAvailabilitySlots,
-                                                                         interviewerCommonAvailabilitySlots);
-        }
+        Integer durationInHours = interviewSlotsQueryModel.getDurationInHours();
+        Boolean slidingWindows = interviewSlotsQueryModel.getSlidingWindows();
+        Integer limit = interviewSlotsQueryModel.getLimit();
 
-        return interviewAvailabilitySlots;
+        DailyAvailability commonDailyAvailability = limit == null
+                ? commonAvailabilityFinder.getCommonDailyAvailability(candidateName, interviewersNames, queryDateRange)
+                : commonAvailabilityFinder.getEarliestCommonDailyAvailability(
+                        candidateName, interviewersNames, queryDateRange, limit,
+                        toSlotCounter(durationInHours, slidingWindows));
+
+        return toInterviewAvailabilitySlots(commonDailyAvailability, durationInHours, slidingWindows);
     }
 
-    private List<AvailabilitySlot> getAvailabilitySlotsOfCommonDays(Set<LocalDate> commonDays,
-                                                                    List<AvailabilitySlot> availabilitySlots) {
-        List<AvailabilitySlot> availabilitySlotsOfCommonDays = new ArrayList<>();
+    private SlotCounter toSlotCounter(Integer durationInHours, Boolean slidingWindows) {
+        if (durationInHours == null) {
+            return SlotCounter.hours();
+        }
 
-        for (AvailabilitySlot availabilitySlot : availabilitySlots) {
-            for (LocalDate localDate : commonDays) {
-                if (availabilitySlot.getDay().compareTo(localDate) == 0) {
-                    availabilitySlotsOfCommonDays.add(availabilitySlot);
-                }
-            }
+        if (Boolean.TRUE.equals(slidingWindows)) {
+            return SlotCounter.slidingWindowsOf(durationInHours);
         }
 
-        return availabilitySlotsOfCommonDays;
+        return SlotCounter.windowsOfAtLeast(durationInHours);
     }
 
-    private List<AvailabilitySlot> getOverlappingAvailabilitySlots(
-            List<AvailabilitySlot> candidateCommonAvailabilitySlots,
-            List<AvailabilitySlot> interviewerCommonAvailabilitySlots) {
-        List<AvailabilitySlot> overlappingAvailabilitySlots = calculateOverlappingAvailabilitySlots(
-                candidateCommonAvailabilitySlots, interviewerCommonAvailabilitySlots);
+    private List<AvailabilitySlot> toInterviewAvailabilitySlots(DailyAvailability commonDailyAvailability,
+                                                                Integer durationInHours, Boolean slidingWindows) {
+        if (durationInHours == null) {
+            return commonDailyAvailability.toAvailabilitySlots();
+        }
+
+        if (Boolean.TRUE.equals(slidingWindows)) {
+            return commonDailyAvailability.toSlidingWindowSlots(durationInHours);
+        }
 
-        return overlappingAvailabilitySlots;
+        return commonDailyAvailability.withMinimumDuration(durationInHours).toAvailabilitySlots();
     }
 
-    private List<AvailabilitySlot> calculateOverlappingAvailabilitySlots(
-            List<AvailabilitySlot> firstAvailabilitySlots,
-            List<AvailabilitySlot> secondAvailabilitySlots) {
-        List<AvailabilitySlot> overlappingAvailabilitySlots = new ArrayList<>();
-
-        for (AvailabilitySlot firstAvailabilitySlot : firstAvailabilitySlots) {
-            for (AvailabilitySlot secondAvailabilitySlot : secondAvailabilitySlots) {
-                LocalDate firstAvailabilitySlotDay = firstAvailabilitySlot.getDay();
-                LocalDate secondAvailabilitySlotDay = secondAvailabilitySlot.getDay();
-
-                if (firstAvailabilitySlotDay.compareTo(secondAvailabilitySlotDay) == 0) {
-                    List<TimeSlot> firstAvailabilityTimeSlots = firstAvailabilitySlot.getTimeSlotList();
-                    List<TimeSlot> secondAvailabilityTimeSlots = secondAvailabilitySlot.getTimeSlotList();
-
-                    List<TimeSlot> overlappingTimeSlots = new ArrayList<>();
-
-                    for (TimeSlot firstTimeSlot : firstAvailabilityTimeSlots) {
-                        for (TimeSlot secondTimeSlot : secondAvailabilityTimeSlots) {
-                            LocalTime firstTimeSlotFrom = firstTimeSlot.getFrom();
-                            LocalTime firstTimeSlotTo = firstTimeSlot.getTo();
-                            LocalTime secondTimeSlotFrom = secondTimeSlot.getFrom();
-                            LocalTime secondTimeSlotTo = secondTimeSlot.getTo();
-
-                            TimeSlot overlappingTimeSlot = getOverlappingTimeSlot(firstTimeSlotFrom, firstTimeSlotTo,
-                                                                                  secondTimeSlotFrom,
-                                                                                  secondTimeSlotTo);
-
-                            if (overlappingTimeSlot.getFrom() != null && overlappingTimeSlot.getTo() != null) {
-                                overlappingTimeSlots.add(overlappingTimeSlot);
-                            }
-                        }
-                    }
-
-                    if (!overlappingTimeSlots.isEmpty()) {
-                        LocalDate availabilitySlotDay = secondAvailabilitySlot.getDay();
-
-                        AvailabilitySlot availabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith()
-                                                                                    .withDay(availabilitySlotDay)
-                                                                                    .withTimeSlotList(
-                                                                                            overlappingTimeSlots)
-                                                                                    .build();
-
-                        overlappingAvailabilitySlots.add(availabilitySlot);
-                    }
-                }
-            }
+    private void verifyCandidateHasAvailability(String candidateName) {
+        if (!candidateAvailabilityRepository.hasCandidateAvailability(candidateName)) {
+            throw new BusinessException("Candidate has no availability defined!", candidateName);
         }
-
-        return overlappingAvailabilitySlots;
     }
 
-    private TimeSlot getOverlappingTimeSlot(LocalTime candidateFrom, LocalTime candidateTo, LocalTime interviewerFrom,
-                                            LocalTime interviewerTo) {
-        TimeSlot overlappingTimeSlot = new TimeSlot();
-        LocalTime overlapTimeSlotFrom;
-        LocalTime overlapTimeSlotTo;
-
-        if (candidateFrom.isBefore(interviewerTo) && interviewerFrom.isBefore(candidateTo)) {
-            if (candidateFrom.isBefore(interviewerFrom)) {
-                overlapTimeSlotFrom = interviewerFrom;
-            } else {
-                overlapTimeSlotFrom = candidateFrom;
-            }
+    private void verifyCandidatesHaveAvailability(List<String> candidatesNames) {
+        Set<String> namesOfCandidatesWithAvailability = new HashSet<>(
+                candidateAvailabilityRepository.getNamesOfCandidatesWithAvailability(candidatesNames));
 
-            if (candidateTo.isBefore(interviewerTo)) {
-                overlapTimeSlotTo = candidateTo;
-            } else {
-                overlapTimeSlotTo = interviewerTo;
+        for (String candidateName : candidatesNames) {
+            if (!namesOfCandidatesWithAvailability.contains(candidateName)) {
+                throw new BusinessException("Candidate has no availability defined!", candidateName);
             }
-
-            overlappingTimeSlot = TimeSlot.Builder.timeSlotWith().withFrom(overlapTimeSlotFrom).withTo(
-                    overlapTimeSlotTo).build();
         }
+    }
 
-        return overlappingTimeSlot;
+    private void verifyInterviewersHaveAvailability(List<String> interviewersNames) {
+        Set<String> namesOfInterviewersWithAvailability = new HashSet<>(
+                interviewerAvailabilityRepository.getNamesOfInterviewersWithAvailability(interviewersNames));
+
+        for (String interviewerName : interviewersNames) {
+            if (!namesOfInterviewersWithAvailability.contains(interviewerName)) {
+                throw new BusinessException("Interviewer has no availability defined!", interviewerName);
+            }
+        }
     }
 }
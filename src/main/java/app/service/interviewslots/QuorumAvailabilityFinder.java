@@ -0,0 +1,125 @@
+package app.service.interviewslots;
+
+import app.model.interviewslots.QuorumAvailabilitySlot;
+import app.model.utils.DailyAvailability;
+import app.model.utils.DateRange;
+import app.model.utils.TimeSlot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class QuorumAvailabilityFinder {
+    private final DailyAvailabilityLoader dailyAvailabilityLoader;
+
+    @Autowired
+    public QuorumAvailabilityFinder(DailyAvailabilityLoader dailyAvailabilityLoader) {
+        this.dailyAvailabilityLoader = dailyAvailabilityLoader;
+    }
+
+    public List<QuorumAvailabilitySlot> getQuorumAvailabilitySlots(String candidateName,
+                                                                   List<String> distinctInterviewersNames,
+                                                                   int quorum, DateRange queryDateRange) {
+        DailyAvailability candidateDailyAvailability = dailyAvailabilityLoader.getCandidateDailyAvailability(
+                candidateName, queryDateRange);
+
+        if (candidateDailyAvailability.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, DailyAvailability> interviewersDailyAvailabilityByName =
+                dailyAvailabilityLoader.getInterviewersDailyAvailabilityByName(distinctInterviewersNames,
+                                                                               queryDateRange);
+
+        List<QuorumAvailabilitySlot> quorumAvailabilitySlots = new ArrayList<>();
+
+        for (LocalDate day : candidateDailyAvailability.getDays()) {
+            long epochDay = day.toEpochDay();
+            int candidateHourMask = candidateDailyAvailability.getHourMask(epochDay);
+
+            int[] availableInterviewersCounts = new int[DailyAvailability.HOURS_PER_DAY];
+            BitSet[] availableInterviewersByHour = new BitSet[DailyAvailability.HOURS_PER_DAY];
+
+            for (int interviewerIndex = 0; interviewerIndex < distinctInterviewersNames.size(); interviewerIndex++) {
+                DailyAvailability interviewerDailyAvailability = interviewersDailyAvailabilityByName.get(
+                        distinctInterviewersNames.get(interviewerIndex));
+                int remainingHourMask = candidateHourMask & interviewerDailyAvailability.getHourMask(epochDay);
+
+                while (remainingHourMask != 0) {
+                    int hour = Integer.numberOfTrailingZeros(remainingHourMask);
+
+                    if (availableInterviewersByHour[hour] == null) {
+                        availableInterviewersByHour[hour] = new BitSet(distinctInterviewersNames.size());
+                    }
+
+                    availableInterviewersCounts[hour]++;
+                    availableInterviewersByHour[hour].set(interviewerIndex);
+
+                    remainingHourMask &= remainingHourMask - 1;
+                }
+            }
+
+            addQuorumAvailabilitySlots(quorumAvailabilitySlots, day, availableInterviewersCounts,
+                                       availableInterviewersByHour, distinctInterviewersNames, quorum);
+        }
+
+        return quorumAvailabilitySlots;
+    }
+
+    private void addQuorumAvailabilitySlots(List<QuorumAvailabilitySlot> quorumAvailabilitySlots, LocalDate day,
+                                            int[] availableInterviewersCounts,
+                                            BitSet[] availableInterviewersByHour,
+                                            List<String> distinctInterviewersNames, int quorum) {
+        int hour = 0;
+
+        while (hour < DailyAvailability.HOURS_PER_DAY) {
+            if (availableInterviewersCounts[hour] < quorum) {
+                hour++;
+                continue;
+            }
+
+            BitSet availableInterviewers = availableInterviewersByHour[hour];
+            int fromHour = hour;
+
+            do {
+                hour++;
+            } while (hour < DailyAvailability.HOURS_PER_DAY && availableInterviewersCounts[hour] >= quorum
+                     && availableInterviewers.equals(availableInterviewersByHour[hour]));
+
+            LocalTime toTime = hour == DailyAvailability.HOURS_PER_DAY ? LocalTime.MAX : LocalTime.of(hour, 0);
+
+            TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith()
+                                                .withFrom(LocalTime.of(fromHour, 0))
+                                                .withTo(toTime)
+                                                .build();
+
+            QuorumAvailabilitySlot quorumAvailabilitySlot =
+                    QuorumAvailabilitySlot.Builder.quorumAvailabilitySlotWith()
+                                                  .withDay(day)
+                                                  .withTimeSlot(timeSlot)
+                                                  .withInterviewersNames(toInterviewersNames(
+                                                          availableInterviewers, distinctInterviewersNames))
+                                                  .build();
+
+            quorumAvailabilitySlots.add(quorumAvailabilitySlot);
+        }
+    }
+
+    private List<String> toInterviewersNames(BitSet availableInterviewers, List<String> distinctInterviewersNames) {
+        List<String> interviewersNames = new ArrayList<>(availableInterviewers.cardinality());
+
+        for (int interviewerIndex = availableInterviewers.nextSetBit(0); interviewerIndex >= 0;
+             interviewerIndex = availableInterviewers.nextSetBit(interviewerIndex + 1)) {
+            interviewersNames.add(distinctInterviewersNames.get(interviewerIndex));
+        }
+
+        return interviewersNames;
+    }
+}
@@ -0,0 +1,196 @@
+package controller.utils;
+
+import app.Application;
+import app.controller.utils.KeysetPageResponse;
+import app.model.candidate.CandidateModel;
+import app.model.interviewer.InterviewerModel;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.KeysetPage;
+import app.model.utils.TimeSlot;
+import app.service.candidate.CandidateService;
+import app.service.interviewer.InterviewerService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Application.class)
+@AutoConfigureMockMvc
+public class KeysetPageResponseIntegrationTests {
+    private static final String CANDIDATES_URL = "/tamanna/api/candidates";
+    private static final String INTERVIEWERS_URL = "/tamanna/api/interviewers";
+    private static final String NAME_PREFIX = "Keyset paging ";
+    private static final String NON_ASCII_NAME = NAME_PREFIX + "10 Zoë Ærøskøbing 李小龍";
+    private static final int NUMBER_OF_PARTICIPANTS = 23;
+    private static final int PAGE_SIZE = 5;
+    private static final LocalDate DAY = LocalDate.of(2026, Month.NOVEMBER, 2);
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private CandidateService candidateService;
+    @Autowired
+    private InterviewerService interviewerService;
+
+    private List<String> participantsNames;
+
+    @Before
+    public void setupParticipants() {
+        participantsNames = new ArrayList<>();
+
+        for (int participantNumber = 1; participantNumber < NUMBER_OF_PARTICIPANTS; participantNumber++) {
+            participantsNames.add(NAME_PREFIX + String.format("%02d", participantNumber));
+        }
+
+        participantsNames.add(NON_ASCII_NAME);
+        Collections.sort(participantsNames);
+
+        List<AvailabilitySlot> availabilitySlots = Collections.singletonList(
+                AvailabilitySlot.Builder.availabilitySlotWith()
+                                        .withDay(DAY)
+                                        .withTimeSlotList(Collections.singletonList(
+                                                TimeSlot.Builder.timeSlotWith()
+                                                                .withFrom(LocalTime.of(9, 0))
+                                                                .withTo(LocalTime.of(12, 0))
+                                                                .build()))
+                                        .build());
+
+        for (String participantName : participantsNames) {
+            candidateService.createCandidate(CandidateModel.Builder.candidateModelWith().withName(participantName)
+                                                                   .build());
+            candidateService.addCandidateAvailabilitySlots(participantName, availabilitySlots);
+            interviewerService.createInterviewer(InterviewerModel.Builder.interviewerModelWith()
+                                                                         .withName(participantName).build());
+            interviewerService.addInterviewerAvailabilitySlots(participantName, availabilitySlots);
+        }
+    }
+
+    @After
+    public void deleteParticipants() {
+        for (String participantName : participantsNames) {
+            candidateService.deleteCandidateByName(participantName);
+            interviewerService.deleteInterviewerByName(participantName);
+        }
+    }
+
+    @Test
+    public void getAllCandidatesAvailabilityChainsNextCursorsSuccessfully() throws Exception {
+        // Act && Assert
+        assertEquals(participantsNames, getAllPagesNames(CANDIDATES_URL + "/availability", "candidateName"));
+    }
+
+    @Test
+    public void getAllInterviewersAvailabilityChainsNextCursorsSuccessfully() throws Exception {
+        // Act && Assert
+        assertEquals(participantsNames, getAllPagesNames(INTERVIEWERS_URL + "/availability", "interviewerName"));
+    }
+
+    @Test
+    public void getAllCandidatesChainsNextCursorsSuccessfully() throws Exception {
+        // Act && Assert
+        assertEquals(participantsNames, getAllPagesNames(CANDIDATES_URL, null));
+    }
+
+    @Test
+    public void getAllInterviewersAvailabilityWithNonAsciiNameCursorSuccessfully() throws Exception {
+        // Arrange
+        int nonAsciiNameIndex = participantsNames.indexOf(NON_ASCII_NAME);
+        String previousName = participantsNames.get(nonAsciiNameIndex - 1);
+        String followingName = participantsNames.get(nonAsciiNameIndex + 1);
+
+        // Act
+        MockHttpServletResponse nonAsciiNamePage = getSingleInterviewerAvailabilityPage(
+                KeysetPage.cursorOf(previousName));
+        String nextCursor = nonAsciiNamePage.getHeader(KeysetPageResponse.NEXT_CURSOR_HEADER);
+        MockHttpServletResponse followingPage = getSingleInterviewerAvailabilityPage(nextCursor);
+
+        // Assert
+        assertEquals(Collections.singletonList(NON_ASCII_NAME), namesOf(nonAsciiNamePage, "interviewerName"));
+        assertNotNull(nextCursor);
+        assertEquals(NON_ASCII_NAME, KeysetPage.nameAfter(nextCursor));
+        assertEquals(Collections.singletonList(followingName), namesOf(followingPage, "interviewerName"));
+    }
+
+    private MockHttpServletResponse getSingleInterviewerAvailabilityPage(String cursor) throws Exception {
+        return mockMvc.perform(get(INTERVIEWERS_URL + "/availability").param("cursor", cursor)
+                                                                      .param("pageSize", "1"))
+                      .andReturn().getResponse();
+    }
+
+    private List<String> getAllPagesNames(String url, String participantProperty) throws Exception {
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+        int numberOfPages = 0;
+
+        do {
+            MockHttpServletRequestBuilder request = get(url).param("pageSize", String.valueOf(PAGE_SIZE));
+
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+
+            MockHttpServletResponse response = mockMvc.perform(request).andReturn().getResponse();
+            List<String> pageNames = namesOf(response, participantProperty);
+
+            assertEquals(200, response.getStatus());
+            assertTrue(pageNames.size() <= PAGE_SIZE);
+
+            cursor = response.getHeader(KeysetPageResponse.NEXT_CURSOR_HEADER);
+
+            if (cursor != null) {
+                assertEquals(PAGE_SIZE, pageNames.size());
+                assertEquals(pageNames.get(PAGE_SIZE - 1), KeysetPage.nameAfter(cursor));
+            }
+
+            names.addAll(pageNames);
+            numberOfPages++;
+        } while (cursor != null);
+
+        assertTrue(numberOfPages > NUMBER_OF_PARTICIPANTS / PAGE_SIZE);
+
+        List<String> participantsNamesFound = new ArrayList<>();
+
+        for (String name : names) {
+            if (name.startsWith(NAME_PREFIX)) {
+                participantsNamesFound.add(name);
+            }
+        }
+
+        return participantsNamesFound;
+    }
+
+    private List<String> namesOf(MockHttpServletResponse response, String participantProperty) throws Exception {
+        List<String> names = new ArrayList<>();
+
+        for (JsonNode item : objectMapper.readTree(response.getContentAsString(StandardCharsets.UTF_8))) {
+            JsonNode participant = participantProperty == null ? item : item.get(participantProperty);
+
+            names.add(participant.get("name").asText());
+        }
+
+        return names;
+    }
+}
@@ -0,0 +1,193 @@
+package migration;
+
+import app.Application;
+import app.exception.TechnicalException;
+import app.migration.LegacyAvailabilityMigration;
+import app.model.candidate.CandidateModel;
+import app.model.interviewer.InterviewerModel;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.DailyAvailability;
+import app.model.utils.DateRange;
+import app.model.utils.TimeSlot;
+import app.service.candidate.CandidateService;
+import app.service.interviewer.InterviewerService;
+import app.service.interviewslots.DailyAvailabilityLoader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Application.class)
+public class LegacyAvailabilityMigrationIntegrationTests {
+    private static final String LEGACY_CANDIDATE_AVAILABILITY_TABLE =
+            "candidate_availability_model_availability_slot_list";
+    private static final String LEGACY_INTERVIEWER_AVAILABILITY_TABLE =
+            "interviewer_availability_model_availability_slot_list";
+    private static final String CANDIDATE_NAME = "Legacy migration John Doe";
+    private static final String INTERVIEWER_NAME = "Legacy migration Jane Doe";
+    private static final LocalDate DAY = LocalDate.of(2026, Month.NOVEMBER, 2);
+
+    @Autowired
+    private LegacyAvailabilityMigration legacyAvailabilityMigration;
+    @Autowired
+    private CandidateService candidateService;
+    @Autowired
+    private InterviewerService interviewerService;
+    @Autowired
+    private DailyAvailabilityLoader dailyAvailabilityLoader;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long candidateAvailabilityId;
+    private Long interviewerAvailabilityId;
+
+    @Before
+    public void setupLegacyTables() {
+        candidateService.createCandidate(CandidateModel.Builder.candidateModelWith().withName(CANDIDATE_NAME).build());
+        candidateAvailabilityId = candidateService.addCandidateAvailabilitySlots(
+                CANDIDATE_NAME, Collections.singletonList(availabilitySlotOf(DAY.plusDays(7), 15, 17))).getId();
+        interviewerService.createInterviewer(InterviewerModel.Builder.interviewerModelWith()
+                                                                     .withName(INTERVIEWER_NAME).build());
+        interviewerAvailabilityId = interviewerService.addInterviewerAvailabilitySlots(
+                INTERVIEWER_NAME, Collections.singletonList(availabilitySlotOf(DAY.plusDays(7), 15, 17))).getId();
+
+        jdbcTemplate.execute("create table " + LEGACY_CANDIDATE_AVAILABILITY_TABLE
+                             + " (candidate_availability_model_id bigint not null, availability_slot_list blob)");
+        jdbcTemplate.execute("create table " + LEGACY_INTERVIEWER_AVAILABILITY_TABLE
+                             + " (interviewer_availability_model_id bigint not null, availability_slot_list blob)");
+    }
+
+    @After
+    public void tearDown() {
+        jdbcTemplate.execute("drop table if exists " + LEGACY_CANDIDATE_AVAILABILITY_TABLE);
+        jdbcTemplate.execute("drop table if exists " + LEGACY_INTERVIEWER_AVAILABILITY_TABLE);
+        candidateService.deleteCandidateByName(CANDIDATE_NAME);
+        interviewerService.deleteInterviewerByName(INTERVIEWER_NAME);
+    }
+
+    @Test
+    public void runCoalescesLegacyAvailabilitySlotsAndDropsLegacyTablesSuccessfully() {
+        // Arrange
+        List<AvailabilitySlot> legacyAvailabilitySlots = Arrays.asList(availabilitySlotOf(DAY, 9, 10),
+                                                                       availabilitySlotOf(DAY, 10, 11),
+                                                                       availabilitySlotOf(DAY, 13, 14),
+                                                                       availabilitySlotOf(DAY.plusDays(1), 9, 12),
+                                                                       availabilitySlotOf(DAY.plusDays(1), 10, 11));
+
+        for (AvailabilitySlot legacyAvailabilitySlot : legacyAvailabilitySlots) {
+            insertLegacyCandidateAvailabilitySlot(serialize(legacyAvailabilitySlot));
+            insertLegacyInterviewerAvailabilitySlot(serialize(legacyAvailabilitySlot));
+        }
+
+        // Act
+        legacyAvailabilityMigration.run(null);
+
+        // Assert
+        DateRange queryDateRange = new DateRange(DAY, DAY.plusDays(7));
+        DailyAvailability candidateDailyAvailability = dailyAvailabilityLoader.getCandidateDailyAvailability(
+                CANDIDATE_NAME, queryDateRange);
+        DailyAvailability interviewerDailyAvailability = dailyAvailabilityLoader
+                .getInterviewersDailyAvailabilityByName(Collections.singletonList(INTERVIEWER_NAME), queryDateRange)
+                .get(INTERVIEWER_NAME);
+
+        for (DailyAvailability dailyAvailability : Arrays.asList(candidateDailyAvailability,
+                                                                 interviewerDailyAvailability)) {
+            assertEquals(Arrays.asList(DAY, DAY.plusDays(1), DAY.plusDays(7)), dailyAvailability.getDays());
+            assertEquals(hourMaskOf(9, 11) | hourMaskOf(13, 14), dailyAvailability.getHourMask(DAY.toEpochDay()));
+            assertEquals(hourMaskOf(9, 12), dailyAvailability.getHourMask(DAY.plusDays(1).toEpochDay()));
+            assertEquals(hourMaskOf(15, 17), dailyAvailability.getHourMask(DAY.plusDays(7).toEpochDay()));
+        }
+
+        assertEquals(Integer.valueOf(4), jdbcTemplate.queryForObject(
+                "select count(*) from candidate_availability_range where candidate_availability_id = ?",
+                Integer.class, candidateAvailabilityId));
+        assertFalse(tableExists(LEGACY_CANDIDATE_AVAILABILITY_TABLE));
+        assertFalse(tableExists(LEGACY_INTERVIEWER_AVAILABILITY_TABLE));
+    }
+
+    @Test(expected = TechnicalException.class)
+    public void runWithRejectedLegacyAvailabilitySlotClassFails() {
+        // Arrange
+        insertLegacyCandidateAvailabilitySlot(serialize(availabilitySlotOf(DAY, 9, 10)));
+        insertLegacyCandidateAvailabilitySlot(serialize(new File("legacy-availability-slot")));
+
+        // Act
+        try {
+            legacyAvailabilityMigration.run(null);
+        } catch (TechnicalException te) {
+            // Assert
+            assertTrue(te.getMessage().startsWith("Legacy availability slot could not be read: "));
+            assertTrue(tableExists(LEGACY_CANDIDATE_AVAILABILITY_TABLE));
+            assertEquals(Collections.singletonList(DAY.plusDays(7)),
+                         dailyAvailabilityLoader.getCandidateDailyAvailability(
+                                 CANDIDATE_NAME, new DateRange(DAY, DAY.plusDays(7))).getDays());
+            throw te;
+        }
+
+        fail("Migration should fail when a legacy availability slot is not an availability slot!");
+    }
+
+    private void insertLegacyCandidateAvailabilitySlot(byte[] serializedAvailabilitySlot) {
+        jdbcTemplate.update("insert into " + LEGACY_CANDIDATE_AVAILABILITY_TABLE + " values (?, ?)",
+                            candidateAvailabilityId, serializedAvailabilitySlot);
+    }
+
+    private void insertLegacyInterviewerAvailabilitySlot(byte[] serializedAvailabilitySlot) {
+        jdbcTemplate.update("insert into " + LEGACY_INTERVIEWER_AVAILABILITY_TABLE + " values (?, ?)",
+                            interviewerAvailabilityId, serializedAvailabilitySlot);
+    }
+
+    private boolean tableExists(String tableName) {
+        Integer numberOfTables = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.tables where upper(table_name) = upper(?)", Integer.class,
+                tableName);
+
+        return numberOfTables != null && numberOfTables > 0;
+    }
+
+    private static byte[] serialize(Serializable object) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(object);
+        } catch (IOException ioException) {
+            throw new IllegalStateException(ioException);
+        }
+
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private static AvailabilitySlot availabilitySlotOf(LocalDate day, int fromHour, int toHour) {
+        return AvailabilitySlot.Builder.availabilitySlotWith()
+                                       .withDay(day)
+                                       .withTimeSlotList(Collections.singletonList(
+                                               TimeSlot.Builder.timeSlotWith()
+                                                               .withFrom(LocalTime.of(fromHour, 0))
+                                                               .withTo(LocalTime.of(toHour, 0))
+                                                               .build()))
+                                       .build();
+    }
+
+    private static int hourMaskOf(int fromHour, int toHour) {
+        return DailyAvailability.toHourMask(LocalTime.of(fromHour, 0), LocalTime.of(toHour, 0));
+    }
+}
@@ -0,0 +1,101 @@
+package model.utils;
+
+import app.model.candidate.CandidateAvailabilityRangeModel;
+import app.model.utils.AvailabilityRangeChanges;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.DailyAvailability;
+import app.model.utils.TimeSlot;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AvailabilityRangeChangesTests {
+    private static final LocalDate DAY = LocalDate.of(2014, Month.JANUARY, 1);
+
+    @Test
+    public void betweenReplacesFragmentedRangesWithCoalescedRangeSuccessfully() {
+        // Arrange
+        CandidateAvailabilityRangeModel firstExistingRange = availabilityRangeOf(DAY, 9, 10);
+        CandidateAvailabilityRangeModel secondExistingRange = availabilityRangeOf(DAY, 10, 11);
+        List<CandidateAvailabilityRangeModel> existingRanges = Arrays.asList(firstExistingRange,
+                                                                             secondExistingRange);
+
+        DailyAvailability targetDailyAvailability = DailyAvailability.fromAvailabilityRanges(existingRanges).union(
+                DailyAvailability.fromAvailabilitySlots(Collections.singletonList(availabilitySlotOf(DAY, 10, 12))));
+
+        // Act
+        AvailabilityRangeChanges<CandidateAvailabilityRangeModel> availabilityRangeChanges =
+                AvailabilityRangeChanges.between(existingRanges, targetDailyAvailability);
+
+        // Assert
+        assertEquals(existingRanges, availabilityRangeChanges.getObsoleteAvailabilityRanges());
+        assertEquals(1, availabilityRangeChanges.getMissingAvailabilitySlots().size());
+
+        AvailabilitySlot missingAvailabilitySlot = availabilityRangeChanges.getMissingAvailabilitySlots().get(0);
+        assertEquals(DAY, missingAvailabilitySlot.getDay());
+        assertEquals(1, missingAvailabilitySlot.getTimeSlotList().size());
+        assertEquals(LocalTime.of(9, 0), missingAvailabilitySlot.getTimeSlotList().get(0).getFrom());
+        assertEquals(LocalTime.of(12, 0), missingAvailabilitySlot.getTimeSlotList().get(0).getTo());
+    }
+
+    @Test
+    public void betweenKeepsAlreadyCoalescedRangesSuccessfully() {
+        // Arrange
+        List<CandidateAvailabilityRangeModel> existingRanges = Arrays.asList(availabilityRangeOf(DAY, 9, 11),
+                                                                             availabilityRangeOf(DAY, 14, 15));
+
+        DailyAvailability targetDailyAvailability = DailyAvailability.fromAvailabilityRanges(existingRanges).union(
+                DailyAvailability.fromAvailabilitySlots(Collections.singletonList(availabilitySlotOf(DAY, 9, 10))));
+
+        // Act
+        AvailabilityRangeChanges<CandidateAvailabilityRangeModel> availabilityRangeChanges =
+                AvailabilityRangeChanges.between(existingRanges, targetDailyAvailability);
+
+        // Assert
+        assertTrue(availabilityRangeChanges.getObsoleteAvailabilityRanges().isEmpty());
+        assertTrue(availabilityRangeChanges.getMissingAvailabilitySlots().isEmpty());
+    }
+
+    @Test
+    public void betweenRemovesDuplicatedRangesSuccessfully() {
+        // Arrange
+        CandidateAvailabilityRangeModel firstExistingRange = availabilityRangeOf(DAY, 9, 11);
+        CandidateAvailabilityRangeModel duplicatedExistingRange = availabilityRangeOf(DAY, 9, 11);
+        List<CandidateAvailabilityRangeModel> existingRanges = Arrays.asList(firstExistingRange,
+                                                                             duplicatedExistingRange);
+
+        // Act
+        AvailabilityRangeChanges<CandidateAvailabilityRangeModel> availabilityRangeChanges =
+                AvailabilityRangeChanges.between(existingRanges,
+                                                 DailyAvailability.fromAvailabilityRanges(existingRanges));
+
+        // Assert
+        assertEquals(Collections.singletonList(duplicatedExistingRange),
+                     availabilityRangeChanges.getObsoleteAvailabilityRanges());
+        assertTrue(availabilityRangeChanges.getMissingAvailabilitySlots().isEmpty());
+    }
+
+    private static CandidateAvailabilityRangeModel availabilityRangeOf(LocalDate day, int fromHour, int toHour) {
+        return CandidateAvailabilityRangeModel.Builder.candidateAvailabilityRangeModelWith()
+                                                      .withDay(day)
+                                                      .withStartTime(LocalTime.of(fromHour, 0))
+                                                      .withEndTime(LocalTime.of(toHour, 0))
+                                                      .build();
+    }
+
+    private static AvailabilitySlot availabilitySlotOf(LocalDate day, int fromHour, int toHour) {
+        TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(fromHour, 0)).withTo(
+                LocalTime.of(toHour, 0)).build();
+
+        return AvailabilitySlot.Builder.availabilitySlotWith().withDay(day).withTimeSlotList(
+                Collections.singletonList(timeSlot)).build();
+    }
+}
@@ -0,0 +1,344 @@
+package model.utils;
+
+import app.model.interviewer.InterviewerAvailabilityRuleModel;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.AvailabilityStatistics;
+import app.model.utils.DailyAvailability;
+import app.model.utils.DateRange;
+import app.model.utils.SlotCounter;
+import app.model.utils.TimeSlot;
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DailyAvailabilityTests {
+    @Test
+    public void toHourMaskSetsOneBitPerHourSuccessfully() {
+        // Arrange
+        TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0)).withTo(LocalTime.of(12, 0))
+                                            .build();
+
+        // Act
+        int hourMask = DailyAvailability.toHourMask(timeSlot);
+
+        // Assert
+        assertEquals(0b111 << 9, hourMask);
+    }
+
+    @Test
+    public void toTimeSlotsMergesContiguousHoursSuccessfully() {
+        // Arrange
+        int hourMask = (0b11 << 9) | (0b1 << 11) | (0b111 << 14);
+
+        // Act
+        List<TimeSlot> timeSlots = DailyAvailability.toTimeSlots(hourMask);
+
+        // Assert
+        assertEquals(2, timeSlots.size());
+        assertEquals(LocalTime.of(9, 0), timeSlots.get(0).getFrom());
+        assertEquals(LocalTime.of(12, 0), timeSlots.get(0).getTo());
+        assertEquals(LocalTime.of(14, 0), timeSlots.get(1).getFrom());
+        assertEquals(LocalTime.of(17, 0), timeSlots.get(1).getTo());
+    }
+
+    @Test
+    public void toTimeSlotsOfEmptyHourMaskReturnsEmptyListSuccessfully() {
+        // Act
+        List<TimeSlot> timeSlots = DailyAvailability.toTimeSlots(0);
+
+        // Assert
+        assertTrue(timeSlots.isEmpty());
+    }
+
+    @Test
+    public void fromAvailabilitySlotsCombinesSlotsOfSameDaySuccessfully() {
+        // Arrange
+        LocalDate day = LocalDate.of(2014, Month.JANUARY, 1);
+
+        TimeSlot firstTimeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0)).withTo(
+                LocalTime.of(10, 0)).build();
+        TimeSlot secondTimeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(15, 0)).withTo(
+                LocalTime.of(16, 0)).build();
+
+        AvailabilitySlot firstAvailabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith().withDay(day)
+                                                                         .withTimeSlotList(Collections.singletonList(
+                                                                                 firstTimeSlot)).build();
+        AvailabilitySlot secondAvailabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith().withDay(day)
+                                                                          .withTimeSlotList(Collections.singletonList(
+                                                                                  secondTimeSlot)).build();
+
+        // Act
+        DailyAvailability dailyAvailability = DailyAvailability.fromAvailabilitySlots(
+                Arrays.asList(firstAvailabilitySlot, secondAvailabilitySlot));
+
+        // Assert
+        assertEquals((1 << 9) | (1 << 15), dailyAvailability.getHourMask(day.toEpochDay()));
+        assertEquals(0, dailyAvailability.getHourMask(day.plusDays(1).toEpochDay()));
+    }
+
+    @Test
+    public void fromAvailabilityRulesExpandsOnlyDaysWithinQueryRangeSuccessfully() {
+        // Arrange
+        LocalDate firstMonday = LocalDate.of(2014, Month.JANUARY, 6);
+        LocalDate secondMonday = firstMonday.plusWeeks(1);
+        LocalDate thirdMonday = firstMonday.plusWeeks(2);
+        LocalDate fourthMonday = firstMonday.plusWeeks(3);
+        LocalDate firstWednesday = firstMonday.plusDays(2);
+
+        InterviewerAvailabilityRuleModel mondayAvailabilityRule =
+                InterviewerAvailabilityRuleModel.Builder.interviewerAvailabilityRuleModelWith()
+                                                        .withDayOfWeek(DayOfWeek.MONDAY)
+                                                        .withHourMask(DailyAvailability.toHourMask(
+                                                                LocalTime.of(9, 0), LocalTime.of(12, 0)))
+                                                        .withValidFrom(firstMonday.minusMonths(1))
+                                                        .withValidUntil(fourthMonday)
+                                                        .withExceptionDays(new HashSet<>(
+                                                                Collections.singletonList(secondMonday)))
+                                                        .build();
+        InterviewerAvailabilityRuleModel wednesdayAvailabilityRule =
+                InterviewerAvailabilityRuleModel.Builder.interviewerAvailabilityRuleModelWith()
+                                                        .withDayOfWeek(DayOfWeek.WEDNESDAY)
+                                                        .withHourMask(DailyAvailability.toHourMask(
+                                                                LocalTime.of(14, 0), LocalTime.of(16, 0)))
+                                                        .withValidFrom(firstWednesday)
+                                                        .withValidUntil(firstWednesday)
+                                                        .build();
+
+        // Act
+        DailyAvailability dailyAvailability = DailyAvailability.fromAvailabilityRules(
+                Arrays.asList(mondayAvailabilityRule, wednesdayAvailabilityRule),
+                new DateRange(firstMonday.minusDays(1), thirdMonday));
+
+        // Assert
+        assertEquals(Arrays.asList(firstMonday, firstWednesday, thirdMonday), dailyAvailability.getDays());
+        assertEquals(0b111 << 9, dailyAvailability.getHourMask(firstMonday.toEpochDay()));
+        assertEquals(0b11 << 14, dailyAvailability.getHourMask(firstWednesday.toEpochDay()));
+        assertEquals(0, dailyAvailability.getHourMask(secondMonday.toEpochDay()));
+        assertEquals(0, dailyAvailability.getHourMask(fourthMonday.toEpochDay()));
+    }
+
+    @Test
+    public void intersectKeepsOnlyCommonHoursOfCommonDaysSuccessfully() {
+        // Arrange
+        LocalDate firstDay = LocalDate.of(2014, Month.JANUARY, 1);
+        LocalDate secondDay = LocalDate.of(2014, Month.JANUARY, 2);
+        LocalDate thirdDay = LocalDate.of(2014, Month.JANUARY, 3);
+
+        DailyAvailability firstDailyAvailability = DailyAvailability.fromAvailabilitySlots(Arrays.asList(
+                availabilitySlotOf(firstDay, 9, 12), availabilitySlotOf(secondDay, 9, 10),
+                availabilitySlotOf(thirdDay, 9, 18)));
+        DailyAvailability secondDailyAvailability = DailyAvailability.fromAvailabilitySlots(Arrays.asList(
+                availabilitySlotOf(thirdDay, 14, 20), availabilitySlotOf(firstDay, 11, 13),
+                availabilitySlotOf(secondDay, 10, 11)));
+
+        // Act
+        DailyAvailability commonDailyAvailability = firstDailyAvailability.intersect(secondDailyAvailability);
+        List<AvailabilitySlot> commonAvailabilitySlots = commonDailyAvailability.toAvailabilitySlots();
+
+        // Assert
+        assertEquals(2, commonDailyAvailability.getNumberOfDays());
+        assertEquals(1 << 11, commonDailyAvailability.getHourMask(firstDay.toEpochDay()));
+        assertEquals(0, commonDailyAvailability.getHourMask(secondDay.toEpochDay()));
+        assertEquals(0b1111 << 14, commonDailyAvailability.getHourMask(thirdDay.toEpochDay()));
+        assertEquals(firstDay, commonAvailabilitySlots.get(0).getDay());
+        assertEquals(thirdDay, commonAvailabilitySlots.get(1).getDay());
+    }
+
+    @Test
+    public void intersectWithoutCommonDaysReturnsEmptySuccessfully() {
+        // Arrange
+        LocalDate firstDay = LocalDate.of(2014, Month.JANUARY, 1);
+        LocalDate secondDay = LocalDate.of(2014, Month.JANUARY, 2);
+
+        DailyAvailability firstDailyAvailability = DailyAvailability.fromAvailabilitySlots(
+                Collections.singletonList(availabilitySlotOf(firstDay, 9, 12)));
+        DailyAvailability secondDailyAvailability = DailyAvailability.fromAvailabilitySlots(
+                Collections.singletonList(availabilitySlotOf(secondDay, 9, 12)));
+
+        // Act
+        DailyAvailability commonDailyAvailability = firstDailyAvailability.intersect(secondDailyAvailability);
+
+        // Assert
+        assertTrue(commonDailyAvailability.isEmpty());
+        assertTrue(commonDailyAvailability.toAvailabilitySlots().isEmpty());
+    }
+
+    @Test
+    public void unionCombinesHoursOfAllDaysSuccessfully() {
+        // Arrange
+        LocalDate firstDay = LocalDate.of(2014, Month.JANUARY, 1);
+        LocalDate secondDay = LocalDate.of(2014, Month.JANUARY, 2);
+        LocalDate thirdDay = LocalDate.of(2014, Month.JANUARY, 3);
+
+        DailyAvailability firstDailyAvailability = DailyAvailability.fromAvailabilitySlots(Arrays.asList(
+                availabilitySlotOf(firstDay, 9, 10), availabilitySlotOf(secondDay, 9, 10)));
+        DailyAvailability secondDailyAvailability = DailyAvailability.fromAvailabilitySlots(Arrays.asList(
+                availabilitySlotOf(secondDay, 10, 12), availabilitySlotOf(thirdDay, 14, 15)));
+
+        // Act
+        DailyAvailability allDailyAvailability = firstDailyAvailability.union(secondDailyAvailability);
+
+        // Assert
+        assertEquals(Arrays.asList(firstDay, secondDay, thirdDay), allDailyAvailability.getDays());
+        assertEquals(1 << 9, allDailyAvailability.getHourMask(firstDay.toEpochDay()));
+        assertEquals(0b111 << 9, allDailyAvailability.getHourMask(secondDay.toEpochDay()));
+        assertEquals(1 << 14, allDailyAvailability.getHourMask(thirdDay.toEpochDay()));
+    }
+
+    @Test
+    public void minusRemovesHoursAndEmptiedDaysSuccessfully() {
+        // Arrange
+        LocalDate firstDay = LocalDate.of(2014, Month.JANUARY, 1);
+        LocalDate secondDay = LocalDate.of(2014, Month.JANUARY, 2);
+        LocalDate thirdDay = LocalDate.of(2014, Month.JANUARY, 3);
+
+        DailyAvailability dailyAvailability = DailyAvailability.fromAvailabilitySlots(Arrays.asList(
+                availabilitySlotOf(firstDay, 9, 12), availabilitySlotOf(secondDay, 9, 10),
+                availabilitySlotOf(thirdDay, 14, 15)));
+        DailyAvailability removedDailyAvailability = DailyAvailability.fromAvailabilitySlots(Arrays.asList(
+                availabilitySlotOf(firstDay, 10, 11), availabilitySlotOf(secondDay, 8, 12)));
+
+        // Act
+        DailyAvailability remainingDailyAvailability = dailyAvailability.minus(removedDailyAvailability);
+
+        // Assert
+        assertEquals(Arrays.asList(firstDay, thirdDay), remainingDailyAvailability.getDays());
+        assertEquals((1 << 9) | (1 << 11), remainingDailyAvailability.getHourMask(firstDay.toEpochDay()));
+        assertEquals(1 << 14, remainingDailyAvailability.getHourMask(thirdDay.toEpochDay()));
+    }
+
+    @Test
+    public void withMinimumDurationKeepsOnlyLongEnoughWindowsSuccessfully() {
+        // Arrange
+        LocalDate firstDay = LocalDate.of(2014, Month.JANUARY, 1);
+        LocalDate secondDay = LocalDate.of(2014, Month.JANUARY, 2);
+
+        DailyAvailability dailyAvailability = DailyAvailability.fromAvailabilitySlots(Arrays.asList(
+                availabilitySlotOf(firstDay, 9, 10), availabilitySlotOf(secondDay, 9, 10),
+                availabilitySlotOf(secondDay, 12, 15), availabilitySlotOf(secondDay, 21, 23)));
+
+        // Act
+        DailyAvailability longEnoughDailyAvailability = dailyAvailability.withMinimumDuration(2);
+
+        // Assert
+        assertEquals(Collections.singletonList(secondDay), longEnoughDailyAvailability.getDays());
+        assertEquals((0b111 << 12) | (0b11 << 21), longEnoughDailyAvailability.getHourMask(secondDay.toEpochDay()));
+    }
+
+    @Test
+    public void toSlidingWindowSlotsReturnsEveryWindowStartingOnTheHourSuccessfully() {
+        // Arrange
+        LocalDate firstDay = LocalDate.of(2014, Month.JANUARY, 1);
+        LocalDate secondDay = LocalDate.of(2014, Month.JANUARY, 2);
+
+        DailyAvailability dailyAvailability = DailyAvailability.fromAvailabilitySlots(Arrays.asList(
+                availabilitySlotOf(firstDay, 9, 10), availabilitySlotOf(secondDay, 12, 15)));
+
+        // Act
+        List<AvailabilitySlot> slidingWindowSlots = dailyAvailability.toSlidingWindowSlots(2);
+
+        // Assert
+        assertEquals(1, slidingWindowSlots.size());
+        assertEquals(secondDay, slidingWindowSlots.get(0).getDay());
+
+        List<TimeSlot> timeSlots = slidingWindowSlots.get(0).getTimeSlotList();
+        assertEquals(2, timeSlots.size());
+        assertEquals(LocalTime.of(12, 0), timeSlots.get(0).getFrom());
+        assertEquals(LocalTime.of(14, 0), timeSlots.get(0).getTo());
+        assertEquals(LocalTime.of(13, 0), timeSlots.get(1).getFrom());
+        assertEquals(LocalTime.of(15, 0), timeSlots.get(1).getTo());
+    }
+
+    @Test
+    public void intersectEarliestStopsAfterNumberOfHoursSuccessfully() {
+        // Arrange
+        LocalDate firstDay = LocalDate.of(2014, Month.JANUARY, 1);
+        LocalDate secondDay = LocalDate.of(2014, Month.JANUARY, 2);
+        LocalDate thirdDay = LocalDate.of(2014, Month.JANUARY, 3);
+
+        DailyAvailability firstDailyAvailability = DailyAvailability.fromAvailabilitySlots(Arrays.asList(
+                availabilitySlotOf(firstDay, 9, 12), availabilitySlotOf(secondDay, 9, 12),
+                availabilitySlotOf(thirdDay, 9, 12)));
+        DailyAvailability secondDailyAvailability = DailyAvailability.fromAvailabilitySlots(Arrays.asList(
+                availabilitySlotOf(firstDay, 11, 12), availabilitySlotOf(secondDay, 9, 12),
+                availabilitySlotOf(thirdDay, 9, 12)));
+
+        // Act
+        DailyAvailability earliestDailyAvailability = firstDailyAvailability.intersectEarliest(
+                Collections.singletonList(secondDailyAvailability), 3, SlotCounter.hours());
+
+        // Assert
+        assertEquals(Arrays.asList(firstDay, secondDay), earliestDailyAvailability.getDays());
+        assertEquals(1 << 11, earliestDailyAvailability.getHourMask(firstDay.toEpochDay()));
+        assertEquals(0b11 << 9, earliestDailyAvailability.getHourMask(secondDay.toEpochDay()));
+    }
+
+    @Test
+    public void earliestKeepsFirstLongEnoughWindowsSuccessfully() {
+        // Arrange
+        LocalDate day = LocalDate.of(2014, Month.JANUARY, 1);
+
+        DailyAvailability dailyAvailability = DailyAvailability.fromAvailabilitySlots(Arrays.asList(
+                availabilitySlotOf(day, 9, 10), availabilitySlotOf(day, 12, 15), availabilitySlotOf(day, 17, 20)));
+
+        // Act
+        DailyAvailability earliestDailyAvailability = dailyAvailability.earliest(1, SlotCounter.windowsOfAtLeast(2));
+
+        // Assert
+        assertEquals(0b111 << 12, earliestDailyAvailability.getHourMask(day.toEpochDay()));
+    }
+
+    @Test
+    public void earliestKeepsFirstSlidingWindowsSuccessfully() {
+        // Arrange
+        LocalDate day = LocalDate.of(2014, Month.JANUARY, 1);
+
+        DailyAvailability dailyAvailability = DailyAvailability.fromAvailabilitySlots(
+                Collections.singletonList(availabilitySlotOf(day, 9, 13)));
+
+        // Act
+        DailyAvailability earliestDailyAvailability = dailyAvailability.earliest(2, SlotCounter.slidingWindowsOf(2));
+
+        // Assert
+        assertEquals(0b111 << 9, earliestDailyAvailability.getHourMask(day.toEpochDay()));
+        assertEquals(2, earliestDailyAvailability.toSlidingWindowSlots(2).get(0).getTimeSlotList().size());
+    }
+
+    @Test
+    public void getStatisticsCountsDaysHoursAndDateSpanSuccessfully() {
+        // Arrange
+        LocalDate firstDay = LocalDate.of(2014, Month.JANUARY, 1);
+        LocalDate lastDay = LocalDate.of(2014, Month.JANUARY, 10);
+
+        DailyAvailability dailyAvailability = DailyAvailability.fromAvailabilitySlots(Arrays.asList(
+                availabilitySlotOf(lastDay, 14, 15), availabilitySlotOf(firstDay, 9, 12)));
+
+        // Act
+        AvailabilityStatistics statistics = dailyAvailability.getStatistics();
+
+        // Assert
+        assertEquals(2, statistics.getNumberOfDays());
+        assertEquals(4, statistics.getNumberOfHours());
+        assertEquals(firstDay, statistics.getFirstDay());
+        assertEquals(lastDay, statistics.getLastDay());
+        assertEquals(10, statistics.getDateSpanInDays());
+    }
+
+    private static AvailabilitySlot availabilitySlotOf(LocalDate day, int fromHour, int toHour) {
+        TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(fromHour, 0)).withTo(
+                LocalTime.of(toHour, 0)).build();
+
+        return AvailabilitySlot.Builder.availabilitySlotWith().withDay(day).withTimeSlotList(
+                Collections.singletonList(timeSlot)).build();
+    }
+}
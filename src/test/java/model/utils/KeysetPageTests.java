@@ -0,0 +1,45 @@
+package model.utils;
+
+import app.exception.BusinessException;
+import app.model.utils.KeysetPage;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class KeysetPageTests {
+    @Test
+    public void cursorOfNameIsDecodedBackToNameSuccessfully() {
+        // Arrange
+        String name = "José Ñúñez";
+
+        // Act
+        String cursor = KeysetPage.cursorOf(name);
+
+        // Assert
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+        assertEquals(name, KeysetPage.nameAfter(cursor));
+        assertNull(KeysetPage.nameAfter(null));
+    }
+
+    @Test
+    public void pageSizeIsDefaultedAndCappedSuccessfully() {
+        // Act && Assert
+        assertEquals(KeysetPage.DEFAULT_PAGE_SIZE, KeysetPage.pageSizeOf(null));
+        assertEquals(10, KeysetPage.pageSizeOf(10));
+        assertEquals(KeysetPage.MAXIMUM_PAGE_SIZE, KeysetPage.pageSizeOf(KeysetPage.MAXIMUM_PAGE_SIZE + 1));
+    }
+
+    @Test(expected = BusinessException.class)
+    public void nameAfterInvalidCursorFails() {
+        // Act && Assert
+        try {
+            KeysetPage.nameAfter("not a cursor!");
+        } catch (BusinessException be) {
+            String exceptionMessage = "Invalid page cursor!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of invalid page cursor was not thrown!");
+    }
+}
@@ -0,0 +1,86 @@
+package model.utils;
+
+import app.model.utils.NamedAvailability;
+import app.model.utils.NamedAvailabilityRange;
+import app.model.utils.TimeSlot;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class NamedAvailabilityTests {
+    private static final LocalDate DAY = LocalDate.of(2014, Month.JANUARY, 6);
+
+    @Test
+    public void forEachNameGroupsSortedRangesByNameAndDaySuccessfully() {
+        // Arrange
+        List<NamedAvailabilityRange> namedAvailabilityRanges = Arrays.asList(
+                namedAvailabilityRangeOf("Jane Doe", DAY, 9, 10),
+                namedAvailabilityRangeOf("Jane Doe", DAY, 12, 14),
+                namedAvailabilityRangeOf("Jane Doe", DAY.plusDays(1), 9, 17),
+                namedAvailabilityRangeOf("John Doe", null, 0, 0),
+                namedAvailabilityRangeOf("John Smith", DAY, 10, 11));
+        List<NamedAvailability> namedAvailabilities = new ArrayList<>();
+
+        // Act
+        NamedAvailability.forEachName(namedAvailabilityRanges.iterator(), namedAvailabilities::add);
+
+        // Assert
+        assertEquals(3, namedAvailabilities.size());
+        assertEquals("Jane Doe", namedAvailabilities.get(0).getName());
+        assertEquals(2, namedAvailabilities.get(0).getAvailabilitySlotList().size());
+        assertEquals(2, namedAvailabilities.get(0).getAvailabilitySlotList().get(0).getTimeSlotList().size());
+        assertEquals(DAY.plusDays(1), namedAvailabilities.get(0).getAvailabilitySlotList().get(1).getDay());
+        assertEquals("John Doe", namedAvailabilities.get(1).getName());
+        assertTrue(namedAvailabilities.get(1).getAvailabilitySlotList().isEmpty());
+        assertEquals("John Smith", namedAvailabilities.get(2).getName());
+
+        TimeSlot timeSlot = namedAvailabilities.get(2).getAvailabilitySlotList().get(0).getTimeSlotList().get(0);
+        assertEquals(LocalTime.of(10, 0), timeSlot.getFrom());
+        assertEquals(LocalTime.of(11, 0), timeSlot.getTo());
+    }
+
+    @Test
+    public void forEachNameOfNoRangesDoesNothingSuccessfully() {
+        // Arrange
+        List<NamedAvailability> namedAvailabilities = new ArrayList<>();
+
+        // Act
+        NamedAvailability.forEachName(Collections.<NamedAvailabilityRange>emptyIterator(), namedAvailabilities::add);
+
+        // Assert
+        assertTrue(namedAvailabilities.isEmpty());
+    }
+
+    private static NamedAvailabilityRange namedAvailabilityRangeOf(String name, LocalDate day, int fromHour,
+                                                                   int toHour) {
+        return new NamedAvailabilityRange() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public LocalDate getDay() {
+                return day;
+            }
+
+            @Override
+            public LocalTime getStartTime() {
+                return day != null ? LocalTime.of(fromHour, 0) : null;
+            }
+
+            @Override
+            public LocalTime getEndTime() {
+                return day != null ? LocalTime.of(toHour, 0) : null;
+            }
+        };
+    }
+}
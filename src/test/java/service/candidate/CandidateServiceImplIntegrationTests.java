@@ -0,0 +1,183 @@
+package service.candidate;
+
+import app.Application;
+import app.model.candidate.CandidateModel;
+import app.model.utils.DailyAvailability;
+import app.model.utils.DateRange;
+import app.model.utils.ImportRecordError;
+import app.model.utils.ImportReport;
+import app.repository.candidate.CandidateAvailabilityRepository;
+import app.repository.candidate.CandidateRepository;
+import app.service.candidate.CandidateService;
+import app.service.interviewslots.DailyAvailabilityLoader;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Application.class)
+public class CandidateServiceImplIntegrationTests {
+    private static final String NAME_PREFIX = "Integration test candidate ";
+    private static final LocalDate DAY = LocalDate.of(2026, Month.NOVEMBER, 2);
+
+    @Autowired
+    private CandidateService candidateService;
+    @Autowired
+    private CandidateRepository candidateRepository;
+    @Autowired
+    private CandidateAvailabilityRepository candidateAvailabilityRepository;
+    @Autowired
+    private DailyAvailabilityLoader dailyAvailabilityLoader;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @After
+    public void tearDown() {
+        jdbcTemplate.update("delete from candidate_availability_range where candidate_availability_id in "
+                            + "(select id from candidate_availability where name like ?)", NAME_PREFIX + "%");
+        jdbcTemplate.update("delete from candidate_availability where name like ?", NAME_PREFIX + "%");
+        jdbcTemplate.update("delete from candidate where name like ?", NAME_PREFIX + "%");
+    }
+
+    @Test
+    public void importCandidatesAcrossChunksReportsInvalidAndExistingRecordsSuccessfully() {
+        // Arrange
+        int numberOfLines = 1203;
+        int lineNumberOfTooLongName = 600;
+        String existingCandidateName = nameOf(0);
+        String tooLongName = NAME_PREFIX + "x".repeat(300);
+
+        candidateService.createCandidate(CandidateModel.Builder.candidateModelWith().withName(existingCandidateName)
+                                                               .build());
+
+        List<String> ndjsonLines = new ArrayList<>();
+        Map<Integer, String> expectedMessageKeysByLineNumber = new LinkedHashMap<>();
+        List<String> namesWithAvailability = new ArrayList<>();
+        List<String> namesWithoutAvailability = new ArrayList<>();
+
+        for (int lineNumber = 1; lineNumber <= numberOfLines; lineNumber++) {
+            if (lineNumber % 100 == 7) {
+                ndjsonLines.add("{\"name\": ");
+                expectedMessageKeysByLineNumber.put(lineNumber, "Import record is not valid!");
+            } else if (lineNumber % 100 == 13) {
+                ndjsonLines.add(lineOf(existingCandidateName, 9, 12));
+                expectedMessageKeysByLineNumber.put(lineNumber, "Name already exists!");
+            } else if (lineNumber % 100 == 14) {
+                ndjsonLines.add(lineOf(nameOf(lineNumber - 2), 9, 12));
+                expectedMessageKeysByLineNumber.put(lineNumber, "Name already exists!");
+            } else if (lineNumber == lineNumberOfTooLongName) {
+                ndjsonLines.add(lineOf(tooLongName, 9, 12));
+                expectedMessageKeysByLineNumber.put(lineNumber, "Import record could not be saved!");
+            } else if (lineNumber % 50 == 20) {
+                ndjsonLines.add("{\"name\": \"" + nameOf(lineNumber) + "\"}");
+                namesWithoutAvailability.add(nameOf(lineNumber));
+            } else {
+                ndjsonLines.add(lineOf(nameOf(lineNumber), 9, 12));
+                namesWithAvailability.add(nameOf(lineNumber));
+            }
+        }
+
+        // Act
+        ImportReport importReport = candidateService.importCandidates(ndjsonLines.iterator());
+
+        // Assert
+        assertEquals(namesWithAvailability.size() + namesWithoutAvailability.size(),
+                     importReport.getNumberOfImportedRecords());
+
+        Map<Integer, String> messageKeysByLineNumber = new LinkedHashMap<>();
+
+        for (ImportRecordError recordError : importReport.getRecordErrorList()) {
+            messageKeysByLineNumber.put(recordError.getLineNumber(), recordError.getMessageKey());
+        }
+
+        assertEquals(expectedMessageKeysByLineNumber, messageKeysByLineNumber);
+        assertFalse(candidateRepository.existsById(tooLongName));
+
+        List<String> allImportedNames = new ArrayList<>(namesWithAvailability);
+        allImportedNames.addAll(namesWithoutAvailability);
+        assertEquals(allImportedNames.size(), candidateRepository.getExistingNames(allImportedNames).size());
+
+        Set<String> namesOfCandidatesWithAvailability = new HashSet<>(
+                candidateAvailabilityRepository.getNamesOfCandidatesWithAvailability(allImportedNames));
+        assertEquals(new HashSet<>(namesWithAvailability), namesOfCandidatesWithAvailability);
+
+        Map<String, DailyAvailability> candidatesDailyAvailabilityByName =
+                dailyAvailabilityLoader.getCandidatesDailyAvailabilityByName(namesWithAvailability,
+                                                                             new DateRange(DAY, DAY));
+        int expectedHourMask = DailyAvailability.toHourMask(LocalTime.of(9, 0), LocalTime.of(12, 0));
+
+        for (String candidateName : namesWithAvailability) {
+            assertEquals(candidateName, expectedHourMask,
+                         candidatesDailyAvailabilityByName.get(candidateName).getHourMask(DAY.toEpochDay()));
+        }
+    }
+
+    @Test
+    public void createCandidateProbesNameWithoutLoadingExistingCandidatesSuccessfully() {
+        // Arrange
+        int numberOfExistingCandidates = 200;
+        List<Object[]> namesToBeInserted = new ArrayList<>();
+
+        for (int candidateNumber = 1; candidateNumber <= numberOfExistingCandidates; candidateNumber++) {
+            namesToBeInserted.add(new Object[]{nameOf(candidateNumber)});
+        }
+
+        jdbcTemplate.batchUpdate("insert into candidate (name) values (?)", namesToBeInserted);
+
+        String candidateName = nameOf(numberOfExistingCandidates + 1);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+
+        // Act
+        try {
+            candidateService.createCandidate(CandidateModel.Builder.candidateModelWith().withName(candidateName)
+                                                                   .build());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        // Assert
+        long numberOfRowsRead = 0;
+
+        for (String query : statistics.getQueries()) {
+            numberOfRowsRead += statistics.getQueryStatistics(query).getExecutionRowCount();
+        }
+
+        assertTrue("Creating a candidate read " + numberOfRowsRead + " rows of " + numberOfExistingCandidates
+                   + " existing candidates", numberOfRowsRead <= 1);
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertTrue(candidateRepository.existsById(candidateName));
+    }
+
+    private static String lineOf(String candidateName, int fromHour, int toHour) {
+        return String.format("{\"name\": \"%s\", \"availabilitySlotList\": [{\"day\": \"%s\", \"timeSlotList\": "
+                             + "[{\"from\": \"%02d:00\", \"to\": \"%02d:00\"}]}]}",
+                             candidateName, DAY, fromHour, toHour);
+    }
+
+    private static String nameOf(int lineNumber) {
+        return NAME_PREFIX + String.format("%04d", lineNumber);
+    }
+}
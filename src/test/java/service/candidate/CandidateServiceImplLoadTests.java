@@ -0,0 +1,92 @@
+package service.candidate;
+
+import app.Application;
+import app.model.candidate.CandidateModel;
+import app.service.candidate.CandidateService;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Application.class)
+public class CandidateServiceImplLoadTests {
+    private static final String LOAD_TESTS_PROPERTY = "loadTests";
+    private static final String NAME_PREFIX = "Load test candidate ";
+    private static final int NUMBER_OF_TIMED_CREATIONS = 500;
+
+    @Autowired
+    private CandidateService candidateService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int numberOfCandidates;
+
+    @BeforeClass
+    public static void setUpClass() {
+        assumeTrue("Run with -D" + LOAD_TESTS_PROPERTY + "=true to enable load tests",
+                   Boolean.getBoolean(LOAD_TESTS_PROPERTY));
+    }
+
+    @After
+    public void tearDown() {
+        jdbcTemplate.update("delete from candidate where name like ?", NAME_PREFIX + "%");
+    }
+
+    @Test
+    public void createCandidateTimeStaysFlatAsCandidatesGrowSuccessfully() {
+        // Arrange
+        timeCandidateCreations();
+        growCandidatesTo(1000);
+        long creationNanosWithFewCandidates = timeCandidateCreations();
+
+        growCandidatesTo(100000);
+
+        // Act
+        long creationNanosWithManyCandidates = timeCandidateCreations();
+
+        // Assert
+        assertEquals(Integer.valueOf(numberOfCandidates),
+                     jdbcTemplate.queryForObject("select count(*) from candidate where name like ?", Integer.class,
+                                                 NAME_PREFIX + "%"));
+        assertTrue("Creating " + NUMBER_OF_TIMED_CREATIONS + " candidates took " + creationNanosWithFewCandidates
+                   + " ns with 1000 candidates but " + creationNanosWithManyCandidates + " ns with 100000",
+                   creationNanosWithManyCandidates < 3 * creationNanosWithFewCandidates);
+    }
+
+    private void growCandidatesTo(int targetNumberOfCandidates) {
+        List<Object[]> namesToBeInserted = new ArrayList<>();
+
+        while (numberOfCandidates + namesToBeInserted.size() < targetNumberOfCandidates) {
+            namesToBeInserted.add(new Object[]{nameOf(numberOfCandidates + namesToBeInserted.size())});
+        }
+
+        jdbcTemplate.batchUpdate("insert into candidate (name) values (?)", namesToBeInserted);
+        numberOfCandidates = targetNumberOfCandidates;
+    }
+
+    private long timeCandidateCreations() {
+        long startNanos = System.nanoTime();
+
+        for (int creation = 0; creation < NUMBER_OF_TIMED_CREATIONS; creation++) {
+            candidateService.createCandidate(
+                    CandidateModel.Builder.candidateModelWith().withName(nameOf(numberOfCandidates++)).build());
+        }
+
+        return System.nanoTime() - startNanos;
+    }
+
+    private static String nameOf(int candidateNumber) {
+        return NAME_PREFIX + String.format("%06d", candidateNumber);
+    }
+}
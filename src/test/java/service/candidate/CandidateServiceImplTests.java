@@ -2,28 +2,49 @@ package service.candidate;
 
 import app.exception.BusinessException;
 import app.model.candidate.CandidateAvailabilityModel;
+import app.model.candidate.CandidateAvailabilityRangeModel;
 import app.model.candidate.CandidateModel;
 import app.model.utils.AvailabilitySlot;
+import app.model.utils.ImportReport;
+import app.model.utils.KeysetPage;
+import app.model.utils.NamedAvailability;
+import app.model.utils.NamedAvailabilityRange;
 import app.model.utils.TimeSlot;
+import app.repository.candidate.CandidateAvailabilityRangeRepository;
 import app.repository.candidate.CandidateAvailabilityRepository;
 import app.repository.candidate.CandidateRepository;
 import app.service.candidate.CandidateServiceImpl;
+import app.service.interviewslots.InterviewBookingLocks;
+import app.service.interviewslots.InterviewSlotsCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.Month;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -32,6 +53,18 @@ public class CandidateServiceImplTests {
     private CandidateRepository candidateRepository;
     @Mock
     private CandidateAvailabilityRepository candidateAvailabilityRepository;
+    @Mock
+    private CandidateAvailabilityRangeRepository candidateAvailabilityRangeRepository;
+    @Mock
+    private InterviewSlotsCache interviewSlotsCache;
+    @Mock
+    private InterviewBookingLocks interviewBookingLocks;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
 
     @InjectMocks
     private CandidateServiceImpl candidateServiceImpl;
@@ -98,10 +131,8 @@ public class CandidateServiceImplTests {
         CandidateModel candidateToBeCreated = CandidateModel.Builder.candidateModelWith().withName(
                 candidateToBeCreatedName).build();
 
-        List<String> existingCandidates = Collections.singletonList(existingCandidateName);
-
         // Act && Assert
-        when(candidateRepository.getAllNames()).thenReturn(existingCandidates);
+        when(candidateRepository.existsById(existingCandidateName)).thenReturn(true);
 
         try {
             candidateServiceImpl.createCandidate(candidateToBeCreated);
@@ -114,6 +145,27 @@ public class CandidateServiceImplTests {
         fail("Business exception of candidate with existing name was not thrown!");
     }
 
+    @Test(expected = BusinessException.class)
+    public void createCandidateWithNameInsertedConcurrentlyFails() {
+        // Arrange
+        String candidateName = "John Doe";
+        CandidateModel candidate = CandidateModel.Builder.candidateModelWith().withName(candidateName).build();
+
+        // Act && Assert
+        when(candidateRepository.existsById(candidateName)).thenReturn(false);
+        when(candidateRepository.save(candidate)).thenThrow(new DataIntegrityViolationException("Unique index violation"));
+
+        try {
+            candidateServiceImpl.createCandidate(candidate);
+        } catch (BusinessException be) {
+            String exceptionMessage = "Name already exists!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of candidate with concurrently inserted name was not thrown!");
+    }
+
     @Test
     public void getAllCandidatesSuccessfully() {
         // Arrange
@@ -122,14 +174,50 @@ public class CandidateServiceImplTests {
         List<CandidateModel> candidatesToBeReturned = Collections.singletonList(candidate);
 
         // Act
-        when(candidateRepository.findAll()).thenReturn(candidatesToBeReturned);
+        when(candidateRepository.getCandidatesAfterName(null, PageRequest.of(0, KeysetPage.DEFAULT_PAGE_SIZE + 1)))
+                .thenReturn(candidatesToBeReturned);
 
-        List<CandidateModel> candidatesReturned = candidateServiceImpl.getAllCandidates();
+        KeysetPage<CandidateModel> candidatesReturned = candidateServiceImpl.getAllCandidates(null, null);
 
         // Assert
         assertNotNull(candidatesReturned);
-        assertEquals(candidatesToBeReturned.size(), candidatesReturned.size());
-        assertEquals(candidatesToBeReturned, candidatesReturned);
+        assertEquals(candidatesToBeReturned.size(), candidatesReturned.getItems().size());
+        assertEquals(candidatesToBeReturned, candidatesReturned.getItems());
+        assertNull(candidatesReturned.getNextCursor());
+    }
+
+    @Test
+    public void getAllCandidatesAfterCursorReturnsNextCursorSuccessfully() {
+        // Arrange
+        String cursor = KeysetPage.cursorOf("Jane Doe");
+        List<CandidateModel> candidatesToBeReturned = Arrays.asList(
+                CandidateModel.Builder.candidateModelWith().withName("John Doe").build(),
+                CandidateModel.Builder.candidateModelWith().withName("John Smith").build(),
+                CandidateModel.Builder.candidateModelWith().withName("Mary Smith").build());
+
+        // Act
+        when(candidateRepository.getCandidatesAfterName("Jane Doe", PageRequest.of(0, 3)))
+                .thenReturn(candidatesToBeReturned);
+
+        KeysetPage<CandidateModel> candidatesReturned = candidateServiceImpl.getAllCandidates(cursor, 2);
+
+        // Assert
+        assertEquals(candidatesToBeReturned.subList(0, 2), candidatesReturned.getItems());
+        assertEquals(KeysetPage.cursorOf("John Smith"), candidatesReturned.getNextCursor());
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getAllCandidatesWithNonPositivePageSizeFails() {
+        // Act && Assert
+        try {
+            candidateServiceImpl.getAllCandidates(null, 0);
+        } catch (BusinessException be) {
+            String exceptionMessage = "Page size must be positive!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of non positive page size was not thrown!");
     }
 
     @Test
@@ -159,6 +247,7 @@ public class CandidateServiceImplTests {
 
         // Assert
         verify(candidateRepository, times(1)).deleteById(candidateName);
+        verify(interviewSlotsCache, times(1)).invalidateCandidate(candidateName);
     }
 
     @Test
@@ -184,7 +273,7 @@ public class CandidateServiceImplTests {
         // Act
         when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
         when(candidateAvailabilityRepository.getCandidateAvailabilityByCandidateName(candidateName)).thenReturn(null);
-        when(candidateAvailabilityRepository.save(candidateAvailability)).thenReturn(candidateAvailability);
+        when(candidateAvailabilityRepository.save(any(CandidateAvailabilityModel.class))).then(returnsFirstArg());
 
         CandidateAvailabilityModel savedCandidateAvailability = candidateServiceImpl.createCandidateAvailability(
                 candidateAvailability);
@@ -192,7 +281,55 @@ public class CandidateServiceImplTests {
         // Assert
         assertNotNull(savedCandidateAvailability);
         assertEquals(candidateName, savedCandidateAvailability.getCandidateModel().getName());
-        assertEquals(availabilitySlots, savedCandidateAvailability.getAvailabilitySlotList());
+        assertEquals(1, savedCandidateAvailability.getAvailabilitySlotList().size());
+        assertEquals(availabilitySlot.getDay(), savedCandidateAvailability.getAvailabilitySlotList().get(0).getDay());
+        assertEquals(timeSlot.getFrom(),
+                     savedCandidateAvailability.getAvailabilitySlotList().get(0).getTimeSlotList().get(0).getFrom());
+        assertEquals(timeSlot.getTo(),
+                     savedCandidateAvailability.getAvailabilitySlotList().get(0).getTimeSlotList().get(0).getTo());
+    }
+
+    @Test
+    public void createCandidateAvailabilityNewAvailabilityReturnsCoalescedSlotsSuccessfully() {
+        // Arrange
+        String candidateName = "John Doe";
+        CandidateModel candidate = CandidateModel.Builder.candidateModelWith().withName(candidateName).build();
+
+        TimeSlot morningTimeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0))
+                                                   .withTo(LocalTime.of(11, 0)).build();
+        TimeSlot overlappingTimeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(10, 0))
+                                                       .withTo(LocalTime.of(12, 0)).build();
+
+        AvailabilitySlot availabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith().withDay(
+                LocalDate.of(2014, Month.JANUARY, 1)).withTimeSlotList(Arrays.asList(morningTimeSlot,
+                                                                                     overlappingTimeSlot,
+                                                                                     morningTimeSlot)).build();
+        AvailabilitySlot duplicateAvailabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith().withDay(
+                LocalDate.of(2014, Month.JANUARY, 1)).withTimeSlotList(Collections.singletonList(morningTimeSlot))
+                                                                             .build();
+
+        CandidateAvailabilityModel candidateAvailability =
+                CandidateAvailabilityModel.Builder.candidateAvailabilityModelWith()
+                                                   .withCandidateModel(candidate)
+                                                   .withAvailabilitySlotList(
+                                                           Arrays.asList(availabilitySlot, duplicateAvailabilitySlot))
+                                                   .build();
+
+        // Act
+        when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
+        when(candidateAvailabilityRepository.save(any(CandidateAvailabilityModel.class))).then(returnsFirstArg());
+
+        CandidateAvailabilityModel savedCandidateAvailability =
+                candidateServiceImpl.createCandidateAvailability(candidateAvailability);
+
+        // Assert
+        assertEquals(1, savedCandidateAvailability.getAvailabilitySlotList().size());
+
+        List<TimeSlot> savedTimeSlots = savedCandidateAvailability.getAvailabilitySlotList().get(0).getTimeSlotList();
+
+        assertEquals(1, savedTimeSlots.size());
+        assertEquals(LocalTime.of(9, 0), savedTimeSlots.get(0).getFrom());
+        assertEquals(LocalTime.of(12, 0), savedTimeSlots.get(0).getTo());
     }
 
     @Test
@@ -234,31 +371,28 @@ public class CandidateServiceImplTests {
                                                   .withAvailabilitySlotList(newAvailabilitySlots)
                                                   .build();
 
-        List<AvailabilitySlot> returnedAvailabilitySlots = new ArrayList<>();
-        returnedAvailabilitySlots.addAll(existingAvailabilitySlots);
-        returnedAvailabilitySlots.addAll(newAvailabilitySlots);
-
-        CandidateAvailabilityModel returnedCandidateAvailability =
-                CandidateAvailabilityModel.Builder.candidateAvailabilityModelWith()
-                                                  .withCandidateModel(candidate)
-                                                  .withAvailabilitySlotList(returnedAvailabilitySlots)
-                                                  .build();
-
         // Act
         when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
         when(candidateAvailabilityRepository.getCandidateAvailabilityByCandidateName(candidateName)).thenReturn(
                 existingCandidateAvailability);
-        when(candidateAvailabilityRepository.save(any(CandidateAvailabilityModel.class))).thenReturn(
-                returnedCandidateAvailability);
 
-        CandidateAvailabilityModel savedCandidateAvailability = candidateServiceImpl.createCandidateAvailability(
-                newCandidateAvailability);
+        CandidateAvailabilityModel savedCandidateAvailability =
+                candidateServiceImpl.createCandidateAvailability(newCandidateAvailability);
 
         // Assert
-        assertNotNull(savedCandidateAvailability);
-        assertEquals(returnedCandidateAvailability.getAvailabilitySlotList().size(),
-                     savedCandidateAvailability.getAvailabilitySlotList().size());
-        assertEquals(returnedCandidateAvailability, savedCandidateAvailability);
+        ArgumentCaptor<List<CandidateAvailabilityRangeModel>> newAvailabilityRangesCaptor = ArgumentCaptor.forClass(
+                List.class);
+        verify(candidateAvailabilityRangeRepository, times(1)).saveAll(newAvailabilityRangesCaptor.capture());
+        verify(candidateAvailabilityRepository, never()).save(any(CandidateAvailabilityModel.class));
+
+        List<CandidateAvailabilityRangeModel> newAvailabilityRanges = newAvailabilityRangesCaptor.getValue();
+
+        assertEquals(existingCandidateAvailability, savedCandidateAvailability);
+        assertEquals(1, newAvailabilityRanges.size());
+        assertEquals(existingCandidateAvailability, newAvailabilityRanges.get(0).getCandidateAvailabilityModel());
+        assertEquals(newAvailabilitySlot.getDay(), newAvailabilityRanges.get(0).getDay());
+        assertEquals(newTimeSlot.getFrom(), newAvailabilityRanges.get(0).getStartTime());
+        assertEquals(newTimeSlot.getTo(), newAvailabilityRanges.get(0).getEndTime());
     }
 
     @Test
@@ -300,31 +434,232 @@ public class CandidateServiceImplTests {
                                                   .withAvailabilitySlotList(newAvailabilitySlots)
                                                   .build();
 
-        List<AvailabilitySlot> returnedAvailabilitySlots = new ArrayList<>();
-        returnedAvailabilitySlots.addAll(existingAvailabilitySlots);
-        returnedAvailabilitySlots.addAll(newAvailabilitySlots);
+        // Act
+        when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
+        when(candidateAvailabilityRepository.getCandidateAvailabilityByCandidateName(candidateName)).thenReturn(
+                existingCandidateAvailability);
+
+        CandidateAvailabilityModel savedCandidateAvailability =
+                candidateServiceImpl.createCandidateAvailability(newCandidateAvailability);
 
-        CandidateAvailabilityModel returnedCandidateAvailability =
+        // Assert
+        ArgumentCaptor<List<CandidateAvailabilityRangeModel>> newAvailabilityRangesCaptor = ArgumentCaptor.forClass(
+                List.class);
+        verify(candidateAvailabilityRangeRepository, times(1)).saveAll(newAvailabilityRangesCaptor.capture());
+        verify(candidateAvailabilityRepository, never()).save(any(CandidateAvailabilityModel.class));
+
+        List<CandidateAvailabilityRangeModel> newAvailabilityRanges = newAvailabilityRangesCaptor.getValue();
+
+        assertEquals(existingCandidateAvailability, savedCandidateAvailability);
+        assertEquals(1, newAvailabilityRanges.size());
+        assertEquals(existingCandidateAvailability, newAvailabilityRanges.get(0).getCandidateAvailabilityModel());
+        assertEquals(newAvailabilitySlot.getDay(), newAvailabilityRanges.get(0).getDay());
+        assertEquals(newTimeSlot.getFrom(), newAvailabilityRanges.get(0).getStartTime());
+        assertEquals(newTimeSlot.getTo(), newAvailabilityRanges.get(0).getEndTime());
+    }
+
+    @Test
+    public void createCandidateAvailabilityCoalescesOverlappingTimeSlotsSuccessfully() {
+        // Arrange
+        String candidateName = "John Doe";
+        CandidateModel candidate = CandidateModel.Builder.candidateModelWith().withName(candidateName).build();
+        LocalDate day = LocalDate.of(2014, Month.JANUARY, 1);
+
+        CandidateAvailabilityModel existingCandidateAvailability =
                 CandidateAvailabilityModel.Builder.candidateAvailabilityModelWith()
                                                   .withCandidateModel(candidate)
-                                                  .withAvailabilitySlotList(returnedAvailabilitySlots)
+                                                  .build();
+
+        CandidateAvailabilityRangeModel firstExistingAvailabilityRange = availabilityRangeOf(
+                existingCandidateAvailability, day, 9, 10);
+        CandidateAvailabilityRangeModel secondExistingAvailabilityRange = availabilityRangeOf(
+                existingCandidateAvailability, day, 10, 11);
+        List<CandidateAvailabilityRangeModel> existingAvailabilityRanges = Arrays.asList(
+                firstExistingAvailabilityRange, secondExistingAvailabilityRange);
+
+        TimeSlot newTimeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(10, 0)).withTo(LocalTime.of(12, 0))
+                                               .build();
+        AvailabilitySlot newAvailabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith().withDay(day)
+                                                                       .withTimeSlotList(
+                                                                               Collections.singletonList(newTimeSlot))
+                                                                       .build();
+
+        CandidateAvailabilityModel newCandidateAvailability =
+                CandidateAvailabilityModel.Builder.candidateAvailabilityModelWith()
+                                                  .withCandidateModel(candidate)
+                                                  .withAvailabilitySlotList(
+                                                          Collections.singletonList(newAvailabilitySlot))
                                                   .build();
 
         // Act
         when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
         when(candidateAvailabilityRepository.getCandidateAvailabilityByCandidateName(candidateName)).thenReturn(
                 existingCandidateAvailability);
-        when(candidateAvailabilityRepository.save(any(CandidateAvailabilityModel.class))).thenReturn(
-                returnedCandidateAvailability);
+        when(candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByDays(
+                existingCandidateAvailability, Collections.singletonList(day))).thenReturn(
+                existingAvailabilityRanges);
 
-        CandidateAvailabilityModel savedCandidateAvailability = candidateServiceImpl.createCandidateAvailability(
-                newCandidateAvailability);
+        candidateServiceImpl.createCandidateAvailability(newCandidateAvailability);
 
         // Assert
-        assertNotNull(savedCandidateAvailability);
-        assertEquals(returnedCandidateAvailability.getAvailabilitySlotList().size(),
-                     savedCandidateAvailability.getAvailabilitySlotList().size());
-        assertEquals(returnedCandidateAvailability, savedCandidateAvailability);
+        ArgumentCaptor<List<CandidateAvailabilityRangeModel>> newAvailabilityRangesCaptor = ArgumentCaptor.forClass(
+                List.class);
+        verify(candidateAvailabilityRangeRepository, times(1)).deleteInBatch(existingAvailabilityRanges);
+        verify(candidateAvailabilityRangeRepository, times(1)).saveAll(newAvailabilityRangesCaptor.capture());
+
+        List<CandidateAvailabilityRangeModel> newAvailabilityRanges = newAvailabilityRangesCaptor.getValue();
+
+        assertEquals(1, newAvailabilityRanges.size());
+        assertEquals(LocalTime.of(9, 0), newAvailabilityRanges.get(0).getStartTime());
+        assertEquals(LocalTime.of(12, 0), newAvailabilityRanges.get(0).getEndTime());
+    }
+
+    @Test
+    public void createCandidateAvailabilityWithAlreadyExistingTimeSlotsSavesNothingSuccessfully() {
+        // Arrange
+        String candidateName = "John Doe";
+        CandidateModel candidate = CandidateModel.Builder.candidateModelWith().withName(candidateName).build();
+        LocalDate day = LocalDate.of(2014, Month.JANUARY, 1);
+
+        CandidateAvailabilityModel existingCandidateAvailability =
+                CandidateAvailabilityModel.Builder.candidateAvailabilityModelWith()
+                                                  .withCandidateModel(candidate)
+                                                  .build();
+
+        CandidateAvailabilityRangeModel existingAvailabilityRange = availabilityRangeOf(
+                existingCandidateAvailability, day, 9, 11);
+
+        TimeSlot newTimeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0)).withTo(LocalTime.of(10, 0))
+                                               .build();
+        AvailabilitySlot newAvailabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith().withDay(day)
+                                                                       .withTimeSlotList(
+                                                                               Collections.singletonList(newTimeSlot))
+                                                                       .build();
+
+        CandidateAvailabilityModel newCandidateAvailability =
+                CandidateAvailabilityModel.Builder.candidateAvailabilityModelWith()
+                                                  .withCandidateModel(candidate)
+                                                  .withAvailabilitySlotList(
+                                                          Collections.singletonList(newAvailabilitySlot))
+                                                  .build();
+
+        // Act
+        when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
+        when(candidateAvailabilityRepository.getCandidateAvailabilityByCandidateName(candidateName)).thenReturn(
+                existingCandidateAvailability);
+        when(candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByDays(
+                existingCandidateAvailability, Collections.singletonList(day))).thenReturn(
+                Collections.singletonList(existingAvailabilityRange));
+
+        candidateServiceImpl.createCandidateAvailability(newCandidateAvailability);
+
+        // Assert
+        verify(candidateAvailabilityRangeRepository, never()).deleteInBatch(anyList());
+        verify(candidateAvailabilityRangeRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    public void addCandidateAvailabilitySlotsToExistingAvailabilitySuccessfully() {
+        // Arrange
+        String candidateName = "John Doe";
+        CandidateModel candidate = CandidateModel.Builder.candidateModelWith().withName(candidateName).build();
+        LocalDate day = LocalDate.of(2014, Month.JANUARY, 1);
+
+        CandidateAvailabilityModel existingCandidateAvailability =
+                CandidateAvailabilityModel.Builder.candidateAvailabilityModelWith()
+                                                  .withCandidateModel(candidate)
+                                                  .build();
+
+        List<AvailabilitySlot> newAvailabilitySlots = Collections.singletonList(availabilitySlotOf(day, 9, 10));
+
+        // Act
+        when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
+        when(candidateAvailabilityRepository.getCandidateAvailabilityByCandidateName(candidateName)).thenReturn(
+                existingCandidateAvailability);
+
+        CandidateAvailabilityModel updatedCandidateAvailability = candidateServiceImpl.addCandidateAvailabilitySlots(
+                candidateName, newAvailabilitySlots);
+
+        // Assert
+        ArgumentCaptor<List<CandidateAvailabilityRangeModel>> newAvailabilityRangesCaptor = ArgumentCaptor.forClass(
+                List.class);
+        verify(candidateAvailabilityRangeRepository, times(1)).saveAll(newAvailabilityRangesCaptor.capture());
+
+        List<CandidateAvailabilityRangeModel> newAvailabilityRanges = newAvailabilityRangesCaptor.getValue();
+
+        assertEquals(existingCandidateAvailability, updatedCandidateAvailability);
+        assertEquals(1, newAvailabilityRanges.size());
+        assertEquals(LocalTime.of(9, 0), newAvailabilityRanges.get(0).getStartTime());
+        assertEquals(LocalTime.of(10, 0), newAvailabilityRanges.get(0).getEndTime());
+    }
+
+    @Test
+    public void removeCandidateAvailabilitySlotsSplitsExistingTimeSlotSuccessfully() {
+        // Arrange
+        String candidateName = "John Doe";
+        CandidateModel candidate = CandidateModel.Builder.candidateModelWith().withName(candidateName).build();
+        LocalDate day = LocalDate.of(2014, Month.JANUARY, 1);
+
+        CandidateAvailabilityModel existingCandidateAvailability =
+                CandidateAvailabilityModel.Builder.candidateAvailabilityModelWith()
+                                                  .withCandidateModel(candidate)
+                                                  .build();
+
+        List<CandidateAvailabilityRangeModel> existingAvailabilityRanges = Collections.singletonList(
+                availabilityRangeOf(existingCandidateAvailability, day, 9, 12));
+
+        List<AvailabilitySlot> removedAvailabilitySlots = Collections.singletonList(availabilitySlotOf(day, 10, 11));
+
+        // Act
+        when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
+        when(candidateAvailabilityRepository.getCandidateAvailabilityByCandidateName(candidateName)).thenReturn(
+                existingCandidateAvailability);
+        when(candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByDays(
+                existingCandidateAvailability, Collections.singletonList(day))).thenReturn(
+                existingAvailabilityRanges);
+
+        CandidateAvailabilityModel updatedCandidateAvailability = candidateServiceImpl.removeCandidateAvailabilitySlots(
+                candidateName, removedAvailabilitySlots);
+
+        // Assert
+        ArgumentCaptor<List<CandidateAvailabilityRangeModel>> newAvailabilityRangesCaptor = ArgumentCaptor.forClass(
+                List.class);
+        verify(candidateAvailabilityRangeRepository, times(1)).deleteInBatch(existingAvailabilityRanges);
+        verify(candidateAvailabilityRangeRepository, times(1)).saveAll(newAvailabilityRangesCaptor.capture());
+
+        List<CandidateAvailabilityRangeModel> newAvailabilityRanges = newAvailabilityRangesCaptor.getValue();
+
+        assertEquals(existingCandidateAvailability, updatedCandidateAvailability);
+        assertEquals(2, newAvailabilityRanges.size());
+        assertEquals(LocalTime.of(9, 0), newAvailabilityRanges.get(0).getStartTime());
+        assertEquals(LocalTime.of(10, 0), newAvailabilityRanges.get(0).getEndTime());
+        assertEquals(LocalTime.of(11, 0), newAvailabilityRanges.get(1).getStartTime());
+        assertEquals(LocalTime.of(12, 0), newAvailabilityRanges.get(1).getEndTime());
+    }
+
+    @Test(expected = BusinessException.class)
+    public void removeCandidateAvailabilitySlotsWithoutAvailabilityCreatedFails() {
+        // Arrange
+        String candidateName = "John Doe";
+        CandidateModel candidate = CandidateModel.Builder.candidateModelWith().withName(candidateName).build();
+
+        List<AvailabilitySlot> removedAvailabilitySlots = Collections.singletonList(
+                availabilitySlotOf(LocalDate.of(2014, Month.JANUARY, 1), 10, 11));
+
+        // Act && Assert
+        when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
+        when(candidateAvailabilityRepository.getCandidateAvailabilityByCandidateName(candidateName)).thenReturn(null);
+
+        try {
+            candidateServiceImpl.removeCandidateAvailabilitySlots(candidateName, removedAvailabilitySlots);
+        } catch (BusinessException be) {
+            String exceptionMessage = "Candidate has no availability defined!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of removing availability slots without candidate availability created was not "
+             + "thrown!");
     }
 
     @Test(expected = BusinessException.class)
@@ -528,15 +863,46 @@ public class CandidateServiceImplTests {
                 candidateAvailability);
 
         // Act
-        when(candidateAvailabilityRepository.findAll()).thenReturn(candidatesAvailabilitiesToBeReturned);
+        when(candidateAvailabilityRepository.getCandidatesAvailabilityAfterName(
+                null, PageRequest.of(0, KeysetPage.DEFAULT_PAGE_SIZE + 1)))
+                .thenReturn(candidatesAvailabilitiesToBeReturned);
 
-        List<CandidateAvailabilityModel> candidatesAvailabilitiesReturned =
-                candidateServiceImpl.getAllCandidatesAvailability();
+        KeysetPage<CandidateAvailabilityModel> candidatesAvailabilitiesReturned =
+                candidateServiceImpl.getAllCandidatesAvailability(null, null);
 
         // Assert
         assertNotNull(candidatesAvailabilitiesReturned);
-        assertEquals(candidatesAvailabilitiesToBeReturned.size(), candidatesAvailabilitiesReturned.size());
-        assertEquals(candidatesAvailabilitiesToBeReturned, candidatesAvailabilitiesReturned);
+        assertEquals(candidatesAvailabilitiesToBeReturned.size(), candidatesAvailabilitiesReturned.getItems().size());
+        assertEquals(candidatesAvailabilitiesToBeReturned, candidatesAvailabilitiesReturned.getItems());
+        assertNull(candidatesAvailabilitiesReturned.getNextCursor());
+    }
+
+    @Test
+    public void exportAllCandidatesAvailabilitySuccessfully() {
+        // Arrange
+        String candidateName = "John Doe";
+        LocalDate day = LocalDate.of(2014, Month.JANUARY, 1);
+
+        NamedAvailabilityRange namedAvailabilityRange = mock(NamedAvailabilityRange.class);
+        when(namedAvailabilityRange.getName()).thenReturn(candidateName);
+        when(namedAvailabilityRange.getDay()).thenReturn(day);
+        when(namedAvailabilityRange.getStartTime()).thenReturn(LocalTime.of(9, 0));
+        when(namedAvailabilityRange.getEndTime()).thenReturn(LocalTime.of(11, 0));
+
+        AtomicBoolean namedAvailabilityRangesClosed = new AtomicBoolean();
+        List<NamedAvailability> namedAvailabilitiesExported = new ArrayList<>();
+
+        // Act
+        when(candidateAvailabilityRepository.streamAllCandidatesAvailabilityRanges()).thenReturn(
+                Stream.of(namedAvailabilityRange).onClose(() -> namedAvailabilityRangesClosed.set(true)));
+
+        candidateServiceImpl.exportAllCandidatesAvailability(namedAvailabilitiesExported::add);
+
+        // Assert
+        assertEquals(1, namedAvailabilitiesExported.size());
+        assertEquals(candidateName, namedAvailabilitiesExported.get(0).getName());
+        assertEquals(day, namedAvailabilitiesExported.get(0).getAvailabilitySlotList().get(0).getDay());
+        assertTrue(namedAvailabilityRangesClosed.get());
     }
 
     @Test
@@ -601,5 +967,69 @@ public class CandidateServiceImplTests {
 
         // Assert
         verify(candidateAvailabilityRepository, times(1)).deleteById(any());
+        verify(interviewSlotsCache, times(1)).invalidateCandidate(candidateName);
+    }
+
+    private static CandidateAvailabilityRangeModel availabilityRangeOf(
+            CandidateAvailabilityModel candidateAvailability, LocalDate day, int fromHour, int toHour) {
+        return CandidateAvailabilityRangeModel.Builder.candidateAvailabilityRangeModelWith()
+                                                      .withCandidateAvailabilityModel(candidateAvailability)
+                                                      .withDay(day)
+                                                      .withStartTime(LocalTime.of(fromHour, 0))
+                                                      .withEndTime(LocalTime.of(toHour, 0))
+                                                      .build();
+    }
+
+    private static AvailabilitySlot availabilitySlotOf(LocalDate day, int fromHour, int toHour) {
+        TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(fromHour, 0)).withTo(
+                LocalTime.of(toHour, 0)).build();
+
+        return AvailabilitySlot.Builder.availabilitySlotWith().withDay(day).withTimeSlotList(
+                Collections.singletonList(timeSlot)).build();
+    }
+
+    @Test
+    public void importCandidatesReportsInvalidAndExistingRecordsSuccessfully() {
+        // Arrange
+        String candidateName = "John Doe";
+        String existingCandidateName = "Jane Doe";
+        CandidateModel candidate = CandidateModel.Builder.candidateModelWith().withName(candidateName).build();
+
+        List<String> ndjsonLines = Arrays.asList(
+                "{\"name\": \"John Doe\", \"availabilitySlotList\": [{\"day\": \"2014-01-01\", \"timeSlotList\": "
+                + "[{\"from\": \"09:00\", \"to\": \"11:00\"}, {\"from\": \"10:00\", \"to\": \"12:00\"}]}]}",
+                "{\"name\": \"Jane Doe\"}",
+                "",
+                "{\"name\": ",
+                "{\"name\": \"John Doe\"}");
+
+        // Act
+        when(candidateRepository.getExistingNames(Arrays.asList(candidateName, existingCandidateName)))
+                .thenReturn(Collections.singletonList(existingCandidateName));
+        when(candidateRepository.getOne(candidateName)).thenReturn(candidate);
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        ImportReport importReport = candidateServiceImpl.importCandidates(ndjsonLines.iterator());
+
+        // Assert
+        assertEquals(1, importReport.getNumberOfImportedRecords());
+        assertEquals(3, importReport.getRecordErrorList().size());
+        assertEquals(2, importReport.getRecordErrorList().get(0).getLineNumber());
+        assertEquals("Name already exists!", importReport.getRecordErrorList().get(0).getMessageKey());
+        assertEquals(4, importReport.getRecordErrorList().get(1).getLineNumber());
+        assertEquals("Import record is not valid!", importReport.getRecordErrorList().get(1).getMessageKey());
+        assertEquals(5, importReport.getRecordErrorList().get(2).getLineNumber());
+        assertEquals("Name already exists!", importReport.getRecordErrorList().get(2).getMessageKey());
+
+        verify(jdbcTemplate, times(1)).batchUpdate(eq("insert into candidate (name) values (?)"), anyList());
+        verify(candidateAvailabilityRepository, times(1)).saveAll(anyList());
+        ArgumentCaptor<List<CandidateAvailabilityRangeModel>> newAvailabilityRangesCaptor = ArgumentCaptor.forClass(
+                List.class);
+        verify(candidateAvailabilityRangeRepository, times(1)).saveAll(newAvailabilityRangesCaptor.capture());
+        assertEquals(1, newAvailabilityRangesCaptor.getValue().size());
+        assertEquals(LocalTime.of(9, 0), newAvailabilityRangesCaptor.getValue().get(0).getStartTime());
+        assertEquals(LocalTime.of(12, 0), newAvailabilityRangesCaptor.getValue().get(0).getEndTime());
+        verify(interviewSlotsCache, times(1)).invalidateCandidate(candidateName);
     }
 }
@@ -0,0 +1,125 @@
+package service.interviewer;
+
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.DailyAvailability;
+import app.model.utils.DateRange;
+import app.model.utils.TimeSlot;
+import app.repository.interviewer.InterviewerRepository;
+import app.service.interviewer.InterviewerAvailabilityIndex;
+import app.service.interviewslots.DailyAvailabilityLoader;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class InterviewerAvailabilityIndexTests {
+    private static final LocalDate DAY = LocalDate.of(2026, Month.OCTOBER, 20);
+
+    @Mock
+    private InterviewerRepository interviewerRepository;
+    @Mock
+    private DailyAvailabilityLoader dailyAvailabilityLoader;
+
+    @InjectMocks
+    private InterviewerAvailabilityIndex interviewerAvailabilityIndex;
+
+    @Test
+    public void getAvailableInterviewersNamesForTimeAndRangeSuccessfully() {
+        // Arrange
+        String firstInterviewerName = "Jane Doe";
+        String secondInterviewerName = "John Smith";
+        List<String> interviewersNames = Arrays.asList(firstInterviewerName, secondInterviewerName);
+
+        Map<String, DailyAvailability> interviewersDailyAvailabilityByName = new HashMap<>();
+        interviewersDailyAvailabilityByName.put(firstInterviewerName, dailyAvailabilityOf(DAY, 9, 12));
+        interviewersDailyAvailabilityByName.put(secondInterviewerName, dailyAvailabilityOf(DAY, 10, 14));
+
+        // Act
+        when(interviewerRepository.getAllNames()).thenReturn(interviewersNames);
+        when(dailyAvailabilityLoader.getInterviewersDailyAvailabilityByName(interviewersNames,
+                                                                            DateRange.unbounded()))
+                .thenReturn(interviewersDailyAvailabilityByName);
+
+        List<String> availableAtNine = interviewerAvailabilityIndex.getAvailableInterviewersNames(DAY, 9, 10);
+        List<String> availableFromTenToTwelve = interviewerAvailabilityIndex.getAvailableInterviewersNames(DAY, 10,
+                                                                                                           12);
+        List<String> availableFromElevenToThirteen = interviewerAvailabilityIndex.getAvailableInterviewersNames(
+                DAY, 11, 13);
+        List<String> availableFromEightToFifteen = interviewerAvailabilityIndex.getAvailableInterviewersNames(DAY, 8,
+                                                                                                              15);
+        List<String> availableOnNextDay = interviewerAvailabilityIndex.getAvailableInterviewersNames(DAY.plusDays(1),
+                                                                                                     10, 11);
+
+        // Assert
+        assertEquals(Collections.singletonList(firstInterviewerName), availableAtNine);
+        assertThat(availableFromTenToTwelve, containsInAnyOrder(firstInterviewerName, secondInterviewerName));
+        assertEquals(Collections.singletonList(secondInterviewerName), availableFromElevenToThirteen);
+        assertTrue(availableFromEightToFifteen.isEmpty());
+        assertTrue(availableOnNextDay.isEmpty());
+    }
+
+    @Test
+    public void updateAndRemoveInterviewerChangesIndexSuccessfully() {
+        // Arrange
+        String firstInterviewerName = "Jane Doe";
+        String secondInterviewerName = "John Smith";
+        List<String> interviewersNames = Collections.singletonList(firstInterviewerName);
+
+        Map<String, DailyAvailability> interviewersDailyAvailabilityByName = new HashMap<>();
+        interviewersDailyAvailabilityByName.put(firstInterviewerName, dailyAvailabilityOf(DAY, 9, 12));
+
+        // Act
+        when(interviewerRepository.getAllNames()).thenReturn(interviewersNames);
+        when(dailyAvailabilityLoader.getInterviewersDailyAvailabilityByName(interviewersNames,
+                                                                            DateRange.unbounded()))
+                .thenReturn(interviewersDailyAvailabilityByName);
+
+        List<String> availableBeforeChanges = interviewerAvailabilityIndex.getAvailableInterviewersNames(DAY, 9, 11);
+
+        interviewerAvailabilityIndex.updateInterviewer(firstInterviewerName, Collections.singletonList(DAY),
+                                                       dailyAvailabilityOf(DAY, 10, 11));
+        interviewerAvailabilityIndex.updateInterviewer(secondInterviewerName, Collections.singletonList(DAY),
+                                                       dailyAvailabilityOf(DAY, 8, 11));
+
+        List<String> availableAfterUpdates = interviewerAvailabilityIndex.getAvailableInterviewersNames(DAY, 10, 11);
+        List<String> availableAtNineAfterUpdates = interviewerAvailabilityIndex.getAvailableInterviewersNames(DAY, 9,
+                                                                                                              10);
+
+        interviewerAvailabilityIndex.removeInterviewer(secondInterviewerName);
+
+        List<String> availableAfterRemoval = interviewerAvailabilityIndex.getAvailableInterviewersNames(DAY, 10, 11);
+
+        // Assert
+        assertEquals(Collections.singletonList(firstInterviewerName), availableBeforeChanges);
+        assertThat(availableAfterUpdates, containsInAnyOrder(firstInterviewerName, secondInterviewerName));
+        assertEquals(Collections.singletonList(secondInterviewerName), availableAtNineAfterUpdates);
+        assertEquals(Collections.singletonList(firstInterviewerName), availableAfterRemoval);
+    }
+
+    private static DailyAvailability dailyAvailabilityOf(LocalDate day, int fromHour, int toHour) {
+        TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(fromHour, 0)).withTo(
+                LocalTime.of(toHour, 0)).build();
+        AvailabilitySlot availabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith().withDay(day)
+                                                                    .withTimeSlotList(
+                                                                            Collections.singletonList(timeSlot))
+                                                                    .build();
+
+        return DailyAvailability.fromAvailabilitySlots(Collections.singletonList(availabilitySlot));
+    }
+}
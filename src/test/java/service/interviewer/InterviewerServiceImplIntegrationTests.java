@@ -0,0 +1,253 @@
+package service.interviewer;
+
+import app.Application;
+import app.model.interviewer.InterviewerAvailabilityRuleModel;
+import app.model.interviewer.InterviewerModel;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.DailyAvailability;
+import app.model.utils.DateRange;
+import app.model.utils.ImportReport;
+import app.model.utils.NamedAvailability;
+import app.model.utils.TimeSlot;
+import app.service.interviewer.InterviewerService;
+import app.service.interviewslots.DailyAvailabilityLoader;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Application.class)
+public class InterviewerServiceImplIntegrationTests {
+    private static final String NAME_PREFIX = "Integration test interviewer ";
+    private static final LocalDate DAY = LocalDate.of(2026, Month.NOVEMBER, 2);
+
+    @Autowired
+    private InterviewerService interviewerService;
+    @Autowired
+    private DailyAvailabilityLoader dailyAvailabilityLoader;
+
+    private final List<String> interviewersNames = new ArrayList<>();
+
+    @After
+    public void deleteInterviewers() {
+        interviewersNames.forEach(interviewerService::deleteInterviewerByName);
+    }
+
+    @Test
+    public void exportAllInterviewersAvailabilityAcrossChunksSuccessfully() {
+        // Arrange
+        int numberOfInterviewers = 1103;
+        List<String> ndjsonLines = new ArrayList<>();
+        Set<String> namesWithoutAvailability = new HashSet<>();
+        Set<String> namesWithEmptyAvailability = new HashSet<>();
+        Set<String> namesWithAvailabilityRules = new HashSet<>();
+
+        for (int interviewerNumber = 1; interviewerNumber <= numberOfInterviewers; interviewerNumber++) {
+            String interviewerName = nameOf(interviewerNumber);
+
+            interviewersNames.add(interviewerName);
+
+            if (interviewerNumber % 100 == 50 || interviewerNumber % 100 == 55) {
+                ndjsonLines.add("{\"name\": \"" + interviewerName + "\"}");
+                namesWithoutAvailability.add(interviewerName);
+            } else {
+                ndjsonLines.add(lineOf(interviewerName, fromHourOf(interviewerNumber)));
+            }
+        }
+
+        ImportReport importReport = interviewerService.importInterviewers(ndjsonLines.iterator());
+
+        for (int interviewerNumber = 1; interviewerNumber <= numberOfInterviewers; interviewerNumber++) {
+            String interviewerName = nameOf(interviewerNumber);
+
+            if (interviewerNumber % 100 == 75) {
+                interviewerService.removeInterviewerAvailabilitySlots(
+                        interviewerName, availabilitySlotsOf(DAY, fromHourOf(interviewerNumber)));
+                namesWithEmptyAvailability.add(interviewerName);
+            }
+
+            if (interviewerNumber % 10 == 0) {
+                interviewerService.createInterviewerAvailabilityRules(interviewerName,
+                                                                      Collections.singletonList(availabilityRule()));
+                namesWithAvailabilityRules.add(interviewerName);
+
+                if (namesWithoutAvailability.remove(interviewerName)) {
+                    namesWithEmptyAvailability.add(interviewerName);
+                }
+            }
+        }
+
+        Map<String, NamedAvailability> exportedInterviewersByName = new LinkedHashMap<>();
+
+        // Act
+        interviewerService.exportAllInterviewersAvailability(namedAvailability -> {
+            if (namedAvailability.getName().startsWith(NAME_PREFIX)) {
+                assertNull(exportedInterviewersByName.put(namedAvailability.getName(), namedAvailability));
+            }
+        });
+
+        // Assert
+        assertEquals(numberOfInterviewers, importReport.getNumberOfImportedRecords());
+
+        List<String> expectedExportedNames = new ArrayList<>(interviewersNames);
+        expectedExportedNames.removeAll(namesWithoutAvailability);
+        assertEquals(expectedExportedNames, new ArrayList<>(exportedInterviewersByName.keySet()));
+        assertEquals(11, namesWithoutAvailability.size());
+
+        for (int interviewerNumber = 1; interviewerNumber <= numberOfInterviewers; interviewerNumber++) {
+            String interviewerName = nameOf(interviewerNumber);
+            NamedAvailability exportedInterviewer = exportedInterviewersByName.get(interviewerName);
+
+            if (exportedInterviewer == null) {
+                continue;
+            }
+
+            if (namesWithEmptyAvailability.contains(interviewerName)) {
+                assertEquals(interviewerName, Collections.emptyList(), exportedInterviewer.getAvailabilitySlotList());
+            } else {
+                int fromHour = fromHourOf(interviewerNumber);
+                DailyAvailability exportedDailyAvailability = DailyAvailability.fromAvailabilitySlots(
+                        exportedInterviewer.getAvailabilitySlotList());
+
+                assertEquals(interviewerName, Collections.singletonList(DAY), exportedDailyAvailability.getDays());
+                assertEquals(interviewerName, hourMaskOf(fromHour, fromHour + 2),
+                             exportedDailyAvailability.getHourMask(DAY.toEpochDay()));
+            }
+
+            if (namesWithAvailabilityRules.contains(interviewerName)) {
+                assertEquals(interviewerName, 1, exportedInterviewer.getAvailabilityRuleList().size());
+
+                InterviewerAvailabilityRuleModel exportedAvailabilityRule =
+                        exportedInterviewer.getAvailabilityRuleList().get(0);
+
+                assertEquals(DayOfWeek.TUESDAY, exportedAvailabilityRule.getDayOfWeek());
+                assertEquals(DAY, exportedAvailabilityRule.getValidFrom());
+                assertEquals(DAY.plusWeeks(4), exportedAvailabilityRule.getValidUntil());
+                assertEquals(hourMaskOf(14, 16), exportedAvailabilityRule.getHourMask());
+                assertEquals(availabilityRule().getExceptionDays(), exportedAvailabilityRule.getExceptionDays());
+            } else {
+                assertEquals(interviewerName, Collections.emptyList(), exportedInterviewer.getAvailabilityRuleList());
+            }
+        }
+    }
+
+    @Test
+    public void removeInterviewerAvailabilitySlotsCoveredByAvailabilityRuleSuccessfully() {
+        // Arrange
+        String interviewerName = nameOf(0);
+        DateRange queryDateRange = new DateRange(DAY, DAY.plusWeeks(4));
+        LocalDate exceptionDay = DAY.plusWeeks(1).plusDays(1);
+        InterviewerAvailabilityRuleModel availabilityRule =
+                InterviewerAvailabilityRuleModel.Builder.interviewerAvailabilityRuleModelWith()
+                                                        .withDayOfWeek(DayOfWeek.TUESDAY)
+                                                        .withTimeSlotList(Collections.singletonList(
+                                                                timeSlotOf(9, 12)))
+                                                        .withValidFrom(DAY)
+                                                        .withValidUntil(DAY.plusWeeks(3))
+                                                        .build();
+        AvailabilitySlot removedAvailabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith()
+                                                                           .withDay(exceptionDay)
+                                                                           .withTimeSlotList(Collections.singletonList(
+                                                                                   timeSlotOf(10, 11)))
+                                                                           .build();
+
+        interviewersNames.add(interviewerName);
+        interviewerService.createInterviewer(InterviewerModel.Builder.interviewerModelWith().withName(interviewerName)
+                                                                     .build());
+        interviewerService.createInterviewerAvailabilityRules(interviewerName,
+                                                              Collections.singletonList(availabilityRule));
+
+        DailyAvailability dailyAvailabilityBeforeRemoval = dailyAvailabilityLoader
+                .getInterviewersDailyAvailabilityByName(Collections.singletonList(interviewerName), queryDateRange)
+                .get(interviewerName);
+
+        // Act
+        interviewerService.removeInterviewerAvailabilitySlots(interviewerName,
+                                                              Collections.singletonList(removedAvailabilitySlot));
+
+        // Assert
+        DailyAvailability dailyAvailabilityAfterRemoval = dailyAvailabilityLoader
+                .getInterviewersDailyAvailabilityByName(Collections.singletonList(interviewerName), queryDateRange)
+                .get(interviewerName);
+        List<LocalDate> ruleDays = Arrays.asList(DAY.plusDays(1), exceptionDay, DAY.plusWeeks(2).plusDays(1));
+
+        assertEquals(ruleDays, dailyAvailabilityBeforeRemoval.getDays());
+        assertEquals(ruleDays, dailyAvailabilityAfterRemoval.getDays());
+
+        for (LocalDate ruleDay : ruleDays) {
+            assertEquals(hourMaskOf(9, 12), dailyAvailabilityBeforeRemoval.getHourMask(ruleDay.toEpochDay()));
+        }
+
+        assertEquals(hourMaskOf(9, 10) | hourMaskOf(11, 12),
+                     dailyAvailabilityAfterRemoval.getHourMask(exceptionDay.toEpochDay()));
+        assertEquals(hourMaskOf(9, 12), dailyAvailabilityAfterRemoval.getHourMask(DAY.plusDays(1).toEpochDay()));
+        assertEquals(hourMaskOf(9, 12),
+                     dailyAvailabilityAfterRemoval.getHourMask(DAY.plusWeeks(2).plusDays(1).toEpochDay()));
+        assertEquals(Collections.singleton(exceptionDay),
+                     interviewerService.getInterviewerAvailabilityRulesByName(interviewerName).get(0)
+                                       .getExceptionDays());
+    }
+
+    private static InterviewerAvailabilityRuleModel availabilityRule() {
+        return InterviewerAvailabilityRuleModel.Builder.interviewerAvailabilityRuleModelWith()
+                                                       .withDayOfWeek(DayOfWeek.TUESDAY)
+                                                       .withTimeSlotList(Collections.singletonList(
+                                                               timeSlotOf(14, 16)))
+                                                       .withValidFrom(DAY)
+                                                       .withValidUntil(DAY.plusWeeks(4))
+                                                       .withExceptionDays(new HashSet<>(Arrays.asList(
+                                                               DAY.plusDays(8), DAY.plusDays(15))))
+                                                       .build();
+    }
+
+    private static List<AvailabilitySlot> availabilitySlotsOf(LocalDate day, int fromHour) {
+        return Collections.singletonList(AvailabilitySlot.Builder.availabilitySlotWith()
+                                                                 .withDay(day)
+                                                                 .withTimeSlotList(Collections.singletonList(
+                                                                         timeSlotOf(fromHour, fromHour + 2)))
+                                                                 .build());
+    }
+
+    private static int hourMaskOf(int fromHour, int toHour) {
+        return DailyAvailability.toHourMask(LocalTime.of(fromHour, 0), LocalTime.of(toHour, 0));
+    }
+
+    private static TimeSlot timeSlotOf(int fromHour, int toHour) {
+        return TimeSlot.Builder.timeSlotWith()
+                               .withFrom(LocalTime.of(fromHour, 0))
+                               .withTo(LocalTime.of(toHour, 0))
+                               .build();
+    }
+
+    private static int fromHourOf(int interviewerNumber) {
+        return 8 + interviewerNumber % 8;
+    }
+
+    private static String lineOf(String interviewerName, int fromHour) {
+        return String.format("{\"name\": \"%s\", \"availabilitySlotList\": [{\"day\": \"%s\", \"timeSlotList\": "
+                             + "[{\"from\": \"%02d:00\", \"to\": \"%02d:00\"}]}]}",
+                             interviewerName, DAY, fromHour, fromHour + 2);
+    }
+
+    private static String nameOf(int interviewerNumber) {
+        return NAME_PREFIX + String.format("%04d", interviewerNumber);
+    }
+}
@@ -1,29 +1,59 @@
 package service.interviewer;
 
 import app.exception.BusinessException;
+import app.model.interviewer.AvailableInterviewersModel;
 import app.model.interviewer.InterviewerAvailabilityModel;
+import app.model.interviewer.InterviewerAvailabilityRangeModel;
+import app.model.interviewer.InterviewerAvailabilityRuleModel;
 import app.model.interviewer.InterviewerModel;
 import app.model.utils.AvailabilitySlot;
+import app.model.utils.DailyAvailability;
+import app.model.utils.DateRange;
+import app.model.utils.ImportReport;
+import app.model.utils.KeysetPage;
+import app.model.utils.NamedAvailability;
+import app.model.utils.NamedAvailabilityRange;
+import app.model.utils.NamedAvailabilityRuleRow;
 import app.model.utils.TimeSlot;
+import app.repository.interviewer.InterviewerAvailabilityRangeRepository;
 import app.repository.interviewer.InterviewerAvailabilityRepository;
+import app.repository.interviewer.InterviewerAvailabilityRuleRepository;
 import app.repository.interviewer.InterviewerRepository;
+import app.service.interviewer.InterviewerAvailabilityIndex;
 import app.service.interviewer.InterviewerServiceImpl;
+import app.service.interviewslots.InterviewBookingLocks;
+import app.service.interviewslots.InterviewSlotsCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.Month;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -32,6 +62,22 @@ public class InterviewerServiceImplTests {
     private InterviewerRepository interviewerRepository;
     @Mock
     private InterviewerAvailabilityRepository interviewerAvailabilityRepository;
+    @Mock
+    private InterviewerAvailabilityRangeRepository interviewerAvailabilityRangeRepository;
+    @Mock
+    private InterviewerAvailabilityRuleRepository interviewerAvailabilityRuleRepository;
+    @Mock
+    private InterviewSlotsCache interviewSlotsCache;
+    @Mock
+    private InterviewBookingLocks interviewBookingLocks;
+    @Mock
+    private InterviewerAvailabilityIndex interviewerAvailabilityIndex;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
 
     @InjectMocks
     private InterviewerServiceImpl interviewerServiceImpl;
@@ -102,10 +148,8 @@ public class InterviewerServiceImplTests {
                 interviewerToBeCreatedName)
                                                                .build();
 
-        List<String> existingInterviewers = Collections.singletonList(existingInterviewerName);
-
         // Act && Assert
-        when(interviewerRepository.getAllNames()).thenReturn(existingInterviewers);
+        when(interviewerRepository.existsById(existingInterviewerName)).thenReturn(true);
 
         try {
             interviewerServiceImpl.createInterviewer(interviewer);
@@ -118,6 +162,27 @@ public class InterviewerServiceImplTests {
         fail("Business exception of interviewer with existing name was not thrown!");
     }
 
+    @Test(expected = BusinessException.class)
+    public void createInterviewerWithNameInsertedConcurrentlyFails() {
+        // Arrange
+        String interviewerName = "John Doe";
+        InterviewerModel interviewer = InterviewerModel.Builder.interviewerModelWith().withName(interviewerName).build();
+
+        // Act && Assert
+        when(interviewerRepository.existsById(interviewerName)).thenReturn(false);
+        when(interviewerRepository.save(interviewer)).thenThrow(new DataIntegrityViolationException("Unique index violation"));
+
+        try {
+            interviewerServiceImpl.createInterviewer(interviewer);
+        } catch (BusinessException be) {
+            String exceptionMessage = "Name already exists!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of interviewer with concurrently inserted name was not thrown!");
+    }
+
     @Test
     public void getAllInterviewersSuccessfully() {
         // Arrange
@@ -127,14 +192,16 @@ public class InterviewerServiceImplTests {
         List<InterviewerModel> interviewersToBeReturned = Collections.singletonList(interviewer);
 
         // Act
-        when(interviewerRepository.findAll()).thenReturn(interviewersToBeReturned);
+        when(interviewerRepository.getInterviewersAfterName(null, PageRequest.of(0, KeysetPage.DEFAULT_PAGE_SIZE + 1)))
+                .thenReturn(interviewersToBeReturned);
 
-        List<InterviewerModel> interviewersReturned = interviewerServiceImpl.getAllInterviewers();
+        KeysetPage<InterviewerModel> interviewersReturned = interviewerServiceImpl.getAllInterviewers(null, null);
 
         // Assert
         assertNotNull(interviewersReturned);
-        assertEquals(interviewersToBeReturned.size(), interviewersReturned.size());
-        assertEquals(interviewersToBeReturned, interviewersReturned);
+        assertEquals(interviewersToBeReturned.size(), interviewersReturned.getItems().size());
+        assertEquals(interviewersToBeReturned, interviewersReturned.getItems());
+        assertNull(interviewersReturned.getNextCursor());
     }
 
     @Test
@@ -165,6 +232,7 @@ public class InterviewerServiceImplTests {
 
         // Assert
         verify(interviewerRepository, times(1)).deleteById(interviewerName);
+        verify(interviewSlotsCache, times(1)).invalidateInterviewer(interviewerName);
     }
 
     @Test
@@ -192,7 +260,7 @@ public class InterviewerServiceImplTests {
         when(interviewerRepository.findById(interviewerName)).thenReturn(Optional.of(interviewer));
         when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(interviewerName)).thenReturn(
                 null);
-        when(interviewerAvailabilityRepository.save(interviewerAvailability)).thenReturn(interviewerAvailability);
+        when(interviewerAvailabilityRepository.save(any(InterviewerAvailabilityModel.class))).then(returnsFirstArg());
 
         InterviewerAvailabilityModel savedInterviewerAvailability =
                 interviewerServiceImpl.createInterviewerAvailability(interviewerAvailability);
@@ -200,7 +268,55 @@ public class InterviewerServiceImplTests {
         // Assert
         assertNotNull(savedInterviewerAvailability);
         assertEquals(interviewerName, savedInterviewerAvailability.getInterviewerModel().getName());
-        assertEquals(availabilitySlots, savedInterviewerAvailability.getAvailabilitySlotList());
+        assertEquals(1, savedInterviewerAvailability.getAvailabilitySlotList().size());
+        assertEquals(availabilitySlot.getDay(), savedInterviewerAvailability.getAvailabilitySlotList().get(0).getDay());
+        assertEquals(timeSlot.getFrom(),
+                     savedInterviewerAvailability.getAvailabilitySlotList().get(0).getTimeSlotList().get(0).getFrom());
+        assertEquals(timeSlot.getTo(),
+                     savedInterviewerAvailability.getAvailabilitySlotList().get(0).getTimeSlotList().get(0).getTo());
+    }
+
+    @Test
+    public void createInterviewerAvailabilityNewAvailabilityReturnsCoalescedSlotsSuccessfully() {
+        // Arrange
+        String interviewerName = "John Doe";
+        InterviewerModel interviewer = InterviewerModel.Builder.interviewerModelWith().withName(interviewerName).build();
+
+        TimeSlot morningTimeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0))
+                                                   .withTo(LocalTime.of(11, 0)).build();
+        TimeSlot overlappingTimeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(10, 0))
+                                                       .withTo(LocalTime.of(12, 0)).build();
+
+        AvailabilitySlot availabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith().withDay(
+                LocalDate.of(2014, Month.JANUARY, 1)).withTimeSlotList(Arrays.asList(morningTimeSlot,
+                                                                                     overlappingTimeSlot,
+                                                                                     morningTimeSlot)).build();
+        AvailabilitySlot duplicateAvailabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith().withDay(
+                LocalDate.of(2014, Month.JANUARY, 1)).withTimeSlotList(Collections.singletonList(morningTimeSlot))
+                                                                             .build();
+
+        InterviewerAvailabilityModel interviewerAvailability =
+                InterviewerAvailabilityModel.Builder.interviewerAvailabilityModelWith()
+                                                     .withInterviewerModel(interviewer)
+                                                     .withAvailabilitySlotList(
+                                                             Arrays.asList(availabilitySlot, duplicateAvailabilitySlot))
+                                                     .build();
+
+        // Act
+        when(interviewerRepository.findById(interviewerName)).thenReturn(Optional.of(interviewer));
+        when(interviewerAvailabilityRepository.save(any(InterviewerAvailabilityModel.class))).then(returnsFirstArg());
+
+        InterviewerAvailabilityModel savedInterviewerAvailability =
+                interviewerServiceImpl.createInterviewerAvailability(interviewerAvailability);
+
+        // Assert
+        assertEquals(1, savedInterviewerAvailability.getAvailabilitySlotList().size());
+
+        List<TimeSlot> savedTimeSlots = savedInterviewerAvailability.getAvailabilitySlotList().get(0).getTimeSlotList();
+
+        assertEquals(1, savedTimeSlots.size());
+        assertEquals(LocalTime.of(9, 0), savedTimeSlots.get(0).getFrom());
+        assertEquals(LocalTime.of(12, 0), savedTimeSlots.get(0).getTo());
     }
 
     @Test
@@ -243,31 +359,28 @@ public class InterviewerServiceImplTests {
                                                     .withAvailabilitySlotList(newAvailabilitySlots)
                                                     .build();
 
-        List<AvailabilitySlot> returnedAvailabilitySlots = new ArrayList<>();
-        returnedAvailabilitySlots.addAll(existingAvailabilitySlots);
-        returnedAvailabilitySlots.addAll(newAvailabilitySlots);
-
-        InterviewerAvailabilityModel returnedInterviewerAvailability =
-                InterviewerAvailabilityModel.Builder.interviewerAvailabilityModelWith()
-                                                    .withInterviewerModel(interviewer)
-                                                    .withAvailabilitySlotList(returnedAvailabilitySlots)
-                                                    .build();
-
         // Act
         when(interviewerRepository.findById(interviewerName)).thenReturn(Optional.of(interviewer));
         when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(interviewerName)).thenReturn(
                 existingInterviewerAvailability);
-        when(interviewerAvailabilityRepository.save(any(InterviewerAvailabilityModel.class))).thenReturn(
-                returnedInterviewerAvailability);
 
         InterviewerAvailabilityModel savedInterviewerAvailability =
                 interviewerServiceImpl.createInterviewerAvailability(newInterviewerAvailability);
 
         // Assert
-        assertNotNull(savedInterviewerAvailability);
-        assertEquals(returnedInterviewerAvailability.getAvailabilitySlotList().size(),
-                     savedInterviewerAvailability.getAvailabilitySlotList().size());
-        assertEquals(returnedInterviewerAvailability, savedInterviewerAvailability);
+        ArgumentCaptor<List<InterviewerAvailabilityRangeModel>> newAvailabilityRangesCaptor = ArgumentCaptor.forClass(
+                List.class);
+        verify(interviewerAvailabilityRangeRepository, times(1)).saveAll(newAvailabilityRangesCaptor.capture());
+        verify(interviewerAvailabilityRepository, never()).save(any(InterviewerAvailabilityModel.class));
+
+        List<InterviewerAvailabilityRangeModel> newAvailabilityRanges = newAvailabilityRangesCaptor.getValue();
+
+        assertEquals(existingInterviewerAvailability, savedInterviewerAvailability);
+        assertEquals(1, newAvailabilityRanges.size());
+        assertEquals(existingInterviewerAvailability, newAvailabilityRanges.get(0).getInterviewerAvailabilityModel());
+        assertEquals(newAvailabilitySlot.getDay(), newAvailabilityRanges.get(0).getDay());
+        assertEquals(newTimeSlot.getFrom(), newAvailabilityRanges.get(0).getStartTime());
+        assertEquals(newTimeSlot.getTo(), newAvailabilityRanges.get(0).getEndTime());
     }
 
     @Test
@@ -310,31 +423,289 @@ public class InterviewerServiceImplTests {
                                                     .withAvailabilitySlotList(newAvailabilitySlots)
                                                     .build();
 
-        List<AvailabilitySlot> returnedAvailabilitySlots = new ArrayList<>();
-        returnedAvailabilitySlots.addAll(existingAvailabilitySlots);
-        returnedAvailabilitySlots.addAll(newAvailabilitySlots);
+        // Act
+        when(interviewerRepository.findById(interviewerName)).thenReturn(Optional.of(interviewer));
+        when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(interviewerName)).thenReturn(
+                existingInterviewerAvailability);
+
+        InterviewerAvailabilityModel savedInterviewerAvailability =
+                interviewerServiceImpl.createInterviewerAvailability(newInterviewerAvailability);
 
-        InterviewerAvailabilityModel returnedInterviewerAvailability =
+        // Assert
+        ArgumentCaptor<List<InterviewerAvailabilityRangeModel>> newAvailabilityRangesCaptor = ArgumentCaptor.forClass(
+                List.class);
+        verify(interviewerAvailabilityRangeRepository, times(1)).saveAll(newAvailabilityRangesCaptor.capture());
+        verify(interviewerAvailabilityRepository, never()).save(any(InterviewerAvailabilityModel.class));
+
+        List<InterviewerAvailabilityRangeModel> newAvailabilityRanges = newAvailabilityRangesCaptor.getValue();
+
+        assertEquals(existingInterviewerAvailability, savedInterviewerAvailability);
+        assertEquals(1, newAvailabilityRanges.size());
+        assertEquals(existingInterviewerAvailability, newAvailabilityRanges.get(0).getInterviewerAvailabilityModel());
+        assertEquals(newAvailabilitySlot.getDay(), newAvailabilityRanges.get(0).getDay());
+        assertEquals(newTimeSlot.getFrom(), newAvailabilityRanges.get(0).getStartTime());
+        assertEquals(newTimeSlot.getTo(), newAvailabilityRanges.get(0).getEndTime());
+    }
+
+    @Test
+    public void createInterviewerAvailabilityCoalescesOverlappingTimeSlotsSuccessfully() {
+        // Arrange
+        String interviewerName = "Jane Doe";
+        InterviewerModel interviewer = InterviewerModel.Builder.interviewerModelWith().withName(interviewerName)
+                                                       .build();
+        LocalDate day = LocalDate.of(2014, Month.JANUARY, 1);
+
+        InterviewerAvailabilityModel existingInterviewerAvailability =
                 InterviewerAvailabilityModel.Builder.interviewerAvailabilityModelWith()
                                                     .withInterviewerModel(interviewer)
-                                                    .withAvailabilitySlotList(returnedAvailabilitySlots)
+                                                    .build();
+
+        InterviewerAvailabilityRangeModel firstExistingAvailabilityRange = availabilityRangeOf(
+                existingInterviewerAvailability, day, 9, 10);
+        InterviewerAvailabilityRangeModel secondExistingAvailabilityRange = availabilityRangeOf(
+                existingInterviewerAvailability, day, 10, 11);
+        List<InterviewerAvailabilityRangeModel> existingAvailabilityRanges = Arrays.asList(
+                firstExistingAvailabilityRange, secondExistingAvailabilityRange);
+
+        TimeSlot newTimeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(10, 0)).withTo(LocalTime.of(12, 0))
+                                               .build();
+        AvailabilitySlot newAvailabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith().withDay(day)
+                                                                       .withTimeSlotList(
+                                                                               Collections.singletonList(newTimeSlot))
+                                                                       .build();
+
+        InterviewerAvailabilityModel newInterviewerAvailability =
+                InterviewerAvailabilityModel.Builder.interviewerAvailabilityModelWith()
+                                                    .withInterviewerModel(interviewer)
+                                                    .withAvailabilitySlotList(
+                                                            Collections.singletonList(newAvailabilitySlot))
                                                     .build();
 
         // Act
         when(interviewerRepository.findById(interviewerName)).thenReturn(Optional.of(interviewer));
         when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(interviewerName)).thenReturn(
                 existingInterviewerAvailability);
-        when(interviewerAvailabilityRepository.save(any(InterviewerAvailabilityModel.class))).thenReturn(
-                returnedInterviewerAvailability);
+        when(interviewerAvailabilityRangeRepository.getInterviewerAvailabilityRangesByDays(
+                existingInterviewerAvailability, Collections.singletonList(day))).thenReturn(
+                existingAvailabilityRanges);
 
-        InterviewerAvailabilityModel savedInterviewerAvailability =
-                interviewerServiceImpl.createInterviewerAvailability(newInterviewerAvailability);
+        interviewerServiceImpl.createInterviewerAvailability(newInterviewerAvailability);
 
         // Assert
-        assertNotNull(savedInterviewerAvailability);
-        assertEquals(returnedInterviewerAvailability.getAvailabilitySlotList().size(),
-                     savedInterviewerAvailability.getAvailabilitySlotList().size());
-        assertEquals(returnedInterviewerAvailability, savedInterviewerAvailability);
+        ArgumentCaptor<List<InterviewerAvailabilityRangeModel>> newAvailabilityRangesCaptor = ArgumentCaptor.forClass(
+                List.class);
+        verify(interviewerAvailabilityRangeRepository, times(1)).deleteInBatch(existingAvailabilityRanges);
+        verify(interviewerAvailabilityRangeRepository, times(1)).saveAll(newAvailabilityRangesCaptor.capture());
+
+        List<InterviewerAvailabilityRangeModel> newAvailabilityRanges = newAvailabilityRangesCaptor.getValue();
+
+        assertEquals(1, newAvailabilityRanges.size());
+        assertEquals(LocalTime.of(9, 0), newAvailabilityRanges.get(0).getStartTime());
+        assertEquals(LocalTime.of(12, 0), newAvailabilityRanges.get(0).getEndTime());
+    }
+
+    @Test
+    public void createInterviewerAvailabilityWithAlreadyExistingTimeSlotsSavesNothingSuccessfully() {
+        // Arrange
+        String interviewerName = "Jane Doe";
+        InterviewerModel interviewer = InterviewerModel.Builder.interviewerModelWith().withName(interviewerName)
+                                                       .build();
+        LocalDate day = LocalDate.of(2014, Month.JANUARY, 1);
+
+        InterviewerAvailabilityModel existingInterviewerAvailability =
+                InterviewerAvailabilityModel.Builder.interviewerAvailabilityModelWith()
+                                                    .withInterviewerModel(interviewer)
+                                                    .build();
+
+        InterviewerAvailabilityRangeModel existingAvailabilityRange = availabilityRangeOf(
+                existingInterviewerAvailability, day, 9, 11);
+
+        TimeSlot newTimeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0)).withTo(LocalTime.of(10, 0))
+                                               .build();
+        AvailabilitySlot newAvailabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith().withDay(day)
+                                                                       .withTimeSlotList(
+                                                                               Collections.singletonList(newTimeSlot))
+                                                                       .build();
+
+        InterviewerAvailabilityModel newInterviewerAvailability =
+                InterviewerAvailabilityModel.Builder.interviewerAvailabilityModelWith()
+                                                    .withInterviewerModel(interviewer)
+                                                    .withAvailabilitySlotList(
+                                                            Collections.singletonList(newAvailabilitySlot))
+                                                    .build();
+
+        // Act
+        when(interviewerRepository.findById(interviewerName)).thenReturn(Optional.of(interviewer));
+        when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(interviewerName)).thenReturn(
+                existingInterviewerAvailability);
+        when(interviewerAvailabilityRangeRepository.getInterviewerAvailabilityRangesByDays(
+                existingInterviewerAvailability, Collections.singletonList(day))).thenReturn(
+                Collections.singletonList(existingAvailabilityRange));
+
+        interviewerServiceImpl.createInterviewerAvailability(newInterviewerAvailability);
+
+        // Assert
+        verify(interviewerAvailabilityRangeRepository, never()).deleteInBatch(anyList());
+        verify(interviewerAvailabilityRangeRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    public void addInterviewerAvailabilitySlotsToExistingAvailabilitySuccessfully() {
+        // Arrange
+        String interviewerName = "Jane Doe";
+        InterviewerModel interviewer = InterviewerModel.Builder.interviewerModelWith().withName(interviewerName)
+                                                       .build();
+        LocalDate day = LocalDate.of(2014, Month.JANUARY, 1);
+
+        InterviewerAvailabilityModel existingInterviewerAvailability =
+                InterviewerAvailabilityModel.Builder.interviewerAvailabilityModelWith()
+                                                    .withInterviewerModel(interviewer)
+                                                    .build();
+
+        List<AvailabilitySlot> newAvailabilitySlots = Collections.singletonList(availabilitySlotOf(day, 9, 10));
+
+        // Act
+        when(interviewerRepository.findById(interviewerName)).thenReturn(Optional.of(interviewer));
+        when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(interviewerName)).thenReturn(
+                existingInterviewerAvailability);
+
+        InterviewerAvailabilityModel updatedInterviewerAvailability =
+                interviewerServiceImpl.addInterviewerAvailabilitySlots(interviewerName, newAvailabilitySlots);
+
+        // Assert
+        ArgumentCaptor<List<InterviewerAvailabilityRangeModel>> newAvailabilityRangesCaptor = ArgumentCaptor.forClass(
+                List.class);
+        verify(interviewerAvailabilityRangeRepository, times(1)).saveAll(newAvailabilityRangesCaptor.capture());
+
+        List<InterviewerAvailabilityRangeModel> newAvailabilityRanges = newAvailabilityRangesCaptor.getValue();
+
+        assertEquals(existingInterviewerAvailability, updatedInterviewerAvailability);
+        assertEquals(1, newAvailabilityRanges.size());
+        assertEquals(LocalTime.of(9, 0), newAvailabilityRanges.get(0).getStartTime());
+        assertEquals(LocalTime.of(10, 0), newAvailabilityRanges.get(0).getEndTime());
+    }
+
+    @Test
+    public void removeInterviewerAvailabilitySlotsSplitsExistingTimeSlotSuccessfully() {
+        // Arrange
+        String interviewerName = "Jane Doe";
+        InterviewerModel interviewer = InterviewerModel.Builder.interviewerModelWith().withName(interviewerName)
+                                                       .build();
+        LocalDate day = LocalDate.of(2014, Month.JANUARY, 1);
+
+        InterviewerAvailabilityModel existingInterviewerAvailability =
+                InterviewerAvailabilityModel.Builder.interviewerAvailabilityModelWith()
+                                                    .withInterviewerModel(interviewer)
+                                                    .build();
+
+        List<InterviewerAvailabilityRangeModel> existingAvailabilityRanges = Collections.singletonList(
+                availabilityRangeOf(existingInterviewerAvailability, day, 9, 12));
+
+        List<AvailabilitySlot> removedAvailabilitySlots = Collections.singletonList(availabilitySlotOf(day, 10, 11));
+
+        // Act
+        when(interviewerRepository.findById(interviewerName)).thenReturn(Optional.of(interviewer));
+        when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(interviewerName)).thenReturn(
+                existingInterviewerAvailability);
+        when(interviewerAvailabilityRangeRepository.getInterviewerAvailabilityRangesByDays(
+                existingInterviewerAvailability, Collections.singletonList(day))).thenReturn(
+                existingAvailabilityRanges);
+
+        InterviewerAvailabilityModel updatedInterviewerAvailability =
+                interviewerServiceImpl.removeInterviewerAvailabilitySlots(interviewerName, removedAvailabilitySlots);
+
+        // Assert
+        ArgumentCaptor<List<InterviewerAvailabilityRangeModel>> newAvailabilityRangesCaptor = ArgumentCaptor.forClass(
+                List.class);
+        verify(interviewerAvailabilityRangeRepository, times(1)).deleteInBatch(existingAvailabilityRanges);
+        verify(interviewerAvailabilityRangeRepository, times(1)).saveAll(newAvailabilityRangesCaptor.capture());
+
+        List<InterviewerAvailabilityRangeModel> newAvailabilityRanges = newAvailabilityRangesCaptor.getValue();
+
+        assertEquals(existingInterviewerAvailability, updatedInterviewerAvailability);
+        assertEquals(2, newAvailabilityRanges.size());
+        assertEquals(LocalTime.of(9, 0), newAvailabilityRanges.get(0).getStartTime());
+        assertEquals(LocalTime.of(10, 0), newAvailabilityRanges.get(0).getEndTime());
+        assertEquals(LocalTime.of(11, 0), newAvailabilityRanges.get(1).getStartTime());
+        assertEquals(LocalTime.of(12, 0), newAvailabilityRanges.get(1).getEndTime());
+    }
+
+    @Test
+    public void removeInterviewerAvailabilitySlotsCoveredByRuleAddsExceptionDaySuccessfully() {
+        // Arrange
+        String interviewerName = "Jane Doe";
+        InterviewerModel interviewer = InterviewerModel.Builder.interviewerModelWith().withName(interviewerName)
+                                                       .build();
+        LocalDate monday = LocalDate.of(2014, Month.JANUARY, 6);
+
+        InterviewerAvailabilityModel existingInterviewerAvailability =
+                InterviewerAvailabilityModel.Builder.interviewerAvailabilityModelWith()
+                                                    .withInterviewerModel(interviewer)
+                                                    .build();
+
+        InterviewerAvailabilityRuleModel existingAvailabilityRule =
+                InterviewerAvailabilityRuleModel.Builder.interviewerAvailabilityRuleModelWith()
+                                                        .withInterviewerAvailabilityModel(
+                                                                existingInterviewerAvailability)
+                                                        .withDayOfWeek(DayOfWeek.MONDAY)
+                                                        .withHourMask(0b111 << 9)
+                                                        .withValidFrom(monday.minusWeeks(1))
+                                                        .withValidUntil(monday.plusWeeks(1))
+                                                        .build();
+
+        List<AvailabilitySlot> removedAvailabilitySlots = Collections.singletonList(availabilitySlotOf(monday, 10,
+                                                                                                       11));
+
+        // Act
+        when(interviewerRepository.findById(interviewerName)).thenReturn(Optional.of(interviewer));
+        when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(interviewerName)).thenReturn(
+                existingInterviewerAvailability);
+        when(interviewerAvailabilityRuleRepository.getInterviewerAvailabilityRulesByInterviewerNames(
+                Collections.singletonList(interviewerName), monday, monday)).thenReturn(
+                Collections.singletonList(existingAvailabilityRule));
+
+        interviewerServiceImpl.removeInterviewerAvailabilitySlots(interviewerName, removedAvailabilitySlots);
+
+        // Assert
+        ArgumentCaptor<List<InterviewerAvailabilityRangeModel>> newAvailabilityRangesCaptor = ArgumentCaptor.forClass(
+                List.class);
+        verify(interviewerAvailabilityRangeRepository, times(1)).saveAll(newAvailabilityRangesCaptor.capture());
+
+        List<InterviewerAvailabilityRangeModel> newAvailabilityRanges = newAvailabilityRangesCaptor.getValue();
+
+        assertEquals(Collections.singleton(monday), existingAvailabilityRule.getExceptionDays());
+        assertEquals(2, newAvailabilityRanges.size());
+        assertEquals(LocalTime.of(9, 0), newAvailabilityRanges.get(0).getStartTime());
+        assertEquals(LocalTime.of(10, 0), newAvailabilityRanges.get(0).getEndTime());
+        assertEquals(LocalTime.of(11, 0), newAvailabilityRanges.get(1).getStartTime());
+        assertEquals(LocalTime.of(12, 0), newAvailabilityRanges.get(1).getEndTime());
+    }
+
+    @Test(expected = BusinessException.class)
+    public void removeInterviewerAvailabilitySlotsWithoutAvailabilityCreatedFails() {
+        // Arrange
+        String interviewerName = "Jane Doe";
+        InterviewerModel interviewer = InterviewerModel.Builder.interviewerModelWith().withName(interviewerName)
+                                                       .build();
+
+        List<AvailabilitySlot> removedAvailabilitySlots = Collections.singletonList(
+                availabilitySlotOf(LocalDate.of(2014, Month.JANUARY, 1), 10, 11));
+
+        // Act && Assert
+        when(interviewerRepository.findById(interviewerName)).thenReturn(Optional.of(interviewer));
+        when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(interviewerName)).thenReturn(
+                null);
+
+        try {
+            interviewerServiceImpl.removeInterviewerAvailabilitySlots(interviewerName, removedAvailabilitySlots);
+        } catch (BusinessException be) {
+            String exceptionMessage = "Interviewer has no availability defined!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of removing availability slots without interviewer availability created was not "
+             + "thrown!");
     }
 
     @Test(expected = BusinessException.class)
@@ -544,16 +915,86 @@ public class InterviewerServiceImplTests {
                 interviewerAvailability);
 
         // Act
-        when(interviewerAvailabilityRepository.findAll()).thenReturn(interviewersAvailabilitiesToBeReturned);
-
+        when(interviewerAvailabilityRepository.getInterviewersAvailabilityAfterName(
+                null, PageRequest.of(0, KeysetPage.DEFAULT_PAGE_SIZE + 1)))
+                .thenReturn(interviewersAvailabilitiesToBeReturned);
 
-        List<InterviewerAvailabilityModel> interviewersAvailabilitiesReturned =
-                interviewerServiceImpl.getAllInterviewersAvailability();
+        KeysetPage<InterviewerAvailabilityModel> interviewersAvailabilitiesReturned =
+                interviewerServiceImpl.getAllInterviewersAvailability(null, null);
 
         // Assert
         assertNotNull(interviewersAvailabilitiesReturned);
-        assertEquals(interviewersAvailabilitiesToBeReturned.size(), interviewersAvailabilitiesReturned.size());
-        assertEquals(interviewersAvailabilitiesToBeReturned, interviewersAvailabilitiesReturned);
+        assertEquals(interviewersAvailabilitiesToBeReturned.size(),
+                     interviewersAvailabilitiesReturned.getItems().size());
+        assertEquals(interviewersAvailabilitiesToBeReturned, interviewersAvailabilitiesReturned.getItems());
+        assertNull(interviewersAvailabilitiesReturned.getNextCursor());
+    }
+
+    @Test
+    public void exportAllInterviewersAvailabilityWithAvailabilityRulesSuccessfully() {
+        // Arrange
+        String interviewerName = "Mary Smith";
+        String interviewerWithoutRulesName = "Jane Doe";
+        LocalDate day = LocalDate.of(2014, Month.JANUARY, 1);
+        LocalDate firstExceptionDay = LocalDate.of(2014, Month.JANUARY, 13);
+        LocalDate secondExceptionDay = LocalDate.of(2014, Month.JANUARY, 20);
+
+        NamedAvailabilityRange namedAvailabilityRange = mock(NamedAvailabilityRange.class);
+        when(namedAvailabilityRange.getName()).thenReturn(interviewerName);
+        when(namedAvailabilityRange.getDay()).thenReturn(day);
+        when(namedAvailabilityRange.getStartTime()).thenReturn(LocalTime.of(9, 0));
+        when(namedAvailabilityRange.getEndTime()).thenReturn(LocalTime.of(11, 0));
+
+        NamedAvailabilityRange namedAvailabilityRangeWithoutRules = mock(NamedAvailabilityRange.class);
+        when(namedAvailabilityRangeWithoutRules.getName()).thenReturn(interviewerWithoutRulesName);
+        when(namedAvailabilityRangeWithoutRules.getDay()).thenReturn(day);
+        when(namedAvailabilityRangeWithoutRules.getStartTime()).thenReturn(LocalTime.of(14, 0));
+        when(namedAvailabilityRangeWithoutRules.getEndTime()).thenReturn(LocalTime.of(15, 0));
+
+        NamedAvailabilityRuleRow availabilityRuleRow = mock(NamedAvailabilityRuleRow.class);
+        when(availabilityRuleRow.getName()).thenReturn(interviewerName);
+        when(availabilityRuleRow.getId()).thenReturn(1L);
+        when(availabilityRuleRow.getDayOfWeek()).thenReturn(DayOfWeek.MONDAY);
+        when(availabilityRuleRow.getHourMask()).thenReturn(
+                DailyAvailability.toHourMask(LocalTime.of(10, 0), LocalTime.of(12, 0)));
+        when(availabilityRuleRow.getValidFrom()).thenReturn(LocalDate.of(2014, Month.JANUARY, 1));
+        when(availabilityRuleRow.getValidUntil()).thenReturn(LocalDate.of(2014, Month.MARCH, 31));
+        when(availabilityRuleRow.getExceptionDay()).thenReturn(firstExceptionDay);
+
+        NamedAvailabilityRuleRow sameAvailabilityRuleRow = mock(NamedAvailabilityRuleRow.class);
+        when(sameAvailabilityRuleRow.getId()).thenReturn(1L);
+        when(sameAvailabilityRuleRow.getExceptionDay()).thenReturn(secondExceptionDay);
+
+        AtomicBoolean namedAvailabilityRangesClosed = new AtomicBoolean();
+        List<NamedAvailability> namedAvailabilitiesExported = new ArrayList<>();
+
+        // Act
+        when(interviewerAvailabilityRepository.streamAllInterviewersAvailabilityRanges()).thenReturn(
+                Stream.of(namedAvailabilityRange, namedAvailabilityRangeWithoutRules)
+                      .onClose(() -> namedAvailabilityRangesClosed.set(true)));
+        when(interviewerAvailabilityRuleRepository.getInterviewerAvailabilityRuleRowsByInterviewerNames(
+                Arrays.asList(interviewerName, interviewerWithoutRulesName))).thenReturn(
+                Arrays.asList(availabilityRuleRow, sameAvailabilityRuleRow));
+
+        interviewerServiceImpl.exportAllInterviewersAvailability(namedAvailabilitiesExported::add);
+
+        // Assert
+        assertEquals(2, namedAvailabilitiesExported.size());
+        assertEquals(interviewerName, namedAvailabilitiesExported.get(0).getName());
+        assertEquals(day, namedAvailabilitiesExported.get(0).getAvailabilitySlotList().get(0).getDay());
+
+        List<InterviewerAvailabilityRuleModel> exportedAvailabilityRules =
+                namedAvailabilitiesExported.get(0).getAvailabilityRuleList();
+        assertEquals(1, exportedAvailabilityRules.size());
+        assertEquals(DayOfWeek.MONDAY, exportedAvailabilityRules.get(0).getDayOfWeek());
+        assertEquals(LocalTime.of(10, 0), exportedAvailabilityRules.get(0).getTimeSlotList().get(0).getFrom());
+        assertEquals(LocalTime.of(12, 0), exportedAvailabilityRules.get(0).getTimeSlotList().get(0).getTo());
+        assertEquals(new HashSet<>(Arrays.asList(firstExceptionDay, secondExceptionDay)),
+                     exportedAvailabilityRules.get(0).getExceptionDays());
+
+        assertEquals(interviewerWithoutRulesName, namedAvailabilitiesExported.get(1).getName());
+        assertEquals(Collections.emptyList(), namedAvailabilitiesExported.get(1).getAvailabilityRuleList());
+        assertTrue(namedAvailabilityRangesClosed.get());
     }
 
     @Test
@@ -622,5 +1063,197 @@ public class InterviewerServiceImplTests {
 
         // Assert
         verify(interviewerAvailabilityRepository, times(1)).deleteById(any());
+        verify(interviewSlotsCache, times(1)).invalidateInterviewer(interviewerName);
+    }
+
+    @Test
+    public void getAvailableInterviewersForOneHourSuccessfully() {
+        // Arrange
+        LocalDate day = LocalDate.of(2026, Month.OCTOBER, 20);
+        LocalTime from = LocalTime.of(14, 0);
+
+        // Act
+        when(interviewerAvailabilityIndex.getAvailableInterviewersNames(day, 14, 15)).thenReturn(
+                new ArrayList<>(Arrays.asList("John Smith", "Jane Doe")));
+
+        AvailableInterviewersModel availableInterviewers = interviewerServiceImpl.getAvailableInterviewers(day, from,
+                                                                                                          null);
+
+        // Assert
+        assertEquals(day, availableInterviewers.getDay());
+        assertEquals(from, availableInterviewers.getFrom());
+        assertEquals(LocalTime.of(15, 0), availableInterviewers.getTo());
+        assertEquals(Arrays.asList("Jane Doe", "John Smith"), availableInterviewers.getInterviewersNames());
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getAvailableInterviewersWithFromAfterToFails() {
+        // Arrange
+        LocalDate day = LocalDate.of(2026, Month.OCTOBER, 20);
+
+        // Act && Assert
+        try {
+            interviewerServiceImpl.getAvailableInterviewers(day, LocalTime.of(15, 0), LocalTime.of(14, 0));
+        } catch (BusinessException be) {
+            String exceptionMessage = "Start hour of slot must be before end hour of slot!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of getting available interviewers with from after to was not thrown!");
+    }
+
+    @Test
+    public void createInterviewerAvailabilityRulesForExistingAvailabilitySuccessfully() {
+        // Arrange
+        String interviewerName = "John Doe";
+        InterviewerModel interviewer = InterviewerModel.Builder.interviewerModelWith().withName(interviewerName)
+                                                               .build();
+
+        InterviewerAvailabilityModel interviewerAvailability =
+                InterviewerAvailabilityModel.Builder.interviewerAvailabilityModelWith()
+                                                    .withInterviewerModel(interviewer)
+                                                    .withAvailabilitySlotList(new ArrayList<>())
+                                                    .build();
+
+        LocalDate validFrom = LocalDate.of(2026, Month.OCTOBER, 1);
+        LocalDate validUntil = LocalDate.of(2026, Month.DECEMBER, 31);
+
+        TimeSlot firstTimeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0)).withTo(
+                LocalTime.of(12, 0)).build();
+        TimeSlot secondTimeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(14, 0)).withTo(
+                LocalTime.of(16, 0)).build();
+
+        InterviewerAvailabilityRuleModel availabilityRule =
+                InterviewerAvailabilityRuleModel.Builder.interviewerAvailabilityRuleModelWith()
+                                                        .withDayOfWeek(DayOfWeek.MONDAY)
+                                                        .withValidFrom(validFrom)
+                                                        .withValidUntil(validUntil)
+                                                        .withTimeSlotList(
+                                                                Arrays.asList(firstTimeSlot, secondTimeSlot))
+                                                        .build();
+
+        // Act
+        when(interviewerRepository.findById(interviewerName)).thenReturn(Optional.of(interviewer));
+        when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(interviewerName)).thenReturn(
+                interviewerAvailability);
+        when(interviewerAvailabilityRuleRepository.saveAll(anyList())).thenAnswer(
+                invocation -> invocation.getArgument(0));
+
+        List<InterviewerAvailabilityRuleModel> savedAvailabilityRules =
+                interviewerServiceImpl.createInterviewerAvailabilityRules(interviewerName,
+                                                                          Collections.singletonList(availabilityRule));
+
+        // Assert
+        assertEquals(1, savedAvailabilityRules.size());
+        assertSame(interviewerAvailability, savedAvailabilityRules.get(0).getInterviewerAvailabilityModel());
+        assertEquals((0b111 << 9) | (0b11 << 14), savedAvailabilityRules.get(0).getHourMask());
+        assertEquals(DayOfWeek.MONDAY, savedAvailabilityRules.get(0).getDayOfWeek());
+        verify(interviewerAvailabilityRepository, never()).save(any());
+        verify(interviewSlotsCache, times(1)).invalidateInterviewer(interviewerName);
+        verify(interviewerAvailabilityIndex, times(1)).reloadInterviewer(interviewerName,
+                                                                         new DateRange(validFrom, validUntil));
+    }
+
+    @Test(expected = BusinessException.class)
+    public void createInterviewerAvailabilityRulesWithValidFromAfterValidUntilFails() {
+        // Arrange
+        String interviewerName = "John Doe";
+        InterviewerModel interviewer = InterviewerModel.Builder.interviewerModelWith().withName(interviewerName)
+                                                               .build();
+
+        TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(9, 0)).withTo(LocalTime.of(11, 0))
+                                            .build();
+
+        InterviewerAvailabilityRuleModel availabilityRule =
+                InterviewerAvailabilityRuleModel.Builder.interviewerAvailabilityRuleModelWith()
+                                                        .withDayOfWeek(DayOfWeek.MONDAY)
+                                                        .withValidFrom(LocalDate.of(2026, Month.DECEMBER, 31))
+                                                        .withValidUntil(LocalDate.of(2026, Month.OCTOBER, 1))
+                                                        .withTimeSlotList(Collections.singletonList(timeSlot))
+                                                        .build();
+
+        // Act && Assert
+        when(interviewerRepository.findById(interviewerName)).thenReturn(Optional.of(interviewer));
+
+        try {
+            interviewerServiceImpl.createInterviewerAvailabilityRules(interviewerName,
+                                                                      Collections.singletonList(availabilityRule));
+        } catch (BusinessException be) {
+            String exceptionMessage = "Start day of rule must not be after end day of rule!";
+            assertEquals(exceptionMessage, be.getMessage());
+            verify(interviewerAvailabilityRuleRepository, never()).saveAll(anyList());
+            throw be;
+        }
+
+        fail("Business exception of creating availability rule with valid from after valid until was not thrown!");
+    }
+
+    private static InterviewerAvailabilityRangeModel availabilityRangeOf(
+            InterviewerAvailabilityModel interviewerAvailability, LocalDate day, int fromHour, int toHour) {
+        return InterviewerAvailabilityRangeModel.Builder.interviewerAvailabilityRangeModelWith()
+                                                        .withInterviewerAvailabilityModel(interviewerAvailability)
+                                                        .withDay(day)
+                                                        .withStartTime(LocalTime.of(fromHour, 0))
+                                                        .withEndTime(LocalTime.of(toHour, 0))
+                                                        .build();
+    }
+
+    private static AvailabilitySlot availabilitySlotOf(LocalDate day, int fromHour, int toHour) {
+        TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(fromHour, 0)).withTo(
+                LocalTime.of(toHour, 0)).build();
+
+        return AvailabilitySlot.Builder.availabilitySlotWith().withDay(day).withTimeSlotList(
+                Collections.singletonList(timeSlot)).build();
+    }
+
+    @Test
+    public void importInterviewersWithAvailabilityRulesSuccessfully() {
+        // Arrange
+        String interviewerName = "Mary Smith";
+        InterviewerModel interviewer = InterviewerModel.Builder.interviewerModelWith().withName(interviewerName)
+                                                               .build();
+
+        List<String> ndjsonLines = Arrays.asList(
+                "{\"name\": \"Mary Smith\", \"availabilitySlotList\": [], \"availabilityRuleList\": [{\"dayOfWeek\": "
+                + "\"MONDAY\", \"validFrom\": \"2014-01-01\", \"validUntil\": \"2014-01-31\", \"exceptionDays\": "
+                + "[\"2014-01-13\"], \"timeSlotList\": [{\"from\": \"10:00\", \"to\": \"12:00\"}]}]}",
+                "{\"name\": \"Jane Doe\", \"availabilityRuleList\": [{\"dayOfWeek\": \"MONDAY\", "
+                + "\"validFrom\": \"2014-01-31\", \"validUntil\": \"2014-01-01\", \"timeSlotList\": "
+                + "[{\"from\": \"10:00\", \"to\": \"12:00\"}]}]}");
+
+        // Act
+        when(interviewerRepository.getExistingNames(Collections.singletonList(interviewerName)))
+                .thenReturn(Collections.emptyList());
+        when(interviewerRepository.getOne(interviewerName)).thenReturn(interviewer);
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        ImportReport importReport = interviewerServiceImpl.importInterviewers(ndjsonLines.iterator());
+
+        // Assert
+        assertEquals(1, importReport.getNumberOfImportedRecords());
+        assertEquals(1, importReport.getRecordErrorList().size());
+        assertEquals(2, importReport.getRecordErrorList().get(0).getLineNumber());
+        assertEquals("Start day of rule must not be after end day of rule!",
+                     importReport.getRecordErrorList().get(0).getMessageKey());
+
+        ArgumentCaptor<List<InterviewerAvailabilityRuleModel>> newAvailabilityRulesCaptor =
+                ArgumentCaptor.forClass(List.class);
+        verify(interviewerAvailabilityRuleRepository, times(1)).saveAll(newAvailabilityRulesCaptor.capture());
+        assertEquals(1, newAvailabilityRulesCaptor.getValue().size());
+
+        InterviewerAvailabilityRuleModel newAvailabilityRule = newAvailabilityRulesCaptor.getValue().get(0);
+        assertEquals(interviewer, newAvailabilityRule.getInterviewerAvailabilityModel().getInterviewerModel());
+        assertEquals(DayOfWeek.MONDAY, newAvailabilityRule.getDayOfWeek());
+        assertEquals(DailyAvailability.toHourMask(LocalTime.of(10, 0), LocalTime.of(12, 0)),
+                     newAvailabilityRule.getHourMask());
+        assertEquals(Collections.singleton(LocalDate.of(2014, Month.JANUARY, 13)),
+                     newAvailabilityRule.getExceptionDays());
+
+        verify(interviewerAvailabilityIndex, times(1)).updateInterviewer(
+                eq(interviewerName), eq(Arrays.asList(LocalDate.of(2014, Month.JANUARY, 6),
+                                                      LocalDate.of(2014, Month.JANUARY, 20),
+                                                      LocalDate.of(2014, Month.JANUARY, 27))), any());
     }
 }
@@ -0,0 +1,199 @@
+package service.interviewslots;
+
+import app.Application;
+import app.model.candidate.CandidateModel;
+import app.model.interviewer.InterviewerAvailabilityRuleModel;
+import app.model.interviewer.InterviewerModel;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.DailyAvailability;
+import app.model.utils.DateRange;
+import app.model.utils.SlotCounter;
+import app.model.utils.TimeSlot;
+import app.service.candidate.CandidateService;
+import app.service.interviewer.InterviewerService;
+import app.service.interviewslots.CommonAvailabilityFinder;
+import app.service.interviewslots.DailyAvailabilityLoader;
+import app.service.interviewslots.DatabaseCommonAvailabilityFinder;
+import app.service.interviewslots.InMemoryCommonAvailabilityFinder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Application.class,
+                properties = {"interview-slots.intersection-strategy=database",
+                              "spring.datasource.url=jdbc:h2:mem:databaseStrategyDB"})
+public class DatabaseCommonAvailabilityFinderIntegrationTests {
+    private static final LocalDate FIRST_DAY = LocalDate.of(2026, Month.NOVEMBER, 2);
+    private static final int NUMBER_OF_DAYS = 14;
+    private static final String CANDIDATE_NAME = "Database strategy John Doe";
+    private static final List<String> INTERVIEWERS_NAMES = Arrays.asList("Database strategy Jane Doe",
+                                                                         "Database strategy John Smith",
+                                                                         "Database strategy Mary Smith");
+
+    @Autowired
+    private CommonAvailabilityFinder commonAvailabilityFinder;
+    @Autowired
+    private DailyAvailabilityLoader dailyAvailabilityLoader;
+    @Autowired
+    private CandidateService candidateService;
+    @Autowired
+    private InterviewerService interviewerService;
+
+    private InMemoryCommonAvailabilityFinder inMemoryCommonAvailabilityFinder;
+
+    @Before
+    public void setupParticipants() {
+        inMemoryCommonAvailabilityFinder = new InMemoryCommonAvailabilityFinder(dailyAvailabilityLoader);
+
+        candidateService.createCandidate(CandidateModel.Builder.candidateModelWith().withName(CANDIDATE_NAME).build());
+        candidateService.addCandidateAvailabilitySlots(CANDIDATE_NAME, availabilitySlotsOf(0, 8, 12, 13, 18));
+
+        for (int interviewerIndex = 0; interviewerIndex < INTERVIEWERS_NAMES.size(); interviewerIndex++) {
+            String interviewerName = INTERVIEWERS_NAMES.get(interviewerIndex);
+
+            interviewerService.createInterviewer(InterviewerModel.Builder.interviewerModelWith()
+                                                                         .withName(interviewerName).build());
+            interviewerService.addInterviewerAvailabilitySlots(
+                    interviewerName, availabilitySlotsOf(interviewerIndex + 1, 9 + interviewerIndex, 11, 14, 17));
+        }
+    }
+
+    @After
+    public void deleteParticipants() {
+        candidateService.deleteCandidateByName(CANDIDATE_NAME);
+        INTERVIEWERS_NAMES.forEach(interviewerService::deleteInterviewerByName);
+    }
+
+    @Test
+    public void getCommonDailyAvailabilityMatchesInMemoryFinderSuccessfully() {
+        // Arrange
+        DateRange boundedDateRange = new DateRange(FIRST_DAY.plusDays(2), FIRST_DAY.plusDays(9));
+
+        // Act && Assert
+        assertTrue(commonAvailabilityFinder instanceof DatabaseCommonAvailabilityFinder);
+
+        for (DateRange queryDateRange : Arrays.asList(DateRange.unbounded(), boundedDateRange)) {
+            for (List<String> interviewersNames : Arrays.asList(INTERVIEWERS_NAMES.subList(0, 1),
+                                                                INTERVIEWERS_NAMES.subList(0, 2),
+                                                                INTERVIEWERS_NAMES)) {
+                Map<LocalDate, Integer> databaseHourMasks = hourMasksOf(
+                        commonAvailabilityFinder.getCommonDailyAvailability(CANDIDATE_NAME, interviewersNames,
+                                                                            queryDateRange));
+
+                assertFalse(databaseHourMasks.isEmpty());
+                assertEquals(hourMasksOf(inMemoryCommonAvailabilityFinder.getCommonDailyAvailability(
+                                     CANDIDATE_NAME, interviewersNames, queryDateRange)),
+                             databaseHourMasks);
+                assertEquals(hourMasksOf(inMemoryCommonAvailabilityFinder.getInterviewersCommonDailyAvailability(
+                                     interviewersNames, queryDateRange)),
+                             hourMasksOf(commonAvailabilityFinder.getInterviewersCommonDailyAvailability(
+                                     interviewersNames, queryDateRange)));
+            }
+        }
+    }
+
+    @Test
+    public void getEarliestCommonDailyAvailabilityMatchesInMemoryFinderSuccessfully() {
+        // Act && Assert
+        for (SlotCounter slotCounter : Arrays.asList(SlotCounter.hours(), SlotCounter.windowsOfAtLeast(2))) {
+            for (int numberOfSlots : Arrays.asList(1, 3, 10)) {
+                Map<LocalDate, Integer> databaseHourMasks = hourMasksOf(
+                        commonAvailabilityFinder.getEarliestCommonDailyAvailability(
+                                CANDIDATE_NAME, INTERVIEWERS_NAMES.subList(0, 2), DateRange.unbounded(),
+                                numberOfSlots, slotCounter));
+
+                assertFalse(databaseHourMasks.isEmpty());
+                assertEquals(hourMasksOf(inMemoryCommonAvailabilityFinder.getEarliestCommonDailyAvailability(
+                                     CANDIDATE_NAME, INTERVIEWERS_NAMES.subList(0, 2), DateRange.unbounded(),
+                                     numberOfSlots, slotCounter)),
+                             databaseHourMasks);
+            }
+        }
+    }
+
+    @Test
+    public void getCommonDailyAvailabilityWithAvailabilityRulesFallsBackToInMemoryFinderSuccessfully() {
+        // Arrange
+        String interviewerWithRuleName = INTERVIEWERS_NAMES.get(0);
+        TimeSlot ruleTimeSlot = TimeSlot.Builder.timeSlotWith()
+                                                .withFrom(LocalTime.of(8, 0))
+                                                .withTo(LocalTime.of(12, 0))
+                                                .build();
+        InterviewerAvailabilityRuleModel availabilityRule =
+                InterviewerAvailabilityRuleModel.Builder.interviewerAvailabilityRuleModelWith()
+                                                        .withDayOfWeek(FIRST_DAY.getDayOfWeek())
+                                                        .withTimeSlotList(Collections.singletonList(ruleTimeSlot))
+                                                        .withValidFrom(FIRST_DAY)
+                                                        .withValidUntil(FIRST_DAY.plusDays(NUMBER_OF_DAYS - 1))
+                                                        .build();
+
+        interviewerService.createInterviewerAvailabilityRules(interviewerWithRuleName,
+                                                              Collections.singletonList(availabilityRule));
+
+        // Act
+        Map<LocalDate, Integer> databaseHourMasks = hourMasksOf(commonAvailabilityFinder.getCommonDailyAvailability(
+                CANDIDATE_NAME, INTERVIEWERS_NAMES.subList(0, 1), DateRange.unbounded()));
+
+        // Assert
+        assertEquals(hourMasksOf(inMemoryCommonAvailabilityFinder.getCommonDailyAvailability(
+                             CANDIDATE_NAME, INTERVIEWERS_NAMES.subList(0, 1), DateRange.unbounded())),
+                     databaseHourMasks);
+        assertEquals(Integer.valueOf(DailyAvailability.toHourMask(LocalTime.of(8, 0), LocalTime.of(12, 0))),
+                     databaseHourMasks.get(FIRST_DAY));
+        assertEquals(hourMasksOf(inMemoryCommonAvailabilityFinder.getInterviewersCommonDailyAvailability(
+                             INTERVIEWERS_NAMES, DateRange.unbounded())),
+                     hourMasksOf(commonAvailabilityFinder.getInterviewersCommonDailyAvailability(
+                             INTERVIEWERS_NAMES, DateRange.unbounded())));
+    }
+
+    private static List<AvailabilitySlot> availabilitySlotsOf(int dayOffset, int morningFromHour,
+                                                              int morningToHour, int afternoonFromHour,
+                                                              int afternoonToHour) {
+        List<AvailabilitySlot> availabilitySlots = new ArrayList<>();
+
+        for (int dayIndex = dayOffset; dayIndex < NUMBER_OF_DAYS; dayIndex++) {
+            if (dayIndex % 4 == 3) {
+                continue;
+            }
+
+            int hourMask = DailyAvailability.toHourMask(LocalTime.of(morningFromHour, 0),
+                                                        LocalTime.of(morningToHour, 0))
+                           | DailyAvailability.toHourMask(LocalTime.of(afternoonFromHour, 0),
+                                                          LocalTime.of(afternoonToHour + dayIndex % 2, 0));
+
+            availabilitySlots.add(AvailabilitySlot.Builder.availabilitySlotWith()
+                                                          .withDay(FIRST_DAY.plusDays(dayIndex))
+                                                          .withTimeSlotList(DailyAvailability.toTimeSlots(hourMask))
+                                                          .build());
+        }
+
+        return availabilitySlots;
+    }
+
+    private static Map<LocalDate, Integer> hourMasksOf(DailyAvailability dailyAvailability) {
+        Map<LocalDate, Integer> hourMasks = new LinkedHashMap<>();
+
+        for (LocalDate day : dailyAvailability.getDays()) {
+            hourMasks.put(day, dailyAvailability.getHourMask(day.toEpochDay()));
+        }
+
+        return hourMasks;
+    }
+}
@@ -0,0 +1,183 @@
+package service.interviewslots;
+
+import app.model.utils.AvailabilityHour;
+import app.model.utils.DailyAvailability;
+import app.model.utils.DateRange;
+import app.model.utils.SlotCounter;
+import app.repository.candidate.CandidateAvailabilityRangeRepository;
+import app.repository.interviewer.InterviewerAvailabilityRangeRepository;
+import app.repository.interviewer.InterviewerAvailabilityRuleRepository;
+import app.service.interviewslots.DailyAvailabilityLoader;
+import app.service.interviewslots.DatabaseCommonAvailabilityFinder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DatabaseCommonAvailabilityFinderTests {
+    @Mock
+    private CandidateAvailabilityRangeRepository candidateAvailabilityRangeRepository;
+    @Mock
+    private InterviewerAvailabilityRangeRepository interviewerAvailabilityRangeRepository;
+    @Mock
+    private InterviewerAvailabilityRuleRepository interviewerAvailabilityRuleRepository;
+    @Mock
+    private DailyAvailabilityLoader dailyAvailabilityLoader;
+
+    @InjectMocks
+    private DatabaseCommonAvailabilityFinder databaseCommonAvailabilityFinder;
+
+    @Test
+    public void getCommonDailyAvailabilityCombinesCommonHoursPerDaySuccessfully() {
+        // Arrange
+        String candidateName = "John Doe";
+        List<String> interviewersNames = Arrays.asList("Jane Doe", "John Smith");
+        LocalDate firstDay = LocalDate.of(2014, Month.JANUARY, 1);
+        LocalDate secondDay = LocalDate.of(2014, Month.JANUARY, 2);
+
+        List<AvailabilityHour> commonAvailabilityHours = Arrays.asList(availabilityHourOf(firstDay, 9),
+                                                                       availabilityHourOf(firstDay, 10),
+                                                                       availabilityHourOf(secondDay, 14));
+
+        // Act
+        when(candidateAvailabilityRangeRepository.getCommonAvailabilityHours(candidateName,
+                                                                             new HashSet<>(interviewersNames), 3,
+                                                                             firstDay, secondDay)).thenReturn(
+                commonAvailabilityHours);
+
+        DailyAvailability commonDailyAvailability = databaseCommonAvailabilityFinder.getCommonDailyAvailability(
+                candidateName, interviewersNames, new DateRange(firstDay, secondDay));
+
+        // Assert
+        assertEquals(2, commonDailyAvailability.getNumberOfDays());
+        assertEquals(0b11 << 9, commonDailyAvailability.getHourMask(firstDay.toEpochDay()));
+        assertEquals(1 << 14, commonDailyAvailability.getHourMask(secondDay.toEpochDay()));
+    }
+
+    @Test
+    public void getCommonDailyAvailabilityCountsRepeatedInterviewerOnceSuccessfully() {
+        // Arrange
+        String candidateName = "John Doe";
+        List<String> interviewersNames = Arrays.asList("Jane Doe", "Jane Doe");
+
+        // Act
+        when(candidateAvailabilityRangeRepository.getCommonAvailabilityHours(candidateName,
+                                                                             Collections.singleton("Jane Doe"), 2,
+                                                                             null, null)).thenReturn(
+                Collections.emptyList());
+
+        DailyAvailability commonDailyAvailability = databaseCommonAvailabilityFinder.getCommonDailyAvailability(
+                candidateName, interviewersNames, DateRange.unbounded());
+
+        // Assert
+        assertTrue(commonDailyAvailability.isEmpty());
+    }
+
+    @Test
+    public void getEarliestCommonDailyAvailabilityKeepsOnlyFirstHoursSuccessfully() {
+        // Arrange
+        String candidateName = "John Doe";
+        List<String> interviewersNames = Collections.singletonList("Jane Doe");
+        LocalDate firstDay = LocalDate.of(2014, Month.JANUARY, 1);
+        LocalDate secondDay = LocalDate.of(2014, Month.JANUARY, 2);
+
+        List<AvailabilityHour> commonAvailabilityHours = Arrays.asList(availabilityHourOf(firstDay, 9),
+                                                                       availabilityHourOf(firstDay, 10),
+                                                                       availabilityHourOf(secondDay, 14));
+
+        // Act
+        when(candidateAvailabilityRangeRepository.getCommonAvailabilityHours(candidateName,
+                                                                             new HashSet<>(interviewersNames), 2,
+                                                                             null, null)).thenReturn(
+                commonAvailabilityHours);
+
+        DailyAvailability earliestDailyAvailability =
+                databaseCommonAvailabilityFinder.getEarliestCommonDailyAvailability(
+                        candidateName, interviewersNames, DateRange.unbounded(), 2, SlotCounter.hours());
+
+        // Assert
+        assertEquals(Collections.singletonList(firstDay), earliestDailyAvailability.getDays());
+        assertEquals(0b11 << 9, earliestDailyAvailability.getHourMask(firstDay.toEpochDay()));
+    }
+
+    @Test
+    public void getCommonDailyAvailabilityOfInterviewersWithRulesIntersectsInMemorySuccessfully() {
+        // Arrange
+        String candidateName = "John Doe";
+        String interviewerName = "Jane Doe";
+        List<String> interviewersNames = Collections.singletonList(interviewerName);
+        LocalDate firstDay = LocalDate.of(2014, Month.JANUARY, 1);
+        DateRange queryDateRange = new DateRange(firstDay, firstDay);
+
+        DailyAvailability candidateDailyAvailability = DailyAvailability.fromAvailabilityHours(
+                Arrays.asList(availabilityHourOf(firstDay, 9), availabilityHourOf(firstDay, 10)));
+        DailyAvailability interviewerDailyAvailability = DailyAvailability.fromAvailabilityHours(
+                Arrays.asList(availabilityHourOf(firstDay, 10), availabilityHourOf(firstDay, 11)));
+
+        // Act
+        when(interviewerAvailabilityRuleRepository.existsInterviewerAvailabilityRules(
+                new HashSet<>(interviewersNames), firstDay, firstDay)).thenReturn(true);
+        when(dailyAvailabilityLoader.getCandidateDailyAvailability(candidateName, queryDateRange)).thenReturn(
+                candidateDailyAvailability);
+        when(dailyAvailabilityLoader.getInterviewersDailyAvailabilityByName(interviewersNames, queryDateRange))
+                .thenReturn(Collections.singletonMap(interviewerName, interviewerDailyAvailability));
+
+        DailyAvailability commonDailyAvailability = databaseCommonAvailabilityFinder.getCommonDailyAvailability(
+                candidateName, interviewersNames, queryDateRange);
+
+        // Assert
+        assertEquals(1 << 10, commonDailyAvailability.getHourMask(firstDay.toEpochDay()));
+        verifyNoInteractions(candidateAvailabilityRangeRepository);
+    }
+
+    @Test
+    public void getInterviewersCommonDailyAvailabilityCombinesCommonHoursPerDaySuccessfully() {
+        // Arrange
+        List<String> interviewersNames = Arrays.asList("Jane Doe", "John Smith", "Jane Doe");
+        LocalDate firstDay = LocalDate.of(2014, Month.JANUARY, 1);
+
+        List<AvailabilityHour> commonAvailabilityHours = Arrays.asList(availabilityHourOf(firstDay, 9),
+                                                                       availabilityHourOf(firstDay, 10));
+
+        // Act
+        when(interviewerAvailabilityRangeRepository.getInterviewersCommonAvailabilityHours(
+                new HashSet<>(interviewersNames), 2, firstDay, firstDay)).thenReturn(commonAvailabilityHours);
+
+        DailyAvailability commonDailyAvailability =
+                databaseCommonAvailabilityFinder.getInterviewersCommonDailyAvailability(
+                        interviewersNames, new DateRange(firstDay, firstDay));
+
+        // Assert
+        assertEquals(Collections.singletonList(firstDay), commonDailyAvailability.getDays());
+        assertEquals(0b11 << 9, commonDailyAvailability.getHourMask(firstDay.toEpochDay()));
+        verifyNoInteractions(dailyAvailabilityLoader);
+    }
+
+    private static AvailabilityHour availabilityHourOf(LocalDate day, int hour) {
+        return new AvailabilityHour() {
+            @Override
+            public LocalDate getDay() {
+                return day;
+            }
+
+            @Override
+            public Integer getHour() {
+                return hour;
+            }
+        };
+    }
+}
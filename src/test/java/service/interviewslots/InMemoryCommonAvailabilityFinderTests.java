@@ -0,0 +1,104 @@
+package service.interviewslots;
+
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.DailyAvailability;
+import app.model.utils.DateRange;
+import app.model.utils.TimeSlot;
+import app.service.interviewslots.DailyAvailabilityLoader;
+import app.service.interviewslots.InMemoryCommonAvailabilityFinder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class InMemoryCommonAvailabilityFinderTests {
+    @Mock
+    private DailyAvailabilityLoader dailyAvailabilityLoader;
+
+    @InjectMocks
+    private InMemoryCommonAvailabilityFinder inMemoryCommonAvailabilityFinder;
+
+    @Test
+    public void getCommonDailyAvailabilityIntersectsAllParticipantsSuccessfully() {
+        // Arrange
+        String candidateName = "John Doe";
+        List<String> interviewersNames = Arrays.asList("Jane Doe", "John Smith");
+        LocalDate firstDay = LocalDate.of(2014, Month.JANUARY, 1);
+        LocalDate secondDay = LocalDate.of(2014, Month.JANUARY, 2);
+
+        DailyAvailability candidateDailyAvailability = DailyAvailability.fromAvailabilitySlots(Arrays.asList(
+                availabilitySlotOf(firstDay, 9, 17), availabilitySlotOf(secondDay, 9, 17)));
+
+        Map<String, DailyAvailability> interviewersDailyAvailabilityByName = new HashMap<>();
+        interviewersDailyAvailabilityByName.put("Jane Doe", DailyAvailability.fromAvailabilitySlots(Arrays.asList(
+                availabilitySlotOf(firstDay, 8, 20), availabilitySlotOf(secondDay, 8, 20))));
+        interviewersDailyAvailabilityByName.put("John Smith", DailyAvailability.fromAvailabilitySlots(
+                Collections.singletonList(availabilitySlotOf(secondDay, 10, 12))));
+
+        // Act
+        when(dailyAvailabilityLoader.getCandidateDailyAvailability(candidateName, DateRange.unbounded()))
+                .thenReturn(candidateDailyAvailability);
+        when(dailyAvailabilityLoader.getInterviewersDailyAvailabilityByName(interviewersNames,
+                                                                            DateRange.unbounded()))
+                .thenReturn(interviewersDailyAvailabilityByName);
+
+        DailyAvailability commonDailyAvailability = inMemoryCommonAvailabilityFinder.getCommonDailyAvailability(
+                candidateName, interviewersNames, DateRange.unbounded());
+
+        // Assert
+        assertEquals(Collections.singletonList(secondDay), commonDailyAvailability.getDays());
+        assertEquals(0b11 << 10, commonDailyAvailability.getHourMask(secondDay.toEpochDay()));
+    }
+
+    @Test
+    public void getCommonDailyAvailabilityWithoutCommonDateSpanReturnsEmptySuccessfully() {
+        // Arrange
+        String candidateName = "John Doe";
+        List<String> interviewersNames = Collections.singletonList("Jane Doe");
+        LocalDate firstDay = LocalDate.of(2014, Month.JANUARY, 1);
+        LocalDate secondDay = LocalDate.of(2014, Month.JANUARY, 2);
+
+        DailyAvailability candidateDailyAvailability = DailyAvailability.fromAvailabilitySlots(
+                Collections.singletonList(availabilitySlotOf(firstDay, 9, 17)));
+
+        Map<String, DailyAvailability> interviewersDailyAvailabilityByName = Collections.singletonMap(
+                "Jane Doe", DailyAvailability.fromAvailabilitySlots(
+                        Collections.singletonList(availabilitySlotOf(secondDay, 9, 17))));
+
+        // Act
+        when(dailyAvailabilityLoader.getCandidateDailyAvailability(candidateName, DateRange.unbounded()))
+                .thenReturn(candidateDailyAvailability);
+        when(dailyAvailabilityLoader.getInterviewersDailyAvailabilityByName(interviewersNames,
+                                                                            DateRange.unbounded()))
+                .thenReturn(interviewersDailyAvailabilityByName);
+
+        DailyAvailability commonDailyAvailability = inMemoryCommonAvailabilityFinder.getCommonDailyAvailability(
+                candidateName, interviewersNames, DateRange.unbounded());
+
+        // Assert
+        assertTrue(commonDailyAvailability.isEmpty());
+    }
+
+    private static AvailabilitySlot availabilitySlotOf(LocalDate day, int fromHour, int toHour) {
+        TimeSlot timeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(fromHour, 0)).withTo(
+                LocalTime.of(toHour, 0)).build();
+
+        return AvailabilitySlot.Builder.availabilitySlotWith().withDay(day).withTimeSlotList(
+                Collections.singletonList(timeSlot)).build();
+    }
+}
@@ -0,0 +1,317 @@
+package service.interviewslots;
+
+import app.Application;
+import app.exception.BusinessException;
+import app.model.candidate.CandidateAvailabilityModel;
+import app.model.candidate.CandidateModel;
+import app.model.interviewer.InterviewerAvailabilityModel;
+import app.model.interviewer.InterviewerModel;
+import app.model.interviewslots.InterviewBookingModel;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.DailyAvailability;
+import app.model.utils.DateRange;
+import app.model.utils.TimeSlot;
+import app.service.candidate.CandidateService;
+import app.service.interviewer.InterviewerService;
+import app.service.interviewslots.DailyAvailabilityLoader;
+import app.service.interviewslots.InterviewBookingService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Application.class)
+public class InterviewBookingServiceImplIntegrationTests {
+    private static final LocalDate DAY = LocalDate.of(2026, Month.OCTOBER, 20);
+    private static final DateRange BOOKED_DATE_RANGE = new DateRange(DAY, DAY);
+    private static final int WORKING_HOURS_MASK = DailyAvailability.toHourMask(LocalTime.of(9, 0),
+                                                                               LocalTime.of(17, 0));
+    private static final List<String> CANDIDATES_NAMES = Arrays.asList("Booking John Doe", "Booking Mary Doe");
+    private static final List<String> INTERVIEWERS_NAMES = Arrays.asList("Booking Jane Doe", "Booking John Smith",
+                                                                         "Booking Mary Smith");
+
+    @Autowired
+    private InterviewBookingService interviewBookingService;
+    @Autowired
+    private CandidateService candidateService;
+    @Autowired
+    private InterviewerService interviewerService;
+    @Autowired
+    private DailyAvailabilityLoader dailyAvailabilityLoader;
+
+    @Before
+    public void setupParticipants() {
+        List<AvailabilitySlot> workingHours = Collections.singletonList(
+                AvailabilitySlot.Builder.availabilitySlotWith()
+                                        .withDay(DAY)
+                                        .withTimeSlotList(DailyAvailability.toTimeSlots(WORKING_HOURS_MASK))
+                                        .build());
+
+        for (String candidateName : CANDIDATES_NAMES) {
+            CandidateModel candidate = candidateService.createCandidate(
+                    CandidateModel.Builder.candidateModelWith().withName(candidateName).build());
+            candidateService.createCandidateAvailability(
+                    CandidateAvailabilityModel.Builder.candidateAvailabilityModelWith()
+                                                      .withCandidateModel(candidate)
+                                                      .withAvailabilitySlotList(workingHours)
+                                                      .build());
+        }
+
+        for (String interviewerName : INTERVIEWERS_NAMES) {
+            InterviewerModel interviewer = interviewerService.createInterviewer(
+                    InterviewerModel.Builder.interviewerModelWith().withName(interviewerName).build());
+            interviewerService.createInterviewerAvailability(
+                    InterviewerAvailabilityModel.Builder.interviewerAvailabilityModelWith()
+                                                        .withInterviewerModel(interviewer)
+                                                        .withAvailabilitySlotList(workingHours)
+                                                        .build());
+        }
+    }
+
+    @After
+    public void deleteParticipants() {
+        CANDIDATES_NAMES.forEach(candidateService::deleteCandidateByName);
+        INTERVIEWERS_NAMES.forEach(interviewerService::deleteInterviewerByName);
+    }
+
+    @Test
+    public void bookInterviewConcurrentlyNeverDoublesBookingsInDatabaseSuccessfully() throws Exception {
+        // Arrange
+        int numberOfThreads = 8;
+        int numberOfBookingsPerThread = 40;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<String> bookedParticipantHours = ConcurrentHashMap.newKeySet();
+        Map<String, AtomicInteger> numberOfBookedHoursByParticipant = new ConcurrentHashMap<>();
+        AtomicInteger numberOfDoubleBookings = new AtomicInteger();
+        AtomicInteger numberOfRejectedBookings = new AtomicInteger();
+
+        // Act
+        try {
+            List<Future<?>> results = new ArrayList<>();
+
+            for (int thread = 0; thread < numberOfThreads; thread++) {
+                results.add(executorService.submit(() -> {
+                    start.await();
+
+                    for (int booking = 0; booking < numberOfBookingsPerThread; booking++) {
+                        InterviewBookingModel interviewBooking = randomInterviewBooking();
+
+                        try {
+                            InterviewBookingModel bookedInterview = interviewBookingService.bookInterview(
+                                    interviewBooking);
+
+                            for (String participantName : getParticipantsNames(bookedInterview)) {
+                                if (!bookedParticipantHours.add(participantName + "@"
+                                                                + bookedInterview.getFrom().getHour())) {
+                                    numberOfDoubleBookings.incrementAndGet();
+                                }
+
+                                numberOfBookedHoursByParticipant.computeIfAbsent(
+                                        participantName, name -> new AtomicInteger()).incrementAndGet();
+                            }
+                        } catch (BusinessException be) {
+                            numberOfRejectedBookings.incrementAndGet();
+                        }
+                    }
+
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(0, numberOfDoubleBookings.get());
+        assertTrue(numberOfRejectedBookings.get() > 0);
+
+        Map<String, DailyAvailability> candidatesDailyAvailabilityByName =
+                dailyAvailabilityLoader.getCandidatesDailyAvailabilityByName(CANDIDATES_NAMES, BOOKED_DATE_RANGE);
+        Map<String, DailyAvailability> interviewersDailyAvailabilityByName =
+                dailyAvailabilityLoader.getInterviewersDailyAvailabilityByName(INTERVIEWERS_NAMES, BOOKED_DATE_RANGE);
+
+        for (String candidateName : CANDIDATES_NAMES) {
+            assertRemainingHours(candidateName, candidatesDailyAvailabilityByName.get(candidateName),
+                                 bookedParticipantHours, numberOfBookedHoursByParticipant);
+        }
+
+        for (String interviewerName : INTERVIEWERS_NAMES) {
+            assertRemainingHours(interviewerName, interviewersDailyAvailabilityByName.get(interviewerName),
+                                 bookedParticipantHours, numberOfBookedHoursByParticipant);
+        }
+    }
+
+    @Test
+    public void bookInterviewConcurrentlyWithAddedAvailabilityNeverRestoresBookedHourSuccessfully() throws Exception {
+        // Arrange
+        int numberOfDays = 40;
+        String candidateName = CANDIDATES_NAMES.get(0);
+        String interviewerName = INTERVIEWERS_NAMES.get(0);
+        LocalDate firstDay = DAY.plusDays(1);
+
+        for (int dayIndex = 0; dayIndex < numberOfDays; dayIndex++) {
+            List<AvailabilitySlot> morningHours = availabilitySlotsOf(firstDay.plusDays(dayIndex), 9, 12);
+
+            candidateService.addCandidateAvailabilitySlots(candidateName, morningHours);
+            interviewerService.addInterviewerAvailabilitySlots(interviewerName, morningHours);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        // Act
+        try {
+            for (int dayIndex = 0; dayIndex < numberOfDays; dayIndex++) {
+                LocalDate day = firstDay.plusDays(dayIndex);
+                CyclicBarrier start = new CyclicBarrier(2);
+
+                Future<?> booking = executorService.submit(() -> {
+                    start.await();
+
+                    return interviewBookingService.bookInterview(interviewBookingOf(candidateName, interviewerName,
+                                                                                    day, 10));
+                });
+                Future<?> addition = executorService.submit(() -> {
+                    start.await();
+                    candidateService.addCandidateAvailabilitySlots(candidateName, availabilitySlotsOf(day, 12, 13));
+                    interviewerService.addInterviewerAvailabilitySlots(interviewerName,
+                                                                       availabilitySlotsOf(day, 12, 13));
+
+                    return null;
+                });
+
+                booking.get(60, TimeUnit.SECONDS);
+                addition.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // Assert
+        DateRange bookedDateRange = new DateRange(firstDay, firstDay.plusDays(numberOfDays - 1));
+        DailyAvailability candidateDailyAvailability = dailyAvailabilityLoader.getCandidateDailyAvailability(
+                candidateName, bookedDateRange);
+        DailyAvailability interviewerDailyAvailability = dailyAvailabilityLoader.getInterviewersDailyAvailabilityByName(
+                Collections.singletonList(interviewerName), bookedDateRange).get(interviewerName);
+        int expectedHourMask = DailyAvailability.toHourMask(LocalTime.of(9, 0), LocalTime.of(10, 0))
+                               | DailyAvailability.toHourMask(LocalTime.of(11, 0), LocalTime.of(13, 0));
+
+        for (int dayIndex = 0; dayIndex < numberOfDays; dayIndex++) {
+            LocalDate day = firstDay.plusDays(dayIndex);
+
+            assertEquals("Candidate availability on " + day, expectedHourMask,
+                         candidateDailyAvailability.getHourMask(day.toEpochDay()));
+            assertEquals("Interviewer availability on " + day, expectedHourMask,
+                         interviewerDailyAvailability.getHourMask(day.toEpochDay()));
+
+            try {
+                interviewBookingService.bookInterview(interviewBookingOf(candidateName, interviewerName, day, 10));
+                fail("Hour booked twice on " + day);
+            } catch (BusinessException be) {
+                assertEquals("Slot is not available for all participants!", be.getMessageKey());
+            }
+        }
+    }
+
+    private static void assertRemainingHours(String participantName, DailyAvailability storedDailyAvailability,
+                                             Set<String> bookedParticipantHours,
+                                             Map<String, AtomicInteger> numberOfBookedHoursByParticipant) {
+        int expectedHourMask = WORKING_HOURS_MASK;
+
+        for (int hour = 0; hour < DailyAvailability.HOURS_PER_DAY; hour++) {
+            if (bookedParticipantHours.contains(participantName + "@" + hour)) {
+                expectedHourMask &= ~(1 << hour);
+            }
+        }
+
+        AtomicInteger numberOfBookedHours = numberOfBookedHoursByParticipant.get(participantName);
+
+        assertEquals(expectedHourMask, storedDailyAvailability.getHourMask(DAY.toEpochDay()));
+        assertEquals(Integer.bitCount(WORKING_HOURS_MASK) - Integer.bitCount(expectedHourMask),
+                     numberOfBookedHours == null ? 0 : numberOfBookedHours.get());
+    }
+
+    private static List<String> getParticipantsNames(InterviewBookingModel interviewBooking) {
+        List<String> participantsNames = new ArrayList<>();
+        participantsNames.add(interviewBooking.getCandidateName());
+        participantsNames.addAll(interviewBooking.getInterviewersNames());
+
+        return participantsNames;
+    }
+
+    private static List<AvailabilitySlot> availabilitySlotsOf(LocalDate day, int fromHour, int toHour) {
+        return Collections.singletonList(
+                AvailabilitySlot.Builder.availabilitySlotWith()
+                                        .withDay(day)
+                                        .withTimeSlotList(DailyAvailability.toTimeSlots(
+                                                DailyAvailability.toHourMask(LocalTime.of(fromHour, 0),
+                                                                             LocalTime.of(toHour, 0))))
+                                        .build());
+    }
+
+    private static InterviewBookingModel interviewBookingOf(String candidateName, String interviewerName,
+                                                            LocalDate day, int fromHour) {
+        return InterviewBookingModel.Builder.interviewBookingModelWith()
+                                            .withCandidateName(candidateName)
+                                            .withInterviewersNames(Collections.singletonList(interviewerName))
+                                            .withDay(day)
+                                            .withFrom(LocalTime.of(fromHour, 0))
+                                            .withTo(LocalTime.of(fromHour + 1, 0))
+                                            .build();
+    }
+
+    private static InterviewBookingModel randomInterviewBooking() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstInterviewerIndex = random.nextInt(INTERVIEWERS_NAMES.size());
+        int secondInterviewerIndex = (firstInterviewerIndex + 1 + random.nextInt(INTERVIEWERS_NAMES.size() - 1))
+                                     % INTERVIEWERS_NAMES.size();
+        int fromHour = 9 + random.nextInt(8);
+        TimeSlot bookedTimeSlot = TimeSlot.Builder.timeSlotWith()
+                                                  .withFrom(LocalTime.of(fromHour, 0))
+                                                  .withTo(LocalTime.of(fromHour + 1, 0))
+                                                  .build();
+
+        return InterviewBookingModel.Builder.interviewBookingModelWith()
+                                            .withCandidateName(CANDIDATES_NAMES.get(
+                                                    random.nextInt(CANDIDATES_NAMES.size())))
+                                            .withInterviewersNames(Arrays.asList(
+                                                    INTERVIEWERS_NAMES.get(firstInterviewerIndex),
+                                                    INTERVIEWERS_NAMES.get(secondInterviewerIndex)))
+                                            .withDay(DAY)
+                                            .withFrom(bookedTimeSlot.getFrom())
+                                            .withTo(bookedTimeSlot.getTo())
+                                            .build();
+    }
+}
@@ -0,0 +1,344 @@
+package service.interviewslots;
+
+import app.exception.BusinessException;
+import app.model.interviewslots.InterviewBookingModel;
+import app.model.utils.AvailabilitySlot;
+import app.model.utils.DailyAvailability;
+import app.model.utils.DateRange;
+import app.repository.candidate.CandidateRepository;
+import app.repository.interviewer.InterviewerRepository;
+import app.service.candidate.CandidateService;
+import app.service.interviewer.InterviewerService;
+import app.service.interviewslots.DailyAvailabilityLoader;
+import app.service.interviewslots.InterviewBookingLocks;
+import app.service.interviewslots.InterviewBookingServiceImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class InterviewBookingServiceImplTests {
+    private static final LocalDate DAY = LocalDate.of(2026, Month.OCTOBER, 20);
+    private static final int WORKING_HOURS_MASK = DailyAvailability.toHourMask(LocalTime.of(9, 0),
+                                                                               LocalTime.of(17, 0));
+
+    @Mock
+    private CandidateRepository candidateRepository;
+    @Mock
+    private InterviewerRepository interviewerRepository;
+    @Mock
+    private CandidateService candidateService;
+    @Mock
+    private InterviewerService interviewerService;
+    @Mock
+    private DailyAvailabilityLoader dailyAvailabilityLoader;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private InterviewBookingServiceImpl interviewBookingServiceImpl;
+
+    private final ConcurrentMap<String, Integer> hourMaskByParticipant = new ConcurrentHashMap<>();
+    private final AtomicInteger numberOfDoubleBookings = new AtomicInteger();
+
+    @Before
+    public void setupService() {
+        interviewBookingServiceImpl = new InterviewBookingServiceImpl(candidateRepository, interviewerRepository,
+                                                                      candidateService, interviewerService,
+                                                                      dailyAvailabilityLoader,
+                                                                      new InterviewBookingLocks(16),
+                                                                      transactionTemplate);
+    }
+
+    @Test
+    public void bookInterviewRemovesSlotFromAllParticipantsSuccessfully() {
+        // Arrange
+        String candidateName = "John Doe";
+        List<String> interviewersNames = Arrays.asList("Jane Doe", "John Smith", "Jane Doe");
+
+        InterviewBookingModel interviewBooking = interviewBookingOf(candidateName, interviewersNames, 10, 12);
+
+        // Act
+        stubParticipants(Collections.singletonList(candidateName), Arrays.asList("Jane Doe", "John Smith"));
+
+        InterviewBookingModel bookedInterview = interviewBookingServiceImpl.bookInterview(interviewBooking);
+
+        // Assert
+        assertEquals(Arrays.asList("Jane Doe", "John Smith"), bookedInterview.getInterviewersNames());
+        assertEquals(WORKING_HOURS_MASK & ~(0b11 << 10), (int) hourMaskByParticipant.get("candidate:John Doe"));
+        assertEquals(WORKING_HOURS_MASK & ~(0b11 << 10), (int) hourMaskByParticipant.get("interviewer:Jane Doe"));
+        assertEquals(WORKING_HOURS_MASK & ~(0b11 << 10), (int) hourMaskByParticipant.get("interviewer:John Smith"));
+        verify(interviewerService, times(1)).removeInterviewerAvailabilitySlots(eq("Jane Doe"), anyList());
+    }
+
+    @Test(expected = BusinessException.class)
+    public void bookInterviewWithUnavailableInterviewerFails() {
+        // Arrange
+        String candidateName = "John Doe";
+        List<String> interviewersNames = Arrays.asList("Jane Doe", "John Smith");
+
+        InterviewBookingModel interviewBooking = interviewBookingOf(candidateName, interviewersNames, 17, 18);
+
+        // Act && Assert
+        stubParticipants(Collections.singletonList(candidateName), interviewersNames);
+        hourMaskByParticipant.put("candidate:John Doe", WORKING_HOURS_MASK | (1 << 17));
+        hourMaskByParticipant.put("interviewer:Jane Doe", WORKING_HOURS_MASK | (1 << 17));
+
+        try {
+            interviewBookingServiceImpl.bookInterview(interviewBooking);
+        } catch (BusinessException be) {
+            String exceptionMessage = "Slot is not available for all participants!";
+            assertEquals(exceptionMessage, be.getMessage());
+            assertArrayEquals(new String[]{"John Smith"}, be.getArguments());
+            verify(candidateService, never()).removeCandidateAvailabilitySlots(anyString(), anyList());
+            throw be;
+        }
+
+        fail("Business exception of booking an unavailable slot was not thrown!");
+    }
+
+    @Test(expected = BusinessException.class)
+    public void bookInterviewWithoutInterviewersCreatedFails() {
+        // Arrange
+        String candidateName = "John Doe";
+        List<String> interviewersNames = Arrays.asList("Mary Smith", "Jane Doe", "John Smith");
+
+        InterviewBookingModel interviewBooking = interviewBookingOf(candidateName, interviewersNames, 10, 11);
+
+        // Act && Assert
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(candidateRepository.existsById(candidateName)).thenReturn(true);
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(
+                Collections.singletonList("Jane Doe"));
+
+        try {
+            interviewBookingServiceImpl.bookInterview(interviewBooking);
+        } catch (BusinessException be) {
+            String exceptionMessage = "Interviewer does not exist!";
+            assertEquals(exceptionMessage, be.getMessage());
+            assertArrayEquals(new String[]{"Mary Smith", "John Smith"}, be.getArguments());
+            verify(interviewerRepository, never()).findById(anyString());
+            verifyNoInteractions(dailyAvailabilityLoader);
+            throw be;
+        }
+
+        fail("Business exception of booking with interviewers not created was not thrown!");
+    }
+
+    @Test(expected = BusinessException.class)
+    public void bookInterviewWithFromAfterToFails() {
+        // Arrange
+        InterviewBookingModel interviewBooking = interviewBookingOf("John Doe",
+                                                                    Collections.singletonList("Jane Doe"), 12, 10);
+
+        // Act && Assert
+        try {
+            interviewBookingServiceImpl.bookInterview(interviewBooking);
+        } catch (BusinessException be) {
+            String exceptionMessage = "Start hour of slot must be before end hour of slot!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of booking with from after to was not thrown!");
+    }
+
+    @Test
+    public void bookInterviewConcurrentlyNeverDoublesBookingsSuccessfully() throws Exception {
+        // Arrange
+        List<String> candidatesNames = Arrays.asList("John Doe", "Mary Doe", "Paul Doe", "Anna Doe");
+        List<String> interviewersNames = Arrays.asList("Jane Doe", "John Smith", "Mary Smith", "Paul Smith",
+                                                       "Anna Smith", "Mark Smith");
+        int numberOfThreads = 8;
+        int numberOfBookingsPerThread = 250;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        CountDownLatch start = new CountDownLatch(1);
+        Map<String, AtomicInteger> numberOfBookedHoursByParticipant = new ConcurrentHashMap<>();
+        AtomicInteger numberOfRejectedBookings = new AtomicInteger();
+
+        // Act
+        stubParticipants(candidatesNames, interviewersNames);
+
+        try {
+            List<Future<?>> results = new ArrayList<>();
+
+            for (int thread = 0; thread < numberOfThreads; thread++) {
+                results.add(executorService.submit(() -> {
+                    start.await();
+
+                    for (int booking = 0; booking < numberOfBookingsPerThread; booking++) {
+                        InterviewBookingModel interviewBooking = randomInterviewBookingOf(candidatesNames,
+                                                                                          interviewersNames);
+
+                        try {
+                            interviewBookingServiceImpl.bookInterview(interviewBooking);
+                            countBookedHours(interviewBooking, numberOfBookedHoursByParticipant);
+                        } catch (BusinessException be) {
+                            numberOfRejectedBookings.incrementAndGet();
+                        }
+                    }
+
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(0, numberOfDoubleBookings.get());
+        assertTrue(numberOfRejectedBookings.get() > 0);
+
+        for (Map.Entry<String, Integer> participantHourMask : hourMaskByParticipant.entrySet()) {
+            int numberOfRemovedHours = Integer.bitCount(WORKING_HOURS_MASK)
+                                       - Integer.bitCount(participantHourMask.getValue());
+            AtomicInteger numberOfBookedHours = numberOfBookedHoursByParticipant.get(participantHourMask.getKey());
+
+            assertEquals(numberOfRemovedHours, numberOfBookedHours == null ? 0 : numberOfBookedHours.get());
+        }
+    }
+
+    private void stubParticipants(List<String> candidatesNames, List<String> interviewersNames) {
+        for (String candidateName : candidatesNames) {
+            hourMaskByParticipant.put("candidate:" + candidateName, WORKING_HOURS_MASK);
+        }
+
+        for (String interviewerName : interviewersNames) {
+            hourMaskByParticipant.put("interviewer:" + interviewerName, WORKING_HOURS_MASK);
+        }
+
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(candidateRepository.existsById(anyString())).thenReturn(true);
+        when(interviewerRepository.getExistingNames(anyCollection())).thenAnswer(
+                invocation -> new ArrayList<>(invocation.<Collection<String>>getArgument(0)));
+        when(dailyAvailabilityLoader.getCandidateDailyAvailability(anyString(), any(DateRange.class))).thenAnswer(
+                invocation -> dailyAvailabilityOf("candidate:" + invocation.getArgument(0)));
+        when(dailyAvailabilityLoader.getInterviewersDailyAvailabilityByName(anyList(), any(DateRange.class)))
+                .thenAnswer(invocation -> {
+                    Map<String, DailyAvailability> interviewersDailyAvailabilityByName = new HashMap<>();
+
+                    for (String interviewerName : invocation.<Collection<String>>getArgument(0)) {
+                        interviewersDailyAvailabilityByName.put(interviewerName,
+                                                                dailyAvailabilityOf("interviewer:" + interviewerName));
+                    }
+
+                    return interviewersDailyAvailabilityByName;
+                });
+        lenient().when(candidateService.removeCandidateAvailabilitySlots(anyString(), anyList())).thenAnswer(
+                invocation -> {
+                    removeHours("candidate:" + invocation.getArgument(0), invocation.getArgument(1));
+
+                    return null;
+                });
+        lenient().when(interviewerService.removeInterviewerAvailabilitySlots(anyString(), anyList())).thenAnswer(
+                invocation -> {
+                    removeHours("interviewer:" + invocation.getArgument(0), invocation.getArgument(1));
+
+                    return null;
+                });
+    }
+
+    private DailyAvailability dailyAvailabilityOf(String participantKey) {
+        AvailabilitySlot availabilitySlot =
+                AvailabilitySlot.Builder.availabilitySlotWith()
+                                        .withDay(DAY)
+                                        .withTimeSlotList(DailyAvailability.toTimeSlots(
+                                                hourMaskByParticipant.get(participantKey)))
+                                        .build();
+
+        return DailyAvailability.fromAvailabilitySlots(Collections.singletonList(availabilitySlot));
+    }
+
+    private void removeHours(String participantKey, List<AvailabilitySlot> removedAvailabilitySlots) {
+        int removedHourMask = DailyAvailability.fromAvailabilitySlots(removedAvailabilitySlots).getHourMask(
+                DAY.toEpochDay());
+        int hourMask = hourMaskByParticipant.get(participantKey);
+
+        Thread.yield();
+
+        if ((hourMask & removedHourMask) != removedHourMask) {
+            numberOfDoubleBookings.incrementAndGet();
+        }
+
+        hourMaskByParticipant.put(participantKey, hourMask & ~removedHourMask);
+    }
+
+    private static void countBookedHours(InterviewBookingModel interviewBooking,
+                                         Map<String, AtomicInteger> numberOfBookedHoursByParticipant) {
+        int numberOfHours = interviewBooking.getTo().getHour() - interviewBooking.getFrom().getHour();
+
+        numberOfBookedHoursByParticipant.computeIfAbsent("candidate:" + interviewBooking.getCandidateName(),
+                                                         participantKey -> new AtomicInteger())
+                                        .addAndGet(numberOfHours);
+
+        for (String interviewerName : interviewBooking.getInterviewersNames()) {
+            numberOfBookedHoursByParticipant.computeIfAbsent("interviewer:" + interviewerName,
+                                                             participantKey -> new AtomicInteger())
+                                            .addAndGet(numberOfHours);
+        }
+    }
+
+    private static InterviewBookingModel randomInterviewBookingOf(List<String> candidatesNames,
+                                                                  List<String> interviewersNames) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstInterviewerIndex = random.nextInt(interviewersNames.size());
+        int secondInterviewerIndex = (firstInterviewerIndex + 1 + random.nextInt(interviewersNames.size() - 1))
+                                     % interviewersNames.size();
+        int fromHour = 9 + random.nextInt(8);
+
+        return interviewBookingOf(candidatesNames.get(random.nextInt(candidatesNames.size())),
+                                  Arrays.asList(interviewersNames.get(firstInterviewerIndex),
+                                                interviewersNames.get(secondInterviewerIndex)),
+                                  fromHour, fromHour + 1);
+    }
+
+    private static InterviewBookingModel interviewBookingOf(String candidateName, List<String> interviewersNames,
+                                                            int fromHour, int toHour) {
+        return InterviewBookingModel.Builder.interviewBookingModelWith()
+                                            .withCandidateName(candidateName)
+                                            .withInterviewersNames(interviewersNames)
+                                            .withDay(DAY)
+                                            .withFrom(LocalTime.of(fromHour, 0))
+                                            .withTo(LocalTime.of(toHour, 0))
+                                            .build();
+    }
+}
@@ -0,0 +1,121 @@
+package service.interviewslots;
+
+import app.exception.BusinessException;
+import app.model.interviewslots.InterviewSlotsQueryModel;
+import app.model.interviewslots.InterviewSlotsReturnModel;
+import app.model.utils.DateRange;
+import app.service.interviewslots.InterviewSlotsCacheKey;
+import app.service.interviewslots.InterviewSlotsQueryCoalescer;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class InterviewSlotsQueryCoalescerTests {
+    @Test
+    public void coalesceConcurrentIdenticalQueriesLoadsOnceSuccessfully() throws Exception {
+        // Arrange
+        InterviewSlotsQueryCoalescer interviewSlotsQueryCoalescer = new InterviewSlotsQueryCoalescer();
+        InterviewSlotsCacheKey queryKey = queryKeyOf("Jane Doe", "John Smith");
+        InterviewSlotsCacheKey sameQueryKey = queryKeyOf("John Smith", "Jane Doe");
+
+        InterviewSlotsReturnModel interviewSlotsReturn =
+                InterviewSlotsReturnModel.Builder.interviewSlotsReturnModelWith()
+                                                 .withCandidateName("John Doe")
+                                                 .withInterviewAvailabilitySlotList(Collections.emptyList())
+                                                 .build();
+
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch loadReleased = new CountDownLatch(1);
+        AtomicInteger numberOfLoads = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        // Act
+        try {
+            Future<InterviewSlotsReturnModel> leaderResult = executorService.submit(
+                    () -> interviewSlotsQueryCoalescer.coalesce(queryKey, () -> {
+                        numberOfLoads.incrementAndGet();
+                        loadStarted.countDown();
+                        awaitUninterruptibly(loadReleased);
+
+                        return interviewSlotsReturn;
+                    }));
+
+            assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+
+            AtomicReference<Thread> followerThread = new AtomicReference<>();
+            Future<InterviewSlotsReturnModel> followerResult = executorService.submit(() -> {
+                followerThread.set(Thread.currentThread());
+
+                return interviewSlotsQueryCoalescer.coalesce(sameQueryKey, () -> {
+                    numberOfLoads.incrementAndGet();
+
+                    return null;
+                });
+            });
+
+            while (followerThread.get() == null || followerThread.get().getState() != Thread.State.WAITING) {
+                Thread.sleep(10);
+            }
+
+            loadReleased.countDown();
+
+            // Assert
+            assertSame(interviewSlotsReturn, leaderResult.get(5, TimeUnit.SECONDS));
+            assertSame(interviewSlotsReturn, followerResult.get(5, TimeUnit.SECONDS));
+            assertEquals(1, numberOfLoads.get());
+            assertEquals(0, interviewSlotsQueryCoalescer.getNumberOfInFlightQueries());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test(expected = BusinessException.class)
+    public void coalesceQueryThatFailsReleasesQueryFails() {
+        // Arrange
+        InterviewSlotsQueryCoalescer interviewSlotsQueryCoalescer = new InterviewSlotsQueryCoalescer();
+        InterviewSlotsCacheKey queryKey = queryKeyOf("Jane Doe");
+
+        // Act && Assert
+        try {
+            interviewSlotsQueryCoalescer.coalesce(queryKey, () -> {
+                throw new BusinessException("Candidate does not exist!", "John Doe");
+            });
+        } catch (BusinessException be) {
+            String exceptionMessage = "Candidate does not exist!";
+            assertEquals(exceptionMessage, be.getMessage());
+            assertEquals(0, interviewSlotsQueryCoalescer.getNumberOfInFlightQueries());
+            throw be;
+        }
+
+        fail("Business exception of loading interview slots was not thrown!");
+    }
+
+    private static InterviewSlotsCacheKey queryKeyOf(String... interviewersNames) {
+        InterviewSlotsQueryModel interviewSlotsQuery = InterviewSlotsQueryModel.Builder.interviewSlotsQueryModelWith()
+                                                                                       .withCandidateName("John Doe")
+                                                                                       .withInterviewersNames(
+                                                                                               Arrays.asList(
+                                                                                                   interviewersNames))
+                                                                                       .build();
+
+        return InterviewSlotsCacheKey.of(interviewSlotsQuery, DateRange.unbounded());
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
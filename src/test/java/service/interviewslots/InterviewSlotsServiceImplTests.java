@@ -2,36 +2,64 @@ package service.interviewslots;
 
 import app.exception.BusinessException;
 import app.model.candidate.CandidateAvailabilityModel;
+import app.model.candidate.CandidateAvailabilityRangeModel;
 import app.model.candidate.CandidateModel;
 import app.model.interviewer.InterviewerAvailabilityModel;
+import app.model.interviewer.InterviewerAvailabilityRangeModel;
 import app.model.interviewer.InterviewerModel;
+import app.model.interviewslots.AllOfAvailabilityExpression;
+import app.model.interviewslots.AnyOfAvailabilityExpression;
+import app.model.interviewslots.AvailabilityExpression;
+import app.model.interviewslots.InterviewPanelModel;
+import app.model.interviewslots.InterviewPanelsQueryModel;
+import app.model.interviewslots.InterviewSlotsBatchQueryModel;
+import app.model.interviewslots.InterviewSlotsExpressionQueryModel;
 import app.model.interviewslots.InterviewSlotsQueryModel;
 import app.model.interviewslots.InterviewSlotsReturnModel;
+import app.model.interviewslots.InterviewerAvailabilityExpression;
+import app.model.interviewslots.NotAvailabilityExpression;
+import app.model.interviewslots.QuorumAvailabilitySlot;
+import app.model.utils.AvailabilityHour;
 import app.model.utils.AvailabilitySlot;
 import app.model.utils.TimeSlot;
+import app.repository.candidate.CandidateAvailabilityRangeRepository;
 import app.repository.candidate.CandidateAvailabilityRepository;
 import app.repository.candidate.CandidateRepository;
+import app.repository.interviewer.InterviewerAvailabilityRangeRepository;
 import app.repository.interviewer.InterviewerAvailabilityRepository;
+import app.repository.interviewer.InterviewerAvailabilityRuleRepository;
 import app.repository.interviewer.InterviewerRepository;
+import app.service.interviewslots.DailyAvailabilityLoader;
+import app.service.interviewslots.DatabaseCommonAvailabilityFinder;
+import app.service.interviewslots.InMemoryCommonAvailabilityFinder;
+import app.service.interviewslots.InterviewPanelFinder;
+import app.service.interviewslots.InterviewSlotsCache;
+import app.service.interviewslots.InterviewSlotsQueryCoalescer;
 import app.service.interviewslots.InterviewSlotsServiceImpl;
+import app.service.interviewslots.QuorumAvailabilityFinder;
+import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.Month;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -40,14 +68,20 @@ public class InterviewSlotsServiceImplTests {
     private CandidateRepository candidateRepository;
     @Mock
     private CandidateAvailabilityRepository candidateAvailabilityRepository;
+    @Mock
+    private CandidateAvailabilityRangeRepository candidateAvailabilityRangeRepository;
 
     @Mock
     private InterviewerRepository interviewerRepository;
     @Mock
     private InterviewerAvailabilityRepository interviewerAvailabilityRepository;
+    @Mock
+    private InterviewerAvailabilityRangeRepository interviewerAvailabilityRangeRepository;
+    @Mock
+    private InterviewerAvailabilityRuleRepository interviewerAvailabilityRuleRepository;
 
-    @InjectMocks
     private InterviewSlotsServiceImpl interviewSlotsServiceImpl;
+    private InterviewSlotsCache interviewSlotsCache;
 
     private static CandidateModel candidate;
     private static CandidateAvailabilityModel candidateAvailability;
@@ -176,6 +210,25 @@ public class InterviewSlotsServiceImplTests {
                                                                            .build();
     }
 
+    @Before
+    public void setupService() {
+        DailyAvailabilityLoader dailyAvailabilityLoader = new DailyAvailabilityLoader(
+                candidateAvailabilityRangeRepository, interviewerAvailabilityRangeRepository,
+                interviewerAvailabilityRuleRepository);
+        interviewSlotsCache = new InterviewSlotsCache(1000);
+
+        interviewSlotsServiceImpl = new InterviewSlotsServiceImpl(candidateRepository, candidateAvailabilityRepository,
+                                                                  interviewerRepository,
+                                                                  interviewerAvailabilityRepository,
+                                                                  new InMemoryCommonAvailabilityFinder(
+                                                                          dailyAvailabilityLoader),
+                                                                  new QuorumAvailabilityFinder(
+                                                                          dailyAvailabilityLoader),
+                                                                  new InterviewPanelFinder(dailyAvailabilityLoader),
+                                                                  dailyAvailabilityLoader, interviewSlotsCache,
+                                                                  new InterviewSlotsQueryCoalescer());
+    }
+
     @Test
     public void getInterviewSlotsFromOneCandidateAndOneInterviewerSuccessfully() {
         // Arrange
@@ -191,11 +244,16 @@ public class InterviewSlotsServiceImplTests {
 
         // Act
         when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
-        when(interviewerRepository.findById(firstInterviewerName)).thenReturn(Optional.of(firstInterviewer));
-        when(candidateAvailabilityRepository.getCandidateAvailabilityByCandidateName(candidateName)).thenReturn(
-                candidateAvailability);
-        when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(firstInterviewerName))
-                .thenReturn(firstInterviewerAvailability);
+        when(candidateAvailabilityRepository.hasCandidateAvailability(candidateName)).thenReturn(true);
+        when(candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByCandidateName(
+                candidateName, null, null))
+                .thenReturn(candidateAvailabilityRangesOf(candidateAvailability, null, null));
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(interviewersNames);
+        when(interviewerAvailabilityRepository.getNamesOfInterviewersWithAvailability(interviewersNames))
+                .thenReturn(interviewersNames);
+        when(interviewerAvailabilityRangeRepository.getInterviewerAvailabilityRangesByInterviewerNames(
+                interviewersNames, null, null)).thenReturn(
+                interviewerAvailabilityRangesOf(null, null, firstInterviewerAvailability));
 
         InterviewSlotsReturnModel interviewSlotsReturn = interviewSlotsServiceImpl.getInterviewSlots(
                 interviewSlotsQuery);
@@ -207,6 +265,799 @@ public class InterviewSlotsServiceImplTests {
         assertFalse(interviewSlotsReturn.getInterviewAvailabilitySlotList().isEmpty());
     }
 
+    @Test
+    public void getInterviewSlotsReturnsOverlappingHoursPerDaySuccessfully() {
+        // Arrange
+        String candidateName = candidate.getName();
+        String firstInterviewerName = firstInterviewer.getName();
+        List<String> interviewersNames = Collections.singletonList(firstInterviewerName);
+
+        InterviewSlotsQueryModel interviewSlotsQuery = InterviewSlotsQueryModel.Builder.interviewSlotsQueryModelWith()
+                                                                                       .withCandidateName(candidateName)
+                                                                                       .withInterviewersNames(
+                                                                                               interviewersNames)
+                                                                                       .build();
+
+        // Act
+        when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
+        when(candidateAvailabilityRepository.hasCandidateAvailability(candidateName)).thenReturn(true);
+        when(candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByCandidateName(
+                candidateName, null, null))
+                .thenReturn(candidateAvailabilityRangesOf(candidateAvailability, null, null));
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(interviewersNames);
+        when(interviewerAvailabilityRepository.getNamesOfInterviewersWithAvailability(interviewersNames))
+                .thenReturn(interviewersNames);
+        when(interviewerAvailabilityRangeRepository.getInterviewerAvailabilityRangesByInterviewerNames(
+                interviewersNames, null, null)).thenReturn(
+                interviewerAvailabilityRangesOf(null, null, firstInterviewerAvailability));
+
+        List<AvailabilitySlot> interviewAvailabilitySlots = interviewSlotsServiceImpl.getInterviewSlots(
+                interviewSlotsQuery).getInterviewAvailabilitySlotList();
+
+        // Assert
+        assertEquals(2, interviewAvailabilitySlots.size());
+
+        AvailabilitySlot firstDaySlot = interviewAvailabilitySlots.get(0);
+        assertEquals(LocalDate.of(2014, Month.JANUARY, 1), firstDaySlot.getDay());
+        assertEquals(1, firstDaySlot.getTimeSlotList().size());
+        assertEquals(LocalTime.of(10, 0), firstDaySlot.getTimeSlotList().get(0).getFrom());
+        assertEquals(LocalTime.of(11, 0), firstDaySlot.getTimeSlotList().get(0).getTo());
+
+        AvailabilitySlot secondDaySlot = interviewAvailabilitySlots.get(1);
+        assertEquals(LocalDate.of(2014, Month.JANUARY, 2), secondDaySlot.getDay());
+        assertEquals(2, secondDaySlot.getTimeSlotList().size());
+        assertEquals(LocalTime.of(9, 0), secondDaySlot.getTimeSlotList().get(0).getFrom());
+        assertEquals(LocalTime.of(10, 0), secondDaySlot.getTimeSlotList().get(0).getTo());
+        assertEquals(LocalTime.of(12, 0), secondDaySlot.getTimeSlotList().get(1).getFrom());
+        assertEquals(LocalTime.of(14, 0), secondDaySlot.getTimeSlotList().get(1).getTo());
+    }
+
+    @Test
+    public void getInterviewSlotsWithinDateRangeSuccessfully() {
+        // Arrange
+        String candidateName = candidate.getName();
+        String firstInterviewerName = firstInterviewer.getName();
+        List<String> interviewersNames = Collections.singletonList(firstInterviewerName);
+        LocalDate secondDay = LocalDate.of(2014, Month.JANUARY, 2);
+
+        InterviewSlotsQueryModel interviewSlotsQuery = InterviewSlotsQueryModel.Builder.interviewSlotsQueryModelWith()
+                                                                                       .withCandidateName(candidateName)
+                                                                                       .withInterviewersNames(
+                                                                                               interviewersNames)
+                                                                                       .withFromDate(secondDay)
+                                                                                       .withToDate(secondDay)
+                                                                                       .build();
+
+        // Act
+        when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
+        when(candidateAvailabilityRepository.hasCandidateAvailability(candidateName)).thenReturn(true);
+        when(candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByCandidateName(
+                candidateName, secondDay, secondDay))
+                .thenReturn(candidateAvailabilityRangesOf(candidateAvailability, secondDay, secondDay));
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(interviewersNames);
+        when(interviewerAvailabilityRepository.getNamesOfInterviewersWithAvailability(interviewersNames))
+                .thenReturn(interviewersNames);
+        when(interviewerAvailabilityRangeRepository.getInterviewerAvailabilityRangesByInterviewerNames(
+                interviewersNames, secondDay, secondDay)).thenReturn(
+                interviewerAvailabilityRangesOf(secondDay, secondDay, firstInterviewerAvailability));
+
+        List<AvailabilitySlot> interviewAvailabilitySlots = interviewSlotsServiceImpl.getInterviewSlots(
+                interviewSlotsQuery).getInterviewAvailabilitySlotList();
+
+        // Assert
+        assertEquals(1, interviewAvailabilitySlots.size());
+        assertEquals(secondDay, interviewAvailabilitySlots.get(0).getDay());
+    }
+
+    @Test
+    public void getInterviewSlotsWithDurationReturnsOnlyLongEnoughWindowsSuccessfully() {
+        // Arrange
+        String candidateName = candidate.getName();
+        String firstInterviewerName = firstInterviewer.getName();
+        List<String> interviewersNames = Collections.singletonList(firstInterviewerName);
+
+        InterviewSlotsQueryModel interviewSlotsQuery = InterviewSlotsQueryModel.Builder.interviewSlotsQueryModelWith()
+                                                                                       .withCandidateName(candidateName)
+                                                                                       .withInterviewersNames(
+                                                                                               interviewersNames)
+                                                                                       .withDurationInHours(2)
+                                                                                       .build();
+
+        // Act
+        when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
+        when(candidateAvailabilityRepository.hasCandidateAvailability(candidateName)).thenReturn(true);
+        when(candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByCandidateName(
+                candidateName, null, null))
+                .thenReturn(candidateAvailabilityRangesOf(candidateAvailability, null, null));
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(interviewersNames);
+        when(interviewerAvailabilityRepository.getNamesOfInterviewersWithAvailability(interviewersNames))
+                .thenReturn(interviewersNames);
+        when(interviewerAvailabilityRangeRepository.getInterviewerAvailabilityRangesByInterviewerNames(
+                interviewersNames, null, null)).thenReturn(
+                interviewerAvailabilityRangesOf(null, null, firstInterviewerAvailability));
+
+        List<AvailabilitySlot> interviewAvailabilitySlots = interviewSlotsServiceImpl.getInterviewSlots(
+                interviewSlotsQuery).getInterviewAvailabilitySlotList();
+
+        // Assert
+        assertEquals(1, interviewAvailabilitySlots.size());
+
+        AvailabilitySlot secondDaySlot = interviewAvailabilitySlots.get(0);
+        assertEquals(LocalDate.of(2014, Month.JANUARY, 2), secondDaySlot.getDay());
+        assertEquals(1, secondDaySlot.getTimeSlotList().size());
+        assertEquals(LocalTime.of(12, 0), secondDaySlot.getTimeSlotList().get(0).getFrom());
+        assertEquals(LocalTime.of(14, 0), secondDaySlot.getTimeSlotList().get(0).getTo());
+    }
+
+    @Test
+    public void getInterviewSlotsWithSlidingWindowsReturnsEveryWindowSuccessfully() {
+        // Arrange
+        String candidateName = candidate.getName();
+        String firstInterviewerName = firstInterviewer.getName();
+        List<String> interviewersNames = Collections.singletonList(firstInterviewerName);
+
+        InterviewSlotsQueryModel interviewSlotsQuery = InterviewSlotsQueryModel.Builder.interviewSlotsQueryModelWith()
+                                                                                       .withCandidateName(candidateName)
+                                                                                       .withInterviewersNames(
+                                                                                               interviewersNames)
+                                                                                       .withDurationInHours(1)
+                                                                                       .withSlidingWindows(true)
+                                                                                       .build();
+
+        // Act
+        when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
+        when(candidateAvailabilityRepository.hasCandidateAvailability(candidateName)).thenReturn(true);
+        when(candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByCandidateName(
+                candidateName, null, null))
+                .thenReturn(candidateAvailabilityRangesOf(candidateAvailability, null, null));
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(interviewersNames);
+        when(interviewerAvailabilityRepository.getNamesOfInterviewersWithAvailability(interviewersNames))
+                .thenReturn(interviewersNames);
+        when(interviewerAvailabilityRangeRepository.getInterviewerAvailabilityRangesByInterviewerNames(
+                interviewersNames, null, null)).thenReturn(
+                interviewerAvailabilityRangesOf(null, null, firstInterviewerAvailability));
+
+        List<AvailabilitySlot> interviewAvailabilitySlots = interviewSlotsServiceImpl.getInterviewSlots(
+                interviewSlotsQuery).getInterviewAvailabilitySlotList();
+
+        // Assert
+        assertEquals(2, interviewAvailabilitySlots.size());
+
+        List<TimeSlot> secondDayTimeSlots = interviewAvailabilitySlots.get(1).getTimeSlotList();
+        assertEquals(3, secondDayTimeSlots.size());
+        assertEquals(LocalTime.of(9, 0), secondDayTimeSlots.get(0).getFrom());
+        assertEquals(LocalTime.of(12, 0), secondDayTimeSlots.get(1).getFrom());
+        assertEquals(LocalTime.of(13, 0), secondDayTimeSlots.get(2).getFrom());
+        assertEquals(LocalTime.of(14, 0), secondDayTimeSlots.get(2).getTo());
+    }
+
+    @Test
+    public void getInterviewSlotsWithLimitReturnsOnlyEarliestHoursSuccessfully() {
+        // Arrange
+        String candidateName = candidate.getName();
+        String firstInterviewerName = firstInterviewer.getName();
+        List<String> interviewersNames = Collections.singletonList(firstInterviewerName);
+
+        InterviewSlotsQueryModel interviewSlotsQuery = InterviewSlotsQueryModel.Builder.interviewSlotsQueryModelWith()
+                                                                                       .withCandidateName(candidateName)
+                                                                                       .withInterviewersNames(
+                                                                                               interviewersNames)
+                                                                                       .withLimit(2)
+                                                                                       .build();
+
+        // Act
+        when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
+        when(candidateAvailabilityRepository.hasCandidateAvailability(candidateName)).thenReturn(true);
+        when(candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByCandidateName(
+                candidateName, null, null))
+                .thenReturn(candidateAvailabilityRangesOf(candidateAvailability, null, null));
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(interviewersNames);
+        when(interviewerAvailabilityRepository.getNamesOfInterviewersWithAvailability(interviewersNames))
+                .thenReturn(interviewersNames);
+        when(interviewerAvailabilityRangeRepository.getInterviewerAvailabilityRangesByInterviewerNames(
+                interviewersNames, null, null)).thenReturn(
+                interviewerAvailabilityRangesOf(null, null, firstInterviewerAvailability));
+
+        List<AvailabilitySlot> interviewAvailabilitySlots = interviewSlotsServiceImpl.getInterviewSlots(
+                interviewSlotsQuery).getInterviewAvailabilitySlotList();
+
+        // Assert
+        assertEquals(2, interviewAvailabilitySlots.size());
+        assertEquals(1, interviewAvailabilitySlots.get(1).getTimeSlotList().size());
+        assertEquals(LocalTime.of(9, 0), interviewAvailabilitySlots.get(1).getTimeSlotList().get(0).getFrom());
+        assertEquals(LocalTime.of(10, 0), interviewAvailabilitySlots.get(1).getTimeSlotList().get(0).getTo());
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getInterviewSlotsWithNonPositiveDurationFails() {
+        // Arrange
+        String candidateName = candidate.getName();
+        List<String> interviewersNames = Collections.singletonList(firstInterviewer.getName());
+
+        InterviewSlotsQueryModel interviewSlotsQuery = InterviewSlotsQueryModel.Builder.interviewSlotsQueryModelWith()
+                                                                                       .withCandidateName(candidateName)
+                                                                                       .withInterviewersNames(
+                                                                                               interviewersNames)
+                                                                                       .withDurationInHours(0)
+                                                                                       .build();
+
+        // Act && Assert
+        try {
+            interviewSlotsServiceImpl.getInterviewSlots(interviewSlotsQuery);
+        } catch (BusinessException be) {
+            String exceptionMessage = "Duration must be between 1 and 24 hours!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of getting interview slots with non positive duration was not thrown!");
+    }
+
+    @Test
+    public void getInterviewSlotsWithQuorumReturnsAvailableInterviewersPerSlotSuccessfully() {
+        // Arrange
+        String candidateName = candidate.getName();
+        String firstInterviewerName = firstInterviewer.getName();
+        String secondInterviewerName = secondInterviewer.getName();
+        List<String> interviewersNames = Arrays.asList(firstInterviewerName, secondInterviewerName);
+
+        InterviewSlotsQueryModel interviewSlotsQuery = InterviewSlotsQueryModel.Builder.interviewSlotsQueryModelWith()
+                                                                                       .withCandidateName(candidateName)
+                                                                                       .withInterviewersNames(
+                                                                                               interviewersNames)
+                                                                                       .withQuorum(1)
+                                                                                       .build();
+
+        // Act
+        when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
+        when(candidateAvailabilityRepository.hasCandidateAvailability(candidateName)).thenReturn(true);
+        when(candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByCandidateName(
+                candidateName, null, null))
+                .thenReturn(candidateAvailabilityRangesOf(candidateAvailability, null, null));
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(interviewersNames);
+        when(interviewerAvailabilityRangeRepository.getInterviewerAvailabilityRangesByInterviewerNames(
+                interviewersNames, null, null)).thenReturn(
+                interviewerAvailabilityRangesOf(null, null, firstInterviewerAvailability,
+                                                secondInterviewerAvailability));
+
+        InterviewSlotsReturnModel interviewSlotsReturn = interviewSlotsServiceImpl.getInterviewSlots(
+                interviewSlotsQuery);
+        List<QuorumAvailabilitySlot> quorumAvailabilitySlots = interviewSlotsReturn.getQuorumAvailabilitySlotList();
+
+        // Assert
+        assertEquals(5, quorumAvailabilitySlots.size());
+
+        QuorumAvailabilitySlot firstDaySlot = quorumAvailabilitySlots.get(0);
+        assertEquals(LocalDate.of(2014, Month.JANUARY, 1), firstDaySlot.getDay());
+        assertEquals(LocalTime.of(9, 0), firstDaySlot.getTimeSlot().getFrom());
+        assertEquals(LocalTime.of(10, 0), firstDaySlot.getTimeSlot().getTo());
+        assertEquals(Collections.singletonList(secondInterviewerName), firstDaySlot.getInterviewersNames());
+
+        QuorumAvailabilitySlot secondDaySlot = quorumAvailabilitySlots.get(3);
+        assertEquals(LocalDate.of(2014, Month.JANUARY, 2), secondDaySlot.getDay());
+        assertEquals(LocalTime.of(10, 0), secondDaySlot.getTimeSlot().getFrom());
+        assertEquals(LocalTime.of(12, 0), secondDaySlot.getTimeSlot().getTo());
+        assertEquals(Collections.singletonList(secondInterviewerName), secondDaySlot.getInterviewersNames());
+
+        assertEquals(2, interviewSlotsReturn.getInterviewAvailabilitySlotList().size());
+        assertEquals(1, interviewSlotsReturn.getInterviewAvailabilitySlotList().get(1).getTimeSlotList().size());
+    }
+
+    @Test
+    public void getInterviewSlotsWithQuorumOfAllInterviewersReturnsCommonSlotsSuccessfully() {
+        // Arrange
+        String candidateName = candidate.getName();
+        String firstInterviewerName = firstInterviewer.getName();
+        String secondInterviewerName = secondInterviewer.getName();
+        List<String> interviewersNames = Arrays.asList(firstInterviewerName, secondInterviewerName);
+
+        InterviewSlotsQueryModel interviewSlotsQuery = InterviewSlotsQueryModel.Builder.interviewSlotsQueryModelWith()
+                                                                                       .withCandidateName(candidateName)
+                                                                                       .withInterviewersNames(
+                                                                                               interviewersNames)
+                                                                                       .withQuorum(2)
+                                                                                       .build();
+
+        // Act
+        when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
+        when(candidateAvailabilityRepository.hasCandidateAvailability(candidateName)).thenReturn(true);
+        when(candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByCandidateName(
+                candidateName, null, null))
+                .thenReturn(candidateAvailabilityRangesOf(candidateAvailability, null, null));
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(interviewersNames);
+        when(interviewerAvailabilityRangeRepository.getInterviewerAvailabilityRangesByInterviewerNames(
+                interviewersNames, null, null)).thenReturn(
+                interviewerAvailabilityRangesOf(null, null, firstInterviewerAvailability,
+                                                secondInterviewerAvailability));
+
+        List<QuorumAvailabilitySlot> quorumAvailabilitySlots = interviewSlotsServiceImpl.getInterviewSlots(
+                interviewSlotsQuery).getQuorumAvailabilitySlotList();
+
+        // Assert
+        assertEquals(3, quorumAvailabilitySlots.size());
+
+        for (QuorumAvailabilitySlot quorumAvailabilitySlot : quorumAvailabilitySlots) {
+            assertEquals(interviewersNames, quorumAvailabilitySlot.getInterviewersNames());
+        }
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getInterviewSlotsWithQuorumGreaterThanNumberOfInterviewersFails() {
+        // Arrange
+        String candidateName = candidate.getName();
+        List<String> interviewersNames = Arrays.asList(firstInterviewer.getName(), firstInterviewer.getName());
+
+        InterviewSlotsQueryModel interviewSlotsQuery = InterviewSlotsQueryModel.Builder.interviewSlotsQueryModelWith()
+                                                                                       .withCandidateName(candidateName)
+                                                                                       .withInterviewersNames(
+                                                                                               interviewersNames)
+                                                                                       .withQuorum(2)
+                                                                                       .build();
+
+        // Act && Assert
+        try {
+            interviewSlotsServiceImpl.getInterviewSlots(interviewSlotsQuery);
+        } catch (BusinessException be) {
+            String exceptionMessage = "Quorum must be between 1 and the number of interviewers!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of getting interview slots with quorum greater than number of interviewers was not "
+             + "thrown!");
+    }
+
+    @Test
+    public void getBatchInterviewSlotsReturnsSlotsOfEachCandidateSuccessfully() {
+        // Arrange
+        CandidateModel secondCandidate = CandidateModel.Builder.candidateModelWith().withName("Jane Roe").build();
+
+        TimeSlot secondCandidateTimeSlot = TimeSlot.Builder.timeSlotWith().withFrom(LocalTime.of(12, 0)).withTo(
+                LocalTime.of(18, 0)).build();
+        AvailabilitySlot secondCandidateAvailabilitySlot = AvailabilitySlot.Builder.availabilitySlotWith().withDay(
+                LocalDate.of(2014, Month.JANUARY, 2)).withTimeSlotList(Collections.singletonList(
+                secondCandidateTimeSlot)).build();
+        CandidateAvailabilityModel secondCandidateAvailability =
+                CandidateAvailabilityModel.Builder.candidateAvailabilityModelWith()
+                                                  .withCandidateModel(secondCandidate)
+                                                  .withAvailabilitySlotList(Collections.singletonList(
+                                                          secondCandidateAvailabilitySlot))
+                                                  .build();
+
+        List<String> candidatesNames = Arrays.asList(candidate.getName(), secondCandidate.getName());
+        List<String> interviewersNames = Collections.singletonList(firstInterviewer.getName());
+
+        InterviewSlotsBatchQueryModel interviewSlotsBatchQuery =
+                InterviewSlotsBatchQueryModel.Builder.interviewSlotsBatchQueryModelWith()
+                                                     .withCandidatesNames(candidatesNames)
+                                                     .withInterviewersNames(interviewersNames)
+                                                     .build();
+
+        List<CandidateAvailabilityRangeModel> candidatesAvailabilityRanges = new ArrayList<>(
+                candidateAvailabilityRangesOf(candidateAvailability, null, null));
+        candidatesAvailabilityRanges.addAll(candidateAvailabilityRangesOf(secondCandidateAvailability, null, null));
+
+        // Act
+        when(candidateRepository.getExistingNames(candidatesNames)).thenReturn(candidatesNames);
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(interviewersNames);
+        when(candidateAvailabilityRepository.getNamesOfCandidatesWithAvailability(candidatesNames))
+                .thenReturn(candidatesNames);
+        when(interviewerAvailabilityRepository.getNamesOfInterviewersWithAvailability(interviewersNames))
+                .thenReturn(interviewersNames);
+        when(candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByCandidateNames(
+                candidatesNames, null, null)).thenReturn(candidatesAvailabilityRanges);
+        when(interviewerAvailabilityRangeRepository.getInterviewerAvailabilityRangesByInterviewerNames(
+                interviewersNames, null, null)).thenReturn(
+                interviewerAvailabilityRangesOf(null, null, firstInterviewerAvailability));
+
+        List<InterviewSlotsReturnModel> interviewSlotsReturns = interviewSlotsServiceImpl.getBatchInterviewSlots(
+                interviewSlotsBatchQuery);
+
+        // Assert
+        assertEquals(2, interviewSlotsReturns.size());
+        assertEquals(candidate.getName(), interviewSlotsReturns.get(0).getCandidateName());
+        assertEquals(2, interviewSlotsReturns.get(0).getInterviewAvailabilitySlotList().size());
+
+        InterviewSlotsReturnModel secondCandidateInterviewSlots = interviewSlotsReturns.get(1);
+        assertEquals(secondCandidate.getName(), secondCandidateInterviewSlots.getCandidateName());
+        assertEquals(1, secondCandidateInterviewSlots.getInterviewAvailabilitySlotList().size());
+
+        TimeSlot secondCandidateInterviewTimeSlot =
+                secondCandidateInterviewSlots.getInterviewAvailabilitySlotList().get(0).getTimeSlotList().get(0);
+        assertEquals(LocalTime.of(12, 0), secondCandidateInterviewTimeSlot.getFrom());
+        assertEquals(LocalTime.of(14, 0), secondCandidateInterviewTimeSlot.getTo());
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getBatchInterviewSlotsWithoutCandidateCreatedFails() {
+        // Arrange
+        List<String> candidatesNames = Arrays.asList(candidate.getName(), "Jane Roe");
+        List<String> interviewersNames = Collections.singletonList(firstInterviewer.getName());
+
+        InterviewSlotsBatchQueryModel interviewSlotsBatchQuery =
+                InterviewSlotsBatchQueryModel.Builder.interviewSlotsBatchQueryModelWith()
+                                                     .withCandidatesNames(candidatesNames)
+                                                     .withInterviewersNames(interviewersNames)
+                                                     .build();
+
+        // Act && Assert
+        when(candidateRepository.getExistingNames(candidatesNames)).thenReturn(
+                Collections.singletonList(candidate.getName()));
+
+        try {
+            interviewSlotsServiceImpl.getBatchInterviewSlots(interviewSlotsBatchQuery);
+        } catch (BusinessException be) {
+            String exceptionMessage = "Candidate does not exist!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of getting batch interview slots without candidate created was not thrown!");
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getBatchInterviewSlotsWithoutCandidateAvailabilityCreatedFails() {
+        // Arrange
+        List<String> candidatesNames = Arrays.asList(candidate.getName(), "Jane Roe");
+        List<String> interviewersNames = Collections.singletonList(firstInterviewer.getName());
+
+        InterviewSlotsBatchQueryModel interviewSlotsBatchQuery =
+                InterviewSlotsBatchQueryModel.Builder.interviewSlotsBatchQueryModelWith()
+                                                     .withCandidatesNames(candidatesNames)
+                                                     .withInterviewersNames(interviewersNames)
+                                                     .build();
+
+        // Act && Assert
+        when(candidateRepository.getExistingNames(candidatesNames)).thenReturn(candidatesNames);
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(interviewersNames);
+        when(candidateAvailabilityRepository.getNamesOfCandidatesWithAvailability(candidatesNames))
+                .thenReturn(Collections.singletonList(candidate.getName()));
+
+        try {
+            interviewSlotsServiceImpl.getBatchInterviewSlots(interviewSlotsBatchQuery);
+        } catch (BusinessException be) {
+            String exceptionMessage = "Candidate has no availability defined!";
+            assertEquals(exceptionMessage, be.getMessage());
+            assertArrayEquals(new String[]{"Jane Roe"}, be.getArguments());
+            throw be;
+        }
+
+        fail("Business exception of getting batch interview slots without candidate availability created was not "
+             + "thrown!");
+    }
+
+    @Test
+    public void getBatchInterviewSlotsWithDatabaseStrategyIntersectsInterviewersInDatabaseSuccessfully() {
+        // Arrange
+        DailyAvailabilityLoader dailyAvailabilityLoader = new DailyAvailabilityLoader(
+                candidateAvailabilityRangeRepository, interviewerAvailabilityRangeRepository,
+                interviewerAvailabilityRuleRepository);
+        InterviewSlotsServiceImpl databaseInterviewSlotsServiceImpl = new InterviewSlotsServiceImpl(
+                candidateRepository, candidateAvailabilityRepository, interviewerRepository,
+                interviewerAvailabilityRepository,
+                new DatabaseCommonAvailabilityFinder(candidateAvailabilityRangeRepository,
+                                                     interviewerAvailabilityRangeRepository,
+                                                     interviewerAvailabilityRuleRepository, dailyAvailabilityLoader),
+                new QuorumAvailabilityFinder(dailyAvailabilityLoader),
+                new InterviewPanelFinder(dailyAvailabilityLoader),
+                dailyAvailabilityLoader, interviewSlotsCache, new InterviewSlotsQueryCoalescer());
+
+        List<String> candidatesNames = Collections.singletonList(candidate.getName());
+        List<String> interviewersNames = Arrays.asList(firstInterviewer.getName(), secondInterviewer.getName());
+        LocalDate secondDay = LocalDate.of(2014, Month.JANUARY, 2);
+
+        InterviewSlotsBatchQueryModel interviewSlotsBatchQuery =
+                InterviewSlotsBatchQueryModel.Builder.interviewSlotsBatchQueryModelWith()
+                                                     .withCandidatesNames(candidatesNames)
+                                                     .withInterviewersNames(interviewersNames)
+                                                     .build();
+
+        // Act
+        when(candidateRepository.getExistingNames(candidatesNames)).thenReturn(candidatesNames);
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(interviewersNames);
+        when(candidateAvailabilityRepository.getNamesOfCandidatesWithAvailability(candidatesNames))
+                .thenReturn(candidatesNames);
+        when(interviewerAvailabilityRepository.getNamesOfInterviewersWithAvailability(interviewersNames))
+                .thenReturn(interviewersNames);
+        when(candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByCandidateNames(
+                candidatesNames, null, null)).thenReturn(candidateAvailabilityRangesOf(candidateAvailability, null,
+                                                                                       null));
+        when(interviewerAvailabilityRangeRepository.getInterviewersCommonAvailabilityHours(
+                new HashSet<>(interviewersNames), 2, null, null)).thenReturn(
+                Arrays.asList(availabilityHourOf(secondDay, 9), availabilityHourOf(secondDay, 12)));
+
+        List<InterviewSlotsReturnModel> interviewSlotsReturns =
+                databaseInterviewSlotsServiceImpl.getBatchInterviewSlots(interviewSlotsBatchQuery);
+
+        // Assert
+        assertEquals(1, interviewSlotsReturns.size());
+
+        List<AvailabilitySlot> interviewAvailabilitySlots = interviewSlotsReturns.get(0)
+                                                                                 .getInterviewAvailabilitySlotList();
+        assertEquals(1, interviewAvailabilitySlots.size());
+        assertEquals(secondDay, interviewAvailabilitySlots.get(0).getDay());
+        assertEquals(2, interviewAvailabilitySlots.get(0).getTimeSlotList().size());
+        verify(interviewerAvailabilityRangeRepository, never()).getInterviewerAvailabilityRangesByInterviewerNames(
+                interviewersNames, null, null);
+    }
+
+    @Test
+    public void getExpressionInterviewSlotsWithAndOrNotSuccessfully() {
+        // Arrange
+        String candidateName = candidate.getName();
+        String firstInterviewerName = firstInterviewer.getName();
+        String secondInterviewerName = secondInterviewer.getName();
+        String thirdInterviewerName = thirdInterviewer.getName();
+        List<String> interviewersNames = Arrays.asList(secondInterviewerName, firstInterviewerName,
+                                                       thirdInterviewerName);
+
+        AvailabilityExpression notFirstInterviewer = new NotAvailabilityExpression(
+                new InterviewerAvailabilityExpression(firstInterviewerName));
+        AvailabilityExpression notFirstInterviewerOrThirdInterviewer = new AnyOfAvailabilityExpression(
+                Arrays.asList(notFirstInterviewer, new InterviewerAvailabilityExpression(thirdInterviewerName)));
+        AvailabilityExpression interviewersExpression = new AllOfAvailabilityExpression(
+                Arrays.asList(new InterviewerAvailabilityExpression(secondInterviewerName),
+                              notFirstInterviewerOrThirdInterviewer));
+
+        InterviewSlotsExpressionQueryModel interviewSlotsExpressionQuery =
+                InterviewSlotsExpressionQueryModel.Builder.interviewSlotsExpressionQueryModelWith()
+                                                          .withCandidateName(candidateName)
+                                                          .withInterviewersExpression(interviewersExpression)
+                                                          .build();
+
+        // Act
+        when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
+        when(candidateAvailabilityRepository.hasCandidateAvailability(candidateName)).thenReturn(true);
+        when(candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByCandidateName(
+                candidateName, null, null))
+                .thenReturn(candidateAvailabilityRangesOf(candidateAvailability, null, null));
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(interviewersNames);
+        when(interviewerAvailabilityRepository.getNamesOfInterviewersWithAvailability(interviewersNames))
+                .thenReturn(interviewersNames);
+        when(interviewerAvailabilityRangeRepository.getInterviewerAvailabilityRangesByInterviewerNames(
+                interviewersNames, null, null)).thenReturn(
+                interviewerAvailabilityRangesOf(null, null, firstInterviewerAvailability,
+                                                secondInterviewerAvailability, thirdInterviewerAvailability));
+
+        InterviewSlotsReturnModel interviewSlotsReturn = interviewSlotsServiceImpl.getExpressionInterviewSlots(
+                interviewSlotsExpressionQuery);
+        List<AvailabilitySlot> interviewAvailabilitySlots = interviewSlotsReturn.getInterviewAvailabilitySlotList();
+
+        // Assert
+        assertEquals(interviewersNames, interviewSlotsReturn.getInterviewersNames());
+        assertEquals(2, interviewAvailabilitySlots.size());
+
+        AvailabilitySlot firstDaySlot = interviewAvailabilitySlots.get(0);
+        assertEquals(LocalDate.of(2014, Month.JANUARY, 1), firstDaySlot.getDay());
+        assertEquals(1, firstDaySlot.getTimeSlotList().size());
+        assertEquals(LocalTime.of(9, 0), firstDaySlot.getTimeSlotList().get(0).getFrom());
+        assertEquals(LocalTime.of(10, 0), firstDaySlot.getTimeSlotList().get(0).getTo());
+
+        AvailabilitySlot secondDaySlot = interviewAvailabilitySlots.get(1);
+        assertEquals(LocalDate.of(2014, Month.JANUARY, 2), secondDaySlot.getDay());
+        assertEquals(1, secondDaySlot.getTimeSlotList().size());
+        assertEquals(LocalTime.of(10, 0), secondDaySlot.getTimeSlotList().get(0).getFrom());
+        assertEquals(LocalTime.of(12, 0), secondDaySlot.getTimeSlotList().get(0).getTo());
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getExpressionInterviewSlotsWithoutInterviewerAvailabilityCreatedFails() {
+        // Arrange
+        String candidateName = candidate.getName();
+        String firstInterviewerName = firstInterviewer.getName();
+        String secondInterviewerName = secondInterviewer.getName();
+        List<String> interviewersNames = Arrays.asList(secondInterviewerName, firstInterviewerName);
+
+        AvailabilityExpression interviewersExpression = new AllOfAvailabilityExpression(
+                Arrays.asList(new InterviewerAvailabilityExpression(secondInterviewerName),
+                              new NotAvailabilityExpression(
+                                      new InterviewerAvailabilityExpression(firstInterviewerName))));
+
+        InterviewSlotsExpressionQueryModel interviewSlotsExpressionQuery =
+                InterviewSlotsExpressionQueryModel.Builder.interviewSlotsExpressionQueryModelWith()
+                                                          .withCandidateName(candidateName)
+                                                          .withInterviewersExpression(interviewersExpression)
+                                                          .build();
+
+        // Act && Assert
+        when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
+        when(candidateAvailabilityRepository.hasCandidateAvailability(candidateName)).thenReturn(true);
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(interviewersNames);
+        when(interviewerAvailabilityRepository.getNamesOfInterviewersWithAvailability(interviewersNames))
+                .thenReturn(Collections.singletonList(secondInterviewerName));
+
+        try {
+            interviewSlotsServiceImpl.getExpressionInterviewSlots(interviewSlotsExpressionQuery);
+        } catch (BusinessException be) {
+            String exceptionMessage = "Interviewer has no availability defined!";
+            assertEquals(exceptionMessage, be.getMessage());
+            assertArrayEquals(new String[]{firstInterviewerName}, be.getArguments());
+            throw be;
+        }
+
+        fail("Business exception of getting expression interview slots without interviewer availability created "
+             + "was not thrown!");
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getExpressionInterviewSlotsWithEmptyOperandsFails() {
+        // Arrange
+        InterviewSlotsExpressionQueryModel interviewSlotsExpressionQuery =
+                InterviewSlotsExpressionQueryModel.Builder.interviewSlotsExpressionQueryModelWith()
+                                                          .withCandidateName(candidate.getName())
+                                                          .withInterviewersExpression(
+                                                                  new AnyOfAvailabilityExpression(
+                                                                          Collections.emptyList()))
+                                                          .build();
+
+        // Act && Assert
+        try {
+            interviewSlotsServiceImpl.getExpressionInterviewSlots(interviewSlotsExpressionQuery);
+        } catch (BusinessException be) {
+            String exceptionMessage = "Availability expression must have operands!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of getting interview slots with an empty expression was not thrown!");
+    }
+
+    @Test
+    public void getInterviewPanelsReturnsPanelsRankedByCommonHoursSuccessfully() {
+        // Arrange
+        String candidateName = candidate.getName();
+        List<String> interviewersNames = Arrays.asList(firstInterviewer.getName(), secondInterviewer.getName(),
+                                                       thirdInterviewer.getName());
+
+        InterviewPanelsQueryModel interviewPanelsQuery =
+                InterviewPanelsQueryModel.Builder.interviewPanelsQueryModelWith()
+                                                 .withCandidateName(candidateName)
+                                                 .withInterviewersNames(interviewersNames)
+                                                 .withPanelSize(2)
+                                                 .build();
+
+        // Act
+        when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
+        when(candidateAvailabilityRepository.hasCandidateAvailability(candidateName)).thenReturn(true);
+        when(candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByCandidateName(
+                candidateName, null, null))
+                .thenReturn(candidateAvailabilityRangesOf(candidateAvailability, null, null));
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(interviewersNames);
+        when(interviewerAvailabilityRangeRepository.getInterviewerAvailabilityRangesByInterviewerNames(
+                interviewersNames, null, null)).thenReturn(
+                interviewerAvailabilityRangesOf(null, null, firstInterviewerAvailability,
+                                                secondInterviewerAvailability, thirdInterviewerAvailability));
+
+        List<InterviewPanelModel> interviewPanels = interviewSlotsServiceImpl.getInterviewPanels(
+                interviewPanelsQuery).getInterviewPanelList();
+
+        // Assert
+        assertEquals(1, interviewPanels.size());
+        assertThat(interviewPanels.get(0).getInterviewersNames(),
+                   containsInAnyOrder(firstInterviewer.getName(), secondInterviewer.getName()));
+        assertEquals(Integer.valueOf(4), interviewPanels.get(0).getNumberOfCommonHours());
+        assertEquals(2, interviewPanels.get(0).getInterviewAvailabilitySlotList().size());
+    }
+
+    @Test
+    public void getInterviewPanelsReturnsOnlyTheBestPanelsSuccessfully() {
+        // Arrange
+        String candidateName = candidate.getName();
+        List<String> interviewersNames = Arrays.asList(firstInterviewer.getName(), secondInterviewer.getName(),
+                                                       thirdInterviewer.getName());
+
+        InterviewPanelsQueryModel interviewPanelsQuery =
+                InterviewPanelsQueryModel.Builder.interviewPanelsQueryModelWith()
+                                                 .withCandidateName(candidateName)
+                                                 .withInterviewersNames(interviewersNames)
+                                                 .withPanelSize(1)
+                                                 .withNumberOfPanels(1)
+                                                 .build();
+
+        // Act
+        when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
+        when(candidateAvailabilityRepository.hasCandidateAvailability(candidateName)).thenReturn(true);
+        when(candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByCandidateName(
+                candidateName, null, null))
+                .thenReturn(candidateAvailabilityRangesOf(candidateAvailability, null, null));
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(interviewersNames);
+        when(interviewerAvailabilityRangeRepository.getInterviewerAvailabilityRangesByInterviewerNames(
+                interviewersNames, null, null)).thenReturn(
+                interviewerAvailabilityRangesOf(null, null, firstInterviewerAvailability,
+                                                secondInterviewerAvailability, thirdInterviewerAvailability));
+
+        List<InterviewPanelModel> interviewPanels = interviewSlotsServiceImpl.getInterviewPanels(
+                interviewPanelsQuery).getInterviewPanelList();
+
+        // Assert
+        assertEquals(1, interviewPanels.size());
+        assertEquals(Collections.singletonList(secondInterviewer.getName()),
+                     interviewPanels.get(0).getInterviewersNames());
+        assertEquals(Integer.valueOf(7), interviewPanels.get(0).getNumberOfCommonHours());
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getInterviewPanelsWithPanelSizeGreaterThanNumberOfInterviewersFails() {
+        // Arrange
+        String candidateName = candidate.getName();
+        List<String> interviewersNames = Arrays.asList(firstInterviewer.getName(), secondInterviewer.getName(),
+                                                       thirdInterviewer.getName());
+
+        InterviewPanelsQueryModel interviewPanelsQuery =
+                InterviewPanelsQueryModel.Builder.interviewPanelsQueryModelWith()
+                                                 .withCandidateName(candidateName)
+                                                 .withInterviewersNames(interviewersNames)
+                                                 .withPanelSize(4)
+                                                 .build();
+
+        // Act && Assert
+        try {
+            interviewSlotsServiceImpl.getInterviewPanels(interviewPanelsQuery);
+        } catch (BusinessException be) {
+            String exceptionMessage = "Panel size must be between 1 and the number of interviewers!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of getting interview panels with panel size greater than number of interviewers was "
+             + "not thrown!");
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getInterviewSlotsWithFromDateAfterToDateFails() {
+        // Arrange
+        String candidateName = candidate.getName();
+        List<String> interviewersNames = Collections.singletonList(firstInterviewer.getName());
+        LocalDate fromDate = LocalDate.of(2014, Month.JANUARY, 2);
+        LocalDate toDate = LocalDate.of(2014, Month.JANUARY, 1);
+
+        InterviewSlotsQueryModel interviewSlotsQuery = InterviewSlotsQueryModel.Builder.interviewSlotsQueryModelWith()
+                                                                                       .withCandidateName(candidateName)
+                                                                                       .withInterviewersNames(
+                                                                                               interviewersNames)
+                                                                                       .withFromDate(fromDate)
+                                                                                       .withToDate(toDate)
+                                                                                       .build();
+
+        // Act && Assert
+        try {
+            interviewSlotsServiceImpl.getInterviewSlots(interviewSlotsQuery);
+        } catch (BusinessException be) {
+            String exceptionMessage = "Start day of query must not be after end day of query!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of getting interview slots with from date after to date was not thrown!");
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getInterviewSlotsWithDateRangeAndNextDaysFails() {
+        // Arrange
+        String candidateName = candidate.getName();
+        List<String> interviewersNames = Collections.singletonList(firstInterviewer.getName());
+        LocalDate fromDate = LocalDate.of(2014, Month.JANUARY, 1);
+
+        InterviewSlotsQueryModel interviewSlotsQuery = InterviewSlotsQueryModel.Builder.interviewSlotsQueryModelWith()
+                                                                                       .withCandidateName(candidateName)
+                                                                                       .withInterviewersNames(
+                                                                                               interviewersNames)
+                                                                                       .withFromDate(fromDate)
+                                                                                       .withNextDays(14)
+                                                                                       .build();
+
+        // Act && Assert
+        try {
+            interviewSlotsServiceImpl.getInterviewSlots(interviewSlotsQuery);
+        } catch (BusinessException be) {
+            String exceptionMessage = "Query must have either a date range or a number of next days!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of getting interview slots with date range and next days was not thrown!");
+    }
+
     @Test
     public void getInterviewSlotsFromOneCandidateAndTwoInterviewersSuccessfully() {
         // Arrange
@@ -223,14 +1074,17 @@ public class InterviewSlotsServiceImplTests {
 
         // Act
         when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
-        when(interviewerRepository.findById(firstInterviewerName)).thenReturn(Optional.of(firstInterviewer));
-        when(interviewerRepository.findById(secondInterviewerName)).thenReturn(Optional.of(secondInterviewer));
-        when(candidateAvailabilityRepository.getCandidateAvailabilityByCandidateName(candidateName)).thenReturn(
-                candidateAvailability);
-        when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(firstInterviewerName))
-                .thenReturn(firstInterviewerAvailability);
-        when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(secondInterviewerName))
-                .thenReturn(secondInterviewerAvailability);
+        when(candidateAvailabilityRepository.hasCandidateAvailability(candidateName)).thenReturn(true);
+        when(candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByCandidateName(
+                candidateName, null, null))
+                .thenReturn(candidateAvailabilityRangesOf(candidateAvailability, null, null));
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(interviewersNames);
+        when(interviewerAvailabilityRepository.getNamesOfInterviewersWithAvailability(interviewersNames))
+                .thenReturn(interviewersNames);
+        when(interviewerAvailabilityRangeRepository.getInterviewerAvailabilityRangesByInterviewerNames(
+                interviewersNames, null, null)).thenReturn(
+                interviewerAvailabilityRangesOf(null, null,
+                                                firstInterviewerAvailability, secondInterviewerAvailability));
 
         InterviewSlotsReturnModel interviewSlotsReturn = interviewSlotsServiceImpl.getInterviewSlots(
                 interviewSlotsQuery);
@@ -260,17 +1114,18 @@ public class InterviewSlotsServiceImplTests {
 
         // Act
         when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
-        when(interviewerRepository.findById(firstInterviewerName)).thenReturn(Optional.of(firstInterviewer));
-        when(interviewerRepository.findById(secondInterviewerName)).thenReturn(Optional.of(secondInterviewer));
-        when(interviewerRepository.findById(thirdInterviewerName)).thenReturn(Optional.of(thirdInterviewer));
-        when(candidateAvailabilityRepository.getCandidateAvailabilityByCandidateName(candidateName)).thenReturn(
-                candidateAvailability);
-        when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(firstInterviewerName))
-                .thenReturn(firstInterviewerAvailability);
-        when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(secondInterviewerName))
-                .thenReturn(secondInterviewerAvailability);
-        when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(thirdInterviewerName))
-                .thenReturn(thirdInterviewerAvailability);
+        when(candidateAvailabilityRepository.hasCandidateAvailability(candidateName)).thenReturn(true);
+        when(candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByCandidateName(
+                candidateName, null, null))
+                .thenReturn(candidateAvailabilityRangesOf(candidateAvailability, null, null));
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(interviewersNames);
+        when(interviewerAvailabilityRepository.getNamesOfInterviewersWithAvailability(interviewersNames))
+                .thenReturn(interviewersNames);
+        when(interviewerAvailabilityRangeRepository.getInterviewerAvailabilityRangesByInterviewerNames(
+                interviewersNames, null, null)).thenReturn(
+                interviewerAvailabilityRangesOf(null, null,
+                                                firstInterviewerAvailability, secondInterviewerAvailability,
+                                                thirdInterviewerAvailability));
 
         InterviewSlotsReturnModel interviewSlotsReturn = interviewSlotsServiceImpl.getInterviewSlots(
                 interviewSlotsQuery);
@@ -325,7 +1180,7 @@ public class InterviewSlotsServiceImplTests {
 
         // Act && Assert
         when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
-        when(interviewerRepository.findById(interviewerName)).thenReturn(Optional.empty());
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(Collections.emptyList());
 
         try {
             interviewSlotsServiceImpl.getInterviewSlots(interviewSlotsQuery);
@@ -353,8 +1208,8 @@ public class InterviewSlotsServiceImplTests {
 
         // Act && Assert
         when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
-        when(interviewerRepository.findById(interviewerName)).thenReturn(Optional.of(firstInterviewer));
-        when(candidateAvailabilityRepository.getCandidateAvailabilityByCandidateName(candidateName)).thenReturn(null);
+        when(candidateAvailabilityRepository.hasCandidateAvailability(candidateName)).thenReturn(false);
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(interviewersNames);
 
         try {
             interviewSlotsServiceImpl.getInterviewSlots(interviewSlotsQuery);
@@ -382,11 +1237,10 @@ public class InterviewSlotsServiceImplTests {
 
         // Act && Assert
         when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
-        when(interviewerRepository.findById(interviewerName)).thenReturn(Optional.of(firstInterviewer));
-        when(candidateAvailabilityRepository.getCandidateAvailabilityByCandidateName(candidateName)).thenReturn(
-                candidateAvailability);
-        when(interviewerAvailabilityRepository.getInterviewerAvailabilityByInterviewerName(interviewerName)).thenReturn(
-                null);
+        when(candidateAvailabilityRepository.hasCandidateAvailability(candidateName)).thenReturn(true);
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(interviewersNames);
+        when(interviewerAvailabilityRepository.getNamesOfInterviewersWithAvailability(interviewersNames))
+                .thenReturn(Collections.emptyList());
 
         try {
             interviewSlotsServiceImpl.getInterviewSlots(interviewSlotsQuery);
@@ -399,4 +1253,155 @@ public class InterviewSlotsServiceImplTests {
         fail("Business exception of getting interview slots without interviewer availability created to was not "
              + "thrown!");
     }
+
+    @Test
+    public void getInterviewSlotsTwiceServesSecondQueryFromCacheSuccessfully() {
+        // Arrange
+        String candidateName = candidate.getName();
+        String firstInterviewerName = firstInterviewer.getName();
+        String secondInterviewerName = secondInterviewer.getName();
+        List<String> interviewersNames = Arrays.asList(firstInterviewerName, secondInterviewerName);
+        List<String> reversedInterviewersNames = Arrays.asList(secondInterviewerName, firstInterviewerName);
+
+        InterviewSlotsQueryModel interviewSlotsQuery = InterviewSlotsQueryModel.Builder.interviewSlotsQueryModelWith()
+                                                                                       .withCandidateName(candidateName)
+                                                                                       .withInterviewersNames(
+                                                                                               interviewersNames)
+                                                                                       .build();
+        InterviewSlotsQueryModel reversedInterviewSlotsQuery =
+                InterviewSlotsQueryModel.Builder.interviewSlotsQueryModelWith()
+                                                .withCandidateName(candidateName)
+                                                .withInterviewersNames(reversedInterviewersNames)
+                                                .build();
+
+        // Act
+        when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
+        when(candidateAvailabilityRepository.hasCandidateAvailability(candidateName)).thenReturn(true);
+        when(candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByCandidateName(
+                candidateName, null, null))
+                .thenReturn(candidateAvailabilityRangesOf(candidateAvailability, null, null));
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(interviewersNames);
+        when(interviewerAvailabilityRepository.getNamesOfInterviewersWithAvailability(interviewersNames))
+                .thenReturn(interviewersNames);
+        when(interviewerAvailabilityRangeRepository.getInterviewerAvailabilityRangesByInterviewerNames(
+                interviewersNames, null, null)).thenReturn(
+                interviewerAvailabilityRangesOf(null, null, firstInterviewerAvailability,
+                                                secondInterviewerAvailability));
+
+        InterviewSlotsReturnModel interviewSlotsReturn = interviewSlotsServiceImpl.getInterviewSlots(
+                interviewSlotsQuery);
+        InterviewSlotsReturnModel cachedInterviewSlotsReturn = interviewSlotsServiceImpl.getInterviewSlots(
+                reversedInterviewSlotsQuery);
+
+        // Assert
+        verify(candidateRepository, times(1)).findById(candidateName);
+        assertEquals(reversedInterviewersNames, cachedInterviewSlotsReturn.getInterviewersNames());
+        assertSame(interviewSlotsReturn.getInterviewAvailabilitySlotList(),
+                   cachedInterviewSlotsReturn.getInterviewAvailabilitySlotList());
+        assertEquals(Long.valueOf(1), interviewSlotsServiceImpl.getCacheStatistics().getHits());
+        assertEquals(Long.valueOf(1), interviewSlotsServiceImpl.getCacheStatistics().getMisses());
+    }
+
+    @Test
+    public void getInterviewSlotsAfterInterviewerInvalidationReloadsAvailabilitySuccessfully() {
+        // Arrange
+        String candidateName = candidate.getName();
+        String firstInterviewerName = firstInterviewer.getName();
+        List<String> interviewersNames = Collections.singletonList(firstInterviewerName);
+
+        InterviewSlotsQueryModel interviewSlotsQuery = InterviewSlotsQueryModel.Builder.interviewSlotsQueryModelWith()
+                                                                                       .withCandidateName(candidateName)
+                                                                                       .withInterviewersNames(
+                                                                                               interviewersNames)
+                                                                                       .build();
+
+        // Act
+        when(candidateRepository.findById(candidateName)).thenReturn(Optional.of(candidate));
+        when(candidateAvailabilityRepository.hasCandidateAvailability(candidateName)).thenReturn(true);
+        when(candidateAvailabilityRangeRepository.getCandidateAvailabilityRangesByCandidateName(
+                candidateName, null, null))
+                .thenReturn(candidateAvailabilityRangesOf(candidateAvailability, null, null));
+        when(interviewerRepository.getExistingNames(interviewersNames)).thenReturn(interviewersNames);
+        when(interviewerAvailabilityRepository.getNamesOfInterviewersWithAvailability(interviewersNames))
+                .thenReturn(interviewersNames);
+        when(interviewerAvailabilityRangeRepository.getInterviewerAvailabilityRangesByInterviewerNames(
+                interviewersNames, null, null)).thenReturn(
+                interviewerAvailabilityRangesOf(null, null, firstInterviewerAvailability));
+
+        interviewSlotsServiceImpl.getInterviewSlots(interviewSlotsQuery);
+        interviewSlotsCache.invalidateInterviewer(secondInterviewer.getName());
+        interviewSlotsServiceImpl.getInterviewSlots(interviewSlotsQuery);
+        interviewSlotsCache.invalidateInterviewer(firstInterviewerName);
+        interviewSlotsServiceImpl.getInterviewSlots(interviewSlotsQuery);
+
+        // Assert
+        verify(candidateRepository, times(2)).findById(candidateName);
+        assertEquals(Long.valueOf(1), interviewSlotsServiceImpl.getCacheStatistics().getHits());
+        assertEquals(Long.valueOf(2), interviewSlotsServiceImpl.getCacheStatistics().getMisses());
+        assertEquals(Long.valueOf(1), interviewSlotsServiceImpl.getCacheStatistics().getInvalidations());
+    }
+
+    private static List<CandidateAvailabilityRangeModel> candidateAvailabilityRangesOf(
+            CandidateAvailabilityModel candidateAvailability, LocalDate fromDate, LocalDate toDate) {
+        List<CandidateAvailabilityRangeModel> candidateAvailabilityRanges = new ArrayList<>();
+
+        for (AvailabilitySlot availabilitySlot : candidateAvailability.getAvailabilitySlotList()) {
+            if (isWithin(availabilitySlot.getDay(), fromDate, toDate)) {
+                for (TimeSlot timeSlot : availabilitySlot.getTimeSlotList()) {
+                    candidateAvailabilityRanges.add(
+                            CandidateAvailabilityRangeModel.Builder.candidateAvailabilityRangeModelWith()
+                                                                   .withCandidateAvailabilityModel(
+                                                                           candidateAvailability)
+                                                                   .withDay(availabilitySlot.getDay())
+                                                                   .withStartTime(timeSlot.getFrom())
+                                                                   .withEndTime(timeSlot.getTo())
+                                                                   .build());
+                }
+            }
+        }
+
+        return candidateAvailabilityRanges;
+    }
+
+    private static List<InterviewerAvailabilityRangeModel> interviewerAvailabilityRangesOf(
+            LocalDate fromDate, LocalDate toDate, InterviewerAvailabilityModel... interviewerAvailabilities) {
+        List<InterviewerAvailabilityRangeModel> interviewerAvailabilityRanges = new ArrayList<>();
+
+        for (InterviewerAvailabilityModel interviewerAvailability : interviewerAvailabilities) {
+            for (AvailabilitySlot availabilitySlot : interviewerAvailability.getAvailabilitySlotList()) {
+                if (isWithin(availabilitySlot.getDay(), fromDate, toDate)) {
+                    for (TimeSlot timeSlot : availabilitySlot.getTimeSlotList()) {
+                        interviewerAvailabilityRanges.add(
+                                InterviewerAvailabilityRangeModel.Builder.interviewerAvailabilityRangeModelWith()
+                                                                         .withInterviewerAvailabilityModel(
+                                                                                 interviewerAvailability)
+                                                                         .withDay(availabilitySlot.getDay())
+                                                                         .withStartTime(timeSlot.getFrom())
+                                                                         .withEndTime(timeSlot.getTo())
+                                                                         .build());
+                    }
+                }
+            }
+        }
+
+        return interviewerAvailabilityRanges;
+    }
+
+    private static boolean isWithin(LocalDate day, LocalDate fromDate, LocalDate toDate) {
+        return (fromDate == null || !day.isBefore(fromDate)) && (toDate == null || !day.isAfter(toDate));
+    }
+
+    private static AvailabilityHour availabilityHourOf(LocalDate day, int hour) {
+        return new AvailabilityHour() {
+            @Override
+            public LocalDate getDay() {
+                return day;
+            }
+
+            @Override
+            public Integer getHour() {
+                return hour;
+            }
+        };
+    }
 }